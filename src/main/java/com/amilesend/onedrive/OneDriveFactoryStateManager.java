@@ -24,6 +24,7 @@ import com.amilesend.client.util.Validate;
 import com.amilesend.client.util.VisibleForTesting;
 import com.amilesend.onedrive.connection.OneDriveConnection;
 import com.amilesend.onedrive.connection.OneDriveConnectionBuilder;
+import com.amilesend.onedrive.connection.ThreadPools;
 import com.amilesend.onedrive.connection.auth.BusinessAccountAuthManager;
 import com.amilesend.onedrive.connection.auth.OneDriveAuthInfo;
 import com.amilesend.onedrive.connection.auth.oauth.OAuthReceiverException;
@@ -47,7 +48,6 @@ import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 import static com.amilesend.onedrive.connection.OneDriveConnectionBuilder.DEFAULT_NUM_THREADS;
 import static com.amilesend.onedrive.connection.auth.oauth.OAuthReceiver.browse;
@@ -165,7 +165,7 @@ public class OneDriveFactoryStateManager<T extends OneDrive> implements AutoClos
         this.retryStrategy = Optional.ofNullable(builder.retryStrategy)
                 .orElseGet(() -> new NoRetryStrategy());
         this.threadPool = Optional.ofNullable(builder.threadPool)
-                .orElseGet(() -> Executors.newFixedThreadPool(DEFAULT_NUM_THREADS));
+                .orElseGet(() -> ThreadPools.newDefaultThreadPool(DEFAULT_NUM_THREADS));
     }
 
     @Override
@@ -469,7 +469,8 @@ public class OneDriveFactoryStateManager<T extends OneDrive> implements AutoClos
         }
 
         /**
-         * Sets the executor service to manage threads for async operations.
+         * Sets the executor service to manage threads for async operations. Defaults to a virtual-thread-per-task
+         * executor on Java 21 or later; else, a fixed thread pool.
          *
          * @param threadPool the thread pool
          * @return this builder
@@ -0,0 +1,114 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection;
+
+import com.amilesend.client.connection.ConnectionException;
+import com.amilesend.client.connection.RequestException;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * An OkHttp {@link Callback} that completes a {@link CompletableFuture} for an enqueued call. The response is
+ * handled on the given executor so that OkHttp's dispatcher threads are not occupied with reading and parsing
+ * response bodies. The response is always closed after it is handled. Responses for which a retry is scheduled are
+ * closed without being handled.
+ *
+ * @param <T> the result type
+ */
+@RequiredArgsConstructor
+class AsyncResponseCallback<T> implements Callback {
+    /** The future to complete with the result or failure. */
+    @NonNull
+    private final CompletableFuture<T> future;
+    /** The executor used to handle the response. */
+    @NonNull
+    private final Executor executor;
+    /** The handler that validates and converts the response to the result. */
+    @NonNull
+    private final ResponseHandler<T> handler;
+    /** Schedules a retry of the request for a retryable response. */
+    @NonNull
+    private final RetryScheduler retryScheduler;
+
+    @Override
+    public void onFailure(@NonNull final Call call, @NonNull final IOException ex) {
+        future.completeExceptionally(new RequestException("Unable to execute request: " + ex.getMessage(), ex));
+    }
+
+    @Override
+    public void onResponse(@NonNull final Call call, @NonNull final Response response) {
+        if (retryScheduler.scheduleRetry(response)) {
+            response.close();
+            return;
+        }
+
+        try {
+            executor.execute(() -> handle(response));
+        } catch (final RejectedExecutionException ex) {
+            response.close();
+            future.completeExceptionally(new RequestException("Unable to handle response: " + ex.getMessage(), ex));
+        }
+    }
+
+    private void handle(final Response response) {
+        try (response) {
+            future.complete(handler.handle(response));
+        } catch (final ConnectionException ex) {
+            future.completeExceptionally(ex);
+        } catch (final Exception ex) {
+            future.completeExceptionally(new RequestException("Unable to handle response: " + ex.getMessage(), ex));
+        }
+    }
+
+    /**
+     * Validates and converts a response to a result.
+     *
+     * @param <T> the result type
+     */
+    @FunctionalInterface
+    interface ResponseHandler<T> {
+        /**
+         * Handles the response. The response is closed by the caller.
+         *
+         * @param response the response
+         * @return the result
+         * @throws IOException if an error occurred while reading the response
+         */
+        T handle(Response response) throws IOException;
+    }
+
+    /** Schedules a retry of the request without blocking the calling dispatcher thread. */
+    @FunctionalInterface
+    interface RetryScheduler {
+        /**
+         * Schedules a retry of the request if the response is retryable.
+         *
+         * @param response the response
+         * @return {@code true} if a retry was scheduled; else, {@code false} to handle the response
+         */
+        boolean scheduleRetry(Response response);
+    }
+}
@@ -21,28 +21,68 @@ import com.amilesend.client.connection.Connection;
 import com.amilesend.client.connection.ConnectionException;
 import com.amilesend.client.connection.RequestException;
 import com.amilesend.client.connection.ResponseException;
+import com.amilesend.client.connection.ResponseParseException;
 import com.amilesend.client.connection.file.TransferFileWriter;
 import com.amilesend.client.connection.file.TransferProgressCallback;
 import com.amilesend.client.parse.parser.GsonParser;
+import com.amilesend.client.util.StringUtils;
 import com.amilesend.client.util.Validate;
 import com.amilesend.client.util.VisibleForTesting;
 import com.amilesend.onedrive.connection.auth.OneDriveAuthManager;
+import com.amilesend.onedrive.connection.batch.BatchCoalescingOptions;
+import com.amilesend.onedrive.connection.batch.BatchExecutor;
+import com.amilesend.onedrive.connection.batch.BatchRequest;
+import com.amilesend.onedrive.connection.batch.RequestCoalescer;
+import com.amilesend.onedrive.connection.cache.MetadataCache;
+import com.amilesend.onedrive.connection.file.ChannelTransferWriter;
+import com.amilesend.onedrive.connection.file.ResumableDownloader;
+import com.amilesend.onedrive.connection.file.ResumableUploader;
+import com.amilesend.onedrive.connection.file.SegmentedDownloadOptions;
+import com.amilesend.onedrive.connection.file.SegmentedDownloader;
+import com.amilesend.onedrive.connection.file.StreamingUploader;
+import com.amilesend.onedrive.connection.file.TransferInputStream;
+import com.amilesend.onedrive.connection.file.journal.FileFingerprint;
+import com.amilesend.onedrive.connection.file.journal.UploadSessionJournal;
+import com.amilesend.onedrive.connection.file.journal.UploadSessionJournalEntry;
+import com.amilesend.onedrive.connection.file.journal.UploadSessionJournalException;
+import com.amilesend.onedrive.connection.http.AdaptiveConcurrencyLimiter;
+import com.amilesend.onedrive.connection.http.ThrottlingRetryInterceptor;
 import com.amilesend.onedrive.parse.GsonFactory;
+import com.amilesend.onedrive.resource.item.type.UploadSession;
 import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import lombok.Getter;
 import lombok.NonNull;
 import lombok.experimental.SuperBuilder;
 import lombok.extern.slf4j.Slf4j;
+import okhttp3.Call;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.Response;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
 
+import static com.amilesend.client.connection.Connection.Headers.CONTENT_ENCODING;
 import static com.amilesend.client.connection.Connection.Headers.CONTENT_TYPE;
+import static com.amilesend.onedrive.parse.resource.parser.Parsers.UPLOAD_SESSION_PARSER;
 
 /**
  * Wraps a {@link OkHttpClient} that manages authentication refresh and parsing responses to corresponding POJO types.
@@ -56,9 +96,65 @@ import static com.amilesend.client.connection.Connection.Headers.CONTENT_TYPE;
 @SuperBuilder
 @Slf4j
 public class OneDriveConnection extends Connection<GsonFactory> {
+    private static final String GZIP_ENCODING = "gzip";
+    private static final String GET_METHOD = "GET";
+    private static final String HEAD_METHOD = "HEAD";
+    private static final String ETAG = "ETag";
+    private static final String ETAG_PROPERTY = "eTag";
+    private static final String IF_NONE_MATCH = "If-None-Match";
+    private static final String IF_MATCH = "If-Match";
+    private static final String RANGE = "Range";
+    private static final int HTTP_NOT_MODIFIED = 304;
+
     /** Thread pool for async requests. */
+    @Getter
     @NonNull
     private final ExecutorService threadPool;
+    /** The optional configuration to coalesce async requests into batch requests. Coalescing is disabled if null. */
+    @Getter
+    private final BatchCoalescingOptions batchCoalescingOptions;
+
+    /**
+     * If {@code true}, async requests and downloads are enqueued with the HTTP client instead of blocking a
+     * {@link #getThreadPool() thread pool} thread for the duration of each request. Only
+     * {@link #executeAsync(Request, GsonParser)} and {@link #downloadAsync} are enqueued; the other async operations
+     * run on the thread pool.
+     *
+     * @see #enqueue(Request, GsonParser)
+     */
+    @Getter
+    private final boolean isNonBlockingAsyncEnabled;
+    /**
+     * The optional executor used to read and parse enqueued responses. Defaults to the
+     * {@link #getThreadPool() thread pool}.
+     */
+    private final Executor responseExecutor;
+    /**
+     * The optional adaptive limit on the number of concurrent in-flight requests. The limit is not enforced if null.
+     *
+     * @see AdaptiveConcurrencyLimiter#getLimit()
+     */
+    @Getter
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    /**
+     * The optional policy used to retry enqueued requests that are throttled or rejected while the service is
+     * unavailable. Each retry is enqueued again once its delay elapses instead of blocking a thread while waiting.
+     * Enqueued requests are not retried if null.
+     *
+     * @see #enqueue(Request, GsonParser)
+     */
+    @Getter
+    private final ThrottlingRetryInterceptor asyncRetryPolicy;
+    /**
+     * The optional cache of JSON-formatted responses that are revalidated with their eTag. Caching is disabled if
+     * null.
+     *
+     * @see MetadataCache
+     */
+    @Getter
+    private final MetadataCache metadataCache;
+
+    private final AtomicReference<RequestCoalescer> requestCoalescer = new AtomicReference<>();
 
     /**
      * Creates a new {@link Request.Builder} with pre-configured headers for a request that contains both a
@@ -70,6 +166,62 @@ public class OneDriveConnection extends Connection<GsonFactory> {
         return newRequestBuilder().addHeader(CONTENT_TYPE,  JSON_CONTENT_TYPE);
     }
 
+    /**
+     * Executes the given {@link Request}. If the {@link #getMetadataCache() metadata cache} is enabled, mutating
+     * requests invalidate the affected cached responses.
+     * <p>
+     * The caller must close the returned response. While it is open, the response holds its connection and, if the
+     * {@link #getConcurrencyLimiter() concurrency limiter} is enabled, one of the permits for in-flight requests.
+     *
+     * @param request the request
+     * @return the response
+     * @throws ConnectionException if an error occurred during the transaction
+     */
+    @Override
+    public Response execute(@NonNull final Request request) throws ConnectionException {
+        invalidateCacheOnMutation(request);
+        try {
+            return super.execute(request);
+        } finally {
+            invalidateCacheOnMutation(request);
+        }
+    }
+
+    /**
+     * Executes the given {@link Request} and parses the JSON-formatted response with given {@link GsonParser}.
+     * If the {@link #getMetadataCache() metadata cache} is enabled, {@code GET} requests are revalidated with the
+     * eTag of the cached response via the {@code If-None-Match} header and a {@code 304 Not Modified} response is
+     * parsed from the cache. Mutating requests invalidate the affected cached responses.
+     *
+     * @param request the request
+     * @param parser the parser to decode the response body
+     * @return the parsed response
+     * @param <T> the POJO resource type
+     * @throws ConnectionException if an error occurred during the transaction
+     */
+    @Override
+    public <T> T execute(@NonNull final Request request, @NonNull final GsonParser<T> parser)
+            throws ConnectionException {
+        if (!isCacheable(request)) {
+            // Invalidated before and after so that a concurrent read cannot re-cache the state prior to the mutation
+            invalidateCacheOnMutation(request);
+            try {
+                return super.execute(request, parser);
+            } finally {
+                invalidateCacheOnMutation(request);
+            }
+        }
+
+        final MetadataCache.Entry entry = metadataCache.get(request.url());
+        if (entry != null && metadataCache.isFresh(entry)) {
+            return parseCachedResponse(entry, parser);
+        }
+
+        try (final Response response = super.execute(newConditionalRequest(request, entry))) {
+            return parseCacheableResponse(request, entry, response, parser);
+        }
+    }
+
     /**
      * Executes the given {@link Request} for a remote asynchronous operation and returns the monitoring URL.
      *
@@ -90,20 +242,147 @@ public class OneDriveConnection extends Connection<GsonFactory> {
         }
     }
 
+    /**
+     * Gets the executor used to handle enqueued responses.
+     *
+     * @return the response executor
+     */
+    public Executor getResponseExecutor() {
+        return responseExecutor == null ? threadPool : responseExecutor;
+    }
+
+    /**
+     * Enqueues the given {@link Request} with the HTTP client and parses the JSON-formatted response with the given
+     * {@link GsonParser}. No thread is blocked while the request is in-flight; the response is parsed on the
+     * {@link #getResponseExecutor() response executor}. Cancelling the returned future cancels the call.
+     * <p>
+     * Throttled and unavailable responses are retried with the async retry policy by enqueuing the request again once
+     * the retry delay elapses, so no thread waits between attempts.
+     * <p>
+     * Note: The number of concurrently executing enqueued calls is bounded by the HTTP client's
+     * {@link okhttp3.Dispatcher}. Rate limiting and concurrency limiting interceptors still wait for a permit on the
+     * dispatcher's threads.
+     *
+     * @param request the request
+     * @param parser the parser to decode the response body
+     * @return the CompletableFuture used to fetch the parsed response or failure exception reason
+     * @param <T> the POJO resource type
+     */
+    public <T> CompletableFuture<T> enqueue(
+            @NonNull final Request request,
+            @NonNull final GsonParser<T> parser) {
+        if (!isCacheable(request)) {
+            invalidateCacheOnMutation(request);
+            return enqueue(request, response -> {
+                try {
+                    return parseResponse(response, parser);
+                } finally {
+                    invalidateCacheOnMutation(request);
+                }
+            });
+        }
+
+        final MetadataCache.Entry entry = metadataCache.get(request.url());
+        if (entry != null && metadataCache.isFresh(entry)) {
+            return CompletableFuture.supplyAsync(() -> parseCachedResponse(entry, parser), getResponseExecutor());
+        }
+
+        return enqueue(
+                newConditionalRequest(request, entry),
+                response -> parseCacheableResponse(request, entry, response, parser));
+    }
+
     /**
      * Executes the given {@link Request} and parses the JSON-formatted response with given {@link GsonParser}.
+     * If {@link #getBatchCoalescingOptions() batch coalescing} is enabled, eligible requests are buffered and sent
+     * together with other async requests in a single batch request.
      *
      * @param request the request
      * @param parser the parser to decode the response body
      * @return the CompletableFuture used to fetch the parsed response or failure exception reason
      * @param <T> the POJO resource type
+     * @see BatchCoalescingOptions
      */
     public <T> CompletableFuture<T> executeAsync(
             @NonNull final Request request,
             @NonNull final GsonParser<T> parser) {
+        final RequestCoalescer coalescer = getRequestCoalescer();
+        // Fresh cached responses are served locally instead of being sent with a batch
+        if (coalescer != null && coalescer.isEligible(request) && !isFreshInCache(request)) {
+            return coalescer.submit(request, parser);
+        }
+        if (isNonBlockingAsyncEnabled) {
+            return enqueue(request, parser);
+        }
+
         return CompletableFuture.supplyAsync(() -> execute(request, parser), threadPool);
     }
 
+    /** Sends any async requests that are buffered for batch coalescing without waiting for the window to elapse. */
+    public void flushBatchedRequests() {
+        final RequestCoalescer coalescer = requestCoalescer.get();
+        if (coalescer != null) {
+            coalescer.flush();
+        }
+    }
+
+    /**
+     * Sends the requests of the given {@link BatchRequest} in a single JSON batch round trip. Each
+     * {@link com.amilesend.onedrive.connection.batch.BatchItem} is resolved with its individual response, so a failed
+     * request does not fail the other requests of the batch.
+     *
+     * @param batchRequest the batch of up to {@link BatchRequest#MAX_REQUESTS} requests
+     * @return the number of requests that succeeded
+     * @throws ConnectionException if the batch request itself failed
+     * @see BatchRequest
+     */
+    public int executeBatch(@NonNull final BatchRequest batchRequest) throws ConnectionException {
+        invalidateCacheOnMutation(batchRequest);
+        try {
+            return newBatchExecutor(batchRequest).execute();
+        } finally {
+            invalidateCacheOnMutation(batchRequest);
+        }
+    }
+
+    /**
+     * Sends the requests of the given {@link BatchRequest} asynchronously in a single JSON batch round trip.
+     *
+     * @param batchRequest the batch of up to {@link BatchRequest#MAX_REQUESTS} requests
+     * @return the CompletableFuture used to fetch the number of requests that succeeded
+     * @see #executeBatch(BatchRequest)
+     */
+    public CompletableFuture<Integer> executeBatchAsync(@NonNull final BatchRequest batchRequest) {
+        return CompletableFuture.supplyAsync(() -> executeBatch(batchRequest), threadPool);
+    }
+
+    @VisibleForTesting
+    RequestCoalescer getRequestCoalescer() {
+        if (batchCoalescingOptions == null) {
+            return null;
+        }
+
+        final RequestCoalescer coalescer = requestCoalescer.get();
+        if (coalescer != null) {
+            return coalescer;
+        }
+
+        requestCoalescer.compareAndSet(null, RequestCoalescer.builder()
+                .connection(this)
+                .options(batchCoalescingOptions)
+                .executor(threadPool)
+                .build());
+        return requestCoalescer.get();
+    }
+
+    @VisibleForTesting
+    BatchExecutor newBatchExecutor(final BatchRequest batchRequest) {
+        return BatchExecutor.builder()
+                .connection(this)
+                .batchRequest(batchRequest)
+                .build();
+    }
+
     /**
      * Downloads the contents for the given {@code request} to the specified {@code folderPath} and {@code name}.
      *
@@ -161,11 +440,785 @@ public class OneDriveConnection extends Connection<GsonFactory> {
             final long sizeBytes,
             @NonNull final TransferProgressCallback callback) {
         Validate.notBlank(name, "name must not be blank");
+        if (isNonBlockingAsyncEnabled) {
+            return enqueueDownload(request, folderPath, name, sizeBytes, callback);
+        }
+
         return CompletableFuture.supplyAsync(
                 () -> download(request, folderPath, name, sizeBytes, callback),
                 threadPool);
     }
 
+    /**
+     * Downloads the contents for the given {@code request} directly to the caller-supplied {@code output} channel
+     * without staging the content on disk. The channel is not closed.
+     *
+     * @param request the request
+     * @param output the channel to write the contents to
+     * @param sizeBytes the total size of the expected content in bytes
+     * @param callback the {@link TransferProgressCallback} call to invoke to report download transfer progress
+     * @return the number of bytes downloaded
+     * @throws ConnectionException if an error occurred while downloading the content for the request
+     */
+    public long downloadTo(
+            @NonNull final Request request,
+            @NonNull final WritableByteChannel output,
+            final long sizeBytes,
+            @NonNull final TransferProgressCallback callback) throws ConnectionException {
+        try (final Response response = execute(request)) {
+            return processDownloadResponse(response, output, sizeBytes, callback);
+        } catch (final ConnectionException ex) {
+            // Response failed validation, notify the callback
+            callback.onFailure(ex);
+            throw ex;
+        } catch (final Exception ex) {
+            // The underlying ChannelTransferWriter will record an onFailure to the callback.
+            throw new RequestException("Unable to execute request: " + ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Downloads the contents for the given {@code request} directly to the caller-supplied {@code output} stream
+     * without staging the content on disk. The stream is not closed.
+     *
+     * @param request the request
+     * @param output the stream to write the contents to
+     * @param sizeBytes the total size of the expected content in bytes
+     * @param callback the {@link TransferProgressCallback} call to invoke to report download transfer progress
+     * @return the number of bytes downloaded
+     * @throws ConnectionException if an error occurred while downloading the content for the request
+     */
+    public long downloadTo(
+            @NonNull final Request request,
+            @NonNull final OutputStream output,
+            final long sizeBytes,
+            @NonNull final TransferProgressCallback callback) throws ConnectionException {
+        return downloadTo(request, Channels.newChannel(output), sizeBytes, callback);
+    }
+
+    /**
+     * Downloads the contents for the given {@code request} asynchronously to the caller-supplied {@code output}
+     * channel.
+     *
+     * @param request the request
+     * @param output the channel to write the contents to
+     * @param sizeBytes the total size of the expected content in bytes
+     * @param callback the {@link TransferProgressCallback} call to invoke to report download transfer progress
+     * @return the CompletableFuture used to fetch the number of bytes downloaded
+     * @see #downloadTo(Request, WritableByteChannel, long, TransferProgressCallback)
+     */
+    public CompletableFuture<Long> downloadToAsync(
+            @NonNull final Request request,
+            @NonNull final WritableByteChannel output,
+            final long sizeBytes,
+            @NonNull final TransferProgressCallback callback) {
+        return CompletableFuture.supplyAsync(() -> downloadTo(request, output, sizeBytes, callback), threadPool);
+    }
+
+    /**
+     * Downloads the contents for the given {@code request} asynchronously to the caller-supplied {@code output}
+     * stream.
+     *
+     * @param request the request
+     * @param output the stream to write the contents to
+     * @param sizeBytes the total size of the expected content in bytes
+     * @param callback the {@link TransferProgressCallback} call to invoke to report download transfer progress
+     * @return the CompletableFuture used to fetch the number of bytes downloaded
+     * @see #downloadTo(Request, OutputStream, long, TransferProgressCallback)
+     */
+    public CompletableFuture<Long> downloadToAsync(
+            @NonNull final Request request,
+            @NonNull final OutputStream output,
+            final long sizeBytes,
+            @NonNull final TransferProgressCallback callback) {
+        return CompletableFuture.supplyAsync(() -> downloadTo(request, output, sizeBytes, callback), threadPool);
+    }
+
+    /**
+     * Executes the given download {@code request} and returns an {@link InputStream} over the response body that is
+     * bounded to {@code sizeBytes} and reports transfer progress as it is consumed. The caller must close the stream
+     * to release the underlying connection and, if the {@link #getConcurrencyLimiter() concurrency limiter} is
+     * enabled, the in-flight request permit that is held until then.
+     *
+     * @param request the request
+     * @param sizeBytes the total size of the expected content in bytes, or a non-positive value if unknown
+     * @param callback the {@link TransferProgressCallback} call to invoke to report download transfer progress
+     * @return the content stream
+     * @throws ConnectionException if an error occurred while executing the request
+     * @see TransferInputStream
+     */
+    public InputStream openDownloadStream(
+            @NonNull final Request request,
+            final long sizeBytes,
+            @NonNull final TransferProgressCallback callback) throws ConnectionException {
+        final Response response;
+        try {
+            response = execute(request);
+        } catch (final ConnectionException ex) {
+            callback.onFailure(ex);
+            throw ex;
+        }
+
+        return TransferInputStream.builder()
+                .response(response)
+                .sizeBytes(sizeBytes)
+                .callback(callback)
+                .build();
+    }
+
+    /**
+     * Downloads the content at the given {@code url} to the specified {@code folderPath} and {@code name} by splitting
+     * it into byte ranges that are downloaded concurrently. Files that are smaller than the configured threshold are
+     * downloaded in a single stream.
+     *
+     * @param url the URL of the content to download
+     * @param eTag the optional eTag used to pin each range request via the {@code If-Match} header
+     * @param folderPath the path of the folder to download the contents to
+     * @param name the name of the file to download the contents to
+     * @param sizeBytes the total size of the expected file in bytes
+     * @param options the segmented download configuration
+     * @param callback the {@link TransferProgressCallback} call to invoke to report download transfer progress
+     * @return the size of the downloaded file in bytes
+     * @throws ConnectionException if an error occurred while downloading the content
+     * @see SegmentedDownloader
+     */
+    public long downloadSegmented(
+            final String url,
+            final String eTag,
+            @NonNull final Path folderPath,
+            final String name,
+            final long sizeBytes,
+            @NonNull final SegmentedDownloadOptions options,
+            @NonNull final TransferProgressCallback callback) throws ConnectionException {
+        Validate.notBlank(url, "url must not be blank");
+        Validate.notBlank(name, "name must not be blank");
+
+        if (!options.isSegmented(sizeBytes)) {
+            return download(newRequestBuilder().url(url).build(), folderPath, name, sizeBytes, callback);
+        }
+
+        final Path downloadPath;
+        try {
+            downloadPath = checkFolderAndGetDestinationPath(folderPath, name);
+        } catch (final Exception ex) {
+            callback.onFailure(ex);
+            throw new RequestException("Unable to determine download path:" + ex.getMessage(), ex);
+        }
+
+        return newSegmentedDownloader(url, eTag, downloadPath, sizeBytes, options, callback).download();
+    }
+
+    /**
+     * Downloads the content at the given {@code url} asynchronously to the specified {@code folderPath} and
+     * {@code name} by splitting it into byte ranges that are downloaded concurrently.
+     *
+     * @param url the URL of the content to download
+     * @param eTag the optional eTag used to pin each range request via the {@code If-Match} header
+     * @param folderPath the path of the folder to download the contents to
+     * @param name the name of the file to download the contents to
+     * @param sizeBytes the total size of the expected file in bytes
+     * @param options the segmented download configuration
+     * @param callback the {@link TransferProgressCallback} call to invoke to report download transfer progress
+     * @return the CompletableFuture used to fetch the number of bytes downloaded
+     * @see #downloadSegmented(String, String, Path, String, long, SegmentedDownloadOptions, TransferProgressCallback)
+     */
+    public CompletableFuture<Long> downloadSegmentedAsync(
+            final String url,
+            final String eTag,
+            @NonNull final Path folderPath,
+            final String name,
+            final long sizeBytes,
+            @NonNull final SegmentedDownloadOptions options,
+            @NonNull final TransferProgressCallback callback) {
+        Validate.notBlank(url, "url must not be blank");
+        Validate.notBlank(name, "name must not be blank");
+        return CompletableFuture.supplyAsync(
+                () -> downloadSegmented(url, eTag, folderPath, name, sizeBytes, options, callback),
+                threadPool);
+    }
+
+    @VisibleForTesting
+    SegmentedDownloader newSegmentedDownloader(
+            final String url,
+            final String eTag,
+            final Path downloadPath,
+            final long sizeBytes,
+            final SegmentedDownloadOptions options,
+            final TransferProgressCallback callback) {
+        return SegmentedDownloader.builder()
+                .connection(this)
+                .url(url)
+                .eTag(eTag)
+                .downloadPath(downloadPath)
+                .sizeBytes(sizeBytes)
+                .options(options)
+                .callback(callback)
+                .executor(threadPool)
+                .build();
+    }
+
+    /**
+     * Downloads the content at the given {@code url} to the specified {@code folderPath} and {@code name}, resuming
+     * from a partial file that was left behind by a previous failed attempt. The partial file is only resumed when
+     * its checkpoint matches the given {@code itemId}, {@code eTag}, {@code cTag}, and {@code sizeBytes}; otherwise,
+     * the download restarts from the beginning.
+     *
+     * @param url the URL of the content to download
+     * @param itemId the identifier of the remote content
+     * @param eTag the optional eTag of the remote content
+     * @param cTag the optional cTag of the remote content
+     * @param folderPath the path of the folder to download the contents to
+     * @param name the name of the file to download the contents to
+     * @param sizeBytes the total size of the expected file in bytes
+     * @param callback the {@link TransferProgressCallback} call to invoke to report download transfer progress
+     * @return the size of the downloaded file in bytes
+     * @throws ConnectionException if an error occurred while downloading the content
+     * @see ResumableDownloader
+     */
+    public long downloadResumable(
+            final String url,
+            final String itemId,
+            final String eTag,
+            final String cTag,
+            @NonNull final Path folderPath,
+            final String name,
+            final long sizeBytes,
+            @NonNull final TransferProgressCallback callback) throws ConnectionException {
+        Validate.notBlank(url, "url must not be blank");
+        Validate.notBlank(itemId, "itemId must not be blank");
+        Validate.notBlank(name, "name must not be blank");
+
+        // There is no range to resume for empty content
+        if (sizeBytes <= 0L) {
+            return download(newRequestBuilder().url(url).build(), folderPath, name, sizeBytes, callback);
+        }
+
+        final Path downloadPath;
+        try {
+            downloadPath = checkFolderAndGetDestinationPath(folderPath, name);
+        } catch (final Exception ex) {
+            callback.onFailure(ex);
+            throw new RequestException("Unable to determine download path:" + ex.getMessage(), ex);
+        }
+
+        return newResumableDownloader(url, itemId, eTag, cTag, downloadPath, sizeBytes, callback).download();
+    }
+
+    /**
+     * Downloads the content at the given {@code url} asynchronously to the specified {@code folderPath} and
+     * {@code name}, resuming from a partial file that was left behind by a previous failed attempt.
+     *
+     * @param url the URL of the content to download
+     * @param itemId the identifier of the remote content
+     * @param eTag the optional eTag of the remote content
+     * @param cTag the optional cTag of the remote content
+     * @param folderPath the path of the folder to download the contents to
+     * @param name the name of the file to download the contents to
+     * @param sizeBytes the total size of the expected file in bytes
+     * @param callback the {@link TransferProgressCallback} call to invoke to report download transfer progress
+     * @return the CompletableFuture used to fetch the number of bytes downloaded
+     * @see #downloadResumable(String, String, String, String, Path, String, long, TransferProgressCallback)
+     */
+    public CompletableFuture<Long> downloadResumableAsync(
+            final String url,
+            final String itemId,
+            final String eTag,
+            final String cTag,
+            @NonNull final Path folderPath,
+            final String name,
+            final long sizeBytes,
+            @NonNull final TransferProgressCallback callback) {
+        Validate.notBlank(url, "url must not be blank");
+        Validate.notBlank(itemId, "itemId must not be blank");
+        Validate.notBlank(name, "name must not be blank");
+        return CompletableFuture.supplyAsync(
+                () -> downloadResumable(url, itemId, eTag, cTag, folderPath, name, sizeBytes, callback),
+                threadPool);
+    }
+
+    @VisibleForTesting
+    ResumableDownloader newResumableDownloader(
+            final String url,
+            final String itemId,
+            final String eTag,
+            final String cTag,
+            final Path downloadPath,
+            final long sizeBytes,
+            final TransferProgressCallback callback) {
+        return ResumableDownloader.builder()
+                .connection(this)
+                .url(url)
+                .itemId(itemId)
+                .eTag(eTag)
+                .cTag(cTag)
+                .downloadPath(downloadPath)
+                .sizeBytes(sizeBytes)
+                .callback(callback)
+                .build();
+    }
+
+    /**
+     * Uploads the given {@code file} in fragments to the specified {@link UploadSession}. Transient failures are
+     * retried by resending only the byte ranges that the upload session reports as missing.
+     *
+     * @param session the upload session
+     * @param file the file to upload
+     * @param callback the {@link TransferProgressCallback} call to invoke to report upload transfer progress
+     * @param parser the parser to decode the response body once the upload is complete
+     * @return the parsed response once the upload is complete
+     * @param <T> the POJO resource type
+     * @throws ConnectionException if an error occurred while uploading the file
+     * @see ResumableUploader
+     */
+    public <T> T upload(
+            @NonNull final UploadSession session,
+            @NonNull final Path file,
+            @NonNull final TransferProgressCallback callback,
+            @NonNull final GsonParser<T> parser) throws ConnectionException {
+        return newResumableUploader(session, file, callback, parser, null, null).upload();
+    }
+
+    /**
+     * Uploads the given {@code file} in fragments to the specified {@link UploadSession} and persists the upload
+     * session state to the given {@link UploadSessionJournal} so that the upload can be resumed after a restart.
+     *
+     * @param session the upload session
+     * @param file the file to upload
+     * @param callback the {@link TransferProgressCallback} call to invoke to report upload transfer progress
+     * @param parser the parser to decode the response body once the upload is complete
+     * @param journal the journal used to persist the upload session state
+     * @param journalId the identifier associated with the journal entry
+     * @return the parsed response once the upload is complete
+     * @param <T> the POJO resource type
+     * @throws ConnectionException if an error occurred while uploading the file
+     * @see #resumeUploadSession(UploadSessionJournal, String, Path)
+     */
+    public <T> T upload(
+            @NonNull final UploadSession session,
+            @NonNull final Path file,
+            @NonNull final TransferProgressCallback callback,
+            @NonNull final GsonParser<T> parser,
+            @NonNull final UploadSessionJournal journal,
+            final String journalId) throws ConnectionException {
+        Validate.notBlank(journalId, "journalId must not be blank");
+        return newResumableUploader(session, file, callback, parser, journal, journalId).upload();
+    }
+
+    /**
+     * Uploads the given {@code file} asynchronously in fragments to the specified {@link UploadSession}.
+     *
+     * @param session the upload session
+     * @param file the file to upload
+     * @param callback the {@link TransferProgressCallback} call to invoke to report upload transfer progress
+     * @param parser the parser to decode the response body once the upload is complete
+     * @return the CompletableFuture used to fetch the parsed response or failure exception reason
+     * @param <T> the POJO resource type
+     * @see #upload(UploadSession, Path, TransferProgressCallback, GsonParser)
+     */
+    public <T> CompletableFuture<T> uploadAsync(
+            @NonNull final UploadSession session,
+            @NonNull final Path file,
+            @NonNull final TransferProgressCallback callback,
+            @NonNull final GsonParser<T> parser) {
+        return CompletableFuture.supplyAsync(() -> upload(session, file, callback, parser), threadPool);
+    }
+
+    /**
+     * Uploads the given {@code file} asynchronously in fragments to the specified {@link UploadSession} and persists
+     * the upload session state to the given {@link UploadSessionJournal}.
+     *
+     * @param session the upload session
+     * @param file the file to upload
+     * @param callback the {@link TransferProgressCallback} call to invoke to report upload transfer progress
+     * @param parser the parser to decode the response body once the upload is complete
+     * @param journal the journal used to persist the upload session state
+     * @param journalId the identifier associated with the journal entry
+     * @return the CompletableFuture used to fetch the parsed response or failure exception reason
+     * @param <T> the POJO resource type
+     * @see #upload(UploadSession, Path, TransferProgressCallback, GsonParser, UploadSessionJournal, String)
+     */
+    public <T> CompletableFuture<T> uploadAsync(
+            @NonNull final UploadSession session,
+            @NonNull final Path file,
+            @NonNull final TransferProgressCallback callback,
+            @NonNull final GsonParser<T> parser,
+            @NonNull final UploadSessionJournal journal,
+            final String journalId) {
+        Validate.notBlank(journalId, "journalId must not be blank");
+        return CompletableFuture.supplyAsync(
+                () -> upload(session, file, callback, parser, journal, journalId),
+                threadPool);
+    }
+
+    /**
+     * Uploads the content from the given {@code source} in fragments to the specified {@link UploadSession} without
+     * staging it on local disk. Content of an unknown size is buffered into fixed-size fragments until the end of
+     * the source is reached.
+     *
+     * @param session the upload session
+     * @param source the source to read the content from. The source is not closed.
+     * @param sizeBytes the size of the content in bytes, or {@link StreamingUploader#UNKNOWN_SIZE_BYTES} if not known
+     * @param callback the {@link TransferProgressCallback} call to invoke to report upload transfer progress
+     * @param parser the parser to decode the response body once the upload is complete
+     * @return the parsed response once the upload is complete
+     * @param <T> the POJO resource type
+     * @throws ConnectionException if an error occurred while uploading the content
+     * @see StreamingUploader
+     */
+    public <T> T upload(
+            @NonNull final UploadSession session,
+            @NonNull final ReadableByteChannel source,
+            final long sizeBytes,
+            @NonNull final TransferProgressCallback callback,
+            @NonNull final GsonParser<T> parser) throws ConnectionException {
+        return newStreamingUploader(session, source, sizeBytes, callback, parser).upload();
+    }
+
+    /**
+     * Uploads the content from the given {@code source} asynchronously in fragments to the specified
+     * {@link UploadSession}.
+     *
+     * @param session the upload session
+     * @param source the source to read the content from. The source is not closed.
+     * @param sizeBytes the size of the content in bytes, or {@link StreamingUploader#UNKNOWN_SIZE_BYTES} if not known
+     * @param callback the {@link TransferProgressCallback} call to invoke to report upload transfer progress
+     * @param parser the parser to decode the response body once the upload is complete
+     * @return the CompletableFuture used to fetch the parsed response or failure exception reason
+     * @param <T> the POJO resource type
+     * @see #upload(UploadSession, ReadableByteChannel, long, TransferProgressCallback, GsonParser)
+     */
+    public <T> CompletableFuture<T> uploadAsync(
+            @NonNull final UploadSession session,
+            @NonNull final ReadableByteChannel source,
+            final long sizeBytes,
+            @NonNull final TransferProgressCallback callback,
+            @NonNull final GsonParser<T> parser) {
+        return CompletableFuture.supplyAsync(() -> upload(session, source, sizeBytes, callback, parser), threadPool);
+    }
+
+    /**
+     * Attempts to resume a previously journaled upload session for the given {@code journalId}. A journaled session
+     * is only resumed if it has not expired, was started for the same {@code file}, the file has not changed since
+     * (size, last modified time and optional content hash), and the service still recognizes the session. Stale
+     * entries are removed from the journal.
+     *
+     * @param journal the journal that contains the persisted upload session state
+     * @param journalId the identifier associated with the journal entry
+     * @param file the file to upload
+     * @return the resumable upload session with the current missing byte ranges, or empty if not resumable
+     */
+    public Optional<UploadSession> resumeUploadSession(
+            @NonNull final UploadSessionJournal journal,
+            final String journalId,
+            @NonNull final Path file) {
+        Validate.notBlank(journalId, "journalId must not be blank");
+
+        try {
+            final UploadSessionJournalEntry entry = journal.retrieve(journalId);
+            if (entry == null) {
+                return Optional.empty();
+            }
+
+            if (!isJournalEntryForFile(entry, file, journal.isFileHashRequired())) {
+                log.info("Discarding journaled upload session for [{}] as the source file has changed", journalId);
+                journal.remove(journalId);
+                return Optional.empty();
+            }
+
+            try {
+                final UploadSession status = execute(
+                        new Request.Builder().url(entry.getUploadUrl()).get().build(),
+                        UPLOAD_SESSION_PARSER);
+                return Optional.of(UploadSession.builder()
+                        .uploadUrl(entry.getUploadUrl())
+                        .expirationDateTime(status.getExpirationDateTime())
+                        .nextExpectedRanges(status.getNextExpectedRanges())
+                        .build());
+            } catch (final ConnectionException ex) {
+                log.info("Discarding journaled upload session for [{}]: {}", journalId, ex.getMessage());
+                journal.remove(journalId);
+                return Optional.empty();
+            }
+        } catch (final UploadSessionJournalException ex) {
+            log.warn("Unable to resume upload session for [{}]: {}", journalId, ex.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @VisibleForTesting
+    <T> ResumableUploader<T> newResumableUploader(
+            final UploadSession session,
+            final Path file,
+            final TransferProgressCallback callback,
+            final GsonParser<T> parser,
+            final UploadSessionJournal journal,
+            final String journalId) {
+        return ResumableUploader.<T>builder()
+                .connection(this)
+                .session(session)
+                .file(file)
+                .callback(callback)
+                .parser(parser)
+                .journal(journal)
+                .journalId(journalId)
+                .build();
+    }
+
+    @VisibleForTesting
+    <T> StreamingUploader<T> newStreamingUploader(
+            final UploadSession session,
+            final ReadableByteChannel source,
+            final long sizeBytes,
+            final TransferProgressCallback callback,
+            final GsonParser<T> parser) {
+        return StreamingUploader.<T>builder()
+                .connection(this)
+                .session(session)
+                .source(source)
+                .sizeBytes(sizeBytes)
+                .callback(callback)
+                .parser(parser)
+                .build();
+    }
+
+    @VisibleForTesting
+    boolean isJournalEntryForFile(
+            final UploadSessionJournalEntry entry,
+            final Path file,
+            final boolean isFileHashRequired) throws UploadSessionJournalException {
+        if (!file.toAbsolutePath().normalize().toString().equals(entry.getFilePath())) {
+            return false;
+        }
+
+        try {
+            return FileFingerprint.of(file, isFileHashRequired).equals(entry.getFingerprint());
+        } catch (final IOException ex) {
+            throw new UploadSessionJournalException("Unable to fingerprint " + file + ": " + ex.getMessage(), ex);
+        }
+    }
+
+    @VisibleForTesting
+    <T> CompletableFuture<T> enqueue(final Request request, final AsyncResponseCallback.ResponseHandler<T> handler) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        if (asyncRetryPolicy == null) {
+            enqueueAttempt(request, handler, future, 1);
+        } else {
+            // Retried by rescheduling the call instead of by the interceptor that blocks a dispatcher thread
+            enqueueAttempt(
+                    ThrottlingRetryInterceptor.markRetriedByCaller(request.newBuilder()).build(),
+                    handler,
+                    future,
+                    1);
+        }
+
+        return future;
+    }
+
+    private <T> void enqueueAttempt(
+            final Request request,
+            final AsyncResponseCallback.ResponseHandler<T> handler,
+            final CompletableFuture<T> future,
+            final int attempt) {
+        final Call call = getHttpClient().newCall(request);
+        future.whenComplete((result, ex) -> {
+            if (future.isCancelled()) {
+                call.cancel();
+            }
+        });
+        call.enqueue(new AsyncResponseCallback<>(
+                future,
+                getResponseExecutor(),
+                handler,
+                response -> scheduleRetry(request, response, handler, future, attempt)));
+    }
+
+    /*
+     * Re-enqueues the request once the retry delay elapses so that no thread is blocked while waiting. Returns false
+     * if the response is not retried.
+     */
+    private <T> boolean scheduleRetry(
+            final Request request,
+            final Response response,
+            final AsyncResponseCallback.ResponseHandler<T> handler,
+            final CompletableFuture<T> future,
+            final int attempt) {
+        final Long delayMillis = asyncRetryPolicy == null
+                ? null
+                : asyncRetryPolicy.getRetryDelayMillis(request, response, attempt);
+        if (delayMillis == null) {
+            return false;
+        }
+
+        CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS).execute(() -> {
+            if (!future.isDone()) {
+                enqueueAttempt(request, handler, future, attempt + 1);
+            }
+        });
+        return true;
+    }
+
+    private CompletableFuture<Long> enqueueDownload(
+            final Request request,
+            final Path folderPath,
+            final String name,
+            final long sizeBytes,
+            final TransferProgressCallback callback) {
+        final Path downloadPath;
+        try {
+            downloadPath = checkFolderAndGetDestinationPath(folderPath, name);
+        } catch (final Exception ex) {
+            callback.onFailure(ex);
+            return CompletableFuture.failedFuture(
+                    new RequestException("Unable to determine download path:" + ex.getMessage(), ex));
+        }
+
+        final AtomicBoolean isResponseReceived = new AtomicBoolean();
+        final CompletableFuture<Long> future = enqueue(request, response -> {
+            isResponseReceived.set(true);
+            try {
+                validateResponseCode(response);
+            } catch (final ConnectionException ex) {
+                // Response failed validation, notify the callback
+                callback.onFailure(ex);
+                throw ex;
+            }
+
+            // The underlying TransferFileWriter will record an onFailure to the callback.
+            return processDownloadResponse(response, downloadPath, sizeBytes, callback);
+        });
+        future.whenComplete((totalBytes, ex) -> {
+            if (ex != null && !isResponseReceived.get()) {
+                callback.onFailure(ex);
+            }
+        });
+        return future;
+    }
+
+    /*
+     * Validates and parses the JSON-formatted response body consistent with execute(Request, GsonParser).
+     */
+    private <T> T parseResponse(final Response response, final GsonParser<T> parser) {
+        validateResponseCode(response);
+        try (final InputStream body = openResponseBody(response)) {
+            return parseBody(body, parser);
+        } catch (final IOException ex) {
+            throw new RequestException("Unable to read response: " + ex.getMessage(), ex);
+        }
+    }
+
+    private InputStream openResponseBody(final Response response) throws IOException {
+        final boolean isGzipped = isGzipContentEncodingEnabled()
+                && GZIP_ENCODING.equalsIgnoreCase(response.header(CONTENT_ENCODING));
+        return isGzipped ? new GZIPInputStream(response.body().byteStream()) : response.body().byteStream();
+    }
+
+    private <T> T parseBody(final InputStream body, final GsonParser<T> parser) {
+        try {
+            return parser.parse(getGsonFactory().getInstance(this), body);
+        } catch (final ConnectionException ex) {
+            throw ex;
+        } catch (final RuntimeException ex) {
+            throw new ResponseParseException("Unable to parse response: " + ex.getMessage(), ex);
+        }
+    }
+
+    ////////////////////////
+    // Metadata cache
+    ////////////////////////
+
+    /*
+     * Only plain GET requests are cached. Requests with their own preconditions or ranges bypass the cache.
+     */
+    @VisibleForTesting
+    boolean isCacheable(final Request request) {
+        return metadataCache != null
+                && GET_METHOD.equals(request.method())
+                && request.header(IF_NONE_MATCH) == null
+                && request.header(IF_MATCH) == null
+                && request.header(RANGE) == null;
+    }
+
+    private boolean isFreshInCache(final Request request) {
+        if (!isCacheable(request)) {
+            return false;
+        }
+
+        final MetadataCache.Entry entry = metadataCache.get(request.url());
+        return entry != null && metadataCache.isFresh(entry);
+    }
+
+    private void invalidateCacheOnMutation(final Request request) {
+        if (metadataCache != null && !GET_METHOD.equals(request.method()) && !HEAD_METHOD.equals(request.method())) {
+            metadataCache.invalidate(request.url());
+        }
+    }
+
+    private void invalidateCacheOnMutation(final BatchRequest batchRequest) {
+        if (metadataCache != null) {
+            batchRequest.getItems().forEach(item -> invalidateCacheOnMutation(item.getRequest()));
+        }
+    }
+
+    private static Request newConditionalRequest(final Request request, final MetadataCache.Entry entry) {
+        return entry == null ? request : request.newBuilder()
+                .header(IF_NONE_MATCH, entry.getETag())
+                .build();
+    }
+
+    private <T> T parseCachedResponse(final MetadataCache.Entry entry, final GsonParser<T> parser) {
+        // A new instance is parsed for each hit as resources are mutable and bound to this connection
+        return parseBody(entry.newBodyStream(), parser);
+    }
+
+    /*
+     * Parses the response to a conditional request from the cached body if not modified; otherwise, caches the
+     * new response body along with its eTag.
+     */
+    @VisibleForTesting
+    <T> T parseCacheableResponse(
+            final Request request,
+            final MetadataCache.Entry entry,
+            final Response response,
+            final GsonParser<T> parser) {
+        validateResponseCode(response);
+        if (entry != null && response.code() == HTTP_NOT_MODIFIED) {
+            metadataCache.markRevalidated(entry);
+            return parseCachedResponse(entry, parser);
+        }
+
+        final byte[] body;
+        try (final InputStream bodyStream = openResponseBody(response)) {
+            body = bodyStream.readAllBytes();
+        } catch (final IOException ex) {
+            throw new RequestException("Unable to read response: " + ex.getMessage(), ex);
+        }
+
+        final T parsed = parseBody(new ByteArrayInputStream(body), parser);
+        metadataCache.put(request.url(), getETag(response, body), body);
+        return parsed;
+    }
+
+    /*
+     * Uses the ETag response header, falling back to the eTag property of the resource for responses without it.
+     */
+    private static String getETag(final Response response, final byte[] body) {
+        final String eTag = response.header(ETAG);
+        if (StringUtils.isNotBlank(eTag)) {
+            return eTag;
+        }
+
+        try {
+            final JsonElement json = JsonParser.parseString(new String(body, StandardCharsets.UTF_8));
+            if (json.isJsonObject() && json.getAsJsonObject().has(ETAG_PROPERTY)) {
+                return json.getAsJsonObject().get(ETAG_PROPERTY).getAsString();
+            }
+        } catch (final RuntimeException ex) {
+            log.debug("Unable to read the eTag of the response: {}", ex.getMessage());
+        }
+
+        return null;
+    }
+
     @VisibleForTesting
     long processDownloadResponse(
             final Response response,
@@ -184,6 +1237,24 @@ public class OneDriveConnection extends Connection<GsonFactory> {
         return totalBytes;
     }
 
+    @VisibleForTesting
+    long processDownloadResponse(
+            final Response response,
+            final WritableByteChannel output,
+            final long sizeBytes,
+            final TransferProgressCallback callback) throws IOException {
+        final long totalBytes = ChannelTransferWriter.builder()
+                .output(output)
+                .callback(callback)
+                .build()
+                .write(response.body().source(), sizeBytes);
+
+        if (log.isDebugEnabled()) {
+            log.debug("Downloaded [{}] bytes to the output channel", totalBytes);
+        }
+        return totalBytes;
+    }
+
     @VisibleForTesting
     Path checkFolderAndGetDestinationPath(final Path folderPath, final String name) throws IOException {
         final Path normalizedFolderPath = folderPath.toAbsolutePath().normalize();
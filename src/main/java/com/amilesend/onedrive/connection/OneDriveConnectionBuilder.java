@@ -24,13 +24,23 @@ import com.amilesend.client.util.VisibleForTesting;
 import com.amilesend.onedrive.connection.auth.OneDriveAuthInfo;
 import com.amilesend.onedrive.connection.auth.OneDriveAuthManager;
 import com.amilesend.onedrive.connection.auth.PersonalAccountAuthManager;
+import com.amilesend.onedrive.connection.batch.BatchCoalescingOptions;
+import com.amilesend.onedrive.connection.cache.MetadataCache;
+import com.amilesend.onedrive.connection.cache.MetadataCacheOptions;
+import com.amilesend.onedrive.connection.http.AdaptiveConcurrencyLimiter;
+import com.amilesend.onedrive.connection.http.AdaptiveConcurrencyOptions;
+import com.amilesend.onedrive.connection.http.ConnectionWarmer;
 import com.amilesend.onedrive.connection.http.OkHttpClientBuilder;
+import com.amilesend.onedrive.connection.http.RequestRateLimiter;
+import com.amilesend.onedrive.connection.http.ThrottlingRetryInterceptor;
+import com.amilesend.onedrive.connection.http.ThrottlingRetryOptions;
 import com.amilesend.onedrive.parse.GsonFactory;
 import lombok.NonNull;
 import okhttp3.OkHttpClient;
 
+import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 /** Builder to configure and return a new {@link OneDriveConnection} instance. */
 public class OneDriveConnectionBuilder {
@@ -45,7 +55,15 @@ public class OneDriveConnectionBuilder {
     private OkHttpClient httpClient = new OkHttpClientBuilder().build();
     private OneDriveAuthManager authManager;
     private RetryStrategy retryStrategy = new NoRetryStrategy();
-    private ExecutorService threadPool = Executors.newFixedThreadPool(DEFAULT_NUM_THREADS);
+    private ExecutorService threadPool = ThreadPools.newDefaultThreadPool(DEFAULT_NUM_THREADS);
+    private BatchCoalescingOptions batchCoalescingOptions;
+    private ThrottlingRetryOptions throttlingRetryOptions;
+    private AdaptiveConcurrencyOptions adaptiveConcurrencyOptions;
+    private MetadataCacheOptions metadataCacheOptions;
+    private RequestRateLimiter requestRateLimiter;
+    private boolean isNonBlockingAsyncEnabled;
+    private Executor responseExecutor;
+    private boolean isWarmupEnabled;
 
     /**
      * Creates a new {@code OneDriveConnectionBuilder} instance.
@@ -140,7 +158,8 @@ public class OneDriveConnectionBuilder {
     }
 
     /**
-     * The executor service to manage async operations for the client.
+     * The executor service to manage async operations for the client. This is optional and defaults to a
+     * virtual-thread-per-task executor on Java 21 or later; else, a fixed thread pool of {@link #DEFAULT_NUM_THREADS}.
      *
      * @param threadPool the thread pool
      * @return this builder
@@ -150,6 +169,123 @@ public class OneDriveConnectionBuilder {
         return this;
     }
 
+    /**
+     * Enables coalescing of async requests into batch requests with the given configuration. This is optional and
+     * disabled by default.
+     *
+     * @param batchCoalescingOptions the batch coalescing configuration
+     * @return this builder
+     * @see BatchCoalescingOptions
+     */
+    public OneDriveConnectionBuilder batchCoalescingOptions(final BatchCoalescingOptions batchCoalescingOptions) {
+        this.batchCoalescingOptions = batchCoalescingOptions;
+        return this;
+    }
+
+    /**
+     * Enables retries of throttled and unavailable responses that honor the {@code Retry-After} header with the
+     * given configuration. This is optional and disabled by default.
+     *
+     * @param throttlingRetryOptions the throttling retry configuration
+     * @return this builder
+     * @see ThrottlingRetryInterceptor
+     */
+    public OneDriveConnectionBuilder throttlingRetryOptions(final ThrottlingRetryOptions throttlingRetryOptions) {
+        this.throttlingRetryOptions = throttlingRetryOptions;
+        return this;
+    }
+
+    /**
+     * Enables an in-memory cache of JSON-formatted responses (e.g., drive item, drive and site metadata) with the
+     * given configuration. Cached responses are revalidated with their eTag so that unchanged resources are served
+     * from a {@code 304 Not Modified} response without transferring the body. This is optional and disabled by
+     * default.
+     *
+     * @param metadataCacheOptions the metadata cache configuration
+     * @return this builder
+     * @see MetadataCache
+     */
+    public OneDriveConnectionBuilder metadataCacheOptions(final MetadataCacheOptions metadataCacheOptions) {
+        this.metadataCacheOptions = metadataCacheOptions;
+        return this;
+    }
+
+    /**
+     * Enables an adaptive limit on the number of concurrent in-flight requests with the given configuration. The
+     * limit grows while responses are healthy and shrinks when requests are throttled or latency spikes. This is
+     * optional and disabled by default.
+     *
+     * @param adaptiveConcurrencyOptions the adaptive concurrency configuration
+     * @return this builder
+     * @see AdaptiveConcurrencyLimiter
+     */
+    public OneDriveConnectionBuilder adaptiveConcurrencyOptions(
+            final AdaptiveConcurrencyOptions adaptiveConcurrencyOptions) {
+        this.adaptiveConcurrencyOptions = adaptiveConcurrencyOptions;
+        return this;
+    }
+
+    /**
+     * Paces requests with the given rate limiter before they are sent. The same instance can be configured on
+     * multiple connections to share a budget (e.g., per tenant). This is optional and disabled by default.
+     *
+     * @param requestRateLimiter the request rate limiter
+     * @return this builder
+     * @see RequestRateLimiter
+     */
+    public OneDriveConnectionBuilder requestRateLimiter(final RequestRateLimiter requestRateLimiter) {
+        this.requestRateLimiter = requestRateLimiter;
+        return this;
+    }
+
+    /**
+     * Sets the flag to enqueue async requests and downloads with the HTTP client instead of blocking a thread pool
+     * thread for the duration of each request. This is optional and disabled by default.
+     * <p>
+     * Only {@link OneDriveConnection#executeAsync(okhttp3.Request, com.amilesend.client.parse.parser.GsonParser)
+     * executeAsync} and {@link OneDriveConnection#downloadAsync downloadAsync} are enqueued. The other async operations
+     * (e.g., uploads, segmented downloads and batches) still run on the thread pool. Enqueued requests are retried
+     * with the {@link #throttlingRetryOptions(ThrottlingRetryOptions) throttling retry configuration} (or its defaults
+     * if a {@link #retryStrategy(RetryStrategy) retry strategy} is configured) without blocking a thread while
+     * waiting. Note that the {@link #requestRateLimiter(RequestRateLimiter) rate limiter} and
+     * {@link #adaptiveConcurrencyOptions(AdaptiveConcurrencyOptions) concurrency limiter} still wait on the HTTP
+     * client's dispatcher threads.
+     *
+     * @param isNonBlockingAsyncEnabled If {@code true}, then async requests are enqueued; else, {@code false}
+     * @return this builder
+     * @see OneDriveConnection#enqueue(okhttp3.Request, com.amilesend.client.parse.parser.GsonParser)
+     */
+    public OneDriveConnectionBuilder isNonBlockingAsyncEnabled(final boolean isNonBlockingAsyncEnabled) {
+        this.isNonBlockingAsyncEnabled = isNonBlockingAsyncEnabled;
+        return this;
+    }
+
+    /**
+     * The executor used to read and parse the responses of enqueued requests. This is optional and defaults to the
+     * {@link #threadPool(ExecutorService) thread pool}.
+     *
+     * @param responseExecutor the response executor
+     * @return this builder
+     */
+    public OneDriveConnectionBuilder responseExecutor(final Executor responseExecutor) {
+        this.responseExecutor = responseExecutor;
+        return this;
+    }
+
+    /**
+     * Sets the flag to preconnect to the Graph API and login hosts when the connection is built so that the first
+     * requests do not pay for the DNS lookup and TLS handshakes. The warm up is asynchronous and does not block
+     * {@code build}. This is optional and disabled by default.
+     *
+     * @param isWarmupEnabled If {@code true}, then connections are warmed up on build; else, {@code false}
+     * @return this builder
+     * @see ConnectionWarmer
+     */
+    public OneDriveConnectionBuilder isWarmupEnabled(final boolean isWarmupEnabled) {
+        this.isWarmupEnabled = isWarmupEnabled;
+        return this;
+    }
+
     /**
      * Builds a new {@link OneDriveConnection} instance with the given {@code authCode}.
      *
@@ -157,7 +293,11 @@ public class OneDriveConnectionBuilder {
      * @return the connection
      */
     public OneDriveConnection build(final String authCode) {
-        final OneDriveAuthManager authManager = getAuthManagerOrDefault(httpClient, authCode);
+        final AdaptiveConcurrencyLimiter concurrencyLimiter = newConcurrencyLimiter();
+        final OkHttpClient httpClient = getHttpClient(concurrencyLimiter);
+        // Token requests are sent with the configured client so that they bypass the retry and limiter interceptors
+        final OneDriveAuthManager authManager = getAuthManagerOrDefault(this.httpClient, authCode);
+        warmUpIfEnabled(httpClient, authManager);
         return OneDriveConnection.builder()
                 .httpClient(httpClient)
                 .authManager(authManager)
@@ -167,6 +307,12 @@ public class OneDriveConnectionBuilder {
                 .isGzipContentEncodingEnabled(true)
                 .retryStrategy(retryStrategy)
                 .threadPool(threadPool)
+                .batchCoalescingOptions(batchCoalescingOptions)
+                .concurrencyLimiter(concurrencyLimiter)
+                .asyncRetryPolicy(newAsyncRetryPolicy())
+                .metadataCache(metadataCacheOptions == null ? null : new MetadataCache(metadataCacheOptions))
+                .isNonBlockingAsyncEnabled(isNonBlockingAsyncEnabled)
+                .responseExecutor(responseExecutor)
                 .build();
     }
 
@@ -177,7 +323,11 @@ public class OneDriveConnectionBuilder {
      * @return the connection
      */
     public OneDriveConnection build(final OneDriveAuthInfo authInfo) {
-        final OneDriveAuthManager authManager = getAuthManagerOrDefault(httpClient, authInfo);
+        final AdaptiveConcurrencyLimiter concurrencyLimiter = newConcurrencyLimiter();
+        final OkHttpClient httpClient = getHttpClient(concurrencyLimiter);
+        // Token requests are sent with the configured client so that they bypass the retry and limiter interceptors
+        final OneDriveAuthManager authManager = getAuthManagerOrDefault(this.httpClient, authInfo);
+        warmUpIfEnabled(httpClient, authManager);
         return OneDriveConnection.builder()
                 .httpClient(httpClient)
                 .authManager(authManager)
@@ -187,9 +337,63 @@ public class OneDriveConnectionBuilder {
                 .isGzipContentEncodingEnabled(true)
                 .retryStrategy(retryStrategy)
                 .threadPool(threadPool)
+                .batchCoalescingOptions(batchCoalescingOptions)
+                .concurrencyLimiter(concurrencyLimiter)
+                .asyncRetryPolicy(newAsyncRetryPolicy())
+                .metadataCache(metadataCacheOptions == null ? null : new MetadataCache(metadataCacheOptions))
+                .isNonBlockingAsyncEnabled(isNonBlockingAsyncEnabled)
+                .responseExecutor(responseExecutor)
                 .build();
     }
 
+    private void warmUpIfEnabled(final OkHttpClient httpClient, final OneDriveAuthManager authManager) {
+        if (isWarmupEnabled) {
+            ConnectionWarmer.warmUp(httpClient, List.of(
+                    authManager.getAuthenticatedEndpoint(),
+                    ConnectionWarmer.LOGIN_URL));
+        }
+    }
+
+    /*
+     * Enqueued requests bypass the blocking retry strategy. They are retried with the throttling retry configuration,
+     * or with its defaults if a retry strategy is configured.
+     */
+    private ThrottlingRetryInterceptor newAsyncRetryPolicy() {
+        if (throttlingRetryOptions != null) {
+            return new ThrottlingRetryInterceptor(throttlingRetryOptions);
+        }
+
+        return retryStrategy == null || retryStrategy instanceof NoRetryStrategy
+                ? null
+                : new ThrottlingRetryInterceptor();
+    }
+
+    private AdaptiveConcurrencyLimiter newConcurrencyLimiter() {
+        return adaptiveConcurrencyOptions == null ? null : new AdaptiveConcurrencyLimiter(adaptiveConcurrencyOptions);
+    }
+
+    private OkHttpClient getHttpClient(final AdaptiveConcurrencyLimiter concurrencyLimiter) {
+        if (throttlingRetryOptions == null && requestRateLimiter == null && concurrencyLimiter == null) {
+            return httpClient;
+        }
+
+        // The derived client shares the connection pool and dispatcher of the configured client
+        final OkHttpClient.Builder builder = httpClient.newBuilder();
+        if (throttlingRetryOptions != null) {
+            builder.addInterceptor(new ThrottlingRetryInterceptor(throttlingRetryOptions));
+        }
+        if (requestRateLimiter != null) {
+            // Each retry attempt consumes a permit
+            builder.addInterceptor(requestRateLimiter);
+        }
+        if (concurrencyLimiter != null) {
+            // Added last so that a permit is not held while waiting to retry or for a rate limit permit
+            builder.addInterceptor(concurrencyLimiter);
+        }
+
+        return builder.build();
+    }
+
     private OneDriveAuthManager getAuthManagerOrDefault(final OkHttpClient httpClient, final String authCode) {
         if (authManager != null) {
             return authManager;
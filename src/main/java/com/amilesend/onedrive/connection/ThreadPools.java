@@ -0,0 +1,81 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection;
+
+import com.amilesend.client.util.VisibleForTesting;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Creates the default thread pool for async operations. When running on Java 21 or later, a virtual-thread-per-task
+ * executor is used so that I/O-bound tasks scale with demand instead of the number of cores; otherwise, a fixed thread
+ * pool is used. The virtual thread executor is resolved at runtime so that the SDK remains compatible with Java 11.
+ */
+@Slf4j
+@UtilityClass
+public class ThreadPools {
+    private static final String VIRTUAL_THREAD_EXECUTOR_METHOD = "newVirtualThreadPerTaskExecutor";
+    private static final Method VIRTUAL_THREAD_EXECUTOR_FACTORY = findVirtualThreadExecutorFactory();
+
+    /**
+     * Determines if virtual threads are supported by the current runtime.
+     *
+     * @return {@code true} if virtual threads are supported; else, {@code false}
+     */
+    public static boolean isVirtualThreadSupported() {
+        return VIRTUAL_THREAD_EXECUTOR_FACTORY != null;
+    }
+
+    /**
+     * Creates a new default thread pool: a virtual-thread-per-task executor if supported; else, a fixed thread pool
+     * with the given number of threads.
+     *
+     * @param numThreads the number of threads for the fixed thread pool
+     * @return the thread pool
+     */
+    public static ExecutorService newDefaultThreadPool(final int numThreads) {
+        final ExecutorService virtualThreadExecutor = newVirtualThreadExecutor(VIRTUAL_THREAD_EXECUTOR_FACTORY);
+        return virtualThreadExecutor != null ? virtualThreadExecutor : Executors.newFixedThreadPool(numThreads);
+    }
+
+    @VisibleForTesting
+    static ExecutorService newVirtualThreadExecutor(final Method factory) {
+        if (factory == null) {
+            return null;
+        }
+
+        try {
+            return (ExecutorService) factory.invoke(null);
+        } catch (final ReflectiveOperationException | RuntimeException ex) {
+            log.warn("Unable to create a virtual thread executor. Using a fixed thread pool: {}", ex.getMessage());
+            return null;
+        }
+    }
+
+    private static Method findVirtualThreadExecutorFactory() {
+        try {
+            return Executors.class.getMethod(VIRTUAL_THREAD_EXECUTOR_METHOD);
+        } catch (final NoSuchMethodException ex) {
+            return null;
+        }
+    }
+}
@@ -29,6 +29,8 @@ import okhttp3.FormBody;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 
+import java.util.concurrent.locks.ReentrantLock;
+
 import static com.amilesend.client.connection.Connection.FORM_DATA_CONTENT_TYPE;
 import static com.amilesend.client.connection.Connection.Headers.CONTENT_TYPE;
 
@@ -64,7 +66,7 @@ import static com.amilesend.client.connection.Connection.Headers.CONTENT_TYPE;
 public class PersonalAccountAuthManager implements OneDriveAuthManager {
     private static final String PERSONAL_ENDPOINT_URL = "https://graph.microsoft.com/v1.0/me";
 
-    private final Object lock = new Object();
+    private final ReentrantLock lock = new ReentrantLock();
 
     /** The client identifier. */
     @Getter(AccessLevel.PROTECTED)
@@ -162,7 +164,8 @@ public class PersonalAccountAuthManager implements OneDriveAuthManager {
     @Override
     public OneDriveAuthInfo redeemToken(final String authCode) {
         Validate.notBlank(authCode, "authCode must not be blank");
-        synchronized (lock) {
+        lock.lock();
+        try {
             authInfo = OneDriveAuthManager.fetchAuthInfo(httpClient, new Request.Builder()
                     .url(baseTokenUrl)
                     .header(CONTENT_TYPE, FORM_DATA_CONTENT_TYPE)
@@ -175,12 +178,15 @@ public class PersonalAccountAuthManager implements OneDriveAuthManager {
                             .build())
                     .build());
             return authInfo;
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public OneDriveAuthInfo refreshToken() {
-        synchronized (lock) {
+        lock.lock();
+        try {
             authInfo = OneDriveAuthManager.fetchAuthInfo(httpClient, new Request.Builder()
                     .url(baseTokenUrl)
                     .header(CONTENT_TYPE, FORM_DATA_CONTENT_TYPE)
@@ -193,6 +199,8 @@ public class PersonalAccountAuthManager implements OneDriveAuthManager {
                             .build())
                     .build());
             return authInfo;
+        } finally {
+            lock.unlock();
         }
     }
 }
@@ -0,0 +1,69 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection.batch;
+
+import com.amilesend.client.util.Validate;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * Defines the configuration for coalescing asynchronous requests into JSON batch requests. Requests are buffered for
+ * up to the {@code window} after the first buffered request, or until {@code maxBatchSize} requests are buffered,
+ * and are then sent as a single batch.
+ *
+ * @see RequestCoalescer
+ */
+@Data
+public class BatchCoalescingOptions {
+    /** The default time to buffer requests before sending them as a batch. */
+    public static final Duration DEFAULT_WINDOW = Duration.ofMillis(10L);
+    /** The default maximum number of requests per batch. */
+    public static final int DEFAULT_MAX_BATCH_SIZE = BatchRequest.MAX_REQUESTS;
+
+    /** The time to buffer requests after the first buffered request before sending them as a batch. */
+    private final Duration window;
+    /** The maximum number of requests per batch. A full batch is sent without waiting for the window to elapse. */
+    private final int maxBatchSize;
+
+    /**
+     * Creates a new {@code BatchCoalescingOptions}.
+     *
+     * @param window the time to buffer requests before sending them as a batch
+     * @param maxBatchSize the maximum number of requests per batch
+     */
+    @Builder
+    private BatchCoalescingOptions(final Duration window, final Integer maxBatchSize) {
+        this.window = window == null ? DEFAULT_WINDOW : window;
+        this.maxBatchSize = maxBatchSize == null ? DEFAULT_MAX_BATCH_SIZE : maxBatchSize;
+
+        Validate.isTrue(!this.window.isNegative(), "window must be >= 0");
+        Validate.isTrue(this.maxBatchSize > 0 && this.maxBatchSize <= BatchRequest.MAX_REQUESTS,
+                "maxBatchSize must be between 1 and " + BatchRequest.MAX_REQUESTS);
+    }
+
+    /**
+     * Gets the default options.
+     *
+     * @return the default options
+     */
+    public static BatchCoalescingOptions defaults() {
+        return BatchCoalescingOptions.builder().build();
+    }
+}
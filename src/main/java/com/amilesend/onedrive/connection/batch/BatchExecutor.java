@@ -0,0 +1,362 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection.batch;
+
+import com.amilesend.client.connection.ConnectionException;
+import com.amilesend.client.connection.RequestException;
+import com.amilesend.client.connection.ResponseException;
+import com.amilesend.client.connection.ResponseParseException;
+import com.amilesend.client.connection.ThrottledException;
+import com.amilesend.client.util.Validate;
+import com.amilesend.client.util.VisibleForTesting;
+import com.amilesend.onedrive.connection.OneDriveConnection;
+import com.amilesend.onedrive.connection.http.ThrottlingRetryInterceptor;
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okio.Buffer;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.amilesend.client.connection.Connection.Headers.ACCEPT;
+import static com.amilesend.client.connection.Connection.Headers.ACCEPT_ENCODING;
+import static com.amilesend.client.connection.Connection.Headers.AUTHORIZATION;
+import static com.amilesend.client.connection.Connection.Headers.CONTENT_TYPE;
+import static com.amilesend.client.connection.Connection.Headers.USER_AGENT;
+import static com.amilesend.client.connection.Connection.JSON_CONTENT_TYPE;
+import static com.amilesend.client.connection.Connection.JSON_MEDIA_TYPE;
+import static com.amilesend.onedrive.parse.resource.parser.Parsers.BATCH_RESPONSE_PARSER;
+
+/**
+ * Sends the requests of a {@link BatchRequest} to the service in a single JSON batch round trip and resolves each
+ * {@link BatchItem} with its individual response. A sub-request that fails only fails its own item, and the failure is
+ * described with the same exception types that a standalone request would throw (e.g., {@link ThrottledException}
+ * for a {@code 429} response). A request that cannot be serialized into the batch (e.g., its body is not valid JSON)
+ * is failed without being sent, along with the requests that depend on it.
+ * <p>
+ * Sub-request URLs are sent relative to the service root (i.e., the connection's base URL without the trailing
+ * {@code /me} segment), and only requests without a body or with an explicit JSON body can be batched. File content
+ * transfers and upload session requests are never batched. A batch that only contains {@code GET} requests is
+ * retried when throttled like any other idempotent request.
+ *
+ * @see BatchRequest
+ */
+@Slf4j
+public class BatchExecutor {
+    /** The path of the batch endpoint relative to the service root. */
+    public static final String BATCH_URL_PATH = "/$batch";
+
+    private static final String ME_URL_PATH = "/me";
+    private static final String RETRY_AFTER = "Retry-After";
+    private static final long DEFAULT_RETRY_AFTER_SECONDS = 1L;
+    private static final Set<Integer> THROTTLED_CODES = Set.of(429, 503);
+    /** Path suffixes of the requests that transfer file content or manage upload sessions. */
+    private static final List<String> UNBATCHABLE_PATH_SUFFIXES = List.of("/content", "/createUploadSession");
+    /** Headers that are defined once for the batch request itself. */
+    private static final Set<String> BATCH_LEVEL_HEADERS = Set.of(
+            ACCEPT.toLowerCase(),
+            ACCEPT_ENCODING.toLowerCase(),
+            AUTHORIZATION.toLowerCase(),
+            USER_AGENT.toLowerCase());
+
+    /** The connection used to send the batch request. */
+    private final OneDriveConnection connection;
+    /** The batch to execute. */
+    private final BatchRequest batchRequest;
+
+    /**
+     * Creates a new {@code BatchExecutor}.
+     *
+     * @param connection the connection
+     * @param batchRequest the batch to execute
+     */
+    @Builder
+    private BatchExecutor(@NonNull final OneDriveConnection connection, @NonNull final BatchRequest batchRequest) {
+        Validate.isTrue(!batchRequest.isEmpty(), "batchRequest must not be empty");
+        Validate.isTrue(batchRequest.getItems().stream().noneMatch(BatchItem::isCompleted),
+                "batchRequest must not have been executed");
+
+        this.connection = connection;
+        this.batchRequest = batchRequest;
+    }
+
+    /**
+     * Executes the batch and resolves each of its items.
+     *
+     * @return the number of items that succeeded
+     * @throws ConnectionException if the batch request itself failed, in which case all items are failed with the
+     *                             same exception
+     */
+    public int execute() throws ConnectionException {
+        final String serviceRoot = getServiceRoot(connection.getBaseUrl());
+        final JsonArray requests = new JsonArray();
+        final List<BatchItem<?>> sentItems = new ArrayList<>();
+        final Set<String> failedIds = new HashSet<>();
+        for (final BatchItem<?> item : batchRequest.getItems()) {
+            try {
+                if (item.getDependsOn().stream().anyMatch(failedIds::contains)) {
+                    throw new RequestException("Batch request " + item.getId() + " depends on a failed request");
+                }
+                requests.add(toJson(item, serviceRoot));
+                sentItems.add(item);
+            } catch (final RequestException ex) {
+                log.debug("Unable to add request [{}] to the batch: {}", item.getId(), ex.getMessage());
+                failedIds.add(item.getId());
+                item.fail(0, ex);
+            }
+        }
+
+        if (sentItems.isEmpty()) {
+            return 0;
+        }
+
+        final Request.Builder requestBuilder = connection.newWithBodyRequestBuilder()
+                .url(serviceRoot + BATCH_URL_PATH)
+                .post(RequestBody.create(toEnvelope(requests), JSON_MEDIA_TYPE));
+        // The batch is only safe to replay when none of its requests have side effects
+        if (sentItems.stream().allMatch(item -> "GET".equals(item.getRequest().method()))) {
+            ThrottlingRetryInterceptor.markRetryable(requestBuilder);
+        }
+
+        final BatchResponse response;
+        try {
+            response = connection.execute(requestBuilder.build(), BATCH_RESPONSE_PARSER);
+        } catch (final ConnectionException ex) {
+            sentItems.forEach(item -> item.fail(0, ex));
+            throw ex;
+        }
+
+        final Map<String, BatchResponse.Item> responsesById = response.getResponses() == null
+                ? Map.of()
+                : response.getResponses().stream()
+                        .collect(Collectors.toMap(BatchResponse.Item::getId, Function.identity(), (a, b) -> b));
+        final Gson gson = connection.getGsonFactory().getInstance(connection);
+        int numSucceeded = 0;
+        for (final BatchItem<?> item : sentItems) {
+            resolve(item, responsesById.get(item.getId()), gson);
+            if (item.isSuccessful()) {
+                ++numSucceeded;
+            }
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Executed batch of [{}] requests with [{}] successful", batchRequest.size(), numSucceeded);
+        }
+        return numSucceeded;
+    }
+
+    /*
+     * Graph defines the batch endpoint and the relative sub-request URLs at the version root, while the connection's
+     * base URL for personal accounts is scoped to the signed-in user.
+     */
+    static String getServiceRoot(final String baseUrl) {
+        final String root = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        return root.endsWith(ME_URL_PATH) ? root.substring(0, root.length() - ME_URL_PATH.length()) : root;
+    }
+
+    /**
+     * Determines if the given {@code request} can be sent as part of a batch, i.e., its URL is relative to the given
+     * {@code serviceRoot}, it does not transfer file content or manage an upload session, and it either has no body
+     * or a body with an explicit JSON content type.
+     *
+     * @param request the request
+     * @param serviceRoot the service root that the request URL must be relative to
+     * @return {@code true} if the request can be batched; else, {@code false}
+     */
+    public static boolean isBatchable(@NonNull final Request request, @NonNull final String serviceRoot) {
+        final String url = request.url().toString();
+        if (!url.startsWith(serviceRoot) || url.startsWith(serviceRoot + BATCH_URL_PATH)) {
+            return false;
+        }
+
+        final String path = request.url().encodedPath();
+        if (UNBATCHABLE_PATH_SUFFIXES.stream().anyMatch(path::endsWith)) {
+            return false;
+        }
+
+        final RequestBody body = request.body();
+        return !hasContent(body) || isJson(body.contentType());
+    }
+
+    @VisibleForTesting
+    String toJson(final String serviceRoot) {
+        final JsonArray requests = new JsonArray();
+        for (final BatchItem<?> item : batchRequest.getItems()) {
+            requests.add(toJson(item, serviceRoot));
+        }
+
+        return toEnvelope(requests);
+    }
+
+    private static String toEnvelope(final JsonArray requests) {
+        final JsonObject envelope = new JsonObject();
+        envelope.add("requests", requests);
+        return envelope.toString();
+    }
+
+    private static JsonObject toJson(final BatchItem<?> item, final String serviceRoot) {
+        final Request request = item.getRequest();
+        final String url = request.url().toString();
+        if (!url.startsWith(serviceRoot)) {
+            throw new RequestException("Request URL " + url + " is not relative to the service root " + serviceRoot);
+        }
+
+        final JsonObject json = new JsonObject();
+        json.addProperty("id", item.getId());
+        json.addProperty("method", request.method());
+        json.addProperty("url", url.substring(serviceRoot.length()));
+
+        final JsonObject headers = new JsonObject();
+        request.headers().names().stream()
+                .filter(name -> !BATCH_LEVEL_HEADERS.contains(name.toLowerCase()))
+                .forEach(name -> headers.addProperty(name, request.header(name)));
+
+        final RequestBody body = request.body();
+        if (hasContent(body)) {
+            final MediaType contentType = body.contentType();
+            if (!isJson(contentType)) {
+                throw new RequestException("Only requests with JSON bodies can be batched. Got " + contentType);
+            }
+            if (!headers.has(CONTENT_TYPE)) {
+                headers.addProperty(CONTENT_TYPE, JSON_CONTENT_TYPE);
+            }
+            json.add("body", readBody(body));
+        }
+
+        if (headers.size() > 0) {
+            json.add("headers", headers);
+        }
+        if (!item.getDependsOn().isEmpty()) {
+            final JsonArray dependsOn = new JsonArray();
+            item.getDependsOn().forEach(dependsOn::add);
+            json.add("dependsOn", dependsOn);
+        }
+
+        return json;
+    }
+
+    /* Bodiless methods (e.g., DELETE) are built with an empty body that has no content type. */
+    private static boolean hasContent(final RequestBody body) {
+        try {
+            return body != null && body.contentLength() != 0L;
+        } catch (final IOException ex) {
+            return true;
+        }
+    }
+
+    /* A body without a content type is not assumed to be JSON as it may be the raw content of any file. */
+    private static boolean isJson(final MediaType contentType) {
+        if (contentType == null || !"application".equalsIgnoreCase(contentType.type())) {
+            return false;
+        }
+
+        final String subtype = contentType.subtype().toLowerCase();
+        return "json".equals(subtype) || subtype.endsWith("+json");
+    }
+
+    private static JsonElement readBody(final RequestBody body) {
+        try (final Buffer buffer = new Buffer()) {
+            body.writeTo(buffer);
+            return buffer.size() == 0 ? new JsonObject() : JsonParser.parseString(buffer.readUtf8());
+        } catch (final IOException | JsonParseException ex) {
+            throw new RequestException("Unable to read request body: " + ex.getMessage(), ex);
+        }
+    }
+
+    private static <T> void resolve(final BatchItem<T> item, final BatchResponse.Item response, final Gson gson) {
+        if (response == null) {
+            item.fail(0, new ResponseException("No response for batch request " + item.getId()));
+            return;
+        }
+
+        final int status = response.getStatus();
+        if (THROTTLED_CODES.contains(status)) {
+            item.fail(status, new ThrottledException(
+                    "Batch request " + item.getId() + " was throttled",
+                    getRetryAfterSeconds(response.getHeaders())));
+            return;
+        } else if (status >= 400) {
+            final String msg = "Batch request " + item.getId() + " failed with response code " + status
+                    + getErrorMessage(response.getBody());
+            item.fail(status, status >= 500 ? new ResponseException(msg) : new RequestException(msg));
+            return;
+        }
+
+        final JsonElement body = response.getBody();
+        if (item.getParser() == null || body == null || body.isJsonNull()) {
+            item.complete(status, null);
+            return;
+        }
+
+        try {
+            item.complete(status, item.getParser().parse(
+                    gson,
+                    new ByteArrayInputStream(body.toString().getBytes(StandardCharsets.UTF_8))));
+        } catch (final RuntimeException ex) {
+            item.fail(status, new ResponseParseException(
+                    "Unable to parse response for batch request " + item.getId() + ": " + ex.getMessage(), ex));
+        }
+    }
+
+    private static Long getRetryAfterSeconds(final Map<String, String> headers) {
+        if (headers != null) {
+            for (final Map.Entry<String, String> header : headers.entrySet()) {
+                if (RETRY_AFTER.equalsIgnoreCase(header.getKey())) {
+                    try {
+                        return Long.valueOf(header.getValue().trim());
+                    } catch (final NumberFormatException ex) {
+                        log.debug("Ignoring invalid Retry-After header value: {}", header.getValue());
+                    }
+                }
+            }
+        }
+
+        return DEFAULT_RETRY_AFTER_SECONDS;
+    }
+
+    private static String getErrorMessage(final JsonElement body) {
+        if (body == null || !body.isJsonObject()) {
+            return "";
+        }
+
+        final JsonElement error = body.getAsJsonObject().get("error");
+        if (error == null || !error.isJsonObject() || !error.getAsJsonObject().has("message")) {
+            return "";
+        }
+
+        return ": " + error.getAsJsonObject().get("message").getAsString();
+    }
+}
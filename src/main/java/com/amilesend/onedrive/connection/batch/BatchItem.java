@@ -0,0 +1,133 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection.batch;
+
+import com.amilesend.client.connection.ConnectionException;
+import com.amilesend.client.parse.parser.GsonParser;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.ToString;
+import okhttp3.Request;
+
+import java.util.List;
+
+/**
+ * A single request within a {@link BatchRequest} and the holder of its individual outcome once the batch is
+ * executed. A failed item does not fail the other items of the batch; instead, {@link #getResult()} throws the
+ * exception that describes the failure of this item.
+ *
+ * @param <T> the type of the parsed response body
+ * @see BatchRequest
+ */
+@ToString(onlyExplicitlyIncluded = true)
+public class BatchItem<T> {
+    /** The identifier of the request within the batch. */
+    @Getter
+    @ToString.Include
+    private final String id;
+    /** The request. */
+    @Getter
+    private final Request request;
+    /** The parser used to decode the response body, or {@code null} if the response body is ignored. */
+    @Getter(AccessLevel.PACKAGE)
+    private final GsonParser<T> parser;
+    /** The identifiers of the requests within the batch that must complete before this request is executed. */
+    @Getter
+    @ToString.Include
+    private final List<String> dependsOn;
+
+    /** The HTTP status code of the response, or {@code 0} if the batch has not been executed. */
+    @Getter
+    @ToString.Include
+    private int status;
+    private T result;
+    private ConnectionException failure;
+    private boolean isCompleted;
+
+    BatchItem(final String id, final Request request, final GsonParser<T> parser, final List<String> dependsOn) {
+        this.id = id;
+        this.request = request;
+        this.parser = parser;
+        this.dependsOn = List.copyOf(dependsOn);
+    }
+
+    /**
+     * Gets the parsed response body for this request.
+     *
+     * @return the parsed response body, or {@code null} if no parser was specified
+     * @throws ConnectionException if this request failed
+     * @throws IllegalStateException if the batch has not been executed
+     */
+    public T getResult() throws ConnectionException {
+        validateCompleted();
+        if (failure != null) {
+            throw failure;
+        }
+
+        return result;
+    }
+
+    /**
+     * Gets the exception that describes the failure of this request.
+     *
+     * @return the failure, or {@code null} if the request succeeded
+     * @throws IllegalStateException if the batch has not been executed
+     */
+    public ConnectionException getFailure() {
+        validateCompleted();
+        return failure;
+    }
+
+    /**
+     * Indicates if this request succeeded.
+     *
+     * @return {@code true} if the request succeeded; else, {@code false}
+     * @throws IllegalStateException if the batch has not been executed
+     */
+    public boolean isSuccessful() {
+        validateCompleted();
+        return failure == null;
+    }
+
+    /**
+     * Indicates if the batch that contains this request has been executed.
+     *
+     * @return {@code true} if the outcome of this request is available; else, {@code false}
+     */
+    public boolean isCompleted() {
+        return isCompleted;
+    }
+
+    void complete(final int status, final T result) {
+        this.status = status;
+        this.result = result;
+        this.isCompleted = true;
+    }
+
+    void fail(final int status, final ConnectionException failure) {
+        this.status = status;
+        this.failure = failure;
+        this.isCompleted = true;
+    }
+
+    private void validateCompleted() {
+        if (!isCompleted) {
+            throw new IllegalStateException("The batch request has not been executed");
+        }
+    }
+}
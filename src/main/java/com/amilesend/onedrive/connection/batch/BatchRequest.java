@@ -0,0 +1,138 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection.batch;
+
+import com.amilesend.client.parse.parser.GsonParser;
+import com.amilesend.client.util.Validate;
+import lombok.NonNull;
+import lombok.ToString;
+import okhttp3.Request;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * A collection of up to {@link #MAX_REQUESTS} requests that are sent to the service in a single JSON batch
+ * round trip. Requests may depend on other requests of the same batch so that they are executed in order. Each
+ * request is resolved individually via its {@link BatchItem}.
+ * <p>
+ * Example:
+ * <pre>
+ * final BatchRequest batch = new BatchRequest();
+ * final BatchItem&lt;DriveItem&gt; update = batch.add(updateRequest, DRIVE_ITEM_PARSER);
+ * final BatchItem&lt;Void&gt; delete = batch.add(deleteRequest, update);
+ * connection.executeBatch(batch);
+ * final DriveItem updated = update.getResult();
+ * </pre>
+ * <p>
+ * <a href="https://learn.microsoft.com/en-us/graph/json-batching">API Documentation</a>.
+ *
+ * @see BatchItem
+ * @see com.amilesend.onedrive.connection.OneDriveConnection#executeBatch(BatchRequest)
+ */
+@ToString
+public class BatchRequest {
+    /** The maximum number of requests that the service accepts in a single batch. */
+    public static final int MAX_REQUESTS = 20;
+
+    private final List<BatchItem<?>> items = new ArrayList<>();
+
+    /**
+     * Adds a request whose response body is decoded with the given {@code parser}.
+     *
+     * @param request the request
+     * @param parser the parser to decode the response body
+     * @param dependsOn the requests of this batch that must complete before the request is executed
+     * @return the batch item used to fetch the outcome of the request once the batch is executed
+     * @param <T> the type of the parsed response body
+     */
+    public <T> BatchItem<T> add(
+            @NonNull final Request request,
+            @NonNull final GsonParser<T> parser,
+            final BatchItem<?>... dependsOn) {
+        return addItem(request, parser, dependsOn);
+    }
+
+    /**
+     * Adds a request whose response body is ignored (e.g., a delete request).
+     *
+     * @param request the request
+     * @param dependsOn the requests of this batch that must complete before the request is executed
+     * @return the batch item used to fetch the outcome of the request once the batch is executed
+     */
+    public BatchItem<Void> add(@NonNull final Request request, final BatchItem<?>... dependsOn) {
+        return addItem(request, null, dependsOn);
+    }
+
+    /**
+     * Gets the requests of this batch in the order they were added.
+     *
+     * @return the list of batch items
+     */
+    public List<BatchItem<?>> getItems() {
+        return Collections.unmodifiableList(items);
+    }
+
+    /**
+     * Gets the number of requests in this batch.
+     *
+     * @return the number of requests
+     */
+    public int size() {
+        return items.size();
+    }
+
+    /**
+     * Indicates if this batch contains no requests.
+     *
+     * @return {@code true} if this batch is empty; else, {@code false}
+     */
+    public boolean isEmpty() {
+        return items.isEmpty();
+    }
+
+    /**
+     * Indicates if no more requests can be added to this batch.
+     *
+     * @return {@code true} if this batch contains {@link #MAX_REQUESTS} requests; else, {@code false}
+     */
+    public boolean isFull() {
+        return items.size() >= MAX_REQUESTS;
+    }
+
+    private <T> BatchItem<T> addItem(
+            final Request request,
+            final GsonParser<T> parser,
+            final BatchItem<?>[] dependsOn) {
+        Validate.isTrue(!isFull(), "A batch must not contain more than " + MAX_REQUESTS + " requests");
+        final List<BatchItem<?>> dependencies = dependsOn == null ? List.of() : Arrays.asList(dependsOn);
+        Validate.isTrue(dependencies.stream().allMatch(items::contains),
+                "dependsOn must only contain requests of this batch");
+
+        final BatchItem<T> item = new BatchItem<>(
+                String.valueOf(items.size() + 1),
+                request,
+                parser,
+                dependencies.stream().map(BatchItem::getId).collect(Collectors.toList()));
+        items.add(item);
+        return item;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection.batch;
+
+import com.google.gson.JsonElement;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The response envelope of a JSON batch request.
+ * <p>
+ * <a href="https://learn.microsoft.com/en-us/graph/json-batching">API Documentation</a>.
+ *
+ * @see BatchExecutor
+ */
+@Builder
+@Data
+public class BatchResponse {
+    /** The individual responses, which may be in a different order than the requests. */
+    private final List<Item> responses;
+
+    /** An individual response of a JSON batch request. */
+    @Builder
+    @Data
+    public static class Item {
+        /** The identifier of the corresponding request. */
+        private final String id;
+        /** The HTTP status code. */
+        private final int status;
+        /** The response headers. */
+        private final Map<String, String> headers;
+        /** The response body. */
+        private final JsonElement body;
+    }
+}
@@ -0,0 +1,267 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection.batch;
+
+import com.amilesend.client.connection.ConnectionException;
+import com.amilesend.client.connection.ThrottledException;
+import com.amilesend.client.parse.parser.GsonParser;
+import com.amilesend.onedrive.connection.OneDriveConnection;
+import com.amilesend.onedrive.connection.http.ThrottlingRetryInterceptor;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Request;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Transparently coalesces individually submitted asynchronous requests into JSON batch requests. Requests are buffered
+ * until either the configured window elapses after the first buffered request or the batch is full, and are then sent
+ * in a single round trip. Each caller's {@link CompletableFuture} is completed with its own response or failure.
+ * <p>
+ * A window that only buffered a single request sends it directly to avoid the batch envelope overhead.
+ * <p>
+ * A request that is throttled within a batch is sent again directly once its {@code Retry-After} delay elapses,
+ * subject to the connection's {@link OneDriveConnection#getAsyncRetryPolicy() async retry policy}.
+ *
+ * @see BatchCoalescingOptions
+ * @see BatchExecutor
+ */
+@Slf4j
+public class RequestCoalescer {
+    /** The connection used to send the requests. */
+    private final OneDriveConnection connection;
+    /** The coalescing configuration. */
+    private final BatchCoalescingOptions options;
+    /** The executor used to send the batches. */
+    private final Executor executor;
+    /** The root URL that batched request URLs must be relative to. */
+    private final String serviceRoot;
+
+    private final Object stateLock = new Object();
+    private List<PendingRequest<?>> pending = new ArrayList<>();
+    private long generation;
+
+    /**
+     * Creates a new {@code RequestCoalescer}.
+     *
+     * @param connection the connection
+     * @param options the coalescing configuration (defaults to {@link BatchCoalescingOptions#defaults()})
+     * @param executor the executor used to send the batches
+     */
+    @Builder
+    private RequestCoalescer(
+            @NonNull final OneDriveConnection connection,
+            final BatchCoalescingOptions options,
+            @NonNull final Executor executor) {
+        this.connection = connection;
+        this.options = options == null ? BatchCoalescingOptions.defaults() : options;
+        this.executor = executor;
+        this.serviceRoot = BatchExecutor.getServiceRoot(connection.getBaseUrl());
+    }
+
+    /**
+     * Determines if the given {@code request} can be sent as part of a batch.
+     *
+     * @param request the request
+     * @return {@code true} if the request can be batched; else, {@code false}
+     */
+    public boolean isEligible(@NonNull final Request request) {
+        return BatchExecutor.isBatchable(request, serviceRoot);
+    }
+
+    /**
+     * Buffers the given {@code request} to be sent with the next batch.
+     *
+     * @param request the request
+     * @param parser the parser to decode the response body
+     * @return the CompletableFuture used to fetch the parsed response or failure exception reason
+     * @param <T> the POJO resource type
+     */
+    public <T> CompletableFuture<T> submit(@NonNull final Request request, @NonNull final GsonParser<T> parser) {
+        final PendingRequest<T> pendingRequest = new PendingRequest<>(request, parser, new CompletableFuture<>());
+        final List<PendingRequest<?>> ready;
+        synchronized (stateLock) {
+            pending.add(pendingRequest);
+            if (pending.size() >= options.getMaxBatchSize()) {
+                ready = drain();
+            } else {
+                if (pending.size() == 1) {
+                    scheduleFlush(generation);
+                }
+                ready = null;
+            }
+        }
+
+        if (ready != null) {
+            dispatch(ready);
+        }
+        return pendingRequest.getFuture();
+    }
+
+    /** Sends all buffered requests without waiting for the window to elapse. */
+    public void flush() {
+        final List<PendingRequest<?>> ready;
+        synchronized (stateLock) {
+            ready = drain();
+        }
+
+        if (!ready.isEmpty()) {
+            send(ready);
+        }
+    }
+
+    private void scheduleFlush(final long scheduledGeneration) {
+        final Executor delayedExecutor = CompletableFuture.delayedExecutor(
+                options.getWindow().toNanos(),
+                TimeUnit.NANOSECONDS,
+                executor);
+        delayedExecutor.execute(() -> flush(scheduledGeneration));
+    }
+
+    /* Only flushes the buffer that the timer was scheduled for, as a full batch may have been sent in the meantime. */
+    private void flush(final long scheduledGeneration) {
+        final List<PendingRequest<?>> ready;
+        synchronized (stateLock) {
+            if (scheduledGeneration != generation) {
+                return;
+            }
+            ready = drain();
+        }
+
+        if (!ready.isEmpty()) {
+            send(ready);
+        }
+    }
+
+    private List<PendingRequest<?>> drain() {
+        final List<PendingRequest<?>> ready = pending;
+        pending = new ArrayList<>();
+        ++generation;
+        return ready;
+    }
+
+    private void dispatch(final List<PendingRequest<?>> ready) {
+        try {
+            executor.execute(() -> send(ready));
+        } catch (final RejectedExecutionException ex) {
+            log.debug("Executor rejected batch. Sending on the calling thread");
+            send(ready);
+        }
+    }
+
+    private void send(final List<PendingRequest<?>> ready) {
+        if (ready.size() == 1) {
+            ready.get(0).executeDirectly(connection);
+            return;
+        }
+
+        final BatchRequest batchRequest = new BatchRequest();
+        ready.forEach(pendingRequest -> pendingRequest.addTo(batchRequest));
+
+        RuntimeException batchFailure = null;
+        try {
+            connection.executeBatch(batchRequest);
+        } catch (final RuntimeException ex) {
+            log.debug("Unable to execute batch of [{}] requests: {}", ready.size(), ex.getMessage());
+            batchFailure = ex;
+        }
+
+        for (final PendingRequest<?> pendingRequest : ready) {
+            if (batchFailure != null || !retryIfThrottled(pendingRequest)) {
+                pendingRequest.completeFromBatch(batchFailure);
+            }
+        }
+    }
+
+    /*
+     * Sends a throttled request again on its own once the retry delay elapses. Any further throttling is retried by
+     * the connection. Returns false if the request is not retried.
+     */
+    private boolean retryIfThrottled(final PendingRequest<?> pendingRequest) {
+        final ThrottlingRetryInterceptor retryPolicy = connection.getAsyncRetryPolicy();
+        final ThrottledException throttled = pendingRequest.getThrottledFailure();
+        if (retryPolicy == null || throttled == null) {
+            return false;
+        }
+
+        final Long retryAfterSeconds = throttled.getRetryAfterSeconds();
+        final Long delayMillis = retryPolicy.getRetryDelayMillis(
+                pendingRequest.request,
+                pendingRequest.batchItem.getStatus(),
+                retryAfterSeconds == null ? null : retryAfterSeconds.toString(),
+                1);
+        if (delayMillis == null) {
+            return false;
+        }
+
+        CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS, executor)
+                .execute(() -> pendingRequest.executeDirectly(connection));
+        return true;
+    }
+
+    @RequiredArgsConstructor
+    private static class PendingRequest<T> {
+        private final Request request;
+        private final GsonParser<T> parser;
+        private final CompletableFuture<T> future;
+        private BatchItem<T> batchItem;
+
+        CompletableFuture<T> getFuture() {
+            return future;
+        }
+
+        void addTo(final BatchRequest batchRequest) {
+            batchItem = batchRequest.add(request, parser);
+        }
+
+        void executeDirectly(final OneDriveConnection connection) {
+            try {
+                future.complete(connection.execute(request, parser));
+            } catch (final RuntimeException ex) {
+                future.completeExceptionally(ex);
+            }
+        }
+
+        ThrottledException getThrottledFailure() {
+            if (batchItem.isCompleted() && batchItem.getFailure() instanceof ThrottledException) {
+                return (ThrottledException) batchItem.getFailure();
+            }
+
+            return null;
+        }
+
+        void completeFromBatch(final RuntimeException batchFailure) {
+            if (!batchItem.isCompleted()) {
+                future.completeExceptionally(batchFailure != null
+                        ? batchFailure
+                        : new ConnectionException("Batch request was not executed"));
+            } else if (batchItem.isSuccessful()) {
+                future.complete(batchItem.getResult());
+            } else {
+                future.completeExceptionally(batchItem.getFailure());
+            }
+        }
+    }
+}
@@ -0,0 +1,358 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection.cache;
+
+import com.amilesend.client.util.StringUtils;
+import com.amilesend.client.util.VisibleForTesting;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.HttpUrl;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * A thread-safe, in-memory cache of JSON response bodies keyed by request URL that is bounded by the number of
+ * entries (evicting the least recently used entry) and a time-to-live. Each entry retains the eTag of the cached
+ * resource so that it can be revalidated with a conditional {@code If-None-Match} request; a {@code 304 Not Modified}
+ * response is then served from the cache without transferring the body again.
+ * <p>
+ * Entries are invalidated when the SDK modifies a resource: a mutating request removes every entry that addresses
+ * the same drive item (e.g., {@code /items/{id}}, {@code /items/{id}/children} or {@code /items/{id}?expand=...}),
+ * or that shares the request's path for resources that are not addressed by an item identifier. The children listings
+ * of the mutated item's parent (known from the {@code parentReference} of its cached entry) and all delta listings are
+ * removed as well; if the parent is not known, all children listings are removed.
+ *
+ * @see MetadataCacheOptions
+ */
+@Slf4j
+public class MetadataCache {
+    private static final String ITEMS_PATH_SEGMENT = "items";
+    private static final String CHILDREN_PATH_SEGMENT = "children";
+    private static final String DELTA_PATH_SEGMENT = "delta";
+    private static final char PATH_ADDRESS_DELIMITER = ':';
+
+    /** The cache configuration. */
+    @Getter
+    private final MetadataCacheOptions options;
+    /** The monotonic time source in nanoseconds. */
+    private final LongSupplier nanoClock;
+
+    private final Object stateLock = new Object();
+    private final Map<String, Entry> entries;
+
+    /**
+     * Creates a new {@code MetadataCache}.
+     *
+     * @param options the cache configuration
+     */
+    public MetadataCache(@NonNull final MetadataCacheOptions options) {
+        this(options, System::nanoTime);
+    }
+
+    @VisibleForTesting
+    MetadataCache(@NonNull final MetadataCacheOptions options, @NonNull final LongSupplier nanoClock) {
+        this.options = options;
+        this.nanoClock = nanoClock;
+        this.entries = new LinkedHashMap<String, MetadataCache.Entry>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, MetadataCache.Entry> eldest) {
+                return size() > options.getMaxEntries();
+            }
+        };
+    }
+
+    /**
+     * Gets the cached entry for the given {@code url} if it exists and has not expired.
+     *
+     * @param url the request URL
+     * @return the entry, or {@code null} if not cached
+     */
+    public Entry get(@NonNull final HttpUrl url) {
+        final String key = url.toString();
+        synchronized (stateLock) {
+            final Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (nanoClock.getAsLong() - entry.validatedNanos > options.getTimeToLive().toNanos()) {
+                entries.remove(key);
+                return null;
+            }
+
+            return entry;
+        }
+    }
+
+    /**
+     * Determines if the given {@code entry} can be served without revalidating it with the service.
+     *
+     * @param entry the cached entry
+     * @return {@code true} if the entry is fresh; else, {@code false}
+     * @see MetadataCacheOptions#getFreshnessDuration()
+     */
+    public boolean isFresh(@NonNull final Entry entry) {
+        synchronized (stateLock) {
+            return nanoClock.getAsLong() - entry.validatedNanos < options.getFreshnessDuration().toNanos();
+        }
+    }
+
+    /**
+     * Records that the given {@code entry} was confirmed to be current by a {@code 304 Not Modified} response, which
+     * restarts its time-to-live and freshness duration.
+     *
+     * @param entry the revalidated entry
+     */
+    public void markRevalidated(@NonNull final Entry entry) {
+        synchronized (stateLock) {
+            entry.validatedNanos = nanoClock.getAsLong();
+        }
+    }
+
+    /**
+     * Caches the given response {@code body} for the {@code url}. Responses without an eTag or that exceed the
+     * {@link MetadataCacheOptions#getMaxEntrySizeBytes() maximum size} are not cached and remove any existing entry.
+     *
+     * @param url the request URL
+     * @param eTag the eTag of the resource
+     * @param body the JSON-formatted response body
+     */
+    public void put(@NonNull final HttpUrl url, final String eTag, @NonNull final byte[] body) {
+        final String key = url.toString();
+        synchronized (stateLock) {
+            if (StringUtils.isBlank(eTag) || body.length > options.getMaxEntrySizeBytes()) {
+                entries.remove(key);
+                return;
+            }
+
+            final ListingType listingType = getListingType(url);
+            entries.put(key, new Entry(
+                    eTag,
+                    body,
+                    getItemId(url),
+                    listingType == ListingType.NONE ? getParentId(body) : null,
+                    url.encodedPath(),
+                    listingType,
+                    nanoClock.getAsLong()));
+        }
+    }
+
+    /**
+     * Invalidates the entries that are affected by a mutating request (e.g., update, delete, move or upload) to the
+     * given {@code url}.
+     *
+     * @param url the mutating request URL
+     */
+    public void invalidate(@NonNull final HttpUrl url) {
+        final String itemId = getItemId(url);
+        if (itemId != null) {
+            invalidateItem(itemId);
+            return;
+        }
+
+        // The parent of a path-addressed resource is not known, so all listings are removed
+        final String pathPrefix = getResourcePath(url.encodedPath());
+        removeIf(entry -> entry.path.startsWith(pathPrefix) || entry.listingType != ListingType.NONE);
+    }
+
+    /**
+     * Invalidates all entries that address the drive item with the given {@code itemId}, the children listings of
+     * its parent, and all delta listings. If the parent is not known, all children listings are invalidated.
+     *
+     * @param itemId the drive item identifier
+     */
+    public void invalidateItem(@NonNull final String itemId) {
+        synchronized (stateLock) {
+            final Set<String> parentIds = entries.values().stream()
+                    .filter(entry -> Objects.equals(itemId, entry.itemId) && entry.parentId != null)
+                    .map(entry -> entry.parentId)
+                    .collect(Collectors.toSet());
+            removeIf(entry -> Objects.equals(itemId, entry.itemId) || isAffectedListing(entry, parentIds));
+        }
+    }
+
+    /** Removes all entries. */
+    public void clear() {
+        synchronized (stateLock) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Gets the number of cached entries.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        synchronized (stateLock) {
+            return entries.size();
+        }
+    }
+
+    private void removeIf(final Predicate<Entry> predicate) {
+        synchronized (stateLock) {
+            final Iterator<Entry> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                final Entry entry = iterator.next();
+                if (predicate.test(entry)) {
+                    log.debug("Invalidating cached entry for eTag [{}]", entry.eTag);
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    /*
+     * Listings addressed by path (e.g., /me/drive/root/children) cannot be matched with the parent identifier, and a
+     * change to any item changes the results of a delta listing.
+     */
+    private static boolean isAffectedListing(final Entry entry, final Set<String> parentIds) {
+        switch (entry.listingType) {
+            case DELTA:
+                return true;
+            case CHILDREN:
+                return parentIds.isEmpty() || entry.itemId == null || parentIds.contains(entry.itemId);
+            default:
+                return false;
+        }
+    }
+
+    @VisibleForTesting
+    static ListingType getListingType(final HttpUrl url) {
+        final List<String> segments = url.pathSegments();
+        final String lastSegment = segments.get(segments.size() - 1);
+        if (CHILDREN_PATH_SEGMENT.equals(lastSegment)) {
+            return ListingType.CHILDREN;
+        }
+
+        // Includes delta functions with a token parameter (e.g., delta(token='latest'))
+        return lastSegment.startsWith(DELTA_PATH_SEGMENT) ? ListingType.DELTA : ListingType.NONE;
+    }
+
+    /* Gets the identifier of the parent from the parentReference of a cached drive item, if present. */
+    @VisibleForTesting
+    static String getParentId(final byte[] body) {
+        try {
+            final JsonElement json = JsonParser.parseString(new String(body, StandardCharsets.UTF_8));
+            if (!json.isJsonObject()) {
+                return null;
+            }
+
+            final JsonElement parentReference = json.getAsJsonObject().get("parentReference");
+            if (parentReference == null || !parentReference.isJsonObject()) {
+                return null;
+            }
+
+            final JsonElement parentId = parentReference.getAsJsonObject().get("id");
+            return parentId == null || !parentId.isJsonPrimitive() ? null : parentId.getAsString();
+        } catch (final JsonParseException ex) {
+            return null;
+        }
+    }
+
+    /*
+     * Gets the identifier that follows the "items" path segment (e.g., /me/drive/items/{id}:/name:/content) if the
+     * URL addresses a drive item by its identifier.
+     */
+    @VisibleForTesting
+    static String getItemId(final HttpUrl url) {
+        final List<String> segments = url.pathSegments();
+        for (int i = segments.size() - 2; i >= 0; --i) {
+            if (ITEMS_PATH_SEGMENT.equals(segments.get(i))) {
+                final String segment = segments.get(i + 1);
+                final int delimiterIndex = segment.indexOf(PATH_ADDRESS_DELIMITER);
+                final String itemId = delimiterIndex < 0 ? segment : segment.substring(0, delimiterIndex);
+                return StringUtils.isBlank(itemId) ? null : itemId;
+            }
+        }
+
+        return null;
+    }
+
+    /*
+     * Strips the trailing path-based address action (e.g., /me/drive/root:/folder/file.txt:/content) from the path.
+     */
+    private static String getResourcePath(final String encodedPath) {
+        final int delimiterIndex = encodedPath.lastIndexOf(PATH_ADDRESS_DELIMITER);
+        return delimiterIndex < 0 ? encodedPath : encodedPath.substring(0, delimiterIndex);
+    }
+
+    /** The type of collection that a cached response lists. */
+    @VisibleForTesting
+    enum ListingType {
+        /** Not a listing (e.g., a single drive item). */
+        NONE,
+        /** The children of a folder. */
+        CHILDREN,
+        /** The changes of a drive or folder. */
+        DELTA
+    }
+
+    /** A cached response body and the eTag used to revalidate it. */
+    public static class Entry {
+        /** The eTag of the cached resource. */
+        @Getter
+        private final String eTag;
+        private final byte[] body;
+        private final String itemId;
+        private final String parentId;
+        private final String path;
+        private final ListingType listingType;
+        private long validatedNanos;
+
+        private Entry(
+                final String eTag,
+                final byte[] body,
+                final String itemId,
+                final String parentId,
+                final String path,
+                final ListingType listingType,
+                final long validatedNanos) {
+            this.eTag = eTag;
+            this.body = body;
+            this.itemId = itemId;
+            this.parentId = parentId;
+            this.path = path;
+            this.listingType = listingType;
+            this.validatedNanos = validatedNanos;
+        }
+
+        /**
+         * Opens a new stream to read the cached JSON-formatted response body.
+         *
+         * @return the input stream
+         */
+        public InputStream newBodyStream() {
+            return new ByteArrayInputStream(body);
+        }
+    }
+}
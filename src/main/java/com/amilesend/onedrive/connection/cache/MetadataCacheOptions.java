@@ -0,0 +1,89 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection.cache;
+
+import com.amilesend.client.util.Validate;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * Defines the configuration for the in-memory metadata cache that revalidates cached responses with their eTag.
+ *
+ * @see MetadataCache
+ */
+@Data
+public class MetadataCacheOptions {
+    /** The default maximum number of cached responses. */
+    public static final int DEFAULT_MAX_ENTRIES = 1000;
+    /** The default maximum size of a cached response body (1 MiB). */
+    public static final int DEFAULT_MAX_ENTRY_SIZE_BYTES = 1024 * 1024;
+    /** The default duration that an entry is retained after it was last validated. */
+    public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(10L);
+    /** The default duration that an entry is served without revalidation (always revalidate). */
+    public static final Duration DEFAULT_FRESHNESS_DURATION = Duration.ZERO;
+
+    /** The maximum number of cached responses. The least recently used entry is evicted when exceeded. */
+    private final int maxEntries;
+    /** The maximum size of a response body in bytes to cache. Larger responses are not cached. */
+    private final int maxEntrySizeBytes;
+    /** The duration that an entry is retained after it was last validated with the service. */
+    private final Duration timeToLive;
+    /**
+     * The duration after an entry was last validated during which it is served without a conditional request.
+     * A non-zero value trades consistency for fewer round trips, as changes made by other clients are not observed
+     * until the entry is revalidated.
+     */
+    private final Duration freshnessDuration;
+
+    /**
+     * Creates a new {@code MetadataCacheOptions}.
+     *
+     * @param maxEntries the maximum number of cached responses
+     * @param maxEntrySizeBytes the maximum size of a response body in bytes to cache
+     * @param timeToLive the duration that an entry is retained after it was last validated
+     * @param freshnessDuration the duration that an entry is served without revalidation
+     */
+    @Builder
+    private MetadataCacheOptions(
+            final Integer maxEntries,
+            final Integer maxEntrySizeBytes,
+            final Duration timeToLive,
+            final Duration freshnessDuration) {
+        this.maxEntries = maxEntries == null ? DEFAULT_MAX_ENTRIES : maxEntries;
+        this.maxEntrySizeBytes = maxEntrySizeBytes == null ? DEFAULT_MAX_ENTRY_SIZE_BYTES : maxEntrySizeBytes;
+        this.timeToLive = timeToLive == null ? DEFAULT_TIME_TO_LIVE : timeToLive;
+        this.freshnessDuration = freshnessDuration == null ? DEFAULT_FRESHNESS_DURATION : freshnessDuration;
+
+        Validate.isTrue(this.maxEntries > 0, "maxEntries must be > 0");
+        Validate.isTrue(this.maxEntrySizeBytes > 0, "maxEntrySizeBytes must be > 0");
+        Validate.isTrue(!this.timeToLive.isNegative() && !this.timeToLive.isZero(), "timeToLive must be > 0");
+        Validate.isTrue(!this.freshnessDuration.isNegative() && this.freshnessDuration.compareTo(this.timeToLive) <= 0,
+                "freshnessDuration must be >= 0 and <= timeToLive");
+    }
+
+    /**
+     * Gets the default options.
+     *
+     * @return the default options
+     */
+    public static MetadataCacheOptions defaults() {
+        return MetadataCacheOptions.builder().build();
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection.file;
+
+import com.amilesend.client.util.StringUtils;
+import com.amilesend.client.util.Validate;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Describes an inclusive range of bytes within a file transfer (e.g., {@code bytes=0-1023}).
+ */
+@Data
+public class ByteRange {
+    /** The first byte position of the range. */
+    private final long start;
+    /** The last byte position (inclusive) of the range. */
+    private final long end;
+
+    /**
+     * Creates a new {@code ByteRange}.
+     *
+     * @param start the first byte position
+     * @param end the last byte position (inclusive)
+     */
+    public ByteRange(final long start, final long end) {
+        Validate.isTrue(start >= 0, "start must be >= 0");
+        Validate.isTrue(end >= start, "end must be >= start");
+
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Gets the number of bytes that this range spans.
+     *
+     * @return the number of bytes
+     */
+    public long length() {
+        return end - start + 1;
+    }
+
+    /**
+     * Formats this range as a {@code Content-Range} header value for the given {@code totalBytes}.
+     *
+     * @param totalBytes the total size of the file in bytes
+     * @return the formatted header value
+     */
+    public String toContentRange(final long totalBytes) {
+        return new StringBuilder("bytes ")
+                .append(start)
+                .append("-")
+                .append(end)
+                .append("/")
+                .append(totalBytes)
+                .toString();
+    }
+
+    /**
+     * Formats this range as a {@code Content-Range} header value for content whose total size is not yet known.
+     *
+     * @return the formatted header value
+     */
+    public String toContentRange() {
+        return new StringBuilder("bytes ")
+                .append(start)
+                .append("-")
+                .append(end)
+                .append("/*")
+                .toString();
+    }
+
+    /**
+     * Formats this range as a {@code Range} request header value.
+     *
+     * @return the formatted header value
+     */
+    public String toRangeHeader() {
+        return new StringBuilder("bytes=")
+                .append(start)
+                .append("-")
+                .append(end)
+                .toString();
+    }
+
+    /**
+     * Parses a range formatted as {@literal start-end} or {@literal start-} (open-ended) as returned by the
+     * Graph API for upload sessions.
+     *
+     * @param range the range to parse
+     * @param totalBytes the total size of the file in bytes that is used to resolve open-ended ranges
+     * @return the parsed range
+     */
+    public static ByteRange parse(final String range, final long totalBytes) {
+        Validate.notBlank(range, "range must not be blank");
+
+        final int separatorIndex = range.indexOf('-');
+        Validate.isTrue(separatorIndex > 0, "Invalid range: " + range);
+
+        try {
+            final long start = Long.parseLong(range.substring(0, separatorIndex).trim());
+            final String endValue = range.substring(separatorIndex + 1).trim();
+            final long end = StringUtils.isBlank(endValue) ? totalBytes - 1 : Long.parseLong(endValue);
+            return new ByteRange(start, Math.min(end, totalBytes - 1));
+        } catch (final NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid range: " + range, ex);
+        }
+    }
+
+    /**
+     * Parses the list of ranges formatted as {@literal start-end} or {@literal start-}.
+     *
+     * @param ranges the ranges to parse
+     * @param totalBytes the total size of the file in bytes that is used to resolve open-ended ranges
+     * @return the parsed ranges, sorted by start position
+     * @see #parse(String, long)
+     */
+    public static List<ByteRange> parse(final List<String> ranges, final long totalBytes) {
+        if (ranges == null || ranges.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        final List<ByteRange> parsedRanges = new ArrayList<>(ranges.size());
+        for (final String range : ranges) {
+            parsedRanges.add(parse(range, totalBytes));
+        }
+        parsedRanges.sort((r1, r2) -> Long.compare(r1.getStart(), r2.getStart()));
+
+        return parsedRanges;
+    }
+
+    /**
+     * Sums the number of bytes that the given {@code ranges} span.
+     *
+     * @param ranges the ranges
+     * @return the total number of bytes
+     */
+    public static long totalLength(final List<ByteRange> ranges) {
+        long totalLength = 0L;
+        for (final ByteRange range : ranges) {
+            totalLength += range.length();
+        }
+
+        return totalLength;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection.file;
+
+import com.amilesend.client.connection.file.TransferProgressCallback;
+import com.amilesend.client.util.Validate;
+import lombok.Builder;
+import lombok.NonNull;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * A one-shot {@link RequestBody} that streams a known number of bytes from a {@link ReadableByteChannel} and reports
+ * transfer progress to a {@link TransferProgressCallback}. Unlike a file-based request body, the content is never
+ * staged on disk, so the body cannot be replayed.
+ */
+public class ChannelRequestBody extends RequestBody {
+    private static final MediaType OCTET_STREAM_MEDIA_TYPE = MediaType.parse("application/octet-stream");
+    private static final int BUFFER_SIZE_BYTES = 64 * 1024;
+
+    /** The source to read the content from. */
+    private final ReadableByteChannel source;
+    /** The number of bytes to read from the source. */
+    private final long sizeBytes;
+    /** The callback to report transfer progress. */
+    private final TransferProgressCallback callback;
+
+    /**
+     * Creates a new {@code ChannelRequestBody}.
+     *
+     * @param source the source to read the content from. The source is not closed.
+     * @param sizeBytes the number of bytes to read from the source
+     * @param callback the callback to report transfer progress
+     */
+    @Builder
+    private ChannelRequestBody(
+            @NonNull final ReadableByteChannel source,
+            final long sizeBytes,
+            @NonNull final TransferProgressCallback callback) {
+        Validate.isTrue(sizeBytes >= 0L, "sizeBytes must be >= 0");
+
+        this.source = source;
+        this.sizeBytes = sizeBytes;
+        this.callback = callback;
+    }
+
+    @Override
+    public MediaType contentType() {
+        return OCTET_STREAM_MEDIA_TYPE;
+    }
+
+    @Override
+    public long contentLength() {
+        return sizeBytes;
+    }
+
+    @Override
+    public boolean isOneShot() {
+        return true;
+    }
+
+    @Override
+    public void writeTo(final BufferedSink sink) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(BUFFER_SIZE_BYTES, Math.max(sizeBytes, 1L)));
+        long totalBytes = 0L;
+        try {
+            while (totalBytes < sizeBytes) {
+                buffer.clear();
+                buffer.limit((int) Math.min(buffer.capacity(), sizeBytes - totalBytes));
+                final int numRead = source.read(buffer);
+                if (numRead < 0) {
+                    throw new IOException("Source ended at byte " + totalBytes
+                            + " before the expected size of " + sizeBytes);
+                }
+
+                buffer.flip();
+                sink.write(buffer);
+                totalBytes += numRead;
+                callback.onUpdate(totalBytes, sizeBytes);
+            }
+        } catch (final IOException ex) {
+            callback.onFailure(ex);
+            throw ex;
+        }
+
+        callback.onComplete(totalBytes);
+    }
+}
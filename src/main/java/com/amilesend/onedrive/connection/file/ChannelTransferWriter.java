@@ -0,0 +1,87 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection.file;
+
+import com.amilesend.client.connection.file.TransferProgressCallback;
+import lombok.Builder;
+import lombok.NonNull;
+import okio.BufferedSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Writes the contents of a {@link BufferedSource} directly to a caller-supplied {@link WritableByteChannel} and
+ * reports transfer progress to a {@link TransferProgressCallback}. The channel is not closed so that callers can
+ * stream the content into another sink (e.g., object storage or a parser) without staging it on disk.
+ */
+public class ChannelTransferWriter {
+    private static final int BUFFER_SIZE_BYTES = 64 * 1024;
+
+    /** The channel to write the content to. */
+    private final WritableByteChannel output;
+    /** The callback to report transfer progress. */
+    private final TransferProgressCallback callback;
+
+    /**
+     * Creates a new {@code ChannelTransferWriter}.
+     *
+     * @param output the channel to write the content to
+     * @param callback the callback to report transfer progress
+     */
+    @Builder
+    private ChannelTransferWriter(
+            @NonNull final WritableByteChannel output,
+            @NonNull final TransferProgressCallback callback) {
+        this.output = output;
+        this.callback = callback;
+    }
+
+    /**
+     * Writes the contents of the given {@code source} to the channel.
+     *
+     * @param source the source to read the content from
+     * @param sizeBytes the expected total size of the content in bytes used to report progress
+     * @return the number of bytes written
+     * @throws IOException if an error occurred while reading or writing the content
+     */
+    public long write(@NonNull final BufferedSource source, final long sizeBytes) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE_BYTES);
+        long totalBytes = 0L;
+        try {
+            int numRead;
+            while ((numRead = source.read(buffer)) != -1) {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    output.write(buffer);
+                }
+                buffer.clear();
+
+                totalBytes += numRead;
+                callback.onUpdate(totalBytes, sizeBytes);
+            }
+        } catch (final IOException ex) {
+            callback.onFailure(ex);
+            throw ex;
+        }
+
+        callback.onComplete(totalBytes);
+        return totalBytes;
+    }
+}
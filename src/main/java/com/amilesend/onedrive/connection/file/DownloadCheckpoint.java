@@ -0,0 +1,83 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection.file;
+
+import com.amilesend.onedrive.parse.GsonFactory;
+import com.google.gson.JsonSyntaxException;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.Objects;
+
+/**
+ * Describes the persisted state of a partially downloaded file. The checkpoint is stored as a sidecar file next to
+ * the partial download and identifies the remote content so that a later attempt only resumes when the remote
+ * content has not changed.
+ *
+ * @see ResumableDownloader
+ */
+@Builder(toBuilder = true)
+@Data
+public class DownloadCheckpoint {
+    /** The identifier of the remote content. */
+    private final String itemId;
+    /** The eTag of the remote content at the time the download was started. */
+    private final String eTag;
+    /** The cTag of the remote content at the time the download was started. */
+    private final String cTag;
+    /** The total size of the remote content in bytes. */
+    private final long sizeBytes;
+    /** The number of bytes that have been durably written to the partial file. */
+    private final long bytesWritten;
+    /** The time in epoch milliseconds when this checkpoint was last updated. */
+    private final long lastUpdatedMillis;
+
+    /**
+     * Deserializes the given {@code json} string to a new {@code DownloadCheckpoint}.
+     *
+     * @param json the JSON-formatted checkpoint
+     * @return the checkpoint
+     * @throws JsonSyntaxException if there is an error while deserializing the JSON string
+     */
+    public static DownloadCheckpoint fromJson(final String json) {
+        return GsonFactory.getInstanceForStateManager().fromJson(json, DownloadCheckpoint.class);
+    }
+
+    /**
+     * Serializes this checkpoint to a JSON-formatted string.
+     *
+     * @return the JSON-formatted checkpoint
+     */
+    public String toJson() {
+        return GsonFactory.getInstanceForStateManager().toJson(this);
+    }
+
+    /**
+     * Determines if this checkpoint describes the same remote content as the given {@code other} checkpoint.
+     *
+     * @param other the checkpoint that describes the current remote content
+     * @return {@code true} if the remote content is unchanged; else, {@code false}
+     */
+    public boolean isSameContent(final DownloadCheckpoint other) {
+        return other != null
+                && Objects.equals(itemId, other.getItemId())
+                && Objects.equals(eTag, other.getETag())
+                && Objects.equals(cTag, other.getCTag())
+                && sizeBytes == other.getSizeBytes();
+    }
+}
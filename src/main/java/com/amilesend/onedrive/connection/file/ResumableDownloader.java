@@ -0,0 +1,376 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection.file;
+
+import com.amilesend.client.connection.ConnectionException;
+import com.amilesend.client.connection.RequestException;
+import com.amilesend.client.connection.file.TransferProgressCallback;
+import com.amilesend.client.util.StringUtils;
+import com.amilesend.client.util.Validate;
+import com.amilesend.client.util.VisibleForTesting;
+import com.amilesend.onedrive.connection.OneDriveConnection;
+import com.google.gson.JsonParseException;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Request;
+import okhttp3.Response;
+import okio.BufferedSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import static com.amilesend.client.connection.Connection.Headers.ACCEPT_ENCODING;
+
+/**
+ * Downloads a file to a partial file that survives failures so that a later attempt requests only the remaining
+ * byte range. A sidecar {@link DownloadCheckpoint} records the identity of the remote content and the number of
+ * bytes durably written. When the remote content no longer matches the checkpoint, the partial file is discarded
+ * and the download restarts from the beginning. Once complete, the partial file is moved to the destination and
+ * the checkpoint is removed.
+ * <p>
+ * Transient failures are retried within the same attempt by resuming from the last written byte.
+ *
+ * @see DownloadCheckpoint
+ */
+@Slf4j
+public class ResumableDownloader {
+    /** The suffix appended to the destination file name for the partial download. */
+    public static final String PARTIAL_FILE_SUFFIX = ".partial";
+    /** The suffix appended to the destination file name for the checkpoint sidecar file. */
+    public static final String CHECKPOINT_FILE_SUFFIX = ".partial.json";
+    /** The default number of consecutive retries for a transient failure. */
+    public static final int DEFAULT_MAX_RETRIES = 5;
+
+    private static final String RANGE = "Range";
+    private static final String IF_RANGE = "If-Range";
+    private static final String CONTENT_RANGE = "Content-Range";
+    private static final String IDENTITY_ENCODING = "identity";
+    private static final int PARTIAL_CONTENT_RESPONSE_CODE = 206;
+    private static final int BUFFER_SIZE_BYTES = 64 * 1024;
+    private static final long CHECKPOINT_INTERVAL_BYTES = 4L * 1024L * 1024L;
+
+    /** The connection used to issue the download requests. */
+    private final OneDriveConnection connection;
+    /** The URL of the content to download. */
+    private final String url;
+    /** The identity of the remote content used to validate an existing checkpoint. */
+    private final DownloadCheckpoint expected;
+    /** The path of the file to write the content to. */
+    @Getter
+    private final Path downloadPath;
+    /** The path of the partial file that the content is written to until the download is complete. */
+    @Getter
+    private final Path partialPath;
+    /** The path of the checkpoint sidecar file. */
+    @Getter
+    private final Path checkpointPath;
+    /** The callback to report download transfer progress. */
+    private final TransferProgressCallback callback;
+    /** The maximum number of consecutive retries for a transient failure. */
+    @Getter
+    private final int maxRetries;
+
+    private long lastCheckpointBytes;
+
+    /**
+     * Creates a new {@code ResumableDownloader}.
+     *
+     * @param connection the connection
+     * @param url the URL of the content to download
+     * @param itemId the identifier of the remote content
+     * @param eTag the optional eTag of the remote content
+     * @param cTag the optional cTag of the remote content
+     * @param sizeBytes the total size of the content in bytes
+     * @param downloadPath the path of the file to write the content to
+     * @param callback the callback to report download transfer progress
+     * @param maxRetries the maximum number of consecutive retries for a transient failure
+     *                   (defaults to {@link #DEFAULT_MAX_RETRIES})
+     */
+    @Builder
+    private ResumableDownloader(
+            @NonNull final OneDriveConnection connection,
+            final String url,
+            final String itemId,
+            final String eTag,
+            final String cTag,
+            final long sizeBytes,
+            @NonNull final Path downloadPath,
+            @NonNull final TransferProgressCallback callback,
+            final Integer maxRetries) {
+        Validate.notBlank(url, "url must not be blank");
+        Validate.notBlank(itemId, "itemId must not be blank");
+        Validate.isTrue(sizeBytes > 0L, "sizeBytes must be > 0");
+        Validate.isTrue(maxRetries == null || maxRetries >= 0, "maxRetries must be >= 0");
+
+        this.connection = connection;
+        this.url = url;
+        this.expected = DownloadCheckpoint.builder()
+                .itemId(itemId)
+                .eTag(eTag)
+                .cTag(cTag)
+                .sizeBytes(sizeBytes)
+                .build();
+        this.downloadPath = downloadPath;
+        this.partialPath = getPartialPath(downloadPath);
+        this.checkpointPath = getCheckpointPath(downloadPath);
+        this.callback = callback;
+        this.maxRetries = maxRetries == null ? DEFAULT_MAX_RETRIES : maxRetries;
+    }
+
+    /**
+     * Gets the path of the partial file for the given {@code downloadPath}.
+     *
+     * @param downloadPath the path of the downloaded file
+     * @return the path of the partial file
+     */
+    public static Path getPartialPath(@NonNull final Path downloadPath) {
+        return downloadPath.resolveSibling(downloadPath.getFileName() + PARTIAL_FILE_SUFFIX);
+    }
+
+    /**
+     * Gets the path of the checkpoint sidecar file for the given {@code downloadPath}.
+     *
+     * @param downloadPath the path of the downloaded file
+     * @return the path of the checkpoint sidecar file
+     */
+    public static Path getCheckpointPath(@NonNull final Path downloadPath) {
+        return downloadPath.resolveSibling(downloadPath.getFileName() + CHECKPOINT_FILE_SUFFIX);
+    }
+
+    /**
+     * Downloads the content to the configured {@code downloadPath}, resuming from a matching partial file if one
+     * exists.
+     *
+     * @return the number of bytes downloaded
+     * @throws ConnectionException if an error occurred while downloading the content
+     */
+    public long download() throws ConnectionException {
+        final long sizeBytes = expected.getSizeBytes();
+        final long[] position = {getResumePosition()};
+        try {
+            try (final FileChannel channel = FileChannel.open(
+                    partialPath,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE)) {
+                // Discard any bytes beyond the last durable checkpoint
+                channel.truncate(position[0]);
+                lastCheckpointBytes = position[0];
+                if (position[0] > 0L) {
+                    log.info("Resuming download of [{}] at byte [{}] of [{}]", downloadPath, position[0], sizeBytes);
+                    callback.onUpdate(position[0], sizeBytes);
+                }
+
+                transfer(channel, position);
+                channel.force(false);
+            }
+
+            moveAtomically(partialPath, downloadPath);
+            deleteQuietly(checkpointPath);
+        } catch (final ConnectionException ex) {
+            callback.onFailure(ex);
+            throw ex;
+        } catch (final IOException ex) {
+            callback.onFailure(ex);
+            throw new RequestException("Unable to write to " + partialPath + ": " + ex.getMessage(), ex);
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Downloaded [{}] bytes to [{}]", sizeBytes, downloadPath);
+        }
+        callback.onComplete(sizeBytes);
+        return sizeBytes;
+    }
+
+    private void transfer(final FileChannel channel, final long[] position) {
+        int attempt = 0;
+        while (position[0] < expected.getSizeBytes()) {
+            final long startPosition = position[0];
+            try {
+                fetchRemaining(channel, position);
+            } catch (final ConnectionException ex) {
+                saveCheckpoint(channel, position[0]);
+                // Progress was made before the failure, so reset the consecutive retry count
+                if (position[0] > startPosition) {
+                    attempt = 0;
+                }
+                if (!TransferRetryPolicy.isTransient(ex) || attempt >= maxRetries) {
+                    throw ex;
+                }
+
+                ++attempt;
+                final long backoffMillis = TransferRetryPolicy.getBackoffMillis(ex, attempt);
+                log.warn("Transient failure while downloading [{}] at byte [{}] (attempt {} of {}). "
+                                + "Retrying in {} ms: {}",
+                        downloadPath, position[0], attempt, maxRetries, backoffMillis, ex.getMessage());
+                pause(backoffMillis);
+            }
+        }
+    }
+
+    /*
+     * Requests the bytes from the given position to the end of the content and writes them to the channel. The
+     * position is advanced as bytes are written so that a retry resumes from the last written byte. When the
+     * content changed since the partial file was written, the server ignores the range and responds with the
+     * full content which restarts the download from the beginning.
+     */
+    private void fetchRemaining(final FileChannel channel, final long[] position) {
+        final Request.Builder requestBuilder = connection.newRequestBuilder()
+                .url(url)
+                // Ranges must apply to the unencoded representation
+                .header(ACCEPT_ENCODING, IDENTITY_ENCODING)
+                .header(RANGE, "bytes=" + position[0] + "-");
+        if (StringUtils.isNotBlank(expected.getETag())) {
+            requestBuilder.header(IF_RANGE, expected.getETag());
+        }
+
+        try (final Response response = connection.execute(requestBuilder.build())) {
+            if (response.code() == PARTIAL_CONTENT_RESPONSE_CODE) {
+                validateContentRange(response.header(CONTENT_RANGE), position[0]);
+            } else if (position[0] > 0L) {
+                log.info("Server returned the full content for [{}]. Restarting the download", downloadPath);
+                channel.truncate(0L);
+                position[0] = 0L;
+                lastCheckpointBytes = 0L;
+            }
+
+            final long sizeBytes = expected.getSizeBytes();
+            final BufferedSource source = response.body().source();
+            final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE_BYTES);
+            while (position[0] < sizeBytes) {
+                buffer.clear();
+                buffer.limit((int) Math.min(BUFFER_SIZE_BYTES, sizeBytes - position[0]));
+                final int numRead = source.read(buffer);
+                if (numRead < 0) {
+                    throw new IOException("Unexpected end of stream at position " + position[0]);
+                }
+
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    position[0] += channel.write(buffer, position[0]);
+                }
+                callback.onUpdate(position[0], sizeBytes);
+
+                if (position[0] - lastCheckpointBytes >= CHECKPOINT_INTERVAL_BYTES) {
+                    saveCheckpoint(channel, position[0]);
+                }
+            }
+        } catch (final IOException ex) {
+            throw new RequestException("Unable to download content: " + ex.getMessage(), ex);
+        }
+    }
+
+    private static void validateContentRange(final String contentRange, final long position) throws IOException {
+        if (StringUtils.isBlank(contentRange)) {
+            return;
+        }
+
+        final String expectedPrefix = "bytes " + position + "-";
+        if (!contentRange.startsWith(expectedPrefix)) {
+            throw new IOException("Unexpected Content-Range [" + contentRange + "] for position " + position);
+        }
+    }
+
+    @VisibleForTesting
+    long getResumePosition() {
+        if (!Files.exists(checkpointPath) || !Files.exists(partialPath)) {
+            return discardPartialDownload();
+        }
+
+        try {
+            final DownloadCheckpoint checkpoint =
+                    DownloadCheckpoint.fromJson(Files.readString(checkpointPath, StandardCharsets.UTF_8));
+            if (!expected.isSameContent(checkpoint)) {
+                log.info("Remote content changed since the partial download of [{}]. Restarting", downloadPath);
+                return discardPartialDownload();
+            }
+
+            final long bytesWritten = checkpoint.getBytesWritten();
+            if (bytesWritten < 0L
+                    || bytesWritten > checkpoint.getSizeBytes()
+                    || Files.size(partialPath) < bytesWritten) {
+                log.warn("Partial download of [{}] does not match its checkpoint. Restarting", downloadPath);
+                return discardPartialDownload();
+            }
+
+            return bytesWritten;
+        } catch (final IOException | JsonParseException ex) {
+            log.warn("Unable to read the download checkpoint [{}]. Restarting: {}", checkpointPath, ex.getMessage());
+            return discardPartialDownload();
+        }
+    }
+
+    private long discardPartialDownload() {
+        deleteQuietly(partialPath);
+        deleteQuietly(checkpointPath);
+        return 0L;
+    }
+
+    /*
+     * Flushes the written bytes to storage before recording them so that the checkpoint never claims more bytes
+     * than the partial file contains. A failure to save the checkpoint does not fail the download; it only limits
+     * how much can be resumed later.
+     */
+    private void saveCheckpoint(final FileChannel channel, final long bytesWritten) {
+        final Path tempPath = checkpointPath.resolveSibling(checkpointPath.getFileName() + ".tmp");
+        try {
+            channel.force(false);
+            Files.write(tempPath, expected.toBuilder()
+                    .bytesWritten(bytesWritten)
+                    .lastUpdatedMillis(System.currentTimeMillis())
+                    .build()
+                    .toJson()
+                    .getBytes(StandardCharsets.UTF_8));
+            moveAtomically(tempPath, checkpointPath);
+            lastCheckpointBytes = bytesWritten;
+        } catch (final IOException ex) {
+            log.warn("Unable to save the download checkpoint [{}]: {}", checkpointPath, ex.getMessage());
+            deleteQuietly(tempPath);
+        }
+    }
+
+    private static void deleteQuietly(final Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (final IOException ex) {
+            log.warn("Unable to delete [{}]: {}", path, ex.getMessage());
+        }
+    }
+
+    private static void moveAtomically(final Path source, final Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (final AtomicMoveNotSupportedException ex) {
+            log.debug("Atomic move is not supported for [{}]. Falling back to a non-atomic replace", target);
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    @VisibleForTesting
+    void pause(final long millis) {
+        TransferRetryPolicy.pause(millis);
+    }
+}
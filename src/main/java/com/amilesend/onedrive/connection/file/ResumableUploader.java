@@ -0,0 +1,348 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection.file;
+
+import com.amilesend.client.connection.ConnectionException;
+import com.amilesend.client.connection.RequestException;
+import com.amilesend.client.connection.ResponseException;
+import com.amilesend.client.connection.file.TransferProgressCallback;
+import com.amilesend.client.parse.parser.GsonParser;
+import com.amilesend.client.util.StringUtils;
+import com.amilesend.client.util.Validate;
+import com.amilesend.client.util.VisibleForTesting;
+import com.amilesend.onedrive.connection.OneDriveConnection;
+import com.amilesend.onedrive.connection.file.journal.FileFingerprint;
+import com.amilesend.onedrive.connection.file.journal.UploadSessionJournal;
+import com.amilesend.onedrive.connection.file.journal.UploadSessionJournalEntry;
+import com.amilesend.onedrive.connection.file.journal.UploadSessionJournalException;
+import com.amilesend.onedrive.resource.item.type.UploadSession;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.List;
+
+import static com.amilesend.onedrive.parse.resource.parser.Parsers.UPLOAD_SESSION_PARSER;
+
+/**
+ * Uploads a file to an {@link UploadSession} in sequential byte range fragments. Transient failures (e.g., throttling,
+ * service errors, and I/O errors) are retried by querying the upload session for the missing byte ranges and only
+ * re-sending those ranges. Note: Requests to the upload URL must not include the authorization header.
+ * <p>
+ * When an {@link UploadSessionJournal} is configured, the upload session state is persisted after each acknowledged
+ * fragment and removed once the upload completes so that the upload can be resumed after a process restart.
+ * <p>
+ * <a href="https://learn.microsoft.com/en-us/onedrive/developer/rest-api/api/driveitem_createuploadsession">
+ * API Documentation</a>.
+ *
+ * @param <T> the resource type that is returned once the upload is complete
+ */
+@Slf4j
+public class ResumableUploader<T> {
+    /** Fragment sizes must be a multiple of 320 KiB. */
+    public static final int FRAGMENT_SIZE_MULTIPLE_BYTES = 327680;
+    /** The default fragment size (10 MiB). */
+    public static final int DEFAULT_FRAGMENT_SIZE_BYTES = FRAGMENT_SIZE_MULTIPLE_BYTES * 32;
+    /** The maximum fragment size that the Graph API accepts (60 MiB). */
+    public static final int MAX_FRAGMENT_SIZE_BYTES = FRAGMENT_SIZE_MULTIPLE_BYTES * 192;
+    /** The default number of consecutive retries for a transient failure before aborting the upload. */
+    public static final int DEFAULT_MAX_RETRIES = 5;
+    private static final MediaType OCTET_STREAM_MEDIA_TYPE = MediaType.parse("application/octet-stream");
+    private static final String CONTENT_RANGE = "Content-Range";
+
+    /** The connection used to issue the fragment requests and parse responses. */
+    private final OneDriveConnection connection;
+    /** The parser used to parse the resource once the upload is complete. */
+    private final GsonParser<T> parser;
+    /** The file to upload. */
+    private final Path file;
+    /** The callback to report upload transfer progress. */
+    private final TransferProgressCallback callback;
+    /** The size of each fragment in bytes. */
+    @Getter
+    private final int fragmentSizeBytes;
+    /** The maximum number of consecutive retries for a transient failure. */
+    @Getter
+    private final int maxRetries;
+    /** The optional journal used to persist the upload session state. */
+    private final UploadSessionJournal journal;
+    /** The identifier that is associated with the journal entry. */
+    private final String journalId;
+    /** The current state of the upload session. */
+    @Getter
+    private volatile UploadSession session;
+    /** The fingerprint of the file that is recorded with the journal entry. */
+    private FileFingerprint fingerprint;
+
+    /**
+     * Creates a new {@code ResumableUploader}.
+     *
+     * @param connection the connection
+     * @param session the upload session to upload the file to
+     * @param file the file to upload
+     * @param parser the parser used to parse the resource once the upload is complete
+     * @param callback the callback to report upload transfer progress
+     * @param fragmentSizeBytes the size of each fragment in bytes (must be a multiple of 320 KiB)
+     * @param maxRetries the maximum number of consecutive retries for a transient failure
+     * @param journal the optional journal used to persist the upload session state
+     * @param journalId the identifier associated with the journal entry (required if {@code journal} is defined)
+     */
+    @Builder
+    private ResumableUploader(
+            @NonNull final OneDriveConnection connection,
+            @NonNull final UploadSession session,
+            @NonNull final Path file,
+            @NonNull final GsonParser<T> parser,
+            @NonNull final TransferProgressCallback callback,
+            final Integer fragmentSizeBytes,
+            final Integer maxRetries,
+            final UploadSessionJournal journal,
+            final String journalId) {
+        Validate.notBlank(session.getUploadUrl(), "session uploadUrl must not be blank");
+        if (journal != null) {
+            Validate.notBlank(journalId, "journalId must not be blank");
+        }
+        Validate.isTrue(Files.isRegularFile(file), "file must exist and be a regular file");
+        final int fragmentSize = fragmentSizeBytes == null ? DEFAULT_FRAGMENT_SIZE_BYTES : fragmentSizeBytes;
+        Validate.isTrue(fragmentSize > 0 && fragmentSize % FRAGMENT_SIZE_MULTIPLE_BYTES == 0,
+                "fragmentSizeBytes must be a positive multiple of " + FRAGMENT_SIZE_MULTIPLE_BYTES);
+        Validate.isTrue(fragmentSize <= MAX_FRAGMENT_SIZE_BYTES,
+                "fragmentSizeBytes must be <= " + MAX_FRAGMENT_SIZE_BYTES);
+        final int retries = maxRetries == null ? DEFAULT_MAX_RETRIES : maxRetries;
+        Validate.isTrue(retries >= 0, "maxRetries must be >= 0");
+
+        this.connection = connection;
+        this.session = session;
+        this.file = file;
+        this.parser = parser;
+        this.callback = callback;
+        this.fragmentSizeBytes = fragmentSize;
+        this.maxRetries = retries;
+        this.journal = journal;
+        this.journalId = journalId;
+    }
+
+    /**
+     * Uploads the file to the upload session.
+     *
+     * @return the resource once the upload is complete
+     * @throws ConnectionException if an error occurred while uploading the file that could not be recovered
+     */
+    public T upload() throws ConnectionException {
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (journal != null) {
+                fingerprint = FileFingerprint.of(file, journal.isFileHashRequired());
+                updateJournal();
+            }
+
+            final T result = uploadFragments(channel, channel.size());
+            removeJournalEntry();
+            callback.onComplete(channel.size());
+            return result;
+        } catch (final ConnectionException ex) {
+            callback.onFailure(ex);
+            throw ex;
+        } catch (final IOException ex) {
+            callback.onFailure(ex);
+            throw new RequestException("Unable to read file " + file + ": " + ex.getMessage(), ex);
+        }
+    }
+
+    private T uploadFragments(final FileChannel channel, final long totalBytes) throws IOException {
+        if (totalBytes == 0L) {
+            throw new RequestException("Empty files cannot be uploaded via an upload session");
+        }
+
+        final byte[] buffer = new byte[(int) Math.min(fragmentSizeBytes, Math.max(totalBytes, 1L))];
+        List<ByteRange> missingRanges = ByteRange.parse(session.getNextExpectedRanges(), totalBytes);
+        if (missingRanges.isEmpty()) {
+            missingRanges = List.of(new ByteRange(0L, totalBytes - 1));
+        }
+        int attempt = 0;
+
+        while (true) {
+            final ByteRange fragment = nextFragment(missingRanges.get(0));
+            callback.onUpdate(totalBytes - ByteRange.totalLength(missingRanges), totalBytes);
+
+            final FragmentResult<T> result;
+            try {
+                readFragment(channel, fragment, buffer);
+                result = uploadFragment(fragment, buffer, totalBytes);
+            } catch (final ConnectionException ex) {
+                if (!TransferRetryPolicy.isTransient(ex) || attempt >= maxRetries) {
+                    throw ex;
+                }
+
+                ++attempt;
+                final long backoffMillis = TransferRetryPolicy.getBackoffMillis(ex, attempt);
+                log.warn("Transient failure while uploading fragment [{}] (attempt {} of {}). Retrying in {} ms: {}",
+                        fragment, attempt, maxRetries, backoffMillis, ex.getMessage());
+                pause(backoffMillis);
+                missingRanges = fetchMissingRanges(totalBytes, missingRanges);
+                continue;
+            }
+
+            if (result.getResource() != null) {
+                return result.getResource();
+            }
+
+            // Not retried as resending the fragments would not change the outcome
+            updateSession(result.getSession());
+            missingRanges = ByteRange.parse(session.getNextExpectedRanges(), totalBytes);
+            if (missingRanges.isEmpty()) {
+                throw new ResponseException("Upload session did not return the completed resource");
+            }
+            attempt = 0;
+        }
+    }
+
+    private ByteRange nextFragment(final ByteRange missingRange) {
+        return new ByteRange(
+                missingRange.getStart(),
+                Math.min(missingRange.getEnd(), missingRange.getStart() + fragmentSizeBytes - 1));
+    }
+
+    private static void readFragment(final FileChannel channel, final ByteRange fragment, final byte[] buffer)
+            throws IOException {
+        final ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, 0, (int) fragment.length());
+        long position = fragment.getStart();
+        while (byteBuffer.hasRemaining()) {
+            final int numRead = channel.read(byteBuffer, position);
+            if (numRead < 0) {
+                throw new IOException("Unexpected end of file at position " + position);
+            }
+            position += numRead;
+        }
+    }
+
+    private FragmentResult<T> uploadFragment(final ByteRange fragment, final byte[] buffer, final long totalBytes) {
+        final Request request = new Request.Builder()
+                .url(session.getUploadUrl())
+                .addHeader(CONTENT_RANGE, fragment.toContentRange(totalBytes))
+                .put(RequestBody.create(buffer, OCTET_STREAM_MEDIA_TYPE, 0, (int) fragment.length()))
+                .build();
+
+        try (final Response response = connection.execute(request)) {
+            if (response.code() == 202) {
+                return new FragmentResult<>(parse(response, UPLOAD_SESSION_PARSER), null);
+            }
+
+            return new FragmentResult<>(null, parse(response, parser));
+        }
+    }
+
+    private List<ByteRange> fetchMissingRanges(final long totalBytes, final List<ByteRange> lastKnownRanges) {
+        try (final Response response = connection.execute(new Request.Builder()
+                .url(session.getUploadUrl())
+                .get()
+                .build())) {
+            updateSession(parse(response, UPLOAD_SESSION_PARSER));
+            final List<ByteRange> missingRanges = ByteRange.parse(session.getNextExpectedRanges(), totalBytes);
+            return missingRanges.isEmpty() ? lastKnownRanges : missingRanges;
+        } catch (final ConnectionException ex) {
+            log.warn("Unable to fetch upload session status. Resending last known ranges: {}", ex.getMessage());
+            return lastKnownRanges;
+        }
+    }
+
+    private void updateSession(final UploadSession updatedSession) {
+        session = mergeSession(session, updatedSession);
+        updateJournal();
+    }
+
+    /**
+     * Fragment and status responses do not include the upload URL, so it is carried over from the current session.
+     */
+    static UploadSession mergeSession(final UploadSession currentSession, final UploadSession updatedSession) {
+        return UploadSession.builder()
+                .uploadUrl(StringUtils.isBlank(updatedSession.getUploadUrl())
+                        ? currentSession.getUploadUrl()
+                        : updatedSession.getUploadUrl())
+                .expirationDateTime(updatedSession.getExpirationDateTime() == null
+                        ? currentSession.getExpirationDateTime()
+                        : updatedSession.getExpirationDateTime())
+                .nextExpectedRanges(updatedSession.getNextExpectedRanges() == null
+                        ? Collections.emptyList()
+                        : updatedSession.getNextExpectedRanges())
+                .build();
+    }
+
+    private void updateJournal() {
+        if (journal == null) {
+            return;
+        }
+
+        try {
+            journal.store(journalId, UploadSessionJournalEntry.from(
+                    session,
+                    file.toAbsolutePath().normalize().toString(),
+                    fingerprint));
+        } catch (final UploadSessionJournalException ex) {
+            log.warn("Unable to update the upload session journal for [{}]: {}", journalId, ex.getMessage());
+        }
+    }
+
+    private void removeJournalEntry() {
+        if (journal == null) {
+            return;
+        }
+
+        try {
+            journal.remove(journalId);
+        } catch (final UploadSessionJournalException ex) {
+            log.warn("Unable to remove the upload session journal entry for [{}]: {}", journalId, ex.getMessage());
+        }
+    }
+
+    private <R> R parse(final Response response, final GsonParser<R> responseParser) {
+        try (final InputStream jsonStream = response.body().byteStream()) {
+            return responseParser.parse(connection.getGsonFactory().getInstance(connection), jsonStream);
+        } catch (final IOException ex) {
+            throw new RequestException("Unable to read response: " + ex.getMessage(), ex);
+        }
+    }
+
+    @VisibleForTesting
+    void pause(final long millis) {
+        TransferRetryPolicy.pause(millis);
+    }
+
+    @Getter
+    private static class FragmentResult<R> {
+        private final UploadSession session;
+        private final R resource;
+
+        FragmentResult(final UploadSession session, final R resource) {
+            this.session = session;
+            this.resource = resource;
+        }
+    }
+}
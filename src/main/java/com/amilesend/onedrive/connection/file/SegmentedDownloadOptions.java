@@ -0,0 +1,93 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection.file;
+
+import com.amilesend.client.util.Validate;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Defines the configuration for segmented downloads where a file that is larger than the
+ * {@code thresholdBytes} is split into byte ranges that are downloaded concurrently.
+ *
+ * @see SegmentedDownloader
+ */
+@Data
+public class SegmentedDownloadOptions {
+    /** The default minimum file size to download in segments (32 MiB). */
+    public static final long DEFAULT_THRESHOLD_BYTES = 32L * 1024L * 1024L;
+    /** The default size of each segment (8 MiB). */
+    public static final long DEFAULT_SEGMENT_SIZE_BYTES = 8L * 1024L * 1024L;
+    /** The default number of segments to download concurrently. */
+    public static final int DEFAULT_PARALLELISM = 4;
+    /** The default number of consecutive retries for a transient failure of a segment. */
+    public static final int DEFAULT_MAX_RETRIES = 5;
+
+    /** The minimum file size in bytes to download in segments. Smaller files are downloaded in a single stream. */
+    private final long thresholdBytes;
+    /** The size of each segment in bytes. */
+    private final long segmentSizeBytes;
+    /** The maximum number of segments to download concurrently. */
+    private final int parallelism;
+    /** The maximum number of consecutive retries for a transient failure of a segment. */
+    private final int maxRetries;
+
+    /**
+     * Creates a new {@code SegmentedDownloadOptions}.
+     *
+     * @param thresholdBytes the minimum file size in bytes to download in segments
+     * @param segmentSizeBytes the size of each segment in bytes
+     * @param parallelism the maximum number of segments to download concurrently
+     * @param maxRetries the maximum number of consecutive retries for a transient failure of a segment
+     */
+    @Builder
+    private SegmentedDownloadOptions(
+            final Long thresholdBytes,
+            final Long segmentSizeBytes,
+            final Integer parallelism,
+            final Integer maxRetries) {
+        this.thresholdBytes = thresholdBytes == null ? DEFAULT_THRESHOLD_BYTES : thresholdBytes;
+        this.segmentSizeBytes = segmentSizeBytes == null ? DEFAULT_SEGMENT_SIZE_BYTES : segmentSizeBytes;
+        this.parallelism = parallelism == null ? DEFAULT_PARALLELISM : parallelism;
+        this.maxRetries = maxRetries == null ? DEFAULT_MAX_RETRIES : maxRetries;
+
+        Validate.isTrue(this.thresholdBytes >= 0L, "thresholdBytes must be >= 0");
+        Validate.isTrue(this.segmentSizeBytes > 0L, "segmentSizeBytes must be > 0");
+        Validate.isTrue(this.parallelism > 0, "parallelism must be > 0");
+        Validate.isTrue(this.maxRetries >= 0, "maxRetries must be >= 0");
+    }
+
+    /**
+     * Gets the default options.
+     *
+     * @return the default options
+     */
+    public static SegmentedDownloadOptions defaults() {
+        return SegmentedDownloadOptions.builder().build();
+    }
+
+    /**
+     * Determines if a file with the given {@code sizeBytes} should be downloaded in segments.
+     *
+     * @param sizeBytes the size of the file in bytes
+     * @return {@code true} if the file should be downloaded in segments; else, {@code false}
+     */
+    public boolean isSegmented(final long sizeBytes) {
+        return sizeBytes > 0L && sizeBytes >= thresholdBytes && sizeBytes > segmentSizeBytes;
+    }
+}
@@ -0,0 +1,348 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection.file;
+
+import com.amilesend.client.connection.ConnectionException;
+import com.amilesend.client.connection.RequestException;
+import com.amilesend.client.connection.file.TransferProgressCallback;
+import com.amilesend.client.util.StringUtils;
+import com.amilesend.client.util.Validate;
+import com.amilesend.client.util.VisibleForTesting;
+import com.amilesend.onedrive.connection.OneDriveConnection;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Request;
+import okhttp3.Response;
+import okio.BufferedSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.amilesend.client.connection.Connection.Headers.ACCEPT_ENCODING;
+
+/**
+ * Downloads a file by splitting it into byte ranges that are fetched concurrently and written with positional writes
+ * into a preallocated {@link FileChannel}. Each range request is pinned to the item's eTag via the {@code If-Match}
+ * header so that a file that changes mid-transfer fails fast instead of producing a corrupt file. Progress from all
+ * segments is aggregated and reported to a single {@link TransferProgressCallback}.
+ * <p>
+ * The calling thread downloads segments alongside the workers that are submitted to the executor, so a saturated
+ * executor delays the transfer instead of deadlocking it.
+ *
+ * @see SegmentedDownloadOptions
+ */
+@Slf4j
+public class SegmentedDownloader {
+    private static final String RANGE = "Range";
+    private static final String IF_MATCH = "If-Match";
+    private static final String IDENTITY_ENCODING = "identity";
+    private static final int BUFFER_SIZE_BYTES = 64 * 1024;
+
+    /** The connection used to issue the range requests. */
+    private final OneDriveConnection connection;
+    /** The URL of the content to download. */
+    private final String url;
+    /** The optional eTag used to pin each range request to the same version of the content. */
+    private final String eTag;
+    /** The total size of the content in bytes. */
+    private final long sizeBytes;
+    /** The path of the file to write the content to. */
+    private final Path downloadPath;
+    /** The callback to report aggregated download transfer progress. */
+    private final TransferProgressCallback callback;
+    /** The segment configuration. */
+    private final SegmentedDownloadOptions options;
+    /** The executor used to run the concurrent segment workers. */
+    private final Executor executor;
+
+    // Locks instead of monitors so that waiting virtual threads do not pin their carrier threads
+    private final ReentrantLock stateLock = new ReentrantLock();
+    private final Condition segmentCompleted = stateLock.newCondition();
+    private final ReentrantLock progressLock = new ReentrantLock();
+    private final AtomicLong bytesTransferred = new AtomicLong();
+    private List<ByteRange> segments;
+    private int nextSegmentIndex;
+    private int numInFlight;
+    private ConnectionException failure;
+
+    /**
+     * Creates a new {@code SegmentedDownloader}.
+     *
+     * @param connection the connection
+     * @param url the URL of the content to download
+     * @param eTag the optional eTag used to pin each range request via the {@code If-Match} header
+     * @param sizeBytes the total size of the content in bytes
+     * @param downloadPath the path of the file to write the content to
+     * @param callback the callback to report download transfer progress
+     * @param options the segment configuration (defaults to {@link SegmentedDownloadOptions#defaults()})
+     * @param executor the executor used to run the concurrent segment workers
+     */
+    @Builder
+    private SegmentedDownloader(
+            @NonNull final OneDriveConnection connection,
+            final String url,
+            final String eTag,
+            final long sizeBytes,
+            @NonNull final Path downloadPath,
+            @NonNull final TransferProgressCallback callback,
+            final SegmentedDownloadOptions options,
+            @NonNull final Executor executor) {
+        Validate.notBlank(url, "url must not be blank");
+        Validate.isTrue(sizeBytes > 0L, "sizeBytes must be > 0");
+
+        this.connection = connection;
+        this.url = url;
+        this.eTag = eTag;
+        this.sizeBytes = sizeBytes;
+        this.downloadPath = downloadPath;
+        this.callback = callback;
+        this.options = options == null ? SegmentedDownloadOptions.defaults() : options;
+        this.executor = executor;
+    }
+
+    /**
+     * Downloads the content to the configured {@code downloadPath}.
+     *
+     * @return the number of bytes downloaded
+     * @throws ConnectionException if an error occurred while downloading the content
+     */
+    public long download() throws ConnectionException {
+        try (final FileChannel channel = FileChannel.open(
+                downloadPath,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            preallocate(channel);
+            segments = splitIntoSegments(sizeBytes, options.getSegmentSizeBytes());
+            startWorkers(channel);
+            // The calling thread participates to guarantee progress regardless of executor availability
+            downloadSegments(channel);
+            awaitWorkers();
+        } catch (final IOException ex) {
+            recordFailure(new RequestException("Unable to write to " + downloadPath + ": " + ex.getMessage(), ex));
+        }
+
+        if (failure != null) {
+            callback.onFailure(failure);
+            throw failure;
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Downloaded [{}] bytes in [{}] segments to [{}]", sizeBytes, segments.size(), downloadPath);
+        }
+        callback.onComplete(sizeBytes);
+        return sizeBytes;
+    }
+
+    @VisibleForTesting
+    static List<ByteRange> splitIntoSegments(final long sizeBytes, final long segmentSizeBytes) {
+        final List<ByteRange> segments = new ArrayList<>((int) ((sizeBytes + segmentSizeBytes - 1) / segmentSizeBytes));
+        for (long start = 0L; start < sizeBytes; start += segmentSizeBytes) {
+            segments.add(new ByteRange(start, Math.min(start + segmentSizeBytes, sizeBytes) - 1));
+        }
+
+        return Collections.unmodifiableList(segments);
+    }
+
+    private void preallocate(final FileChannel channel) throws IOException {
+        // Writing the last byte extends the file to its full size (sparse where supported)
+        channel.write(ByteBuffer.wrap(new byte[1]), sizeBytes - 1);
+    }
+
+    private void startWorkers(final FileChannel channel) {
+        final int numWorkers = Math.min(options.getParallelism(), segments.size()) - 1;
+        for (int i = 0; i < numWorkers; ++i) {
+            try {
+                executor.execute(() -> downloadSegments(channel));
+            } catch (final RejectedExecutionException ex) {
+                log.debug("Executor rejected segment worker. Continuing with {} worker(s)", i + 1);
+                break;
+            }
+        }
+    }
+
+    private void downloadSegments(final FileChannel channel) {
+        ByteRange segment;
+        while ((segment = claimNextSegment()) != null) {
+            try {
+                downloadSegment(channel, segment);
+            } catch (final ConnectionException ex) {
+                recordFailure(ex);
+            } catch (final RuntimeException ex) {
+                recordFailure(new RequestException("Unable to download segment: " + ex.getMessage(), ex));
+            } finally {
+                completeSegment();
+            }
+        }
+    }
+
+    private void downloadSegment(final FileChannel channel, final ByteRange segment) {
+        final long[] position = {segment.getStart()};
+        int attempt = 0;
+        while (position[0] <= segment.getEnd()) {
+            if (isFailed()) {
+                return;
+            }
+
+            final long startPosition = position[0];
+            try {
+                fetchRange(channel, position, segment.getEnd());
+            } catch (final ConnectionException ex) {
+                // Progress was made before the failure, so reset the consecutive retry count
+                if (position[0] > startPosition) {
+                    attempt = 0;
+                }
+                if (!TransferRetryPolicy.isTransient(ex) || attempt >= options.getMaxRetries()) {
+                    throw ex;
+                }
+
+                ++attempt;
+                final long backoffMillis = TransferRetryPolicy.getBackoffMillis(ex, attempt);
+                log.warn("Transient failure while downloading range [{}-{}] (attempt {} of {}). Retrying in {} ms: {}",
+                        position[0], segment.getEnd(), attempt, options.getMaxRetries(), backoffMillis,
+                        ex.getMessage());
+                pause(backoffMillis);
+            }
+        }
+    }
+
+    /*
+     * Fetches the bytes from the given position to the inclusive end position and writes them to the channel. The
+     * position is advanced as bytes are written so that a retry resumes from the last written byte.
+     */
+    private void fetchRange(final FileChannel channel, final long[] position, final long end) {
+        final Request.Builder requestBuilder = connection.newRequestBuilder()
+                .url(url)
+                // Ranges must apply to the unencoded representation
+                .header(ACCEPT_ENCODING, IDENTITY_ENCODING)
+                .header(RANGE, new ByteRange(position[0], end).toRangeHeader());
+        if (StringUtils.isNotBlank(eTag)) {
+            requestBuilder.header(IF_MATCH, eTag);
+        }
+
+        try (final Response response = connection.execute(requestBuilder.build())) {
+            if (response.code() != 206) {
+                throw new RequestException("Expected a 206 response code for a range request. Got " + response.code());
+            }
+
+            final BufferedSource source = response.body().source();
+            final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE_BYTES);
+            while (position[0] <= end) {
+                buffer.clear();
+                buffer.limit((int) Math.min(BUFFER_SIZE_BYTES, end - position[0] + 1));
+                final int numRead = source.read(buffer);
+                if (numRead < 0) {
+                    throw new IOException("Unexpected end of stream at position " + position[0]);
+                }
+
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    position[0] += channel.write(buffer, position[0]);
+                }
+                reportProgress(numRead);
+            }
+        } catch (final IOException ex) {
+            throw new RequestException("Unable to download range: " + ex.getMessage(), ex);
+        }
+    }
+
+    private void reportProgress(final long numBytes) {
+        final long currentBytes = bytesTransferred.addAndGet(numBytes);
+        progressLock.lock();
+        try {
+            callback.onUpdate(currentBytes, sizeBytes);
+        } finally {
+            progressLock.unlock();
+        }
+    }
+
+    private ByteRange claimNextSegment() {
+        stateLock.lock();
+        try {
+            if (failure != null || nextSegmentIndex >= segments.size()) {
+                return null;
+            }
+
+            ++numInFlight;
+            return segments.get(nextSegmentIndex++);
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    private void completeSegment() {
+        stateLock.lock();
+        try {
+            --numInFlight;
+            segmentCompleted.signalAll();
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    private void awaitWorkers() {
+        stateLock.lock();
+        try {
+            while (numInFlight > 0) {
+                segmentCompleted.await();
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            failure = new RequestException("Interrupted while waiting for segments to download", ex);
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    private void recordFailure(final ConnectionException ex) {
+        stateLock.lock();
+        try {
+            if (failure == null) {
+                failure = ex;
+            }
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    private boolean isFailed() {
+        stateLock.lock();
+        try {
+            return failure != null;
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    @VisibleForTesting
+    void pause(final long millis) {
+        TransferRetryPolicy.pause(millis);
+    }
+}
@@ -0,0 +1,329 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection.file;
+
+import com.amilesend.client.connection.ConnectionException;
+import com.amilesend.client.connection.RequestException;
+import com.amilesend.client.connection.ResponseException;
+import com.amilesend.client.connection.file.TransferProgressCallback;
+import com.amilesend.client.parse.parser.GsonParser;
+import com.amilesend.client.util.Validate;
+import com.amilesend.client.util.VisibleForTesting;
+import com.amilesend.onedrive.connection.OneDriveConnection;
+import com.amilesend.onedrive.resource.item.type.UploadSession;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.List;
+
+import static com.amilesend.onedrive.connection.file.ResumableUploader.DEFAULT_FRAGMENT_SIZE_BYTES;
+import static com.amilesend.onedrive.connection.file.ResumableUploader.DEFAULT_MAX_RETRIES;
+import static com.amilesend.onedrive.connection.file.ResumableUploader.FRAGMENT_SIZE_MULTIPLE_BYTES;
+import static com.amilesend.onedrive.connection.file.ResumableUploader.MAX_FRAGMENT_SIZE_BYTES;
+import static com.amilesend.onedrive.parse.resource.parser.Parsers.UPLOAD_SESSION_PARSER;
+
+/**
+ * Uploads content from a sequential {@link ReadableByteChannel} to an {@link UploadSession} without staging it on
+ * local disk. The content is buffered into fixed-size fragments so that content of an unknown length (e.g.,
+ * generated archives) can be uploaded: intermediate fragments declare an unknown total size and the final fragment
+ * declares the total size once the end of the source is reached.
+ * <p>
+ * Note: The upload session API documents the total size on every fragment. Uploads of an unknown size depend on the
+ * service accepting {@code *} as the total of the intermediate fragments (e.g., {@code bytes 0-327679/*}); the final
+ * fragment, including any resend of it, always declares the actual total. Provide the size whenever it is known.
+ * <p>
+ * Since the source cannot be rewound, only the fragment that is currently buffered can be retried. Transient
+ * failures query the upload session for the next expected byte and resend the remainder of the buffered fragment.
+ * <p>
+ * <a href="https://learn.microsoft.com/en-us/onedrive/developer/rest-api/api/driveitem_createuploadsession">
+ * API Documentation</a>.
+ *
+ * @param <T> the resource type that is returned once the upload is complete
+ * @see ResumableUploader
+ */
+@Slf4j
+public class StreamingUploader<T> {
+    /**
+     * Indicates that the size of the source content is not known in advance. Intermediate fragments then declare an
+     * unknown total of {@code *}, which relies on the service accepting it until the final fragment.
+     */
+    public static final long UNKNOWN_SIZE_BYTES = -1L;
+    private static final MediaType OCTET_STREAM_MEDIA_TYPE = MediaType.parse("application/octet-stream");
+    private static final String CONTENT_RANGE = "Content-Range";
+
+    /** The connection used to issue the fragment requests and parse responses. */
+    private final OneDriveConnection connection;
+    /** The parser used to parse the resource once the upload is complete. */
+    private final GsonParser<T> parser;
+    /** The source to read the content from. */
+    private final ReadableByteChannel source;
+    /** The size of the content in bytes, or {@link #UNKNOWN_SIZE_BYTES} if not known. */
+    private final long sizeBytes;
+    /** The callback to report upload transfer progress. */
+    private final TransferProgressCallback callback;
+    /** The size of each fragment in bytes. */
+    @Getter
+    private final int fragmentSizeBytes;
+    /** The maximum number of consecutive retries for a transient failure. */
+    @Getter
+    private final int maxRetries;
+    /** The current state of the upload session. */
+    @Getter
+    private volatile UploadSession session;
+
+    // Holds the byte read ahead to detect the end of a source of unknown length
+    private final ByteBuffer lookAhead = ByteBuffer.allocate(1);
+    private boolean hasLookAhead;
+
+    /**
+     * Creates a new {@code StreamingUploader}.
+     *
+     * @param connection the connection
+     * @param session the upload session to upload the content to
+     * @param source the source to read the content from. The source is not closed.
+     * @param sizeBytes the size of the content in bytes, or {@link #UNKNOWN_SIZE_BYTES} if not known
+     * @param parser the parser used to parse the resource once the upload is complete
+     * @param callback the callback to report upload transfer progress
+     * @param fragmentSizeBytes the size of each fragment in bytes (must be a multiple of 320 KiB)
+     * @param maxRetries the maximum number of consecutive retries for a transient failure
+     */
+    @Builder
+    private StreamingUploader(
+            @NonNull final OneDriveConnection connection,
+            @NonNull final UploadSession session,
+            @NonNull final ReadableByteChannel source,
+            final long sizeBytes,
+            @NonNull final GsonParser<T> parser,
+            @NonNull final TransferProgressCallback callback,
+            final Integer fragmentSizeBytes,
+            final Integer maxRetries) {
+        Validate.notBlank(session.getUploadUrl(), "session uploadUrl must not be blank");
+        Validate.isTrue(sizeBytes > 0L || sizeBytes == UNKNOWN_SIZE_BYTES,
+                "sizeBytes must be > 0 or UNKNOWN_SIZE_BYTES");
+        final int fragmentSize = fragmentSizeBytes == null ? DEFAULT_FRAGMENT_SIZE_BYTES : fragmentSizeBytes;
+        Validate.isTrue(fragmentSize > 0 && fragmentSize % FRAGMENT_SIZE_MULTIPLE_BYTES == 0,
+                "fragmentSizeBytes must be a positive multiple of " + FRAGMENT_SIZE_MULTIPLE_BYTES);
+        Validate.isTrue(fragmentSize <= MAX_FRAGMENT_SIZE_BYTES,
+                "fragmentSizeBytes must be <= " + MAX_FRAGMENT_SIZE_BYTES);
+        final int retries = maxRetries == null ? DEFAULT_MAX_RETRIES : maxRetries;
+        Validate.isTrue(retries >= 0, "maxRetries must be >= 0");
+
+        this.connection = connection;
+        this.session = session;
+        this.source = source;
+        this.sizeBytes = sizeBytes;
+        this.parser = parser;
+        this.callback = callback;
+        this.fragmentSizeBytes = fragmentSize;
+        this.maxRetries = retries;
+    }
+
+    /**
+     * Uploads the content to the upload session.
+     *
+     * @return the resource once the upload is complete
+     * @throws ConnectionException if an error occurred while uploading the content that could not be recovered
+     */
+    public T upload() throws ConnectionException {
+        try {
+            return uploadFragments();
+        } catch (final ConnectionException ex) {
+            callback.onFailure(ex);
+            throw ex;
+        } catch (final IOException ex) {
+            callback.onFailure(ex);
+            throw new RequestException("Unable to read the upload source: " + ex.getMessage(), ex);
+        }
+    }
+
+    private T uploadFragments() throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(
+                (int) (sizeBytes == UNKNOWN_SIZE_BYTES ? fragmentSizeBytes : Math.min(fragmentSizeBytes, sizeBytes)));
+        long offset = 0L;
+        while (true) {
+            final int length = fillFragment(buffer, offset);
+            if (length == 0) {
+                throw new RequestException("Empty content cannot be uploaded via an upload session");
+            }
+
+            final boolean isLast = isLastFragment(buffer, offset, length);
+            final Long totalBytes = isLast ? Long.valueOf(offset + length) : knownSize();
+            final T resource = sendFragment(buffer, offset, length, totalBytes);
+            offset += length;
+            callback.onUpdate(offset, sizeBytes);
+
+            if (resource != null) {
+                callback.onComplete(offset);
+                return resource;
+            }
+            if (isLast) {
+                throw new ResponseException("Upload session did not return the completed resource");
+            }
+        }
+    }
+
+    /*
+     * Reads the next fragment into the buffer. Sources of a known size must supply exactly sizeBytes.
+     */
+    private int fillFragment(final ByteBuffer buffer, final long offset) throws IOException {
+        buffer.clear();
+        if (sizeBytes != UNKNOWN_SIZE_BYTES) {
+            buffer.limit((int) Math.min(buffer.capacity(), sizeBytes - offset));
+        }
+        if (hasLookAhead) {
+            lookAhead.flip();
+            buffer.put(lookAhead);
+            lookAhead.clear();
+            hasLookAhead = false;
+        }
+
+        while (buffer.hasRemaining()) {
+            if (source.read(buffer) < 0) {
+                if (sizeBytes != UNKNOWN_SIZE_BYTES) {
+                    throw new IOException("Source ended at byte " + (offset + buffer.position())
+                            + " before the expected size of " + sizeBytes);
+                }
+                break;
+            }
+        }
+
+        buffer.flip();
+        return buffer.limit();
+    }
+
+    private boolean isLastFragment(final ByteBuffer buffer, final long offset, final int length) throws IOException {
+        if (sizeBytes != UNKNOWN_SIZE_BYTES) {
+            return offset + length == sizeBytes;
+        }
+        if (length < buffer.capacity()) {
+            return true;
+        }
+
+        // A full fragment may be the last one, so read ahead a single byte to detect the end of the source
+        int numRead;
+        do {
+            numRead = source.read(lookAhead);
+        } while (numRead == 0);
+        hasLookAhead = numRead > 0;
+        return !hasLookAhead;
+    }
+
+    private Long knownSize() {
+        return sizeBytes == UNKNOWN_SIZE_BYTES ? null : Long.valueOf(sizeBytes);
+    }
+
+    /*
+     * Sends the buffered fragment and retries transient failures by resending from the next byte that the upload
+     * session expects. Returns the completed resource or null if more fragments are expected.
+     */
+    private T sendFragment(final ByteBuffer buffer, final long offset, final int length, final Long totalBytes) {
+        final long end = offset + length - 1;
+        long start = offset;
+        int attempt = 0;
+        while (true) {
+            try {
+                return uploadRange(new ByteRange(start, end), buffer, (int) (start - offset), totalBytes);
+            } catch (final ConnectionException ex) {
+                if (!TransferRetryPolicy.isTransient(ex) || attempt >= maxRetries) {
+                    throw ex;
+                }
+
+                ++attempt;
+                final long backoffMillis = TransferRetryPolicy.getBackoffMillis(ex, attempt);
+                log.warn("Transient failure while uploading fragment [{}-{}] (attempt {} of {}). "
+                                + "Retrying in {} ms: {}",
+                        start, end, attempt, maxRetries, backoffMillis, ex.getMessage());
+                pause(backoffMillis);
+                start = fetchNextExpectedByte(offset, end, start);
+                if (start > end) {
+                    // The fragment was received before the failure was reported
+                    return null;
+                }
+            }
+        }
+    }
+
+    private T uploadRange(final ByteRange range, final ByteBuffer buffer, final int bufferOffset, final Long total) {
+        final Request request = new Request.Builder()
+                .url(session.getUploadUrl())
+                .addHeader(CONTENT_RANGE, total == null ? range.toContentRange() : range.toContentRange(total))
+                .put(RequestBody.create(
+                        buffer.array(),
+                        OCTET_STREAM_MEDIA_TYPE,
+                        buffer.arrayOffset() + bufferOffset,
+                        (int) range.length()))
+                .build();
+
+        try (final Response response = connection.execute(request)) {
+            if (response.code() == 202) {
+                session = ResumableUploader.mergeSession(session, parse(response, UPLOAD_SESSION_PARSER));
+                return null;
+            }
+
+            return parse(response, parser);
+        }
+    }
+
+    private long fetchNextExpectedByte(final long offset, final long end, final long lastStart) {
+        try (final Response response = connection.execute(new Request.Builder()
+                .url(session.getUploadUrl())
+                .get()
+                .build())) {
+            session = ResumableUploader.mergeSession(session, parse(response, UPLOAD_SESSION_PARSER));
+        } catch (final ConnectionException ex) {
+            log.warn("Unable to fetch upload session status. Resending from byte {}: {}", lastStart, ex.getMessage());
+            return lastStart;
+        }
+
+        final List<ByteRange> missingRanges = ByteRange.parse(session.getNextExpectedRanges(), Long.MAX_VALUE);
+        if (missingRanges.isEmpty()) {
+            return lastStart;
+        }
+
+        final long nextExpectedByte = missingRanges.get(0).getStart();
+        if (nextExpectedByte < offset) {
+            throw new RequestException("Upload session expects byte " + nextExpectedByte
+                    + " which precedes the buffered fragment starting at " + offset);
+        }
+
+        return Math.min(nextExpectedByte, end + 1);
+    }
+
+    private <R> R parse(final Response response, final GsonParser<R> responseParser) {
+        try (final InputStream jsonStream = response.body().byteStream()) {
+            return responseParser.parse(connection.getGsonFactory().getInstance(connection), jsonStream);
+        } catch (final IOException ex) {
+            throw new RequestException("Unable to read response: " + ex.getMessage(), ex);
+        }
+    }
+
+    @VisibleForTesting
+    void pause(final long millis) {
+        TransferRetryPolicy.pause(millis);
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection.file;
+
+import com.amilesend.client.connection.file.TransferProgressCallback;
+import lombok.Builder;
+import lombok.NonNull;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * An {@link InputStream} over the body of a download {@link Response} that reports transfer progress as the content
+ * is consumed. The stream is bounded to the expected size of the content when known so that a consumer never reads
+ * past the end of the item. Closing the stream closes the underlying response and releases the connection.
+ * <p>
+ * Consumers must close the stream once finished. A stream that is left open keeps holding its connection and counts
+ * as an in-flight request against the
+ * {@link com.amilesend.onedrive.connection.http.AdaptiveConcurrencyLimiter concurrency limit}, if one is configured.
+ */
+public class TransferInputStream extends InputStream {
+    /** The response that supplies the content. */
+    private final Response response;
+    /** The response body stream. */
+    private final InputStream delegate;
+    /** The callback to report transfer progress. */
+    private final TransferProgressCallback callback;
+    /** The expected total size of the content in bytes, or a non-positive value if unknown. */
+    private final long sizeBytes;
+
+    private long bytesRead;
+    private boolean isComplete;
+    private boolean isClosed;
+
+    /**
+     * Creates a new {@code TransferInputStream}.
+     *
+     * @param response the download response
+     * @param callback the callback to report transfer progress
+     * @param sizeBytes the expected total size of the content in bytes, or a non-positive value if unknown
+     */
+    @Builder
+    private TransferInputStream(
+            @NonNull final Response response,
+            @NonNull final TransferProgressCallback callback,
+            final long sizeBytes) {
+        this.response = response;
+        this.delegate = response.body().byteStream();
+        this.callback = callback;
+        this.sizeBytes = sizeBytes;
+    }
+
+    @Override
+    public int read() throws IOException {
+        final byte[] singleByte = new byte[1];
+        final int numRead = read(singleByte, 0, 1);
+        return numRead == -1 ? -1 : singleByte[0] & 0xFF;
+    }
+
+    @Override
+    public int read(final byte[] buffer, final int offset, final int length) throws IOException {
+        if (isClosed) {
+            throw new IOException("Stream is closed");
+        }
+        if (length == 0) {
+            return 0;
+        }
+
+        final long remaining = getRemaining();
+        if (remaining == 0L) {
+            return markComplete();
+        }
+
+        final int numRead;
+        try {
+            numRead = delegate.read(buffer, offset, (int) Math.min(length, remaining));
+        } catch (final IOException ex) {
+            callback.onFailure(ex);
+            throw ex;
+        }
+
+        if (numRead == -1) {
+            return markComplete();
+        }
+
+        bytesRead += numRead;
+        callback.onUpdate(bytesRead, sizeBytes);
+        return numRead;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return (int) Math.min(delegate.available(), getRemaining());
+    }
+
+    @Override
+    public void close() {
+        if (isClosed) {
+            return;
+        }
+
+        isClosed = true;
+        response.close();
+    }
+
+    private long getRemaining() {
+        return sizeBytes > 0L ? sizeBytes - bytesRead : Long.MAX_VALUE;
+    }
+
+    private int markComplete() {
+        if (!isComplete) {
+            isComplete = true;
+            callback.onComplete(bytesRead);
+        }
+
+        return -1;
+    }
+}
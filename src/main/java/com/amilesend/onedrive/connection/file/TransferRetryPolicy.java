@@ -0,0 +1,88 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection.file;
+
+import com.amilesend.client.connection.ConnectionException;
+import com.amilesend.client.connection.RequestException;
+import com.amilesend.client.connection.ResponseException;
+import com.amilesend.client.connection.ThrottledException;
+import lombok.experimental.UtilityClass;
+
+import java.io.IOException;
+
+/** Shared retry logic for fragmented file transfers. */
+@UtilityClass
+class TransferRetryPolicy {
+    private static final long INITIAL_BACKOFF_MILLIS = 1000L;
+    private static final long MAX_BACKOFF_MILLIS = 60000L;
+
+    /**
+     * Determines if the given exception is a transient failure that can be retried: the request was throttled
+     * ({@code 429}), the service failed with a {@code 5xx} response code, or an I/O error occurred. Client errors
+     * ({@code 4xx}) and responses that could not be used are not retried.
+     * <p>
+     * The connection reports {@code 5xx} response codes as a plain {@link ResponseException} and {@code 4xx}
+     * response codes as a {@link RequestException}, so exceptions that are derived from {@link ResponseException}
+     * (other than {@link ThrottledException}) are not considered to be service errors.
+     *
+     * @param ex the exception
+     * @return {@code true} if the failure is transient; else, {@code false}
+     */
+    static boolean isTransient(final ConnectionException ex) {
+        if (ex instanceof ThrottledException || ex.getClass() == ResponseException.class) {
+            return true;
+        }
+
+        return ex.getCause() instanceof IOException;
+    }
+
+    /**
+     * Gets the time to wait before the next retry attempt. The {@code Retry-After} value is honored for throttled
+     * requests; otherwise, an exponential backoff that is capped at 60 seconds is used.
+     *
+     * @param ex the exception
+     * @param attempt the retry attempt (starting at 1)
+     * @return the time to wait in milliseconds
+     */
+    static long getBackoffMillis(final ConnectionException ex, final int attempt) {
+        if (ex instanceof ThrottledException) {
+            final Long retryAfterSeconds = ((ThrottledException) ex).getRetryAfterSeconds();
+            if (retryAfterSeconds != null && retryAfterSeconds > 0L) {
+                return retryAfterSeconds * 1000L;
+            }
+        }
+
+        final long backoffMillis = INITIAL_BACKOFF_MILLIS << Math.min(attempt - 1, 16);
+        return Math.min(backoffMillis, MAX_BACKOFF_MILLIS);
+    }
+
+    /**
+     * Sleeps for the given duration.
+     *
+     * @param millis the time to sleep in milliseconds
+     * @throws RequestException if the thread is interrupted
+     */
+    static void pause(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RequestException("Interrupted while waiting to retry the transfer", ex);
+        }
+    }
+}
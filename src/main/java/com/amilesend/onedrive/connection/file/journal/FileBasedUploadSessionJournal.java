@@ -0,0 +1,247 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection.file.journal;
+
+import com.amilesend.client.util.StringUtils;
+import com.amilesend.client.util.Validate;
+import com.amilesend.client.util.VisibleForTesting;
+import com.google.common.hash.Hashing;
+import com.google.gson.JsonParseException;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * A {@link UploadSessionJournal} implementation that persists each entry as a JSON file within the configured
+ * directory. Entries are written to a temporary file and atomically moved into place so that a process that is
+ * terminated mid-write never leaves a partially written entry. Entries are considered expired once the upload
+ * session has expired or the entry has not been updated within the configured {@code maxAge}.
+ *
+ * @see UploadSessionJournal
+ * @see UploadSessionJournalEntry
+ */
+@Slf4j
+public class FileBasedUploadSessionJournal implements UploadSessionJournal {
+    /** The default maximum age of an entry since it was last updated. */
+    public static final Duration DEFAULT_MAX_AGE = Duration.ofDays(7L);
+    private static final String ENTRY_FILE_SUFFIX = ".json";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    /** The directory that contains the journal entries. */
+    @Getter
+    private final Path journalDirectory;
+    /** The maximum age of an entry since it was last updated. */
+    @Getter
+    private final Duration maxAge;
+    /** Indicates if the content hash of the source file is required to resume an upload. */
+    private final boolean isFileHashRequired;
+
+    /**
+     * Creates a new {@code FileBasedUploadSessionJournal}.
+     *
+     * @param journalDirectory the directory that contains the journal entries
+     * @param maxAge the maximum age of an entry since it was last updated (defaults to {@link #DEFAULT_MAX_AGE})
+     * @param isFileHashRequired {@code true} to require the content hash of the source file to resume an upload
+     */
+    @Builder
+    private FileBasedUploadSessionJournal(
+            @NonNull final Path journalDirectory,
+            final Duration maxAge,
+            final boolean isFileHashRequired) {
+        Validate.isTrue(!Files.exists(journalDirectory) || Files.isDirectory(journalDirectory),
+                "journalDirectory must be a directory");
+        Validate.isTrue(maxAge == null || !maxAge.isNegative() && !maxAge.isZero(), "maxAge must be positive");
+
+        this.journalDirectory = journalDirectory;
+        this.maxAge = maxAge == null ? DEFAULT_MAX_AGE : maxAge;
+        this.isFileHashRequired = isFileHashRequired;
+    }
+
+    /**
+     * Atomically saves the given {@code entry} to the file system.
+     *
+     * @param id the identifier that is associated with the upload destination
+     * @param entry the upload session state
+     * @throws UploadSessionJournalException if an error occurred while saving the entry to the file system
+     */
+    @Override
+    public void store(final String id, @NonNull final UploadSessionJournalEntry entry)
+            throws UploadSessionJournalException {
+        final Path entryPath = getEntryPath(id);
+        Path tempPath = null;
+        try {
+            Files.createDirectories(journalDirectory);
+            tempPath = Files.createTempFile(journalDirectory, entryPath.getFileName().toString(), TEMP_FILE_SUFFIX);
+            Files.write(tempPath, entry.toJson().getBytes(StandardCharsets.UTF_8));
+            moveAtomically(tempPath, entryPath);
+        } catch (final IOException ex) {
+            deleteQuietly(tempPath);
+            throw new UploadSessionJournalException("Unable to store journal entry: " + ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Retrieves the {@link UploadSessionJournalEntry} from the file system. Expired entries are removed.
+     *
+     * @param id the identifier that is associated with the upload destination
+     * @return the upload session state, or {@code null} if not found or expired
+     * @throws UploadSessionJournalException if an error occurred while retrieving the entry from the file system
+     */
+    @Override
+    public UploadSessionJournalEntry retrieve(final String id) throws UploadSessionJournalException {
+        final Path entryPath = getEntryPath(id);
+        final UploadSessionJournalEntry entry = read(entryPath);
+        if (entry == null) {
+            return null;
+        }
+
+        if (isExpired(entry)) {
+            delete(entryPath);
+            return null;
+        }
+
+        return entry;
+    }
+
+    /**
+     * Removes the {@link UploadSessionJournalEntry} from the file system.
+     *
+     * @param id the identifier that is associated with the upload destination
+     * @throws UploadSessionJournalException if an error occurred while removing the entry from the file system
+     */
+    @Override
+    public void remove(final String id) throws UploadSessionJournalException {
+        delete(getEntryPath(id));
+    }
+
+    /**
+     * Removes all expired or unreadable entries from the file system.
+     *
+     * @return the number of entries that were removed
+     * @throws UploadSessionJournalException if an error occurred while listing or removing entries
+     */
+    @Override
+    public int removeExpired() throws UploadSessionJournalException {
+        if (!Files.isDirectory(journalDirectory)) {
+            return 0;
+        }
+
+        int numRemoved = 0;
+        try (final DirectoryStream<Path> entryPaths =
+                     Files.newDirectoryStream(journalDirectory, "*" + ENTRY_FILE_SUFFIX)) {
+            for (final Path entryPath : entryPaths) {
+                UploadSessionJournalEntry entry;
+                try {
+                    entry = read(entryPath);
+                } catch (final UploadSessionJournalException ex) {
+                    log.warn("Removing unreadable journal entry [{}]: {}", entryPath, ex.getMessage());
+                    entry = null;
+                }
+
+                if (entry == null || isExpired(entry)) {
+                    delete(entryPath);
+                    ++numRemoved;
+                }
+            }
+        } catch (final IOException ex) {
+            throw new UploadSessionJournalException("Unable to remove expired entries: " + ex.getMessage(), ex);
+        }
+
+        return numRemoved;
+    }
+
+    @Override
+    public boolean isFileHashRequired() {
+        return isFileHashRequired;
+    }
+
+    @VisibleForTesting
+    Path getEntryPath(final String id) {
+        Validate.notBlank(id, "id must not be blank");
+        return journalDirectory.resolve(Hashing.sha256().hashString(id, StandardCharsets.UTF_8) + ENTRY_FILE_SUFFIX);
+    }
+
+    @VisibleForTesting
+    boolean isExpired(final UploadSessionJournalEntry entry) {
+        final Instant now = now();
+        return entry.isExpired(now)
+                || Instant.ofEpochMilli(entry.getLastUpdatedMillis()).plus(maxAge).isBefore(now);
+    }
+
+    @VisibleForTesting
+    Instant now() {
+        return Instant.now();
+    }
+
+    private static UploadSessionJournalEntry read(final Path entryPath) throws UploadSessionJournalException {
+        if (!Files.exists(entryPath) || !Files.isReadable(entryPath)) {
+            return null;
+        }
+
+        try {
+            final String json = Files.readString(entryPath);
+            if (StringUtils.isBlank(json)) {
+                return null;
+            }
+
+            return UploadSessionJournalEntry.fromJson(json);
+        } catch (final IOException | JsonParseException ex) {
+            throw new UploadSessionJournalException("Unable to retrieve journal entry: " + ex.getMessage(), ex);
+        }
+    }
+
+    private static void delete(final Path entryPath) throws UploadSessionJournalException {
+        try {
+            Files.deleteIfExists(entryPath);
+        } catch (final IOException ex) {
+            throw new UploadSessionJournalException("Unable to remove journal entry: " + ex.getMessage(), ex);
+        }
+    }
+
+    private static void deleteQuietly(final Path path) {
+        if (path == null) {
+            return;
+        }
+
+        try {
+            Files.deleteIfExists(path);
+        } catch (final IOException ex) {
+            log.warn("Unable to delete temporary journal file [{}]: {}", path, ex.getMessage());
+        }
+    }
+
+    private static void moveAtomically(final Path source, final Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (final AtomicMoveNotSupportedException ex) {
+            log.debug("Atomic move is not supported for [{}]. Falling back to a non-atomic replace", target);
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection.file.journal;
+
+import com.google.common.hash.Hashing;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Describes the attributes of a source file that are used to determine if the file has changed since an upload
+ * session was started.
+ */
+@Builder
+@Data
+public class FileFingerprint {
+    /** The size of the file in bytes. */
+    private final long sizeBytes;
+    /** The last modified time of the file in epoch milliseconds. */
+    private final long lastModifiedMillis;
+    /** The optional SHA-256 hash of the file contents (hex-encoded). */
+    private final String sha256;
+
+    /**
+     * Creates a new {@code FileFingerprint} for the given {@code file}.
+     *
+     * @param file the file
+     * @param isHashIncluded {@code true} to include the SHA-256 hash of the file contents
+     * @return the file fingerprint
+     * @throws IOException if an error occurred while reading the file attributes or contents
+     */
+    public static FileFingerprint of(@NonNull final Path file, final boolean isHashIncluded) throws IOException {
+        return FileFingerprint.builder()
+                .sizeBytes(Files.size(file))
+                .lastModifiedMillis(Files.getLastModifiedTime(file).toMillis())
+                .sha256(isHashIncluded
+                        ? com.google.common.io.Files.asByteSource(file.toFile()).hash(Hashing.sha256()).toString()
+                        : null)
+                .build();
+    }
+}
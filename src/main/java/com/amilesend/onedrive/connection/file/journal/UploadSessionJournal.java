@@ -0,0 +1,74 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection.file.journal;
+
+/**
+ * Defines the interface used to persist the state of resumable upload sessions so that an upload can be resumed
+ * after the process is restarted.
+ *
+ * @see UploadSessionJournalEntry
+ * @see FileBasedUploadSessionJournal
+ */
+public interface UploadSessionJournal {
+    /**
+     * Stores the given {@code entry} for the associated keyed identifier.
+     *
+     * @param id the identifier that is associated with the upload destination
+     * @param entry the upload session state
+     * @throws UploadSessionJournalException if an error occurred while saving the entry
+     * @see UploadSessionJournalEntry
+     */
+    void store(String id, UploadSessionJournalEntry entry) throws UploadSessionJournalException;
+
+    /**
+     * Retrieves the {@link UploadSessionJournalEntry} for the given keyed identifier. Expired entries are not
+     * returned.
+     *
+     * @param id the identifier that is associated with the upload destination
+     * @return the upload session state, or {@code null} if not found or expired
+     * @throws UploadSessionJournalException if an error occurred while retrieving the entry
+     */
+    UploadSessionJournalEntry retrieve(String id) throws UploadSessionJournalException;
+
+    /**
+     * Removes the {@link UploadSessionJournalEntry} for the given keyed identifier.
+     *
+     * @param id the identifier that is associated with the upload destination
+     * @throws UploadSessionJournalException if an error occurred while removing the entry
+     */
+    void remove(String id) throws UploadSessionJournalException;
+
+    /**
+     * Removes all entries that have expired.
+     *
+     * @return the number of entries that were removed
+     * @throws UploadSessionJournalException if an error occurred while removing the expired entries
+     */
+    int removeExpired() throws UploadSessionJournalException;
+
+    /**
+     * Indicates if a content hash of the source file must be included in the file fingerprint that is used to
+     * determine if a journaled upload session can be resumed. Defaults to {@code false} as computing the hash
+     * requires reading the entire file.
+     *
+     * @return {@code true} if the content hash is required; else, {@code false}
+     */
+    default boolean isFileHashRequired() {
+        return false;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection.file.journal;
+
+import com.amilesend.onedrive.parse.GsonFactory;
+import com.amilesend.onedrive.resource.item.type.UploadSession;
+import com.google.gson.JsonSyntaxException;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NonNull;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Describes the persisted state of a resumable upload session.
+ *
+ * @see UploadSessionJournal
+ */
+@Builder(toBuilder = true)
+@Data
+public class UploadSessionJournalEntry {
+    /** The URL endpoint that accepts the byte range PUT requests for the file. */
+    private final String uploadUrl;
+    /** The date and time in UTC when the upload session will expire. */
+    private final String expirationDateTime;
+    /** The collection of byte ranges that the server is missing for the file. */
+    @Builder.Default
+    private final List<String> nextExpectedRanges = Collections.emptyList();
+    /** The absolute path of the source file. */
+    private final String filePath;
+    /** The fingerprint of the source file at the time the upload session was started. */
+    private final FileFingerprint fingerprint;
+    /** The time in epoch milliseconds when this entry was last updated. */
+    private final long lastUpdatedMillis;
+
+    /**
+     * Creates a new {@code UploadSessionJournalEntry} from the given {@link UploadSession}.
+     *
+     * @param session the upload session
+     * @param filePath the absolute path of the source file
+     * @param fingerprint the fingerprint of the source file
+     * @return the journal entry
+     */
+    public static UploadSessionJournalEntry from(
+            @NonNull final UploadSession session,
+            final String filePath,
+            final FileFingerprint fingerprint) {
+        return UploadSessionJournalEntry.builder()
+                .uploadUrl(session.getUploadUrl())
+                .expirationDateTime(session.getExpirationDateTime())
+                .nextExpectedRanges(session.getNextExpectedRanges())
+                .filePath(filePath)
+                .fingerprint(fingerprint)
+                .lastUpdatedMillis(System.currentTimeMillis())
+                .build();
+    }
+
+    /**
+     * Deserializes the given {@code json} string to a new {@code UploadSessionJournalEntry}.
+     *
+     * @param json the JSON-formatted entry
+     * @return the journal entry
+     * @throws JsonSyntaxException if there is an error while deserializing the JSON string
+     */
+    public static UploadSessionJournalEntry fromJson(final String json) {
+        return GsonFactory.getInstanceForStateManager().fromJson(json, UploadSessionJournalEntry.class);
+    }
+
+    /**
+     * Serializes this entry to a JSON-formatted string.
+     *
+     * @return the JSON-formatted entry
+     */
+    public String toJson() {
+        return GsonFactory.getInstanceForStateManager().toJson(this);
+    }
+
+    /**
+     * Creates a new {@link UploadSession} that represents this entry.
+     *
+     * @return the upload session
+     */
+    public UploadSession toUploadSession() {
+        return UploadSession.builder()
+                .uploadUrl(uploadUrl)
+                .expirationDateTime(expirationDateTime)
+                .nextExpectedRanges(nextExpectedRanges == null ? Collections.emptyList() : nextExpectedRanges)
+                .build();
+    }
+
+    /**
+     * Determines if the upload session has expired as of the given {@code now} time.
+     *
+     * @param now the current time
+     * @return {@code true} if the upload session has expired; else, {@code false}
+     */
+    public boolean isExpired(@NonNull final Instant now) {
+        if (expirationDateTime == null) {
+            return false;
+        }
+
+        try {
+            return !Instant.parse(expirationDateTime).isAfter(now);
+        } catch (final DateTimeParseException ex) {
+            // Treat an unparseable expiration as expired as the session can't be safely resumed
+            return true;
+        }
+    }
+}
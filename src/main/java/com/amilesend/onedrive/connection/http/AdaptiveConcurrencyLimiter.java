@@ -0,0 +1,385 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection.http;
+
+import com.amilesend.client.util.VisibleForTesting;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.ForwardingSource;
+import okio.Okio;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * An OkHttp {@link Interceptor} that limits the number of concurrent in-flight requests with an
+ * additive-increase/multiplicative-decrease (AIMD) algorithm. The limit grows by roughly one request per round trip
+ * while responses succeed with a healthy latency, and is cut by the configured backoff ratio when a request is
+ * throttled ({@code 429}, {@code 503}) or its latency exceeds the tolerated multiple of the observed baseline. Requests
+ * that exceed the current limit wait for an in-flight request to complete.
+ * <p>
+ * Only responses to requests that started after the most recent decrease can trigger another decrease, so a burst
+ * of throttled responses from the same window reduces the limit once. Latency spikes are also folded into the
+ * baseline with a smaller weight so that a lasting shift in latency becomes the new baseline instead of holding the
+ * limit at its minimum.
+ * <p>
+ * A request holds its permit until its response body is closed (or fully read) so that body transfers are counted
+ * as in-flight. Callers must close each response. Responses without a body (e.g., to a {@code HEAD} request or with a
+ * {@code 204} or {@code 304} response code) release their permit at the response headers, and a response that is
+ * left open for longer than {@link AdaptiveConcurrencyOptions#getMaxPermitHoldTime()} has its permit released with a
+ * warning.
+ *
+ * @see AdaptiveConcurrencyOptions
+ */
+@Slf4j
+public class AdaptiveConcurrencyLimiter implements Interceptor {
+    /** The request body size above which the latency is dominated by the transfer and is not sampled. */
+    private static final long MAX_SAMPLED_BODY_BYTES = 64L * 1024L;
+    /** The number of latency samples observed before latency spikes are detected. */
+    private static final int MIN_LATENCY_SAMPLES = 10;
+    /** The weight of each latency sample in the baseline moving average. */
+    private static final double BASELINE_SMOOTHING = 0.05D;
+    /** The weight of each latency spike sample in the baseline moving average. */
+    private static final double SPIKE_BASELINE_SMOOTHING = 0.01D;
+
+    /** The limiter configuration. */
+    private final AdaptiveConcurrencyOptions options;
+    /** The monotonic time source in nanoseconds. */
+    private final LongSupplier nanoClock;
+
+    // A lock instead of a monitor so that waiting virtual threads do not pin their carrier threads
+    private final ReentrantLock stateLock = new ReentrantLock();
+    private final Condition permitReleased = stateLock.newCondition();
+    private double limit;
+    private int numInFlight;
+    private double baselineLatencyNanos;
+    private int numLatencySamples;
+    private long lastDecreaseNanos = Long.MIN_VALUE;
+    /** The open response bodies that hold a permit, in the order that they started to hold it. */
+    private final Set<PermitReleasingResponseBody> heldPermits = new LinkedHashSet<>();
+
+    /**
+     * Creates a new {@code AdaptiveConcurrencyLimiter}.
+     *
+     * @param options the limiter configuration
+     */
+    public AdaptiveConcurrencyLimiter(@NonNull final AdaptiveConcurrencyOptions options) {
+        this(options, System::nanoTime);
+    }
+
+    @VisibleForTesting
+    AdaptiveConcurrencyLimiter(
+            @NonNull final AdaptiveConcurrencyOptions options,
+            @NonNull final LongSupplier nanoClock) {
+        this.options = options;
+        this.nanoClock = nanoClock;
+        this.limit = options.getInitialLimit();
+    }
+
+    /**
+     * Gets the current concurrency limit.
+     *
+     * @return the maximum number of concurrent in-flight requests
+     */
+    public int getLimit() {
+        stateLock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of requests that are currently in-flight.
+     *
+     * @return the number of in-flight requests
+     */
+    public int getInFlight() {
+        stateLock.lock();
+        try {
+            return numInFlight;
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    @Override
+    public Response intercept(@NonNull final Chain chain) throws IOException {
+        final Request request = chain.request();
+        acquire();
+        final long startNanos = nanoClock.getAsLong();
+        final Response response;
+        try {
+            response = chain.proceed(request);
+        } catch (final IOException | RuntimeException ex) {
+            // Connection failures are not a signal of the service capacity
+            release();
+            throw ex;
+        }
+
+        // The latency is sampled up to the response headers, while the permit is held until the body is consumed
+        final long latencyNanos = nanoClock.getAsLong() - startNanos;
+        final int code = response.code();
+        final Runnable onComplete;
+        if (code == 429 || code == 503) {
+            onComplete = () -> onDropped(startNanos);
+        } else if (code < 500 && isLatencySampled(request)) {
+            onComplete = () -> onSuccess(startNanos, latencyNanos);
+        } else {
+            onComplete = this::release;
+        }
+
+        if (isBodiless(request, response)) {
+            // Nothing is left to transfer, so the permit does not depend on the caller closing the response
+            onComplete.run();
+            return response;
+        }
+
+        final PermitReleasingResponseBody body = new PermitReleasingResponseBody(request, response.body(), onComplete);
+        hold(body);
+        return response.newBuilder()
+                .body(body)
+                .build();
+    }
+
+    @VisibleForTesting
+    void acquire() throws InterruptedIOException {
+        stateLock.lock();
+        try {
+            while (numInFlight >= (int) limit) {
+                final long nanosUntilExpiry = releaseExpiredPermits();
+                if (numInFlight >= (int) limit) {
+                    permitReleased.awaitNanos(nanosUntilExpiry);
+                }
+            }
+
+            ++numInFlight;
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            final InterruptedIOException ioException =
+                    new InterruptedIOException("Interrupted while waiting for a concurrency permit");
+            ioException.initCause(ex);
+            throw ioException;
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    private void hold(final PermitReleasingResponseBody body) {
+        stateLock.lock();
+        try {
+            body.heldSinceNanos = nanoClock.getAsLong();
+            heldPermits.add(body);
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    /*
+     * Releases the permits of the responses that were left open for longer than the maximum hold time. Returns the
+     * time until the next held permit expires, or Long.MAX_VALUE if no permits are held. Must hold the state lock.
+     */
+    private long releaseExpiredPermits() {
+        final long nowNanos = nanoClock.getAsLong();
+        final long maxHoldNanos = options.getMaxPermitHoldTime().toNanos();
+        final List<PermitReleasingResponseBody> expired = new ArrayList<>();
+        long nanosUntilExpiry = Long.MAX_VALUE;
+        for (final PermitReleasingResponseBody body : heldPermits) {
+            final long heldNanos = nowNanos - body.heldSinceNanos;
+            if (heldNanos < maxHoldNanos) {
+                // Permits are ordered by the time they started to be held, so the remaining permits are newer
+                nanosUntilExpiry = maxHoldNanos - heldNanos;
+                break;
+            }
+            expired.add(body);
+        }
+
+        for (final PermitReleasingResponseBody body : expired) {
+            log.warn("Response for [{} {}] was not closed within {} ms. Releasing its concurrency permit; "
+                            + "responses must be closed to release their connection",
+                    body.request.method(), body.request.url(), options.getMaxPermitHoldTime().toMillis());
+            body.complete();
+        }
+
+        return nanosUntilExpiry;
+    }
+
+    private void release() {
+        stateLock.lock();
+        try {
+            --numInFlight;
+            permitReleased.signalAll();
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    @VisibleForTesting
+    void onSuccess(final long startNanos, final long latencyNanos) {
+        stateLock.lock();
+        try {
+            final boolean isLatencySpike = numLatencySamples >= MIN_LATENCY_SAMPLES
+                    && latencyNanos > baselineLatencyNanos * options.getLatencyTolerance();
+            if (isLatencySpike) {
+                decrease(startNanos, "latency of " + latencyNanos / 1000000L + " ms");
+                updateBaseline(latencyNanos, SPIKE_BASELINE_SMOOTHING);
+            } else {
+                updateBaseline(latencyNanos, BASELINE_SMOOTHING);
+                // Only grow when the limit is being used so that an idle client does not inflate it
+                if (numInFlight * 2 >= limit) {
+                    limit = Math.min(limit + 1.0D / limit, options.getMaxLimit());
+                }
+            }
+
+            --numInFlight;
+            permitReleased.signalAll();
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    @VisibleForTesting
+    void onDropped(final long startNanos) {
+        stateLock.lock();
+        try {
+            decrease(startNanos, "throttled response");
+            --numInFlight;
+            permitReleased.signalAll();
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    private void decrease(final long startNanos, final String reason) {
+        if (startNanos <= lastDecreaseNanos) {
+            return;
+        }
+
+        final double previousLimit = limit;
+        limit = Math.max(limit * options.getBackoffRatio(), options.getMinLimit());
+        lastDecreaseNanos = nanoClock.getAsLong();
+        log.debug("Reduced the concurrency limit from {} to {} due to {}", (int) previousLimit, (int) limit, reason);
+    }
+
+    private void updateBaseline(final long latencyNanos, final double smoothing) {
+        baselineLatencyNanos = numLatencySamples == 0
+                ? latencyNanos
+                : baselineLatencyNanos + smoothing * (latencyNanos - baselineLatencyNanos);
+        ++numLatencySamples;
+    }
+
+    private static boolean isLatencySampled(final Request request) {
+        final RequestBody body = request.body();
+        try {
+            return body == null || (body.contentLength() >= 0L && body.contentLength() <= MAX_SAMPLED_BODY_BYTES);
+        } catch (final IOException ex) {
+            return false;
+        }
+    }
+
+    private static boolean isBodiless(final Request request, final Response response) {
+        final int code = response.code();
+        return "HEAD".equals(request.method()) || code == 204 || code == 304 || response.body().contentLength() == 0L;
+    }
+
+    /**
+     * Forwards a response body and completes the request once when the body is closed, fully read or held for longer
+     * than the maximum hold time.
+     */
+    private class PermitReleasingResponseBody extends ResponseBody {
+        private final Request request;
+        private final ResponseBody delegate;
+        private final Runnable onComplete;
+        private final AtomicBoolean isCompleted = new AtomicBoolean();
+        private long heldSinceNanos;
+        private BufferedSource source;
+
+        PermitReleasingResponseBody(final Request request, final ResponseBody delegate, final Runnable onComplete) {
+            this.request = request;
+            this.delegate = delegate;
+            this.onComplete = onComplete;
+        }
+
+        @Override
+        public MediaType contentType() {
+            return delegate.contentType();
+        }
+
+        @Override
+        public long contentLength() {
+            return delegate.contentLength();
+        }
+
+        @Override
+        public synchronized BufferedSource source() {
+            if (source == null) {
+                source = Okio.buffer(new ForwardingSource(delegate.source()) {
+                    @Override
+                    public long read(@NonNull final Buffer sink, final long byteCount) throws IOException {
+                        final long numRead = super.read(sink, byteCount);
+                        if (numRead == -1L) {
+                            complete();
+                        }
+
+                        return numRead;
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        try {
+                            super.close();
+                        } finally {
+                            complete();
+                        }
+                    }
+                });
+            }
+
+            return source;
+        }
+
+        private void complete() {
+            if (isCompleted.compareAndSet(false, true)) {
+                stateLock.lock();
+                try {
+                    heldPermits.remove(this);
+                } finally {
+                    stateLock.unlock();
+                }
+                onComplete.run();
+            }
+        }
+    }
+}
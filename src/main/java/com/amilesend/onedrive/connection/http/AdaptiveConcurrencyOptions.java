@@ -0,0 +1,106 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection.http;
+
+import com.amilesend.client.util.Validate;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * Defines the configuration for the additive-increase/multiplicative-decrease (AIMD) limit on the number of
+ * concurrent in-flight requests.
+ *
+ * @see AdaptiveConcurrencyLimiter
+ */
+@Data
+public class AdaptiveConcurrencyOptions {
+    /** The default number of concurrent requests allowed before any responses are observed. */
+    public static final int DEFAULT_INITIAL_LIMIT = 8;
+    /** The default lower bound of the concurrency limit. */
+    public static final int DEFAULT_MIN_LIMIT = 1;
+    /** The default upper bound of the concurrency limit. */
+    public static final int DEFAULT_MAX_LIMIT = 64;
+    /** The default factor that the limit is multiplied by when requests are throttled or latency spikes. */
+    public static final double DEFAULT_BACKOFF_RATIO = 0.5D;
+    /** The default multiple of the baseline latency that is considered a latency spike. */
+    public static final double DEFAULT_LATENCY_TOLERANCE = 2.0D;
+    /** The default maximum time that a response that is left open holds its concurrency permit. */
+    public static final Duration DEFAULT_MAX_PERMIT_HOLD_TIME = Duration.ofMinutes(10L);
+
+    /** The number of concurrent requests allowed before any responses are observed. */
+    private final int initialLimit;
+    /** The lower bound of the concurrency limit. */
+    private final int minLimit;
+    /** The upper bound of the concurrency limit. */
+    private final int maxLimit;
+    /** The factor (between 0 and 1) that the limit is multiplied by when requests are throttled or latency spikes. */
+    private final double backoffRatio;
+    /** The multiple (greater than 1) of the baseline latency that is considered a latency spike. */
+    private final double latencyTolerance;
+    /**
+     * The maximum time that a response that is left open holds its concurrency permit. Once elapsed, the permit is
+     * released with a warning so that responses that are never closed cannot permanently reduce the throughput.
+     */
+    private final Duration maxPermitHoldTime;
+
+    /**
+     * Creates a new {@code AdaptiveConcurrencyOptions}.
+     *
+     * @param initialLimit the number of concurrent requests allowed before any responses are observed
+     * @param minLimit the lower bound of the concurrency limit
+     * @param maxLimit the upper bound of the concurrency limit
+     * @param backoffRatio the factor that the limit is multiplied by when requests are throttled or latency spikes
+     * @param latencyTolerance the multiple of the baseline latency that is considered a latency spike
+     * @param maxPermitHoldTime the maximum time that a response that is left open holds its concurrency permit
+     */
+    @Builder
+    private AdaptiveConcurrencyOptions(
+            final Integer initialLimit,
+            final Integer minLimit,
+            final Integer maxLimit,
+            final Double backoffRatio,
+            final Double latencyTolerance,
+            final Duration maxPermitHoldTime) {
+        this.initialLimit = initialLimit == null ? DEFAULT_INITIAL_LIMIT : initialLimit;
+        this.minLimit = minLimit == null ? DEFAULT_MIN_LIMIT : minLimit;
+        this.maxLimit = maxLimit == null ? DEFAULT_MAX_LIMIT : maxLimit;
+        this.backoffRatio = backoffRatio == null ? DEFAULT_BACKOFF_RATIO : backoffRatio;
+        this.latencyTolerance = latencyTolerance == null ? DEFAULT_LATENCY_TOLERANCE : latencyTolerance;
+        this.maxPermitHoldTime = maxPermitHoldTime == null ? DEFAULT_MAX_PERMIT_HOLD_TIME : maxPermitHoldTime;
+
+        Validate.isTrue(this.minLimit > 0, "minLimit must be > 0");
+        Validate.isTrue(this.maxLimit >= this.minLimit, "maxLimit must be >= minLimit");
+        Validate.isTrue(this.initialLimit >= this.minLimit && this.initialLimit <= this.maxLimit,
+                "initialLimit must be between minLimit and maxLimit");
+        Validate.isTrue(this.backoffRatio > 0.0D && this.backoffRatio < 1.0D, "backoffRatio must be > 0 and < 1");
+        Validate.isTrue(this.latencyTolerance > 1.0D, "latencyTolerance must be > 1");
+        Validate.isTrue(!this.maxPermitHoldTime.isNegative() && !this.maxPermitHoldTime.isZero(),
+                "maxPermitHoldTime must be > 0");
+    }
+
+    /**
+     * Gets the default options.
+     *
+     * @return the default options
+     */
+    public static AdaptiveConcurrencyOptions defaults() {
+        return AdaptiveConcurrencyOptions.builder().build();
+    }
+}
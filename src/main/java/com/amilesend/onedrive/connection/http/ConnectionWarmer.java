@@ -0,0 +1,135 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection.http;
+
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Preconnects an HTTP client to a set of hosts so that the DNS lookup, TCP connect and TLS (and HTTP/2) handshakes
+ * are paid for at startup instead of by the first API requests. Each host is sent a single asynchronous
+ * {@code HEAD} request to its root; any response, regardless of its status code, leaves an established connection
+ * in the client's connection pool for subsequent requests to reuse.
+ */
+@Slf4j
+@UtilityClass
+public class ConnectionWarmer {
+    /** The Microsoft Graph API host URL. */
+    public static final String GRAPH_URL = "https://graph.microsoft.com/";
+    /** The Microsoft identity platform host URL used to obtain and refresh access tokens. */
+    public static final String LOGIN_URL = "https://login.microsoftonline.com/";
+    /** The default hosts to warm up. */
+    public static final List<String> DEFAULT_URLS = List.of(GRAPH_URL, LOGIN_URL);
+
+    /**
+     * Warms up connections to the {@link #DEFAULT_URLS default} Graph API and login hosts.
+     *
+     * @param httpClient the HTTP client to warm up
+     * @return the future that completes with the number of hosts that were successfully connected to
+     * @see #warmUp(OkHttpClient, Collection)
+     */
+    public static CompletableFuture<Integer> warmUp(@NonNull final OkHttpClient httpClient) {
+        return warmUp(httpClient, DEFAULT_URLS);
+    }
+
+    /**
+     * Warms up connections to the hosts of the given {@code urls}. URLs that share the same scheme, host and port are
+     * only connected to once. Failures are logged and never fail the returned future.
+     *
+     * @param httpClient the HTTP client to warm up
+     * @param urls the URLs of the hosts to connect to
+     * @return the future that completes with the number of hosts that were successfully connected to
+     */
+    public static CompletableFuture<Integer> warmUp(
+            @NonNull final OkHttpClient httpClient,
+            @NonNull final Collection<String> urls) {
+        final Set<HttpUrl> hostUrls = toHostUrls(urls);
+        if (hostUrls.isEmpty()) {
+            return CompletableFuture.completedFuture(0);
+        }
+
+        final CompletableFuture<Integer> future = new CompletableFuture<>();
+        final AtomicInteger numRemaining = new AtomicInteger(hostUrls.size());
+        final AtomicInteger numConnected = new AtomicInteger();
+        for (final HttpUrl hostUrl : hostUrls) {
+            final Request request = new Request.Builder()
+                    .url(hostUrl)
+                    .head()
+                    .build();
+            httpClient.newCall(request).enqueue(new Callback() {
+                @Override
+                public void onResponse(final Call call, final Response response) {
+                    response.close();
+                    numConnected.incrementAndGet();
+                    log.debug("Warmed up connection to [{}] via {}", hostUrl.host(), response.protocol());
+                    complete();
+                }
+
+                @Override
+                public void onFailure(final Call call, final IOException ex) {
+                    log.debug("Unable to warm up connection to [{}]: {}", hostUrl.host(), ex.getMessage());
+                    complete();
+                }
+
+                private void complete() {
+                    if (numRemaining.decrementAndGet() == 0) {
+                        future.complete(numConnected.get());
+                    }
+                }
+            });
+        }
+
+        return future;
+    }
+
+    private static Set<HttpUrl> toHostUrls(final Collection<String> urls) {
+        final Set<HttpUrl> hostUrls = new LinkedHashSet<>();
+        for (final String url : urls) {
+            final HttpUrl parsedUrl = url == null ? null : HttpUrl.parse(url);
+            if (parsedUrl == null) {
+                log.warn("Skipping warm up of invalid URL [{}]", url);
+                continue;
+            }
+
+            hostUrls.add(parsedUrl.newBuilder()
+                    .encodedPath("/")
+                    .query(null)
+                    .fragment(null)
+                    .username("")
+                    .password("")
+                    .build());
+        }
+
+        return hostUrls;
+    }
+}
@@ -19,12 +19,16 @@ package com.amilesend.onedrive.connection.http;
 
 import com.amilesend.client.connection.ConnectionException;
 import com.amilesend.client.util.StringUtils;
+import com.amilesend.client.util.Validate;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import okhttp3.Authenticator;
+import okhttp3.ConnectionPool;
 import okhttp3.ConnectionSpec;
 import okhttp3.Credentials;
+import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 import okhttp3.Request;
 import okhttp3.Response;
 import okhttp3.Route;
@@ -40,6 +44,7 @@ import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Utility to configure and build a {@link OkHttpClient} with the option of default configuration for this SDK.
@@ -49,9 +54,20 @@ import java.util.List;
  *     <li>Configures a proxy with username and password</li>
  *     <li>Configures support to follow redirects</li>
  *     <li>Configures connection and read/write timeouts (default is disabled)</li>
+ *     <li>Configures the connection pool, dispatcher concurrency limits and protocols</li>
  * </ul>
+ * Use {@link #forBulkWorkloads()} for a configuration that is tuned for high-concurrency Graph API workloads.
  */
 public class OkHttpClientBuilder {
+    /** The maximum number of idle connections to keep in the pool for the bulk workload preset. */
+    public static final int BULK_MAX_IDLE_CONNECTIONS = 32;
+    /** The duration to keep idle connections alive for the bulk workload preset. */
+    public static final Duration BULK_KEEP_ALIVE_DURATION = Duration.ofMinutes(5L);
+    /** The maximum number of concurrent enqueued requests for the bulk workload preset. */
+    public static final int BULK_MAX_REQUESTS = 256;
+    /** The maximum number of concurrent enqueued requests per host for the bulk workload preset. */
+    public static final int BULK_MAX_REQUESTS_PER_HOST = 128;
+
     private X509TrustManager trustManager;
     private HostnameVerifier hostnameVerifier;
     private Proxy proxy;
@@ -63,6 +79,27 @@ public class OkHttpClientBuilder {
     private Duration connectTimeout = Duration.ofMillis(10000L);
     private Duration readTimeout = Duration.ofMillis(10000L);
     private Duration writeTimeout = Duration.ofMillis(10000L);
+    private Integer maxIdleConnections;
+    private Duration keepAliveDuration;
+    private Integer maxRequests;
+    private Integer maxRequestsPerHost;
+    private List<Protocol> protocols;
+
+    /**
+     * Creates a new builder with a preset that is tuned for high-concurrency Graph API workloads (e.g., bulk and
+     * batch operations): HTTP/2 is preferred so that concurrent requests are multiplexed over fewer connections,
+     * the dispatcher allows {@value #BULK_MAX_REQUESTS_PER_HOST} concurrent enqueued requests per host (instead of 5),
+     * and up to {@value #BULK_MAX_IDLE_CONNECTIONS} idle connections are kept alive for 5 minutes.
+     *
+     * @return the builder instance
+     */
+    public static OkHttpClientBuilder forBulkWorkloads() {
+        return new OkHttpClientBuilder()
+                .protocols(List.of(Protocol.HTTP_2, Protocol.HTTP_1_1))
+                .maxRequests(BULK_MAX_REQUESTS)
+                .maxRequestsPerHost(BULK_MAX_REQUESTS_PER_HOST)
+                .connectionPool(BULK_MAX_IDLE_CONNECTIONS, BULK_KEEP_ALIVE_DURATION);
+    }
 
     /**
      * Sets the SSL/TLS trust manager to use with the HTTP client.
@@ -150,6 +187,61 @@ public class OkHttpClientBuilder {
         return this;
     }
 
+    /**
+     * Sets the connection pool configuration for the HTTP client. The default is 5 idle connections that are kept
+     * alive for 5 minutes.
+     *
+     * @param maxIdleConnections the maximum number of idle connections to keep in the pool
+     * @param keepAliveDuration the duration to keep an idle connection alive
+     * @return the builder instance
+     */
+    public OkHttpClientBuilder connectionPool(final int maxIdleConnections, @NonNull final Duration keepAliveDuration) {
+        Validate.isTrue(maxIdleConnections >= 0, "maxIdleConnections must be >= 0");
+        Validate.isTrue(!keepAliveDuration.isNegative() && !keepAliveDuration.isZero(),
+                "keepAliveDuration must be > 0");
+        this.maxIdleConnections = maxIdleConnections;
+        this.keepAliveDuration = keepAliveDuration;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of concurrently executing enqueued (async) requests. The default is 64.
+     *
+     * @param maxRequests the maximum number of concurrent requests
+     * @return the builder instance
+     * @see Dispatcher#setMaxRequests(int)
+     */
+    public OkHttpClientBuilder maxRequests(final int maxRequests) {
+        Validate.isTrue(maxRequests > 0, "maxRequests must be > 0");
+        this.maxRequests = maxRequests;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of concurrently executing enqueued (async) requests per host. The default is 5.
+     *
+     * @param maxRequestsPerHost the maximum number of concurrent requests per host
+     * @return the builder instance
+     * @see Dispatcher#setMaxRequestsPerHost(int)
+     */
+    public OkHttpClientBuilder maxRequestsPerHost(final int maxRequestsPerHost) {
+        Validate.isTrue(maxRequestsPerHost > 0, "maxRequestsPerHost must be > 0");
+        this.maxRequestsPerHost = maxRequestsPerHost;
+        return this;
+    }
+
+    /**
+     * Sets the protocols in order of preference. The default prefers HTTP/2 with a fallback to HTTP/1.1.
+     *
+     * @param protocols the protocols
+     * @return the builder instance
+     * @see OkHttpClient.Builder#protocols(List)
+     */
+    public OkHttpClientBuilder protocols(final List<Protocol> protocols) {
+        this.protocols = protocols;
+        return this;
+    }
+
     /**
      * Sets the flag to allow for automatic URL redirects when responses return 300-based HTTP responses.
      *
@@ -180,17 +272,37 @@ public class OkHttpClientBuilder {
      * @return the configured HTTP client
      */
     public OkHttpClient build() {
-        return configureProxy(
+        return configureConcurrency(configureProxy(
                 configureSsl(new OkHttpClient.Builder()
                         .followSslRedirects(isRedirectsAllowed)
                         .followRedirects(isRedirectsAllowed)
                         .connectTimeout(connectTimeout)
                         .readTimeout(readTimeout)
                         .writeTimeout(writeTimeout)
-                        .connectionSpecs(getConnectionSpecs())))
+                        .connectionSpecs(getConnectionSpecs()))))
                 .build();
     }
 
+    private OkHttpClient.Builder configureConcurrency(OkHttpClient.Builder builder) {
+        if (maxIdleConnections != null) {
+            builder = builder.connectionPool(
+                    new ConnectionPool(maxIdleConnections, keepAliveDuration.toMillis(), TimeUnit.MILLISECONDS));
+        }
+
+        if (maxRequests != null || maxRequestsPerHost != null) {
+            final Dispatcher dispatcher = new Dispatcher();
+            if (maxRequests != null) {
+                dispatcher.setMaxRequests(maxRequests);
+            }
+            if (maxRequestsPerHost != null) {
+                dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+            }
+            builder = builder.dispatcher(dispatcher);
+        }
+
+        return protocols != null ? builder.protocols(protocols) : builder;
+    }
+
     private List<ConnectionSpec> getConnectionSpecs() {
         return isForTest
                 ? List.of(ConnectionSpec.CLEARTEXT, ConnectionSpec.MODERN_TLS)
@@ -0,0 +1,93 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection.http;
+
+import com.amilesend.client.util.VisibleForTesting;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+
+import java.io.IOException;
+
+/**
+ * An OkHttp {@link Interceptor} that paces requests with separate {@link TokenBucket} budgets for metadata requests
+ * and content transfers (downloads of {@code /content}, range requests and uploads of binary bodies). A request
+ * waits for a permit from its budget before it is sent, and is not limited if its budget is undefined.
+ * <p>
+ * To enforce a shared budget, such as the per-tenant request limits of the Graph API, configure the same instance
+ * (or the same {@link TokenBucket} instances) on each connection for the tenant.
+ *
+ * @see TokenBucket
+ */
+@Getter
+public class RequestRateLimiter implements Interceptor {
+    private static final String CONTENT_PATH_SUFFIX = "/content";
+    private static final String RANGE = "Range";
+    private static final String JSON_SUBTYPE = "json";
+    private static final String FORM_DATA_SUBTYPE = "x-www-form-urlencoded";
+
+    /** The optional budget for metadata requests. */
+    private final TokenBucket metadataBucket;
+    /** The optional budget for content transfer requests. */
+    private final TokenBucket contentBucket;
+
+    /**
+     * Creates a new {@code RequestRateLimiter}.
+     *
+     * @param metadataBucket the optional budget for metadata requests
+     * @param contentBucket the optional budget for content transfer requests
+     */
+    @Builder
+    private RequestRateLimiter(final TokenBucket metadataBucket, final TokenBucket contentBucket) {
+        this.metadataBucket = metadataBucket;
+        this.contentBucket = contentBucket;
+    }
+
+    @Override
+    public Response intercept(@NonNull final Chain chain) throws IOException {
+        final Request request = chain.request();
+        final TokenBucket bucket = isContentTransfer(request) ? contentBucket : metadataBucket;
+        if (bucket != null) {
+            bucket.acquire();
+        }
+
+        return chain.proceed(request);
+    }
+
+    @VisibleForTesting
+    static boolean isContentTransfer(final Request request) {
+        if (request.url().encodedPath().endsWith(CONTENT_PATH_SUFFIX) || request.header(RANGE) != null) {
+            return true;
+        }
+
+        final RequestBody body = request.body();
+        if (body == null) {
+            return false;
+        }
+
+        final MediaType contentType = body.contentType();
+        return contentType == null
+                || !(JSON_SUBTYPE.equalsIgnoreCase(contentType.subtype())
+                        || FORM_DATA_SUBTYPE.equalsIgnoreCase(contentType.subtype()));
+    }
+}
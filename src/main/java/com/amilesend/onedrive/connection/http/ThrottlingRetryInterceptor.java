@@ -0,0 +1,264 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection.http;
+
+import com.amilesend.client.util.StringUtils;
+import com.amilesend.client.util.VisibleForTesting;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.amilesend.client.connection.Connection.Headers.AUTHORIZATION;
+
+/**
+ * An OkHttp {@link Interceptor} that retries requests that are throttled ({@code 429}) or rejected while the service
+ * is unavailable ({@code 503}, {@code 504}). The {@code Retry-After} response header is honored when present (as
+ * either a number of seconds or an HTTP-date); otherwise, an exponential backoff with full jitter is used.
+ * <p>
+ * Only idempotent requests ({@code GET}, {@code HEAD}, {@code OPTIONS}, {@code PUT} and {@code DELETE}) or requests
+ * that are explicitly {@link #markRetryable(Request.Builder) marked as retryable} are retried. Requests with a
+ * {@link RequestBody#isOneShot() one-shot} body are never retried as the body cannot be replayed.
+ * <p>
+ * Requests without an {@code Authorization} header are never retried. These are the requests to pre-authenticated
+ * URLs (e.g., upload session fragments and download URLs) that are already retried by the transfer that issued them
+ * and token requests sent to the identity platform.
+ * <p>
+ * Requests that are {@link #markRetriedByCaller(Request.Builder) marked as retried by the caller} pass through
+ * without being retried. This is used for enqueued calls, which are retried with
+ * {@link #getRetryDelayMillis(Request, Response, int)} without blocking an OkHttp dispatcher thread.
+ *
+ * @see ThrottlingRetryOptions
+ */
+@Slf4j
+public class ThrottlingRetryInterceptor implements Interceptor {
+    private static final String RETRY_AFTER = "Retry-After";
+    private static final Set<Integer> RETRYABLE_CODES = Set.of(429, 503, 504);
+    private static final Set<String> IDEMPOTENT_METHODS = Set.of("GET", "HEAD", "OPTIONS", "PUT", "DELETE");
+
+    /** The retry configuration. */
+    private final ThrottlingRetryOptions options;
+    /** The clock used to resolve HTTP-date {@code Retry-After} values. */
+    private final Clock clock;
+
+    /**
+     * Creates a new {@code ThrottlingRetryInterceptor} with the default options.
+     */
+    public ThrottlingRetryInterceptor() {
+        this(ThrottlingRetryOptions.defaults());
+    }
+
+    /**
+     * Creates a new {@code ThrottlingRetryInterceptor}.
+     *
+     * @param options the retry configuration
+     */
+    public ThrottlingRetryInterceptor(@NonNull final ThrottlingRetryOptions options) {
+        this(options, Clock.systemUTC());
+    }
+
+    @VisibleForTesting
+    ThrottlingRetryInterceptor(@NonNull final ThrottlingRetryOptions options, @NonNull final Clock clock) {
+        this.options = options;
+        this.clock = clock;
+    }
+
+    /**
+     * Marks the request that is being built as safe to retry even if its method is not idempotent (e.g., a
+     * {@code POST} request that creates a resource with a conflict behavior of {@code fail}).
+     *
+     * @param builder the request builder
+     * @return the request builder
+     */
+    public static Request.Builder markRetryable(@NonNull final Request.Builder builder) {
+        return builder.tag(RetryableTag.class, RetryableTag.INSTANCE);
+    }
+
+    /**
+     * Marks the request that is being built as retried by the caller so that it is not retried (and does not block
+     * while waiting to retry) by the interceptor.
+     *
+     * @param builder the request builder
+     * @return the request builder
+     */
+    public static Request.Builder markRetriedByCaller(@NonNull final Request.Builder builder) {
+        return builder.tag(CallerRetriedTag.class, CallerRetriedTag.INSTANCE);
+    }
+
+    /**
+     * Determines if the given request can be retried.
+     *
+     * @param request the request
+     * @return {@code true} if the request can be retried; else, {@code false}
+     */
+    public static boolean isRetryable(@NonNull final Request request) {
+        if (request.header(AUTHORIZATION) == null) {
+            return false;
+        }
+
+        final RequestBody body = request.body();
+        if (body != null && body.isOneShot()) {
+            return false;
+        }
+
+        return IDEMPOTENT_METHODS.contains(request.method()) || request.tag(RetryableTag.class) != null;
+    }
+
+    @Override
+    public Response intercept(@NonNull final Chain chain) throws IOException {
+        final Request request = chain.request();
+        Response response = chain.proceed(request);
+        if (request.tag(CallerRetriedTag.class) != null) {
+            return response;
+        }
+
+        for (int attempt = 1; ; ++attempt) {
+            final Long delayMillis = getRetryDelayMillis(request, response, attempt);
+            if (delayMillis == null) {
+                return response;
+            }
+
+            response.close();
+            pause(delayMillis);
+            response = chain.proceed(request);
+        }
+    }
+
+    /**
+     * Gets the time to wait before retrying the given request after it received the given response.
+     *
+     * @param request the request
+     * @param response the response to the previous attempt
+     * @param attempt the retry attempt (starting at 1)
+     * @return the time to wait in milliseconds, or {@code null} if the request should not be retried
+     */
+    public Long getRetryDelayMillis(
+            @NonNull final Request request,
+            @NonNull final Response response,
+            final int attempt) {
+        return getRetryDelayMillis(request, response.code(), response.header(RETRY_AFTER), attempt);
+    }
+
+    /**
+     * Gets the time to wait before retrying the given request after it received a response with the given status
+     * code and {@code Retry-After} value (e.g., a sub-response of a JSON batch request).
+     *
+     * @param request the request
+     * @param code the HTTP status code of the response to the previous attempt
+     * @param retryAfter the {@code Retry-After} value of the response to the previous attempt (may be null)
+     * @param attempt the retry attempt (starting at 1)
+     * @return the time to wait in milliseconds, or {@code null} if the request should not be retried
+     */
+    public Long getRetryDelayMillis(
+            @NonNull final Request request,
+            final int code,
+            final String retryAfter,
+            final int attempt) {
+        if (attempt > options.getMaxRetries() || !RETRYABLE_CODES.contains(code) || !isRetryable(request)) {
+            return null;
+        }
+
+        final long delayMillis = getDelayMillis(retryAfter, attempt);
+        if (delayMillis > options.getMaxDelay().toMillis()) {
+            log.warn("Retry-After for [{} {}] exceeds the maximum delay of {} ms. Not retrying",
+                    request.method(), request.url(), options.getMaxDelay().toMillis());
+            return null;
+        }
+
+        log.warn("Received a {} response for [{} {}] (attempt {} of {}). Retrying in {} ms",
+                code, request.method(), request.url(), attempt, options.getMaxRetries(), delayMillis);
+        return delayMillis;
+    }
+
+    /*
+     * Gets the delay before the next attempt from the Retry-After header, or falls back to the jittered
+     * exponential backoff if the header is absent or cannot be parsed.
+     */
+    private long getDelayMillis(final String retryAfter, final int attempt) {
+        final Long retryAfterMillis = parseRetryAfterMillis(retryAfter);
+        return retryAfterMillis != null ? retryAfterMillis : getBackoffMillis(attempt);
+    }
+
+    @VisibleForTesting
+    Long parseRetryAfterMillis(final String retryAfter) {
+        if (StringUtils.isBlank(retryAfter)) {
+            return null;
+        }
+
+        try {
+            return Math.max(Long.parseLong(retryAfter.trim()), 0L) * 1000L;
+        } catch (final NumberFormatException ex) {
+            // Fall through to parse as an HTTP-date
+        }
+
+        try {
+            final ZonedDateTime retryAt = ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+            return Math.max(Duration.between(clock.instant(), retryAt.toInstant()).toMillis(), 0L);
+        } catch (final DateTimeParseException ex) {
+            log.debug("Unable to parse Retry-After value [{}]", retryAfter);
+            return null;
+        }
+    }
+
+    /*
+     * Full jitter: a random delay between 0 and the capped exponential backoff for the attempt so that concurrent
+     * clients that were throttled together do not retry together.
+     */
+    @VisibleForTesting
+    long getBackoffMillis(final int attempt) {
+        final long baseMillis = options.getBaseDelay().toMillis();
+        final long maxMillis = options.getMaxDelay().toMillis();
+        final long backoffMillis = Math.min(baseMillis << Math.min(attempt - 1, 20), maxMillis);
+        return ThreadLocalRandom.current().nextLong(backoffMillis + 1L);
+    }
+
+    @VisibleForTesting
+    void pause(final long millis) throws InterruptedIOException {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            final InterruptedIOException ioException =
+                    new InterruptedIOException("Interrupted while waiting to retry the request");
+            ioException.initCause(ex);
+            throw ioException;
+        }
+    }
+
+    /** The request tag type that marks a request as safe to retry. */
+    private enum RetryableTag {
+        INSTANCE
+    }
+
+    /** The request tag type that marks a request as retried by the caller. */
+    private enum CallerRetriedTag {
+        INSTANCE
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection.http;
+
+import com.amilesend.client.util.Validate;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * Defines the configuration for retrying throttled ({@code 429}) and unavailable ({@code 503}, {@code 504})
+ * responses from the Graph API.
+ *
+ * @see ThrottlingRetryInterceptor
+ */
+@Data
+public class ThrottlingRetryOptions {
+    /** The default maximum number of retries for a single request. */
+    public static final int DEFAULT_MAX_RETRIES = 5;
+    /** The default initial backoff delay when a response does not include a {@code Retry-After} header. */
+    public static final Duration DEFAULT_BASE_DELAY = Duration.ofSeconds(1L);
+    /** The default maximum delay to wait before a retry. */
+    public static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(60L);
+
+    /** The maximum number of retries for a single request. */
+    private final int maxRetries;
+    /** The initial backoff delay when a response does not include a {@code Retry-After} header. */
+    private final Duration baseDelay;
+    /**
+     * The maximum delay to wait before a retry. Backoff delays are capped to this value, and a response with a
+     * longer {@code Retry-After} value is returned to the caller instead of being retried.
+     */
+    private final Duration maxDelay;
+
+    /**
+     * Creates a new {@code ThrottlingRetryOptions}.
+     *
+     * @param maxRetries the maximum number of retries for a single request
+     * @param baseDelay the initial backoff delay when a response does not include a {@code Retry-After} header
+     * @param maxDelay the maximum delay to wait before a retry
+     */
+    @Builder
+    private ThrottlingRetryOptions(final Integer maxRetries, final Duration baseDelay, final Duration maxDelay) {
+        this.maxRetries = maxRetries == null ? DEFAULT_MAX_RETRIES : maxRetries;
+        this.baseDelay = baseDelay == null ? DEFAULT_BASE_DELAY : baseDelay;
+        this.maxDelay = maxDelay == null ? DEFAULT_MAX_DELAY : maxDelay;
+
+        Validate.isTrue(this.maxRetries >= 0, "maxRetries must be >= 0");
+        Validate.isTrue(!this.baseDelay.isNegative() && !this.baseDelay.isZero(), "baseDelay must be > 0");
+        Validate.isTrue(this.maxDelay.compareTo(this.baseDelay) >= 0, "maxDelay must be >= baseDelay");
+    }
+
+    /**
+     * Gets the default options.
+     *
+     * @return the default options
+     */
+    public static ThrottlingRetryOptions defaults() {
+        return ThrottlingRetryOptions.builder().build();
+    }
+}
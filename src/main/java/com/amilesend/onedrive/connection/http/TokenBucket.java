@@ -0,0 +1,140 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection.http;
+
+import com.amilesend.client.util.Validate;
+import com.amilesend.client.util.VisibleForTesting;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.io.InterruptedIOException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * A thread-safe token bucket that paces requests to a sustained rate of {@code permitsPerSecond} while allowing
+ * bursts of up to {@code burstSize} requests. Callers that exceed the budget reserve a future token and wait for it,
+ * so waiting callers are served in the order they arrived.
+ * <p>
+ * A single instance can be shared by multiple connections to enforce a common budget (e.g., per tenant).
+ *
+ * @see RequestRateLimiter
+ */
+public class TokenBucket {
+    private static final double NANOS_PER_SECOND = 1000000000.0D;
+
+    /** The sustained number of permits that are added to the bucket per second. */
+    @Getter
+    private final double permitsPerSecond;
+    /** The maximum number of permits that can accumulate in the bucket. */
+    @Getter
+    private final int burstSize;
+    /** The monotonic time source in nanoseconds. */
+    private final LongSupplier nanoClock;
+
+    private final Object stateLock = new Object();
+    private double numTokens;
+    private long lastRefillNanos;
+
+    /**
+     * Creates a new {@code TokenBucket} that starts full.
+     *
+     * @param permitsPerSecond the sustained number of permits that are added to the bucket per second
+     * @param burstSize the maximum number of permits that can accumulate in the bucket (defaults to 1)
+     */
+    @Builder
+    private TokenBucket(final double permitsPerSecond, final Integer burstSize) {
+        this(permitsPerSecond, burstSize == null ? 1 : burstSize, System::nanoTime);
+    }
+
+    @VisibleForTesting
+    TokenBucket(final double permitsPerSecond, final int burstSize, @NonNull final LongSupplier nanoClock) {
+        Validate.isTrue(permitsPerSecond > 0.0D, "permitsPerSecond must be > 0");
+        Validate.isTrue(burstSize > 0, "burstSize must be > 0");
+
+        this.permitsPerSecond = permitsPerSecond;
+        this.burstSize = burstSize;
+        this.nanoClock = nanoClock;
+        this.numTokens = burstSize;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Acquires a permit, waiting until one is available.
+     *
+     * @throws InterruptedIOException if the thread is interrupted while waiting
+     */
+    public void acquire() throws InterruptedIOException {
+        final long waitNanos = reserve();
+        if (waitNanos > 0L) {
+            pause(waitNanos);
+        }
+    }
+
+    /**
+     * Acquires a permit only if one is immediately available.
+     *
+     * @return {@code true} if a permit was acquired; else, {@code false}
+     */
+    public boolean tryAcquire() {
+        synchronized (stateLock) {
+            refill();
+            if (numTokens < 1.0D) {
+                return false;
+            }
+
+            numTokens -= 1.0D;
+            return true;
+        }
+    }
+
+    /*
+     * Takes a token, which may leave the bucket in debt, and returns the time to wait until the token is earned.
+     */
+    @VisibleForTesting
+    long reserve() {
+        synchronized (stateLock) {
+            refill();
+            numTokens -= 1.0D;
+            return numTokens >= 0.0D ? 0L : (long) Math.ceil(-numTokens / permitsPerSecond * NANOS_PER_SECOND);
+        }
+    }
+
+    private void refill() {
+        final long nowNanos = nanoClock.getAsLong();
+        final long elapsedNanos = nowNanos - lastRefillNanos;
+        if (elapsedNanos > 0L) {
+            numTokens = Math.min(burstSize, numTokens + elapsedNanos / NANOS_PER_SECOND * permitsPerSecond);
+            lastRefillNanos = nowNanos;
+        }
+    }
+
+    @VisibleForTesting
+    void pause(final long nanos) throws InterruptedIOException {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            final InterruptedIOException ioException =
+                    new InterruptedIOException("Interrupted while waiting for a rate limit permit");
+            ioException.initCause(ex);
+            throw ioException;
+        }
+    }
+}
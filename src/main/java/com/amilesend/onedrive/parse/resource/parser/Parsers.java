@@ -20,6 +20,7 @@ package com.amilesend.onedrive.parse.resource.parser;
 import com.amilesend.client.parse.parser.BasicParser;
 import com.amilesend.client.parse.parser.GsonParser;
 import com.amilesend.client.parse.parser.MapParser;
+import com.amilesend.onedrive.connection.batch.BatchResponse;
 import com.amilesend.onedrive.resource.activities.ItemActivity;
 import com.amilesend.onedrive.resource.drive.Drive;
 import com.amilesend.onedrive.resource.item.DriveItem;
@@ -31,6 +32,7 @@ import com.amilesend.onedrive.resource.item.type.Permission;
 import com.amilesend.onedrive.resource.item.type.Preview;
 import com.amilesend.onedrive.resource.item.type.SpecialFolder;
 import com.amilesend.onedrive.resource.item.type.ThumbnailSet;
+import com.amilesend.onedrive.resource.item.type.UploadSession;
 import com.amilesend.onedrive.resource.site.ListItem;
 import com.amilesend.onedrive.resource.site.ListItemVersion;
 import com.amilesend.onedrive.resource.site.Site;
@@ -43,6 +45,7 @@ import java.util.Map;
 @UtilityClass
 public class Parsers {
     public static final GsonParser<AsyncJobStatus> ASYNC_JOB_STATUS_PARSER = new BasicParser<>(AsyncJobStatus.class);
+    public static final GsonParser<BatchResponse> BATCH_RESPONSE_PARSER = new BasicParser<>(BatchResponse.class);
     public static final GsonParser<List<DriveItem>> DRIVE_ITEM_LIST_PARSER = new ListResponseBodyParser<>(DriveItem.class);
     public static final GsonParser<DriveItem> DRIVE_ITEM_PARSER = new BasicParser<>(DriveItem.class);
     public static final GsonParser<DriveItemPage> DRIVE_ITEM_PAGE_PARSER = new BasicParser<>(DriveItemPage.class);
@@ -54,6 +57,7 @@ public class Parsers {
     public static final GsonParser<Site> SITE_PARSER = new BasicParser<>(Site.class);
     public static final GsonParser<List<Site>> SITE_LIST_PARSER = new ListResponseBodyParser<>(Site.class);
     public static final GsonParser<List<ThumbnailSet>> THUMBNAIL_SET_LIST_PARSER = new ListResponseBodyParser<>(ThumbnailSet.class);
+    public static final GsonParser<UploadSession> UPLOAD_SESSION_PARSER = new BasicParser<>(UploadSession.class);
 
     public static GsonParser<List<DriveItemVersion>> newDriveItemVersionListParser(
             final String driveItemId,
@@ -18,8 +18,16 @@
 package com.amilesend.onedrive.resource;
 
 import com.amilesend.onedrive.resource.activities.ItemActivity;
+import com.amilesend.onedrive.resource.delta.DeltaResult;
+import com.amilesend.onedrive.resource.delta.DeltaTokenStore;
+import com.amilesend.onedrive.resource.delta.DeltaTokenStoreException;
+import com.amilesend.onedrive.resource.delta.DriveIndex;
+import com.amilesend.onedrive.resource.delta.DriveIndexException;
 import com.amilesend.onedrive.resource.drive.Quota;
 import com.amilesend.onedrive.resource.identity.IdentitySet;
+import com.amilesend.onedrive.resource.item.BulkOperationOptions;
+import com.amilesend.onedrive.resource.item.BulkOperationReport;
+import com.amilesend.onedrive.resource.item.PagingOptions;
 import com.amilesend.onedrive.resource.item.type.ItemReference;
 import com.amilesend.onedrive.resource.item.type.SharePointIds;
 import com.amilesend.onedrive.resource.item.type.SpecialFolder;
@@ -27,8 +35,12 @@ import lombok.EqualsAndHashCode;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
+import java.nio.file.Path;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * A wrapper around a {@link com.amilesend.onedrive.resource.drive.Drive} that represents a drive associated
@@ -214,6 +226,18 @@ public class Drive {
         return new DriveFolder(delegate.getRootFolder());
     }
 
+    /**
+     * Gets the root folder for this drive with only the given properties (e.g., {@code id}, {@code name}, or
+     * {@code eTag}). Properties that are not selected are {@code null}.
+     *
+     * @param select the names of the drive item properties to return
+     * @return the root drive folder
+     * @see DriveFolder
+     */
+    public DriveFolder getRootFolder(final Collection<String> select) {
+        return new DriveFolder(delegate.getRootFolder(select));
+    }
+
     /**
      * Searches this drive for the given query (e.g., file name).
      *
@@ -230,6 +254,22 @@ public class Drive {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Searches this drive for the given query with the given paging configuration (e.g., to only return the
+     * {@link PagingOptions#getSelect() selected} properties).
+     *
+     * @param query the search query
+     * @param options the paging configuration
+     * @return the list of drive item types (either a DriveFolder or DriveFile).
+     * @see PagingOptions
+     */
+    public List<? extends DriveItemType> search(final String query, final PagingOptions options) {
+        return delegate.search(query, options)
+                .stream()
+                .map(DriveItemType::wrapDriveItemToType)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Gets the list of changes associated with this drive.
      *
@@ -245,6 +285,202 @@ public class Drive {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Gets the list of changes associated with this drive with the given paging configuration (e.g., to only return
+     * the {@link PagingOptions#getSelect() selected} properties).
+     *
+     * @param options the paging configuration
+     * @return the list of drive item types (either a DriveFolder or DriveFile).
+     * @see PagingOptions
+     */
+    public List<? extends DriveItemType> getChanges(final PagingOptions options) {
+        return delegate.getChanges(options)
+                .stream()
+                .map(DriveItemType::wrapDriveItemToType)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Gets a lazy stream of the items in this drive that match the given query (e.g., file name). Pages of results
+     * are only fetched as the stream is consumed.
+     *
+     * @param query the search query
+     * @return the stream of drive item types (either a DriveFolder or DriveFile).
+     * @see DriveItemType
+     * @see DriveFolder
+     * @see DriveFile
+     */
+    public Stream<DriveItemType> streamSearch(final String query) {
+        return delegate.streamSearch(query).map(DriveItemType::wrapDriveItemToType);
+    }
+
+    /**
+     * Gets a lazy stream of the items in this drive that match the given query with the given paging configuration
+     * (e.g., to fetch pages ahead of the consumer). Close the stream to cancel any pages that are fetched ahead.
+     *
+     * @param query the search query
+     * @param options the paging configuration
+     * @return the stream of drive item types (either a DriveFolder or DriveFile).
+     * @see PagingOptions
+     */
+    public Stream<DriveItemType> streamSearch(final String query, final PagingOptions options) {
+        return delegate.streamSearch(query, options).map(DriveItemType::wrapDriveItemToType);
+    }
+
+    /**
+     * Gets a lazy stream of the changes associated with this drive. Pages of changes are only fetched as the stream
+     * is consumed.
+     *
+     * @return the stream of drive item types (either a DriveFolder or DriveFile).
+     * @see DriveItemType
+     * @see DriveFolder
+     * @see DriveFile
+     */
+    public Stream<DriveItemType> streamChanges() {
+        return delegate.streamChanges().map(DriveItemType::wrapDriveItemToType);
+    }
+
+    /**
+     * Gets a lazy stream of the changes associated with this drive with the given paging configuration (e.g., to
+     * fetch pages ahead of the consumer). Close the stream to cancel any pages that are fetched ahead.
+     *
+     * @param options the paging configuration
+     * @return the stream of drive item types (either a DriveFolder or DriveFile).
+     * @see PagingOptions
+     */
+    public Stream<DriveItemType> streamChanges(final PagingOptions options) {
+        return delegate.streamChanges(options).map(DriveItemType::wrapDriveItemToType);
+    }
+
+    /**
+     * Gets the items that changed in this drive since the given delta link (or token) along with the new delta link
+     * to use for the next query. If the {@code deltaLink} is {@code null}, all items are enumerated.
+     *
+     * @param deltaLink the previously returned delta link, a delta token, or {@code null} to enumerate all items
+     * @return the changed drive item types (either a DriveFolder or DriveFile) and the new delta link
+     * @see DeltaResult
+     */
+    public DeltaResult<DriveItemType> getDelta(final String deltaLink) {
+        return delegate.getDelta(deltaLink).map(DriveItemType::wrapDriveItemToType);
+    }
+
+    /**
+     * Gets a delta link that represents the current state of this drive without enumerating its items.
+     *
+     * @return the delta link for the current state
+     */
+    public String getLatestDeltaLink() {
+        return delegate.getLatestDeltaLink();
+    }
+
+    /**
+     * Gets the changes since the delta link that is stored in the given {@code tokenStore} for this drive and stores
+     * the new delta link.
+     *
+     * @param tokenStore the store of delta links
+     * @return the changed drive item types (either a DriveFolder or DriveFile) and the new delta link
+     * @throws DeltaTokenStoreException if an error occurred while retrieving or storing the delta link
+     * @see DeltaTokenStore
+     */
+    public DeltaResult<DriveItemType> syncDelta(final DeltaTokenStore tokenStore) throws DeltaTokenStoreException {
+        return delegate.syncDelta(tokenStore).map(DriveItemType::wrapDriveItemToType);
+    }
+
+    /**
+     * Stores the delta link for the current state of this drive in the given {@code tokenStore} so that subsequent
+     * calls to {@link #syncDelta(DeltaTokenStore)} only return new changes.
+     *
+     * @param tokenStore the store of delta links
+     * @return the stored delta link
+     * @throws DeltaTokenStoreException if an error occurred while storing the delta link
+     */
+    public String initializeDelta(final DeltaTokenStore tokenStore) throws DeltaTokenStoreException {
+        return delegate.initializeDelta(tokenStore);
+    }
+
+    /**
+     * Deletes the given drive items in bulk.
+     *
+     * @param items the drive items to delete
+     * @return the per-item report
+     * @see BulkOperationReport
+     */
+    public BulkOperationReport deleteItems(@NonNull final Collection<? extends DriveItemType> items) {
+        return deleteItems(items, BulkOperationOptions.defaults());
+    }
+
+    /**
+     * Deletes the given drive items in bulk with the given configuration.
+     *
+     * @param items the drive items to delete
+     * @param options the bulk operation configuration
+     * @return the per-item report
+     * @see BulkOperationReport
+     */
+    public BulkOperationReport deleteItems(
+            @NonNull final Collection<? extends DriveItemType> items,
+            @NonNull final BulkOperationOptions options) {
+        return delegate.deleteItems(DriveItemType.toItemIds(items), options);
+    }
+
+    /**
+     * Deletes the drive items with the given identifiers in bulk with the given configuration.
+     *
+     * @param itemIds the identifiers of the drive items to delete
+     * @param options the bulk operation configuration
+     * @return the per-item report
+     * @see BulkOperationReport
+     */
+    public BulkOperationReport deleteItemsById(
+            @NonNull final Collection<String> itemIds,
+            @NonNull final BulkOperationOptions options) {
+        return delegate.deleteItems(itemIds, options);
+    }
+
+    /**
+     * Moves the drive items with the given identifiers in bulk to the given destination folder with the given
+     * configuration.
+     *
+     * @param itemIds the identifiers of the drive items to move
+     * @param destinationParentId the identifier of the destination folder
+     * @param options the bulk operation configuration
+     * @return the per-item report
+     * @see BulkOperationReport
+     */
+    public BulkOperationReport moveItemsById(
+            @NonNull final Collection<String> itemIds,
+            final String destinationParentId,
+            @NonNull final BulkOperationOptions options) {
+        return delegate.moveItems(itemIds, destinationParentId, options);
+    }
+
+    /**
+     * Renames drive items in bulk with the given configuration.
+     *
+     * @param newNamesByItemId the new names keyed by drive item identifier
+     * @param options the bulk operation configuration
+     * @return the per-item report
+     * @see BulkOperationReport
+     */
+    public BulkOperationReport renameItems(
+            @NonNull final Map<String, String> newNamesByItemId,
+            @NonNull final BulkOperationOptions options) {
+        return delegate.renameItems(newNamesByItemId, options);
+    }
+
+    /**
+     * Opens the local metadata index of this drive that is persisted at the given {@code indexFilePath}. Use
+     * {@link DriveIndex#sync()} to bootstrap the index and to apply subsequent changes.
+     *
+     * @param indexFilePath the path of the file to persist the index to
+     * @return the index
+     * @throws DriveIndexException if an error occurred while reading the index file
+     * @see DriveIndex
+     */
+    public DriveIndex openIndex(@NonNull final Path indexFilePath) throws DriveIndexException {
+        return DriveIndex.open(delegate, indexFilePath);
+    }
+
     /**
      * Gets the special folder for the given {@link com.amilesend.onedrive.resource.item.type.SpecialFolder.Type}.
      *
@@ -20,6 +20,9 @@ package com.amilesend.onedrive.resource;
 import com.amilesend.client.connection.file.LogProgressCallback;
 import com.amilesend.client.connection.file.TransferProgressCallback;
 import com.amilesend.client.util.StringUtils;
+import com.amilesend.onedrive.connection.file.SegmentedDownloadOptions;
+import com.amilesend.onedrive.connection.file.StreamingUploader;
+import com.amilesend.onedrive.connection.file.journal.UploadSessionJournal;
 import com.amilesend.onedrive.resource.item.DriveItem;
 import com.amilesend.onedrive.resource.item.type.Audio;
 import com.amilesend.onedrive.resource.item.type.GeoCoordinates;
@@ -34,6 +37,10 @@ import lombok.NonNull;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Path;
 import java.util.Optional;
 
@@ -236,6 +243,136 @@ public class DriveFile extends DriveItemType {
         return new DriveFileDownloadExecution(getDelegate().downloadAsync(folderPath, callback));
     }
 
+    /**
+     * Downloads this file to the given {@code folderPath} in concurrently fetched segments when the file is larger
+     * than the configured threshold, and reports aggregated transfer progress to the specified
+     * {@link TransferProgressCallback}.
+     *
+     * @param folderPath the folder to download the file to
+     * @param options the segmented download configuration
+     * @param callback the callback be notified of transfer progress
+     * @see SegmentedDownloadOptions
+     */
+    public void download(
+            final Path folderPath,
+            final SegmentedDownloadOptions options,
+            final TransferProgressCallback callback) {
+        getDelegate().download(folderPath, options, callback);
+    }
+
+    /**
+     * Downloads this file asynchronously to the given {@code folderPath} in concurrently fetched segments when the
+     * file is larger than the configured threshold. Consumers can block on transfer completion by invoking
+     * {@link DriveFileDownloadExecution#get()}.
+     *
+     * @param folderPath the folder to download the file to
+     * @param options the segmented download configuration
+     * @param callback the callback be notified of transfer progress
+     * @return the asynchronous execution that contains the number of bytes downloaded
+     * @see SegmentedDownloadOptions
+     * @see DriveFileDownloadExecution
+     */
+    public DriveFileDownloadExecution downloadAsync(
+            final Path folderPath,
+            final SegmentedDownloadOptions options,
+            final TransferProgressCallback callback) {
+        return new DriveFileDownloadExecution(getDelegate().downloadAsync(folderPath, options, callback));
+    }
+
+    /**
+     * Downloads this file to the given {@code folderPath} and continues from a partial file that was left behind by a
+     * previous failed download. Transfer progress is reported to the specified {@link TransferProgressCallback}.
+     *
+     * @param folderPath the folder to download the file to
+     * @param callback the callback be notified of transfer progress
+     * @see DriveItem#downloadResumable(Path, TransferProgressCallback)
+     */
+    public void downloadResumable(final Path folderPath, final TransferProgressCallback callback) {
+        getDelegate().downloadResumable(folderPath, callback);
+    }
+
+    /**
+     * Downloads this file asynchronously to the given {@code folderPath} and continues from a partial file that was
+     * left behind by a previous failed download. Consumers can block on transfer completion by invoking
+     * {@link DriveFileDownloadExecution#get()}.
+     *
+     * @param folderPath the folder to download the file to
+     * @param callback the callback be notified of transfer progress
+     * @return the asynchronous execution that contains the number of bytes downloaded
+     * @see DriveFileDownloadExecution
+     */
+    public DriveFileDownloadExecution downloadResumableAsync(
+            final Path folderPath,
+            final TransferProgressCallback callback) {
+        return new DriveFileDownloadExecution(getDelegate().downloadResumableAsync(folderPath, callback));
+    }
+
+    /**
+     * Downloads this file directly to the given {@code output} channel without staging it on disk and reports
+     * transfer progress to the specified {@link TransferProgressCallback}. The channel is not closed.
+     *
+     * @param output the channel to write the file contents to
+     * @param callback the callback be notified of transfer progress
+     * @return the number of bytes downloaded
+     */
+    public long downloadTo(final WritableByteChannel output, final TransferProgressCallback callback) {
+        return getDelegate().downloadTo(output, callback);
+    }
+
+    /**
+     * Downloads this file directly to the given {@code output} stream without staging it on disk and reports
+     * transfer progress to the specified {@link TransferProgressCallback}. The stream is not closed.
+     *
+     * @param output the stream to write the file contents to
+     * @param callback the callback be notified of transfer progress
+     * @return the number of bytes downloaded
+     */
+    public long downloadTo(final OutputStream output, final TransferProgressCallback callback) {
+        return getDelegate().downloadTo(output, callback);
+    }
+
+    /**
+     * Downloads this file asynchronously to the given {@code output} channel. Consumers can block on transfer
+     * completion by invoking {@link DriveFileDownloadExecution#get()}.
+     *
+     * @param output the channel to write the file contents to
+     * @param callback the callback be notified of transfer progress
+     * @return the asynchronous execution that contains the number of bytes downloaded
+     * @see DriveFileDownloadExecution
+     */
+    public DriveFileDownloadExecution downloadToAsync(
+            final WritableByteChannel output,
+            final TransferProgressCallback callback) {
+        return new DriveFileDownloadExecution(getDelegate().downloadToAsync(output, callback));
+    }
+
+    /**
+     * Downloads this file asynchronously to the given {@code output} stream. Consumers can block on transfer
+     * completion by invoking {@link DriveFileDownloadExecution#get()}.
+     *
+     * @param output the stream to write the file contents to
+     * @param callback the callback be notified of transfer progress
+     * @return the asynchronous execution that contains the number of bytes downloaded
+     * @see DriveFileDownloadExecution
+     */
+    public DriveFileDownloadExecution downloadToAsync(
+            final OutputStream output,
+            final TransferProgressCallback callback) {
+        return new DriveFileDownloadExecution(getDelegate().downloadToAsync(output, callback));
+    }
+
+    /**
+     * Opens a stream over this file's contents that reports transfer progress to the specified
+     * {@link TransferProgressCallback} as it is consumed. The caller must close the returned stream, as an open
+     * stream holds its connection and counts as an in-flight request.
+     *
+     * @param callback the callback be notified of transfer progress
+     * @return the content stream
+     */
+    public InputStream openContentStream(final TransferProgressCallback callback) {
+        return getDelegate().openContentStream(callback);
+    }
+
     //////////////////////
     // Upload
     //////////////////////
@@ -373,6 +510,167 @@ public class DriveFile extends DriveItemType {
         return new DriveFileUploadExecution(getDelegate().uploadAsync(filePath, callback));
     }
 
+    /**
+     * Uploads and replaces this drive file's contents with the given {@code file} via a resumable upload session.
+     * This is recommended for large files as the file is uploaded in fragments and transient failures only resend
+     * the missing fragments.
+     *
+     * @param filePath the updated file contents
+     * @return a new drive file that represents this updated file
+     */
+    public DriveFile uploadResumable(final Path filePath) {
+        return uploadResumable(
+                filePath,
+                LogProgressCallback.builder()
+                        .prefix(formatPrefix(filePath.getFileName().toString(), "OneDrive"))
+                        .transferType(LogProgressCallback.TransferType.UPLOAD)
+                        .build());
+    }
+
+    /**
+     * Uploads and replaces this drive file's contents with the given {@code file} via a resumable upload session
+     * and reports transfer progress to the specified {@link TransferProgressCallback}.
+     *
+     * @param filePath the updated file contents
+     * @param callback the callback be notified of transfer progress
+     * @return a new drive file that represents this updated file
+     * @see TransferProgressCallback
+     */
+    public DriveFile uploadResumable(final Path filePath, final TransferProgressCallback callback) {
+        return new DriveFile(getDelegate().uploadResumable(filePath, callback));
+    }
+
+    /**
+     * Uploads and replaces this drive file's contents asynchronously with the given {@code file} via a resumable
+     * upload session.
+     *
+     * @param filePath the updated file contents
+     * @return the async execution used to obtain the drive file once it has completed
+     * @see DriveFileUploadExecution
+     */
+    public DriveFileUploadExecution uploadResumableAsync(final Path filePath) {
+        return uploadResumableAsync(
+                filePath,
+                LogProgressCallback.builder()
+                        .prefix(formatPrefix(filePath.getFileName().toString(), "OneDrive"))
+                        .transferType(LogProgressCallback.TransferType.UPLOAD)
+                        .build());
+    }
+
+    /**
+     * Uploads and replaces this drive file's contents asynchronously with the given {@code file} via a resumable
+     * upload session and reports transfer progress to the specified {@link TransferProgressCallback}.
+     *
+     * @param filePath the updated file contents
+     * @param callback the callback be notified of transfer progress
+     * @return the async execution used to obtain the drive file once it has completed
+     * @see TransferProgressCallback
+     */
+    public DriveFileUploadExecution uploadResumableAsync(
+            final Path filePath,
+            final TransferProgressCallback callback) {
+        return new DriveFileUploadExecution(getDelegate().uploadResumableAsync(filePath, callback));
+    }
+
+    /**
+     * Uploads and replaces this drive file's contents with the given {@code file} via a resumable upload session
+     * that is persisted to the given {@link UploadSessionJournal} so that an interrupted upload can be resumed after
+     * a restart.
+     *
+     * @param filePath the updated file contents
+     * @param callback the callback be notified of transfer progress
+     * @param journal the journal used to persist the upload session state
+     * @return a new drive file that represents this updated file
+     */
+    public DriveFile uploadResumable(
+            final Path filePath,
+            final TransferProgressCallback callback,
+            final UploadSessionJournal journal) {
+        return new DriveFile(getDelegate().uploadResumable(filePath, callback, journal));
+    }
+
+    /**
+     * Uploads and replaces this drive file's contents asynchronously with the given {@code file} via a resumable
+     * upload session that is persisted to the given {@link UploadSessionJournal}.
+     *
+     * @param filePath the updated file contents
+     * @param callback the callback be notified of transfer progress
+     * @param journal the journal used to persist the upload session state
+     * @return the async execution used to obtain the drive file once it has completed
+     * @see DriveFileUploadExecution
+     */
+    public DriveFileUploadExecution uploadResumableAsync(
+            final Path filePath,
+            final TransferProgressCallback callback,
+            final UploadSessionJournal journal) {
+        return new DriveFileUploadExecution(getDelegate().uploadResumableAsync(filePath, callback, journal));
+    }
+
+    /**
+     * Uploads and replaces this drive file's contents with the content read from the given {@code source} without
+     * staging it on local disk, and reports transfer progress to the specified {@link TransferProgressCallback}.
+     *
+     * @param source the updated file contents. The source is not closed.
+     * @param sizeBytes the size of the content in bytes, or {@link StreamingUploader#UNKNOWN_SIZE_BYTES} if not known
+     * @param callback the callback be notified of transfer progress
+     * @return a new drive file that represents this updated file
+     * @see TransferProgressCallback
+     */
+    public DriveFile upload(
+            final ReadableByteChannel source,
+            final long sizeBytes,
+            final TransferProgressCallback callback) {
+        return new DriveFile(getDelegate().upload(source, sizeBytes, callback));
+    }
+
+    /**
+     * Uploads and replaces this drive file's contents with the content read from the given {@code stream} without
+     * staging it on local disk, and reports transfer progress to the specified {@link TransferProgressCallback}.
+     *
+     * @param stream the updated file contents. The stream is not closed.
+     * @param sizeBytes the size of the content in bytes, or {@link StreamingUploader#UNKNOWN_SIZE_BYTES} if not known
+     * @param callback the callback be notified of transfer progress
+     * @return a new drive file that represents this updated file
+     * @see TransferProgressCallback
+     */
+    public DriveFile upload(final InputStream stream, final long sizeBytes, final TransferProgressCallback callback) {
+        return new DriveFile(getDelegate().upload(stream, sizeBytes, callback));
+    }
+
+    /**
+     * Uploads and replaces this drive file's contents asynchronously with the content read from the given
+     * {@code source} without staging it on local disk.
+     *
+     * @param source the updated file contents. The source is not closed.
+     * @param sizeBytes the size of the content in bytes, or {@link StreamingUploader#UNKNOWN_SIZE_BYTES} if not known
+     * @param callback the callback be notified of transfer progress
+     * @return the async execution used to obtain the drive file once it has completed
+     * @see DriveFileUploadExecution
+     */
+    public DriveFileUploadExecution uploadAsync(
+            final ReadableByteChannel source,
+            final long sizeBytes,
+            final TransferProgressCallback callback) {
+        return new DriveFileUploadExecution(getDelegate().uploadAsync(source, sizeBytes, callback));
+    }
+
+    /**
+     * Uploads and replaces this drive file's contents asynchronously with the content read from the given
+     * {@code stream} without staging it on local disk.
+     *
+     * @param stream the updated file contents. The stream is not closed.
+     * @param sizeBytes the size of the content in bytes, or {@link StreamingUploader#UNKNOWN_SIZE_BYTES} if not known
+     * @param callback the callback be notified of transfer progress
+     * @return the async execution used to obtain the drive file once it has completed
+     * @see DriveFileUploadExecution
+     */
+    public DriveFileUploadExecution uploadAsync(
+            final InputStream stream,
+            final long sizeBytes,
+            final TransferProgressCallback callback) {
+        return new DriveFileUploadExecution(getDelegate().uploadAsync(stream, sizeBytes, callback));
+    }
+
     //////////////////////
     // Operations
     //////////////////////
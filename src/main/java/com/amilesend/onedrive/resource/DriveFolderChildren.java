@@ -0,0 +1,52 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.resource;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * The children of a {@link DriveItemFolderType} that are partitioned by type from a single listing.
+ *
+ * @see DriveItemFolderType#getPartitionedChildren()
+ */
+@Getter
+@RequiredArgsConstructor
+public class DriveFolderChildren {
+    /** The child folders. */
+    @NonNull
+    private final List<DriveFolder> folders;
+    /** The child files. */
+    @NonNull
+    private final List<DriveFile> files;
+    /** The child packages. */
+    @NonNull
+    private final List<DrivePackage> packages;
+
+    /**
+     * Gets the total number of partitioned children.
+     *
+     * @return the number of children
+     */
+    public int size() {
+        return folders.size() + files.size() + packages.size();
+    }
+}
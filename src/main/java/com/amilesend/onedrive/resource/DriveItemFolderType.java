@@ -21,15 +21,30 @@ import com.amilesend.client.connection.file.LogProgressCallback;
 import com.amilesend.client.connection.file.TransferProgressCallback;
 import com.amilesend.client.util.StringUtils;
 import com.amilesend.client.util.Validate;
+import com.amilesend.onedrive.connection.file.StreamingUploader;
+import com.amilesend.onedrive.connection.file.journal.UploadSessionJournal;
+import com.amilesend.onedrive.resource.delta.DeltaResult;
+import com.amilesend.onedrive.resource.delta.DeltaTokenStore;
+import com.amilesend.onedrive.resource.delta.DeltaTokenStoreException;
+import com.amilesend.onedrive.resource.item.BulkOperationOptions;
+import com.amilesend.onedrive.resource.item.BulkOperationReport;
 import com.amilesend.onedrive.resource.item.DriveItem;
+import com.amilesend.onedrive.resource.item.PagingOptions;
+import com.amilesend.onedrive.resource.item.WalkOptions;
 import com.amilesend.onedrive.resource.item.type.Folder;
 import lombok.NonNull;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.amilesend.client.connection.file.LogProgressCallback.formatPrefix;
 
@@ -182,6 +197,174 @@ public abstract class DriveItemFolderType extends DriveItemType {
         return new DriveFileUploadExecution(getDelegate().uploadNewAsync(filePath, callback));
     }
 
+    /**
+     * Uploads the given {@code file} under this folder via a resumable upload session. This is recommended for
+     * large files as the file is uploaded in fragments and transient failures only resend the missing fragments.
+     *
+     * @param filePath the file to upload
+     * @return the drive file that represents the uploaded file
+     */
+    public DriveFile uploadResumable(final Path filePath) {
+        return uploadResumable(
+                filePath,
+                LogProgressCallback.builder()
+                        .prefix(formatPrefix(filePath.getFileName().toString(), "OneDrive"))
+                        .transferType(LogProgressCallback.TransferType.UPLOAD)
+                        .build());
+    }
+
+    /**
+     * Uploads the given {@code file} under this folder via a resumable upload session and reports transfer progress
+     * to the specified {@link TransferProgressCallback}.
+     *
+     * @param filePath the file to upload
+     * @param callback the callback be notified of transfer progress
+     * @return the drive file that represents the uploaded file
+     */
+    public DriveFile uploadResumable(final Path filePath, final TransferProgressCallback callback) {
+        return new DriveFile(getDelegate().uploadNewResumable(filePath, callback));
+    }
+
+    /**
+     * Uploads the given {@code file} asynchronously under this folder via a resumable upload session.
+     *
+     * @param filePath the file to upload
+     * @return the async execution used to obtain the drive file once it has completed
+     * @see DriveFileUploadExecution
+     */
+    public DriveFileUploadExecution uploadResumableAsync(final Path filePath) {
+        return uploadResumableAsync(
+                filePath,
+                LogProgressCallback.builder()
+                        .prefix(formatPrefix(filePath.getFileName().toString(), "OneDrive"))
+                        .transferType(LogProgressCallback.TransferType.UPLOAD)
+                        .build());
+    }
+
+    /**
+     * Uploads the given {@code file} asynchronously under this folder via a resumable upload session and reports
+     * transfer progress to the specified {@link TransferProgressCallback}.
+     *
+     * @param filePath the file to upload
+     * @param callback the callback be notified of transfer progress
+     * @return the async execution used to obtain the drive file once it has completed
+     * @see DriveFileUploadExecution
+     */
+    public DriveFileUploadExecution uploadResumableAsync(
+            final Path filePath,
+            final TransferProgressCallback callback) {
+        return new DriveFileUploadExecution(getDelegate().uploadNewResumableAsync(filePath, callback));
+    }
+
+    /**
+     * Uploads the given {@code file} under this folder via a resumable upload session that is persisted to the
+     * given {@link UploadSessionJournal} so that an interrupted upload can be resumed after a restart.
+     *
+     * @param filePath the file to upload
+     * @param callback the callback be notified of transfer progress
+     * @param journal the journal used to persist the upload session state
+     * @return the drive file that represents the uploaded file
+     */
+    public DriveFile uploadResumable(
+            final Path filePath,
+            final TransferProgressCallback callback,
+            final UploadSessionJournal journal) {
+        return new DriveFile(getDelegate().uploadNewResumable(filePath, callback, journal));
+    }
+
+    /**
+     * Uploads the given {@code file} asynchronously under this folder via a resumable upload session that is
+     * persisted to the given {@link UploadSessionJournal}.
+     *
+     * @param filePath the file to upload
+     * @param callback the callback be notified of transfer progress
+     * @param journal the journal used to persist the upload session state
+     * @return the async execution used to obtain the drive file once it has completed
+     * @see DriveFileUploadExecution
+     */
+    public DriveFileUploadExecution uploadResumableAsync(
+            final Path filePath,
+            final TransferProgressCallback callback,
+            final UploadSessionJournal journal) {
+        return new DriveFileUploadExecution(getDelegate().uploadNewResumableAsync(filePath, callback, journal));
+    }
+
+    /**
+     * Uploads the content read from the given {@code source} as a new file with the given {@code name} under this
+     * folder without staging it on local disk, and reports transfer progress to the specified
+     * {@link TransferProgressCallback}.
+     *
+     * @param name the name of the new file
+     * @param source the file contents. The source is not closed.
+     * @param sizeBytes the size of the content in bytes, or {@link StreamingUploader#UNKNOWN_SIZE_BYTES} if not known
+     * @param callback the callback be notified of transfer progress
+     * @return the drive file that represents the uploaded file
+     */
+    public DriveFile upload(
+            final String name,
+            final ReadableByteChannel source,
+            final long sizeBytes,
+            final TransferProgressCallback callback) {
+        return new DriveFile(getDelegate().uploadNew(name, source, sizeBytes, callback));
+    }
+
+    /**
+     * Uploads the content read from the given {@code stream} as a new file with the given {@code name} under this
+     * folder without staging it on local disk, and reports transfer progress to the specified
+     * {@link TransferProgressCallback}.
+     *
+     * @param name the name of the new file
+     * @param stream the file contents. The stream is not closed.
+     * @param sizeBytes the size of the content in bytes, or {@link StreamingUploader#UNKNOWN_SIZE_BYTES} if not known
+     * @param callback the callback be notified of transfer progress
+     * @return the drive file that represents the uploaded file
+     */
+    public DriveFile upload(
+            final String name,
+            final InputStream stream,
+            final long sizeBytes,
+            final TransferProgressCallback callback) {
+        return new DriveFile(getDelegate().uploadNew(name, stream, sizeBytes, callback));
+    }
+
+    /**
+     * Uploads the content read from the given {@code source} asynchronously as a new file with the given
+     * {@code name} under this folder without staging it on local disk.
+     *
+     * @param name the name of the new file
+     * @param source the file contents. The source is not closed.
+     * @param sizeBytes the size of the content in bytes, or {@link StreamingUploader#UNKNOWN_SIZE_BYTES} if not known
+     * @param callback the callback be notified of transfer progress
+     * @return the async execution used to obtain the drive file once it has completed
+     * @see DriveFileUploadExecution
+     */
+    public DriveFileUploadExecution uploadAsync(
+            final String name,
+            final ReadableByteChannel source,
+            final long sizeBytes,
+            final TransferProgressCallback callback) {
+        return new DriveFileUploadExecution(getDelegate().uploadNewAsync(name, source, sizeBytes, callback));
+    }
+
+    /**
+     * Uploads the content read from the given {@code stream} asynchronously as a new file with the given
+     * {@code name} under this folder without staging it on local disk.
+     *
+     * @param name the name of the new file
+     * @param stream the file contents. The stream is not closed.
+     * @param sizeBytes the size of the content in bytes, or {@link StreamingUploader#UNKNOWN_SIZE_BYTES} if not known
+     * @param callback the callback be notified of transfer progress
+     * @return the async execution used to obtain the drive file once it has completed
+     * @see DriveFileUploadExecution
+     */
+    public DriveFileUploadExecution uploadAsync(
+            final String name,
+            final InputStream stream,
+            final long sizeBytes,
+            final TransferProgressCallback callback) {
+        return new DriveFileUploadExecution(getDelegate().uploadNewAsync(name, stream, sizeBytes, callback));
+    }
+
     //////////////////////
     // Operations
     //////////////////////
@@ -203,10 +386,185 @@ public abstract class DriveItemFolderType extends DriveItemType {
         return new DriveFolder(getDelegate().create(newFolderItem));
     }
 
+    /**
+     * Gets the child folders, files and packages under this folder from a single listing. Prefer this over calling
+     * {@link #getChildFolders()}, {@link #getChildFiles()} and {@link #getChildPackages()} separately, as each of
+     * those lists all children of the folder.
+     *
+     * @return the children partitioned by type
+     * @see DriveFolderChildren
+     */
+    public DriveFolderChildren getPartitionedChildren() {
+        return getPartitionedChildren(PagingOptions.defaults());
+    }
+
+    /**
+     * Gets the child folders, files and packages under this folder from a single listing with the given paging
+     * configuration.
+     *
+     * @param options the paging configuration
+     * @return the children partitioned by type
+     * @see DriveFolderChildren
+     * @see PagingOptions
+     */
+    public DriveFolderChildren getPartitionedChildren(final PagingOptions options) {
+        final List<DriveFolder> folders = new ArrayList<>();
+        final List<DriveFile> files = new ArrayList<>();
+        final List<DrivePackage> packages = new ArrayList<>();
+        forEachChild(options, folders::add, files::add, packages::add);
+        return new DriveFolderChildren(folders, files, packages);
+    }
+
+    /**
+     * Lazily lists the children under this folder in a single pass and routes each child to the consumer for its
+     * type. Pages of children are only fetched as the previous page has been consumed. Children that are neither a
+     * folder, file, nor package are skipped.
+     *
+     * @param folderConsumer the consumer of child folders
+     * @param fileConsumer the consumer of child files
+     * @param packageConsumer the consumer of child packages
+     */
+    public void forEachChild(
+            @NonNull final Consumer<DriveFolder> folderConsumer,
+            @NonNull final Consumer<DriveFile> fileConsumer,
+            @NonNull final Consumer<DrivePackage> packageConsumer) {
+        forEachChild(PagingOptions.defaults(), folderConsumer, fileConsumer, packageConsumer);
+    }
+
+    /**
+     * Lazily lists the children under this folder in a single pass with the given paging configuration and routes
+     * each child to the consumer for its type.
+     *
+     * @param options the paging configuration
+     * @param folderConsumer the consumer of child folders
+     * @param fileConsumer the consumer of child files
+     * @param packageConsumer the consumer of child packages
+     * @see PagingOptions
+     */
+    public void forEachChild(
+            @NonNull final PagingOptions options,
+            @NonNull final Consumer<DriveFolder> folderConsumer,
+            @NonNull final Consumer<DriveFile> fileConsumer,
+            @NonNull final Consumer<DrivePackage> packageConsumer) {
+        try (final Stream<DriveItem> children = getDelegate().streamChildren(options)) {
+            children.forEach(di -> {
+                if (di.get_package() != null) {
+                    packageConsumer.accept(new DrivePackage(di));
+                } else if (di.getFolder() != null) {
+                    folderConsumer.accept(new DriveFolder(di));
+                } else if (di.getFile() != null) {
+                    fileConsumer.accept(new DriveFile(di));
+                }
+            });
+        }
+    }
+
+    /**
+     * Gets the items under this folder that changed since the given delta link (or token) along with the new delta
+     * link to use for the next query. If the {@code deltaLink} is {@code null}, all items under this folder are
+     * enumerated.
+     * <p>
+     * Note: OneDrive for Business and SharePoint only support delta queries on the root folder.
+     *
+     * @param deltaLink the previously returned delta link, a delta token, or {@code null} to enumerate all items
+     * @return the changed drive item types and the new delta link
+     * @see DeltaResult
+     */
+    public DeltaResult<DriveItemType> getDelta(final String deltaLink) {
+        return getDelegate().getDelta(deltaLink).map(DriveItemType::wrapDriveItemToType);
+    }
+
+    /**
+     * Gets a delta link that represents the current state of the items under this folder without enumerating them.
+     *
+     * @return the delta link for the current state
+     */
+    public String getLatestDeltaLink() {
+        return getDelegate().getLatestDeltaLink();
+    }
+
+    /**
+     * Gets the changes under this folder since the delta link that is stored in the given {@code tokenStore} for
+     * this folder and stores the new delta link.
+     *
+     * @param tokenStore the store of delta links
+     * @return the changed drive item types and the new delta link
+     * @throws DeltaTokenStoreException if an error occurred while retrieving or storing the delta link
+     * @see DeltaTokenStore
+     */
+    public DeltaResult<DriveItemType> syncDelta(final DeltaTokenStore tokenStore) throws DeltaTokenStoreException {
+        return getDelegate().syncDelta(tokenStore).map(DriveItemType::wrapDriveItemToType);
+    }
+
+    /**
+     * Stores the delta link for the current state of the items under this folder in the given {@code tokenStore}
+     * so that subsequent calls to {@link #syncDelta(DeltaTokenStore)} only return new changes.
+     *
+     * @param tokenStore the store of delta links
+     * @return the stored delta link
+     * @throws DeltaTokenStoreException if an error occurred while storing the delta link
+     */
+    public String initializeDelta(final DeltaTokenStore tokenStore) throws DeltaTokenStoreException {
+        return getDelegate().initializeDelta(tokenStore);
+    }
+
+    /**
+     * Recursively walks the folder hierarchy under this folder and passes each discovered item to the given
+     * {@code visitor} as it is discovered. Subfolders are listed concurrently.
+     *
+     * @param visitor the thread-safe visitor of discovered drive item types (either a DriveFolder, DriveFile, or
+     *                DrivePackage)
+     * @return the number of visited items
+     */
+    public long walk(@NonNull final Consumer<DriveItemType> visitor) {
+        return walk(WalkOptions.defaults(), visitor);
+    }
+
+    /**
+     * Recursively walks the folder hierarchy under this folder with the given configuration (e.g., depth limit,
+     * filters, and number of folders to list concurrently) and passes each discovered item to the given
+     * {@code visitor} as it is discovered.
+     *
+     * @param options the walk configuration
+     * @param visitor the thread-safe visitor of discovered drive item types (either a DriveFolder, DriveFile, or
+     *                DrivePackage)
+     * @return the number of visited items
+     * @see WalkOptions
+     */
+    public long walk(@NonNull final WalkOptions options, @NonNull final Consumer<DriveItemType> visitor) {
+        return getDelegate().walk(options, (item, depth) -> visitor.accept(DriveItemType.wrapDriveItemToType(item)));
+    }
+
+    /**
+     * Moves the given drive items in bulk into this folder.
+     *
+     * @param items the drive items to move
+     * @return the per-item report
+     * @see BulkOperationReport
+     */
+    public BulkOperationReport moveItemsHere(@NonNull final Collection<? extends DriveItemType> items) {
+        return moveItemsHere(items, BulkOperationOptions.defaults());
+    }
+
+    /**
+     * Moves the given drive items in bulk into this folder with the given configuration.
+     *
+     * @param items the drive items to move
+     * @param options the bulk operation configuration
+     * @return the per-item report
+     * @see BulkOperationReport
+     */
+    public BulkOperationReport moveItemsHere(
+            @NonNull final Collection<? extends DriveItemType> items,
+            @NonNull final BulkOperationOptions options) {
+        return getDelegate().moveItemsHere(toItemIds(items), options);
+    }
+
     /**
      * Gets the list of child drive packages under this folder.
      *
      * @return the list of drive packages
+     * @see #getPartitionedChildren()
      */
     public List<DrivePackage> getChildPackages() {
         return getDelegate().getChildren()
@@ -220,6 +578,7 @@ public abstract class DriveItemFolderType extends DriveItemType {
      * Gets the list of child drive folders under this folder.
      *
      * @return the list of drive folders
+     * @see #getPartitionedChildren()
      */
     public List<DriveFolder> getChildFolders() {
         return getDelegate().getChildren()
@@ -234,6 +593,7 @@ public abstract class DriveItemFolderType extends DriveItemType {
      * Gets the list of child drive files under this folder.
      *
      * @return the list of drive files
+     * @see #getPartitionedChildren()
      */
     public List<DriveFile> getChildFiles() {
         return getDelegate().getChildren()
@@ -257,6 +617,46 @@ public abstract class DriveItemFolderType extends DriveItemType {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Gets the list of drive items (both folders and files) under this folder with the given paging configuration
+     * (e.g., to only return the {@link PagingOptions#getSelect() selected} properties).
+     *
+     * @param options the paging configuration
+     * @return the list of drive items
+     * @see PagingOptions
+     */
+    public List<? extends DriveItemType> getChildren(final PagingOptions options) {
+        return getDelegate().getChildren(options)
+                .stream()
+                .map(DriveItemType::wrapDriveItemToType)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Gets a lazy stream of the drive items (both folders and files) under this folder. Pages of children are only
+     * fetched as the stream is consumed.
+     *
+     * @return the stream of drive items
+     * @see DriveItemType
+     * @see DriveItem
+     */
+    public Stream<DriveItemType> streamChildren() {
+        return getDelegate().streamChildren().map(DriveItemType::wrapDriveItemToType);
+    }
+
+    /**
+     * Gets a lazy stream of the drive items (both folders and files) under this folder with the given paging
+     * configuration (e.g., to fetch pages ahead of the consumer). Close the stream to cancel any pages that are
+     * fetched ahead.
+     *
+     * @param options the paging configuration
+     * @return the stream of drive items
+     * @see PagingOptions
+     */
+    public Stream<DriveItemType> streamChildren(final PagingOptions options) {
+        return getDelegate().streamChildren(options).map(DriveItemType::wrapDriveItemToType);
+    }
+
     /**
      * Searches this folder for the given query (e.g., file name).
      *
@@ -272,6 +672,48 @@ public abstract class DriveItemFolderType extends DriveItemType {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Searches this folder for the given query with the given paging configuration (e.g., to only return the
+     * {@link PagingOptions#getSelect() selected} properties).
+     *
+     * @param query the search query
+     * @param options the paging configuration
+     * @return the list of drive item types (either a DriveFolder or DriveFile).
+     * @see PagingOptions
+     */
+    public List<? extends DriveItemType> search(final String query, final PagingOptions options) {
+        return getDelegate().search(query, options)
+                .stream()
+                .map(DriveItemType::wrapDriveItemToType)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Gets a lazy stream of the items in this folder that match the given query (e.g., file name). Pages of results
+     * are only fetched as the stream is consumed.
+     *
+     * @param query the search query
+     * @return the stream of drive item types (either a DriveFolder or DriveFile).
+     * @see DriveItemType
+     * @see DriveFile
+     */
+    public Stream<DriveItemType> streamSearch(final String query) {
+        return getDelegate().streamSearch(query).map(DriveItemType::wrapDriveItemToType);
+    }
+
+    /**
+     * Gets a lazy stream of the items in this folder that match the given query with the given paging configuration
+     * (e.g., to fetch pages ahead of the consumer). Close the stream to cancel any pages that are fetched ahead.
+     *
+     * @param query the search query
+     * @param options the paging configuration
+     * @return the stream of drive item types (either a DriveFolder or DriveFile).
+     * @see PagingOptions
+     */
+    public Stream<DriveItemType> streamSearch(final String query, final PagingOptions options) {
+        return getDelegate().streamSearch(query, options).map(DriveItemType::wrapDriveItemToType);
+    }
+
     /**
      * Updates the attributes for this folder.
      *
@@ -36,8 +36,10 @@ import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 /**
  * Defines the base class that wraps a {@link com.amilesend.onedrive.resource.item.DriveItem} for direct access by
@@ -356,4 +358,10 @@ public abstract class DriveItemType {
 
         return new DriveFile(driveItem);
     }
+
+    static List<String> toItemIds(final Collection<? extends DriveItemType> items) {
+        return items.stream()
+                .map(DriveItemType::getId)
+                .collect(Collectors.toList());
+    }
 }
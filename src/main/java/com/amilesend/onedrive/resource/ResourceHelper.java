@@ -21,8 +21,18 @@ import com.amilesend.client.util.Validate;
 import com.google.common.net.UrlEscapers;
 import lombok.experimental.UtilityClass;
 
+import java.util.Collection;
+import java.util.stream.Collectors;
+
 @UtilityClass
 public class ResourceHelper {
+    /** The OData query parameter used to select the subset of properties to return for a resource. */
+    public static final String SELECT_QUERY_PARAMETER = "$select";
+    /** The OData query parameter used to specify the number of items to return in a page of results. */
+    public static final String TOP_QUERY_PARAMETER = "$top";
+    /** The query parameter used to specify the delta token of a delta query. */
+    public static final String DELTA_TOKEN_QUERY_PARAMETER = "token";
+
     /**
      * Used for {@code equals()} implementation to determine if a given object is mutually defined or not.
      *
@@ -52,6 +62,66 @@ public class ResourceHelper {
         return UrlEscapers.urlPathSegmentEscaper().escape(value);
     }
 
+    /**
+     * Appends the given query parameter to the URL.
+     *
+     * @param url the URL
+     * @param name the query parameter name
+     * @param value the query parameter value that is already escaped for use in a URL query
+     * @return the URL with the appended query parameter
+     */
+    public static String appendQueryParameter(final String url, final String name, final String value) {
+        return new StringBuilder(url)
+                .append(url.indexOf('?') < 0 ? '?' : '&')
+                .append(name)
+                .append('=')
+                .append(value)
+                .toString();
+    }
+
+    /**
+     * Appends the {@code $select} query parameter to the URL so that only the given {@code fields} of each resource
+     * are returned. Properties that are not selected are not included in the response and are {@code null} (or the
+     * default value for primitive types) once parsed.
+     * <p>
+     * <a href="https://learn.microsoft.com/en-us/onedrive/developer/rest-api/concepts/optional-query-parameters">
+     * API Documentation</a>.
+     *
+     * @param url the URL
+     * @param fields the names of the properties to select. If {@code null} or empty, the URL is returned as-is
+     * @return the URL with the appended {@code $select} query parameter
+     */
+    public static String appendSelectQueryParameter(final String url, final Collection<String> fields) {
+        if (fields == null || fields.isEmpty()) {
+            return url;
+        }
+
+        return appendQueryParameter(url, SELECT_QUERY_PARAMETER, fields.stream()
+                .map(field -> UrlEscapers.urlFormParameterEscaper().escape(field))
+                .collect(Collectors.joining(",")));
+    }
+
+    /**
+     * Resolves the URL of a delta query from either a previously returned delta link or a delta token (e.g.,
+     * {@code latest}).
+     *
+     * @param deltaUrl the URL of the delta query without a token
+     * @param deltaLinkOrToken the delta link (used as-is) or the delta token to append
+     * @return the URL of the delta query
+     */
+    public static String toDeltaUrl(final String deltaUrl, final String deltaLinkOrToken) {
+        Validate.notBlank(deltaLinkOrToken, "deltaLinkOrToken must not be blank");
+
+        if (deltaLinkOrToken.startsWith("http://") || deltaLinkOrToken.startsWith("https://")) {
+            return deltaLinkOrToken;
+        }
+
+        return appendQueryParameter(
+                deltaUrl,
+                DELTA_TOKEN_QUERY_PARAMETER,
+                UrlEscapers.urlFormParameterEscaper().escape(deltaLinkOrToken));
+    }
+
     /**
      * Helper to validate filenames for specific characters.
      * <p>
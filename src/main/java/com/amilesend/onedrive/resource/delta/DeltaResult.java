@@ -0,0 +1,75 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.resource.delta;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * The result of an incremental delta query that contains the items that changed since the previous delta link and
+ * the new delta link to use for the next query.
+ * <p>
+ * <a href="https://learn.microsoft.com/en-us/onedrive/developer/rest-api/api/driveitem_delta">
+ * API Documentation</a>.
+ *
+ * @param <T> the type of the changed items
+ */
+@Getter
+@ToString
+public class DeltaResult<T> {
+    /** The delta token used to obtain a delta link for the current state without enumerating existing items. */
+    public static final String LATEST_DELTA_TOKEN = "latest";
+
+    /** The changed items (including deleted items that define the {@code deleted} facet). */
+    private final List<T> changes;
+    /** The delta link used to fetch the changes that occur after this result. */
+    private final String deltaLink;
+
+    /**
+     * Creates a new {@code DeltaResult}.
+     *
+     * @param changes the changed items
+     * @param deltaLink the delta link used to fetch subsequent changes
+     */
+    @Builder
+    private DeltaResult(final List<T> changes, final String deltaLink) {
+        this.changes = changes == null ? Collections.emptyList() : Collections.unmodifiableList(changes);
+        this.deltaLink = deltaLink;
+    }
+
+    /**
+     * Creates a new {@code DeltaResult} with the changed items mapped by the given {@code mapper}.
+     *
+     * @param mapper the function to apply to each changed item
+     * @return the mapped delta result
+     * @param <R> the type of the mapped items
+     */
+    public <R> DeltaResult<R> map(@NonNull final Function<T, R> mapper) {
+        return DeltaResult.<R>builder()
+                .changes(changes.stream().map(mapper).collect(Collectors.toList()))
+                .deltaLink(deltaLink)
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.resource.delta;
+
+/**
+ * Defines the interface used to store and load the delta links of incremental delta queries so that change polling
+ * can resume across restarts.
+ *
+ * @see DeltaResult
+ */
+public interface DeltaTokenStore {
+    /**
+     * Stores the given {@code deltaLink} for the associated keyed identifier.
+     *
+     * @param key the identifier associated with the delta query (e.g., a drive or folder identifier)
+     * @param deltaLink the delta link
+     * @throws DeltaTokenStoreException if an error occurred while storing the delta link
+     */
+    void store(String key, String deltaLink) throws DeltaTokenStoreException;
+
+    /**
+     * Retrieves the delta link for the given keyed identifier.
+     *
+     * @param key the identifier associated with the delta query
+     * @return the delta link, or {@code null} if none is stored
+     * @throws DeltaTokenStoreException if an error occurred while retrieving the delta link
+     */
+    String retrieve(String key) throws DeltaTokenStoreException;
+}
@@ -0,0 +1,642 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.resource.delta;
+
+import com.amilesend.client.util.StringUtils;
+import com.amilesend.onedrive.resource.drive.Drive;
+import com.amilesend.onedrive.resource.item.DriveItem;
+import com.amilesend.onedrive.resource.item.DriveItemIterator;
+import com.amilesend.onedrive.resource.item.PagingOptions;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A local metadata index of a {@link Drive} that mirrors the identifier to metadata and parent to children
+ * relationships of all items. The index is bootstrapped once by enumerating all items via a delta query and is kept
+ * current by applying the incremental changes of subsequent delta queries. Listings, path lookups and content hash
+ * lookups are answered from the index without any network requests.
+ * <p>
+ * When an {@code indexFilePath} is configured, the index is persisted in a compact binary file after each
+ * {@link #sync()} so that a restarted application only fetches the changes since its last sync. The file is replaced
+ * atomically so that a crash never leaves a partially written index behind.
+ * <p>
+ * Lookups may run concurrently with a {@link #sync()}. The changes are enumerated without holding the index lock and
+ * are applied in bounded chunks, so lookups only wait for a chunk to be applied and may observe the index part way
+ * through a sync. The delta link only advances once all changes have been applied, so an interrupted sync is resumed
+ * from the previous delta link.
+ * <p>
+ * Example:
+ * <pre>
+ * final DriveIndex index = DriveIndex.open(drive, Paths.get("drive.idx"));
+ * if (index.isStale(Duration.ofMinutes(5))) {
+ *     index.sync();
+ * }
+ * final IndexedItem item = index.getByPath("/Documents/report.docx");
+ * </pre>
+ *
+ * @see IndexedItem
+ */
+@Slf4j
+public class DriveIndex {
+    /** The drive item properties that are fetched to build the index. */
+    public static final List<String> INDEXED_PROPERTIES = List.of(
+            "id",
+            "name",
+            "parentReference",
+            "size",
+            "eTag",
+            "cTag",
+            "lastModifiedDateTime",
+            "file",
+            "folder",
+            "package",
+            "root",
+            "deleted");
+
+    /** The maximum number of changes that are applied while holding the index lock. */
+    private static final int APPLY_CHUNK_SIZE = 1000;
+    private static final int FILE_MAGIC = 0x4F44494E;
+    private static final int FILE_VERSION = 1;
+    private static final String PATH_SEPARATOR = "/";
+
+    /** The drive that is indexed. */
+    @Getter
+    private final Drive drive;
+    /** The optional path of the file to persist the index to. */
+    @Getter
+    private final Path indexFilePath;
+    /** The paging configuration used for the delta queries. */
+    private final PagingOptions pagingOptions;
+    /** The clock used to determine the staleness of the index. */
+    private final Clock clock;
+
+    // Locks instead of monitors so that lookups run concurrently and waiting virtual threads are not pinned
+    private final ReentrantReadWriteLock stateLock = new ReentrantReadWriteLock();
+    /** Serializes syncs and saves, which do not hold the state lock while waiting for the network or the disk. */
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final Map<String, IndexedItem> itemsById = new HashMap<>();
+    private final Map<String, Set<String>> childIdsByParentId = new HashMap<>();
+    private final Map<String, Set<String>> itemIdsByHash = new HashMap<>();
+    private String rootId;
+    private String deltaLink;
+    private Instant lastSyncTime;
+
+    /**
+     * Creates a new empty {@code DriveIndex}.
+     *
+     * @param drive the drive to index
+     * @param indexFilePath the optional path of the file to persist the index to after each sync
+     * @param pagingOptions the paging configuration used for the delta queries (defaults to selecting the
+     *                      {@link #INDEXED_PROPERTIES})
+     * @param clock the clock used to determine the staleness of the index (defaults to the system UTC clock)
+     */
+    @Builder
+    private DriveIndex(
+            @NonNull final Drive drive,
+            final Path indexFilePath,
+            final PagingOptions pagingOptions,
+            final Clock clock) {
+        this.drive = drive;
+        this.indexFilePath = indexFilePath;
+        this.pagingOptions = pagingOptions == null
+                ? PagingOptions.builder().select(INDEXED_PROPERTIES).build()
+                : pagingOptions;
+        this.clock = clock == null ? Clock.systemUTC() : clock;
+    }
+
+    /**
+     * Opens the index for the given {@code drive} that is persisted at the given {@code indexFilePath}. If the file
+     * does not exist, an empty index is returned that is bootstrapped on the first {@link #sync()}.
+     *
+     * @param drive the drive to index
+     * @param indexFilePath the path of the file to persist the index to
+     * @return the index
+     * @throws DriveIndexException if an error occurred while reading the index file or if it belongs to another drive
+     */
+    public static DriveIndex open(@NonNull final Drive drive, @NonNull final Path indexFilePath)
+            throws DriveIndexException {
+        final DriveIndex index = DriveIndex.builder()
+                .drive(drive)
+                .indexFilePath(indexFilePath)
+                .build();
+        if (Files.exists(indexFilePath)) {
+            index.load();
+        }
+
+        return index;
+    }
+
+    ////////////////////////
+    // Sync
+    ////////////////////////
+
+    /**
+     * Brings the index up to date by applying the changes since the last sync. The first sync enumerates all items of
+     * the drive. The index is saved to the {@code indexFilePath} afterwards, if configured.
+     *
+     * @return the number of changes that were applied
+     * @throws DriveIndexException if an error occurred while saving the index
+     */
+    public int sync() throws DriveIndexException {
+        syncLock.lock();
+        try {
+            int numChanges = 0;
+            final String newDeltaLink;
+            try (final DriveItemIterator changes = drive.getDeltaIterator(getDeltaLink(), pagingOptions)) {
+                final List<DriveItem> chunk = new ArrayList<>();
+                while (changes.hasNext()) {
+                    chunk.add(changes.next());
+                    if (chunk.size() >= APPLY_CHUNK_SIZE) {
+                        numChanges += applyAll(chunk);
+                    }
+                }
+                numChanges += applyAll(chunk);
+                newDeltaLink = changes.getDeltaLink();
+            }
+
+            final int numItems = write(() -> {
+                if (StringUtils.isNotBlank(newDeltaLink)) {
+                    deltaLink = newDeltaLink;
+                }
+                lastSyncTime = clock.instant();
+                return itemsById.size();
+            });
+
+            log.debug("Applied [{}] changes to the index of drive [{}] with [{}] items",
+                    numChanges, drive.getId(), numItems);
+            if (indexFilePath != null) {
+                save();
+            }
+
+            return numChanges;
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * Discards the indexed state and enumerates all items of the drive again. Use this when the service indicates
+     * that the stored delta link is no longer valid.
+     *
+     * @return the number of indexed items
+     * @throws DriveIndexException if an error occurred while saving the index
+     */
+    public int rebuild() throws DriveIndexException {
+        syncLock.lock();
+        try {
+            write(() -> {
+                clear();
+                return null;
+            });
+            sync();
+            return size();
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * Gets the delta link that is used to fetch the changes for the next sync.
+     *
+     * @return the delta link, or {@code null} if the index has not been bootstrapped
+     */
+    public String getDeltaLink() {
+        return read(() -> deltaLink);
+    }
+
+    /**
+     * Gets the time of the last successful sync.
+     *
+     * @return the time of the last sync, or {@code null} if the index has never been synced
+     */
+    public Instant getLastSyncTime() {
+        return read(() -> lastSyncTime);
+    }
+
+    /**
+     * Gets the elapsed time since the last successful sync.
+     *
+     * @return the elapsed time, or {@code null} if the index has never been synced
+     */
+    public Duration getStaleness() {
+        final Instant syncTime = getLastSyncTime();
+        return syncTime == null ? null : Duration.between(syncTime, clock.instant());
+    }
+
+    /**
+     * Determines if the index has never been synced or was last synced longer than the given {@code maxAge} ago.
+     *
+     * @param maxAge the maximum acceptable staleness
+     * @return {@code true} if the index is stale; else, {@code false}
+     */
+    public boolean isStale(@NonNull final Duration maxAge) {
+        final Duration staleness = getStaleness();
+        return staleness == null || staleness.compareTo(maxAge) > 0;
+    }
+
+    ////////////////////////
+    // Lookups
+    ////////////////////////
+
+    /**
+     * Gets the number of indexed items.
+     *
+     * @return the number of indexed items
+     */
+    public int size() {
+        return read(itemsById::size);
+    }
+
+    /**
+     * Gets the indexed item for the given identifier.
+     *
+     * @param id the item identifier
+     * @return the indexed item, or {@code null} if not indexed
+     */
+    public IndexedItem getItem(@NonNull final String id) {
+        return read(() -> itemsById.get(id));
+    }
+
+    /**
+     * Gets the indexed root folder of the drive.
+     *
+     * @return the root folder, or {@code null} if the index has not been bootstrapped
+     */
+    public IndexedItem getRoot() {
+        return read(this::getRootInternal);
+    }
+
+    /**
+     * Gets the indexed children of the given parent folder identifier.
+     *
+     * @param parentId the parent folder identifier
+     * @return the list of children
+     */
+    public List<IndexedItem> getChildren(@NonNull final String parentId) {
+        return read(() -> childIdsByParentId.getOrDefault(parentId, Collections.emptySet()).stream()
+                .map(itemsById::get)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Gets the indexed item at the given path relative to the root of the drive (e.g., {@code /Documents/a.txt}).
+     * Names are matched case-insensitively as OneDrive names are case-insensitive.
+     *
+     * @param path the path of the item
+     * @return the indexed item, or {@code null} if no item is indexed at the path
+     */
+    public IndexedItem getByPath(@NonNull final String path) {
+        return read(() -> {
+            IndexedItem current = getRootInternal();
+            for (final String name : path.split(PATH_SEPARATOR)) {
+                if (current == null) {
+                    return null;
+                }
+                if (!name.isEmpty()) {
+                    current = findChildByName(current.getId(), name);
+                }
+            }
+
+            return current;
+        });
+    }
+
+    /**
+     * Gets the path of the given item identifier relative to the root of the drive.
+     *
+     * @param id the item identifier
+     * @return the path, or {@code null} if the item or one of its ancestors is not indexed
+     */
+    public String getPath(@NonNull final String id) {
+        return read(() -> {
+            final Deque<String> names = new ArrayDeque<>();
+            IndexedItem current = itemsById.get(id);
+            while (current != null && !current.getId().equals(rootId)) {
+                names.addFirst(current.getName());
+                current = current.getParentId() == null ? null : itemsById.get(current.getParentId());
+            }
+
+            return current == null ? null : PATH_SEPARATOR + String.join(PATH_SEPARATOR, names);
+        });
+    }
+
+    /**
+     * Finds the indexed files with the given content hash. The hash may be a SHA1, quickXor or CRC32 hash as reported
+     * by the service.
+     *
+     * @param hash the content hash
+     * @return the list of files with the content hash
+     */
+    public List<IndexedItem> findByHash(@NonNull final String hash) {
+        return read(() -> itemIdsByHash.getOrDefault(hash, Collections.emptySet()).stream()
+                .map(itemsById::get)
+                .collect(Collectors.toList()));
+    }
+
+    ////////////////////////
+    // Persistence
+    ////////////////////////
+
+    /**
+     * Saves the index to the configured {@code indexFilePath}.
+     *
+     * @throws DriveIndexException if an error occurred while saving the index
+     */
+    public void save() throws DriveIndexException {
+        final Path filePath = getRequiredIndexFilePath();
+        final Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        // Lookups can proceed while the index is written, but changes and other saves wait
+        syncLock.lock();
+        stateLock.readLock().lock();
+        try {
+            try (final DataOutputStream out =
+                         new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFilePath)))) {
+                out.writeInt(FILE_MAGIC);
+                out.writeInt(FILE_VERSION);
+                out.writeUTF(drive.getId());
+                writeNullableString(out, rootId);
+                writeNullableString(out, deltaLink);
+                out.writeLong(lastSyncTime == null ? -1L : lastSyncTime.toEpochMilli());
+                out.writeInt(itemsById.size());
+                for (final IndexedItem item : itemsById.values()) {
+                    writeItem(out, item);
+                }
+            }
+            Files.move(tempFilePath, filePath,
+                    StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException ex) {
+            throw new DriveIndexException("Unable to save index: " + ex.getMessage(), ex);
+        } finally {
+            stateLock.readLock().unlock();
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * Replaces the indexed state with the contents of the configured {@code indexFilePath}.
+     *
+     * @throws DriveIndexException if an error occurred while reading the index or if it belongs to another drive
+     */
+    public void load() throws DriveIndexException {
+        final Path filePath = getRequiredIndexFilePath();
+        syncLock.lock();
+        stateLock.writeLock().lock();
+        try (final DataInputStream in =
+                     new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            if (in.readInt() != FILE_MAGIC) {
+                throw new DriveIndexException("Not an index file: " + filePath);
+            }
+            final int version = in.readInt();
+            if (version != FILE_VERSION) {
+                throw new DriveIndexException("Unsupported index file version: " + version);
+            }
+            final String driveId = in.readUTF();
+            if (!driveId.equals(drive.getId())) {
+                throw new DriveIndexException("Index file belongs to drive " + driveId);
+            }
+
+            clear();
+            rootId = readNullableString(in);
+            deltaLink = readNullableString(in);
+            final long lastSyncTimeMillis = in.readLong();
+            lastSyncTime = lastSyncTimeMillis < 0L ? null : Instant.ofEpochMilli(lastSyncTimeMillis);
+            final int numItems = in.readInt();
+            for (int i = 0; i < numItems; ++i) {
+                link(readItem(in));
+            }
+        } catch (final IOException ex) {
+            clear();
+            throw new DriveIndexException("Unable to load index: " + ex.getMessage(), ex);
+        } finally {
+            stateLock.writeLock().unlock();
+            syncLock.unlock();
+        }
+    }
+
+    private Path getRequiredIndexFilePath() throws DriveIndexException {
+        if (indexFilePath == null) {
+            throw new DriveIndexException("No indexFilePath is configured");
+        }
+
+        return indexFilePath;
+    }
+
+    private static void writeItem(final DataOutputStream out, final IndexedItem item) throws IOException {
+        out.writeUTF(item.getId());
+        writeNullableString(out, item.getName());
+        writeNullableString(out, item.getParentId());
+        out.writeByte(item.getKind().ordinal());
+        out.writeLong(item.getSize());
+        writeNullableString(out, item.getETag());
+        writeNullableString(out, item.getCTag());
+        writeNullableString(out, item.getLastModifiedDateTime());
+        writeNullableString(out, item.getSha1Hash());
+        writeNullableString(out, item.getQuickXorHash());
+        writeNullableString(out, item.getCrc32Hash());
+    }
+
+    private static IndexedItem readItem(final DataInputStream in) throws IOException {
+        return IndexedItem.builder()
+                .id(in.readUTF())
+                .name(readNullableString(in))
+                .parentId(readNullableString(in))
+                .kind(IndexedItem.Kind.values()[in.readUnsignedByte()])
+                .size(in.readLong())
+                .eTag(readNullableString(in))
+                .cTag(readNullableString(in))
+                .lastModifiedDateTime(readNullableString(in))
+                .sha1Hash(readNullableString(in))
+                .quickXorHash(readNullableString(in))
+                .crc32Hash(readNullableString(in))
+                .build();
+    }
+
+    private static void writeNullableString(final DataOutputStream out, final String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullableString(final DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    ////////////////////////
+    // Index maintenance
+    ////////////////////////
+
+    private <T> T read(final Supplier<T> reader) {
+        stateLock.readLock().lock();
+        try {
+            return reader.get();
+        } finally {
+            stateLock.readLock().unlock();
+        }
+    }
+
+    private <T> T write(final Supplier<T> writer) {
+        stateLock.writeLock().lock();
+        try {
+            return writer.get();
+        } finally {
+            stateLock.writeLock().unlock();
+        }
+    }
+
+    /* Applies and clears the chunk of changes while holding the write lock. */
+    private int applyAll(final List<DriveItem> chunk) {
+        final int numChanges = chunk.size();
+        if (numChanges > 0) {
+            write(() -> {
+                chunk.forEach(this::apply);
+                return null;
+            });
+            chunk.clear();
+        }
+
+        return numChanges;
+    }
+
+    private IndexedItem getRootInternal() {
+        return rootId == null ? null : itemsById.get(rootId);
+    }
+
+    private void apply(final DriveItem change) {
+        if (change.getDeleted() != null) {
+            remove(change.getId());
+            return;
+        }
+
+        final IndexedItem item = IndexedItem.from(change);
+        final IndexedItem previous = itemsById.get(item.getId());
+        if (previous != null) {
+            // Handles renames, moves and content changes
+            unlink(previous);
+        }
+        link(item);
+        if (change.getRoot() != null) {
+            rootId = item.getId();
+        }
+    }
+
+    private void link(final IndexedItem item) {
+        itemsById.put(item.getId(), item);
+        if (item.getParentId() != null) {
+            childIdsByParentId.computeIfAbsent(item.getParentId(), k -> new LinkedHashSet<>()).add(item.getId());
+        } else if (rootId == null && item.isContainer()) {
+            rootId = item.getId();
+        }
+        getHashes(item).forEach(hash -> itemIdsByHash.computeIfAbsent(hash, k -> new LinkedHashSet<>())
+                .add(item.getId()));
+    }
+
+    private void unlink(final IndexedItem item) {
+        itemsById.remove(item.getId());
+        if (item.getParentId() != null) {
+            removeFromSet(childIdsByParentId, item.getParentId(), item.getId());
+        }
+        getHashes(item).forEach(hash -> removeFromSet(itemIdsByHash, hash, item.getId()));
+    }
+
+    /* Removes the item and all of its descendants, as a deleted folder is not guaranteed to list its children. */
+    private void remove(final String id) {
+        final Deque<String> pending = new ArrayDeque<>();
+        pending.push(id);
+        while (!pending.isEmpty()) {
+            final String currentId = pending.pop();
+            final Set<String> childIds = childIdsByParentId.remove(currentId);
+            if (childIds != null) {
+                childIds.forEach(pending::push);
+            }
+
+            final IndexedItem item = itemsById.get(currentId);
+            if (item != null) {
+                unlink(item);
+            }
+            if (currentId.equals(rootId)) {
+                rootId = null;
+            }
+        }
+    }
+
+    private IndexedItem findChildByName(final String parentId, final String name) {
+        for (final String childId : childIdsByParentId.getOrDefault(parentId, Collections.emptySet())) {
+            final IndexedItem child = itemsById.get(childId);
+            if (child != null && name.equalsIgnoreCase(child.getName())) {
+                return child;
+            }
+        }
+
+        return null;
+    }
+
+    private void clear() {
+        itemsById.clear();
+        childIdsByParentId.clear();
+        itemIdsByHash.clear();
+        rootId = null;
+        deltaLink = null;
+        lastSyncTime = null;
+    }
+
+    private static List<String> getHashes(final IndexedItem item) {
+        return Stream.of(item.getSha1Hash(), item.getQuickXorHash(), item.getCrc32Hash())
+                .filter(StringUtils::isNotBlank)
+                .collect(Collectors.toList());
+    }
+
+    private static void removeFromSet(final Map<String, Set<String>> map, final String key, final String value) {
+        final Set<String> values = map.get(key);
+        if (values != null) {
+            values.remove(value);
+            if (values.isEmpty()) {
+                map.remove(key);
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.resource.delta;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+/**
+ * A {@link DeltaTokenStore} implementation that persists the delta links for all keys to a single properties file.
+ * The file is replaced atomically on each store so that a crash never leaves a partially written file behind.
+ */
+@RequiredArgsConstructor
+public class FileBasedDeltaTokenStore implements DeltaTokenStore {
+    /** The path to save and read from. */
+    @NonNull
+    private final Path stateFilePath;
+
+    /**
+     * Saves the given {@code deltaLink} to the file system.
+     *
+     * @param key the identifier associated with the delta query
+     * @param deltaLink the delta link
+     * @throws DeltaTokenStoreException if an error occurred while saving the delta link to the file system
+     */
+    @Override
+    public synchronized void store(@NonNull final String key, @NonNull final String deltaLink)
+            throws DeltaTokenStoreException {
+        try {
+            final Properties deltaLinks = load();
+            deltaLinks.setProperty(key, deltaLink);
+
+            final Path tempFilePath = stateFilePath.resolveSibling(stateFilePath.getFileName() + ".tmp");
+            try (final Writer writer = Files.newBufferedWriter(tempFilePath, StandardCharsets.UTF_8)) {
+                deltaLinks.store(writer, null);
+            }
+            Files.move(tempFilePath, stateFilePath,
+                    StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException ex) {
+            throw new DeltaTokenStoreException("Unable to store delta link: " + ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Retrieves the delta link from the file system.
+     *
+     * @param key the identifier associated with the delta query
+     * @return the delta link, or {@code null}
+     * @throws DeltaTokenStoreException if an error occurred while retrieving the delta link from the file system
+     */
+    @Override
+    public synchronized String retrieve(@NonNull final String key) throws DeltaTokenStoreException {
+        try {
+            return load().getProperty(key);
+        } catch (final IOException ex) {
+            throw new DeltaTokenStoreException("Unable to retrieve delta link: " + ex.getMessage(), ex);
+        }
+    }
+
+    private Properties load() throws IOException {
+        final Properties deltaLinks = new Properties();
+        if (Files.exists(stateFilePath)) {
+            try (final Reader reader = Files.newBufferedReader(stateFilePath, StandardCharsets.UTF_8)) {
+                deltaLinks.load(reader);
+            }
+        }
+
+        return deltaLinks;
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.resource.delta;
+
+import lombok.NonNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A thread-safe {@link DeltaTokenStore} implementation that keeps delta links in memory for the lifetime of the
+ * process.
+ */
+public class InMemoryDeltaTokenStore implements DeltaTokenStore {
+    private final Map<String, String> deltaLinks = new ConcurrentHashMap<>();
+
+    @Override
+    public void store(@NonNull final String key, @NonNull final String deltaLink) {
+        deltaLinks.put(key, deltaLink);
+    }
+
+    @Override
+    public String retrieve(@NonNull final String key) {
+        return deltaLinks.get(key);
+    }
+}
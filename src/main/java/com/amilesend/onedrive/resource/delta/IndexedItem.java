@@ -0,0 +1,122 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.resource.delta;
+
+import com.amilesend.onedrive.resource.item.DriveItem;
+import com.amilesend.onedrive.resource.item.type.Hashes;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NonNull;
+
+/**
+ * The compact metadata of a drive item that is kept in a {@link DriveIndex}.
+ *
+ * @see DriveIndex
+ */
+@Builder
+@Data
+public class IndexedItem {
+    /** The unique identifier for the item. */
+    @NonNull
+    private final String id;
+    /** The name of the item. */
+    private final String name;
+    /** The identifier of the parent folder, or {@code null} for the root folder. */
+    private final String parentId;
+    /** The kind of item. */
+    @NonNull
+    private final Kind kind;
+    /** The size of the item in bytes. */
+    private final long size;
+    /** The eTag for the item. */
+    private final String eTag;
+    /** The eTag for the content of the item. */
+    private final String cTag;
+    /** Describes when the item was last modified. */
+    private final String lastModifiedDateTime;
+    /** The SHA1 hash for the file contents, if defined. */
+    private final String sha1Hash;
+    /** The quickXor hash for the file contents, if defined. */
+    private final String quickXorHash;
+    /** The CRC32 hash for the file contents, if defined. */
+    private final String crc32Hash;
+
+    /**
+     * Creates a new {@code IndexedItem} from the given {@code driveItem}.
+     *
+     * @param driveItem the drive item
+     * @return the indexed item
+     */
+    public static IndexedItem from(@NonNull final DriveItem driveItem) {
+        final Hashes hashes = driveItem.getFile() == null ? null : driveItem.getFile().getHashes();
+        return IndexedItem.builder()
+                .id(driveItem.getId())
+                .name(driveItem.getName())
+                .parentId(driveItem.getRoot() != null || driveItem.getParentReference() == null
+                        ? null
+                        : driveItem.getParentReference().getId())
+                .kind(Kind.of(driveItem))
+                .size(driveItem.getSize())
+                .eTag(driveItem.getETag())
+                .cTag(driveItem.getCTag())
+                .lastModifiedDateTime(driveItem.getLastModifiedDateTime())
+                .sha1Hash(hashes == null ? null : hashes.getSha1Hash())
+                .quickXorHash(hashes == null ? null : hashes.getQuickXorHash())
+                .crc32Hash(hashes == null ? null : hashes.getCrc32Hash())
+                .build();
+    }
+
+    /**
+     * Indicates if the item is a folder (or package) that can contain children.
+     *
+     * @return {@code true} if the item can contain children; else, {@code false}
+     */
+    public boolean isContainer() {
+        return kind == Kind.FOLDER || kind == Kind.PACKAGE;
+    }
+
+    /** Describes the kind of indexed item. */
+    public enum Kind {
+        /** A folder. */
+        FOLDER,
+        /** A file. */
+        FILE,
+        /** A package (e.g., a OneNote notebook). */
+        PACKAGE,
+        /** An item that is neither a folder, a file, nor a package. */
+        OTHER;
+
+        /**
+         * Gets the kind of the given {@code driveItem}.
+         *
+         * @param driveItem the drive item
+         * @return the kind
+         */
+        public static Kind of(@NonNull final DriveItem driveItem) {
+            if (driveItem.get_package() != null) {
+                return PACKAGE;
+            } else if (driveItem.getFolder() != null) {
+                return FOLDER;
+            } else if (driveItem.getFile() != null) {
+                return FILE;
+            }
+
+            return OTHER;
+        }
+    }
+}
@@ -18,12 +18,23 @@
 package com.amilesend.onedrive.resource.drive;
 
 import com.amilesend.client.parse.strategy.GsonExclude;
+import com.amilesend.client.util.StringUtils;
 import com.amilesend.client.util.Validate;
+import com.amilesend.client.util.VisibleForTesting;
 import com.amilesend.onedrive.connection.OneDriveConnection;
 import com.amilesend.onedrive.resource.activities.ItemActivity;
+import com.amilesend.onedrive.resource.delta.DeltaResult;
+import com.amilesend.onedrive.resource.delta.DeltaTokenStore;
+import com.amilesend.onedrive.resource.delta.DeltaTokenStoreException;
 import com.amilesend.onedrive.resource.identity.IdentitySet;
 import com.amilesend.onedrive.resource.item.BaseItem;
+import com.amilesend.onedrive.resource.item.BulkOperation;
+import com.amilesend.onedrive.resource.item.BulkOperationExecutor;
+import com.amilesend.onedrive.resource.item.BulkOperationOptions;
+import com.amilesend.onedrive.resource.item.BulkOperationReport;
 import com.amilesend.onedrive.resource.item.DriveItem;
+import com.amilesend.onedrive.resource.item.DriveItemIterator;
+import com.amilesend.onedrive.resource.item.PagingOptions;
 import com.amilesend.onedrive.resource.item.DriveItemPage;
 import com.amilesend.onedrive.resource.item.SpecialDriveItem;
 import com.amilesend.onedrive.resource.item.type.SharePointIds;
@@ -34,15 +45,21 @@ import lombok.ToString;
 import lombok.experimental.SuperBuilder;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.amilesend.onedrive.parse.resource.parser.Parsers.DRIVE_ITEM_PAGE_PARSER;
 import static com.amilesend.onedrive.parse.resource.parser.Parsers.DRIVE_ITEM_PARSER;
 import static com.amilesend.onedrive.parse.resource.parser.Parsers.ITEM_ACTIVITY_LIST_PARSER;
 import static com.amilesend.onedrive.parse.resource.parser.Parsers.newSpecialDriveItemParser;
+import static com.amilesend.onedrive.resource.ResourceHelper.appendSelectQueryParameter;
 import static com.amilesend.onedrive.resource.ResourceHelper.escapeValueForUrlPath;
 import static com.amilesend.onedrive.resource.ResourceHelper.objectDefinedEquals;
+import static com.amilesend.onedrive.resource.ResourceHelper.toDeltaUrl;
 
 /**
  * Top-level object that represents a user's OneDrive or SharePoint document library.
@@ -116,6 +133,24 @@ public class Drive extends BaseItem {
                 DRIVE_ITEM_PARSER);
     }
 
+    /**
+     * Fetches the root folder associated with this {@code Drive} with only the given properties (e.g., {@code id},
+     * {@code name}, or {@code eTag}). Properties that are not selected are {@code null}.
+     * <p>
+     * <a href="https://learn.microsoft.com/en-us/onedrive/developer/rest-api/api/driveitem_get">
+     * API Documentation</a>.
+     *
+     * @param select the names of the drive item properties to return
+     * @return the root folder drive item
+     */
+    public DriveItem getRootFolder(@NonNull final Collection<String> select) {
+        return connection.execute(
+                connection.newRequestBuilder()
+                        .url(appendSelectQueryParameter(connection.getBaseUrl() + ROOT_FOLDER_URL_PATH, select))
+                        .build(),
+                DRIVE_ITEM_PARSER);
+    }
+
     /**
      * Fetches the list of changes associated with this {@code Drive}.
      * <p>
@@ -140,6 +175,189 @@ public class Drive extends BaseItem {
         return changes;
     }
 
+    /**
+     * Fetches the list of changes associated with this {@code Drive} with the given paging configuration (e.g., to
+     * only return the {@link PagingOptions#getSelect() selected} properties).
+     * <p>
+     * <a href="https://learn.microsoft.com/en-us/onedrive/developer/rest-api/api/driveitem_delta">
+     * API Documentation</a>.
+     *
+     * @param options the paging configuration
+     * @return the list of drive item changes
+     * @see PagingOptions
+     */
+    public List<DriveItem> getChanges(@NonNull final PagingOptions options) {
+        return getChangesIterator(options).stream().collect(Collectors.toList());
+    }
+
+    /**
+     * Gets a lazy iterator over the changes associated with this {@code Drive}. Pages of changes are only fetched as
+     * the iterator is consumed, and the {@link DriveItemIterator#getDeltaLink()} is available once the last page has
+     * been fetched.
+     * <p>
+     * <a href="https://learn.microsoft.com/en-us/onedrive/developer/rest-api/api/driveitem_delta">
+     * API Documentation</a>.
+     *
+     * @return the iterator of drive item changes
+     * @see DriveItemIterator
+     */
+    public DriveItemIterator getChangesIterator() {
+        return getChangesIterator(PagingOptions.defaults());
+    }
+
+    /**
+     * Gets a lazy iterator over the changes associated with this {@code Drive} with the given paging configuration
+     * (e.g., to fetch pages ahead of the consumer).
+     *
+     * @param options the paging configuration
+     * @return the iterator of drive item changes
+     * @see DriveItemIterator
+     * @see PagingOptions
+     */
+    public DriveItemIterator getChangesIterator(@NonNull final PagingOptions options) {
+        return newDriveItemIterator(getChangesUrl(null), options);
+    }
+
+    /**
+     * Gets a lazy stream of the changes associated with this {@code Drive}.
+     *
+     * @return the stream of drive item changes
+     * @see #getChangesIterator()
+     */
+    public Stream<DriveItem> streamChanges() {
+        return getChangesIterator().stream();
+    }
+
+    /**
+     * Gets a lazy stream of the changes associated with this {@code Drive} with the given paging configuration.
+     * Close the stream to cancel any pages that are fetched ahead.
+     *
+     * @param options the paging configuration
+     * @return the stream of drive item changes
+     * @see #getChangesIterator(PagingOptions)
+     */
+    public Stream<DriveItem> streamChanges(@NonNull final PagingOptions options) {
+        return getChangesIterator(options).stream();
+    }
+
+    /**
+     * Fetches the items that changed in this {@code Drive} since the given delta link (or token) along with the new
+     * delta link to use for the next query. If the {@code deltaLink} is {@code null} or blank, all items are
+     * enumerated. Deleted items define the {@code deleted} facet.
+     * <p>
+     * <a href="https://learn.microsoft.com/en-us/onedrive/developer/rest-api/api/driveitem_delta">
+     * API Documentation</a>.
+     *
+     * @param deltaLink the previously returned delta link, a delta token, or {@code null} to enumerate all items
+     * @return the changed items and the new delta link
+     * @see DeltaResult
+     */
+    public DeltaResult<DriveItem> getDelta(final String deltaLink) {
+        return getDelta(deltaLink, PagingOptions.defaults());
+    }
+
+    /**
+     * Fetches the items that changed in this {@code Drive} since the given delta link (or token) with the given
+     * paging configuration. The {@link PagingOptions#getSelect() select} and {@link PagingOptions#getPageSize()
+     * page size} only apply when enumerating all items, as subsequent delta links retain the original query
+     * parameters.
+     *
+     * @param deltaLink the previously returned delta link, a delta token, or {@code null} to enumerate all items
+     * @param options the paging configuration
+     * @return the changed items and the new delta link
+     * @see DeltaResult
+     * @see PagingOptions
+     */
+    public DeltaResult<DriveItem> getDelta(final String deltaLink, @NonNull final PagingOptions options) {
+        final DriveItemIterator changes = getDeltaIterator(deltaLink, options);
+        final List<DriveItem> items = changes.stream().collect(Collectors.toList());
+        return DeltaResult.<DriveItem>builder()
+                .changes(items)
+                .deltaLink(changes.getDeltaLink())
+                .build();
+    }
+
+    /**
+     * Gets a lazy iterator over the items that changed in this {@code Drive} since the given delta link (or token).
+     * Pages of changes are only fetched as the iterator is consumed, and the new
+     * {@link DriveItemIterator#getDeltaLink()} is available once the last page has been fetched.
+     *
+     * @param deltaLink the previously returned delta link, a delta token, or {@code null} to enumerate all items
+     * @param options the paging configuration
+     * @return the iterator of changed drive items
+     * @see DriveItemIterator
+     */
+    public DriveItemIterator getDeltaIterator(final String deltaLink, @NonNull final PagingOptions options) {
+        return StringUtils.isBlank(deltaLink)
+                ? newDriveItemIterator(getChangesUrl(null), options)
+                : newDriveItemIterator(toDeltaUrl(getChangesUrl(null), deltaLink), options.withoutQueryParameters());
+    }
+
+    /**
+     * Gets a delta link that represents the current state of this {@code Drive} without enumerating its items
+     * (i.e., {@code token=latest}). Use it to only track the changes that occur from now on.
+     *
+     * @return the delta link for the current state
+     */
+    public String getLatestDeltaLink() {
+        return connection.execute(
+                connection.newRequestBuilder()
+                        .url(toDeltaUrl(getChangesUrl(null), DeltaResult.LATEST_DELTA_TOKEN))
+                        .build(),
+                DRIVE_ITEM_PAGE_PARSER)
+                .getDeltaLink();
+    }
+
+    /**
+     * Fetches the changes since the delta link that is stored in the given {@code tokenStore} for this
+     * {@code Drive}'s identifier, and stores the new delta link once all changes have been fetched. If no delta link
+     * is stored, all items are enumerated. Use {@link #initializeDelta(DeltaTokenStore)} to start tracking changes
+     * without enumerating existing items.
+     *
+     * @param tokenStore the store of delta links
+     * @return the changed items and the new delta link
+     * @throws DeltaTokenStoreException if an error occurred while retrieving or storing the delta link
+     */
+    public DeltaResult<DriveItem> syncDelta(@NonNull final DeltaTokenStore tokenStore)
+            throws DeltaTokenStoreException {
+        return syncDelta(tokenStore, PagingOptions.defaults());
+    }
+
+    /**
+     * Fetches the changes since the delta link that is stored in the given {@code tokenStore} for this
+     * {@code Drive}'s identifier with the given paging configuration, and stores the new delta link once all changes
+     * have been fetched.
+     *
+     * @param tokenStore the store of delta links
+     * @param options the paging configuration
+     * @return the changed items and the new delta link
+     * @throws DeltaTokenStoreException if an error occurred while retrieving or storing the delta link
+     */
+    public DeltaResult<DriveItem> syncDelta(
+            @NonNull final DeltaTokenStore tokenStore,
+            @NonNull final PagingOptions options) throws DeltaTokenStoreException {
+        final DeltaResult<DriveItem> result = getDelta(tokenStore.retrieve(getId()), options);
+        if (StringUtils.isNotBlank(result.getDeltaLink())) {
+            tokenStore.store(getId(), result.getDeltaLink());
+        }
+
+        return result;
+    }
+
+    /**
+     * Stores the delta link for the current state of this {@code Drive} in the given {@code tokenStore} so that
+     * subsequent calls to {@link #syncDelta(DeltaTokenStore)} only return new changes.
+     *
+     * @param tokenStore the store of delta links
+     * @return the stored delta link
+     * @throws DeltaTokenStoreException if an error occurred while storing the delta link
+     */
+    public String initializeDelta(@NonNull final DeltaTokenStore tokenStore) throws DeltaTokenStoreException {
+        final String deltaLink = getLatestDeltaLink();
+        tokenStore.store(getId(), deltaLink);
+        return deltaLink;
+    }
+
     /**
      * Search for items associated with this {@code Drive}.
      * <p>
@@ -170,6 +388,180 @@ public class Drive extends BaseItem {
         return results;
     }
 
+    /**
+     * Search for items associated with this {@code Drive} with the given paging configuration (e.g., to only return
+     * the {@link PagingOptions#getSelect() selected} properties).
+     * <p>
+     * <a href="https://learn.microsoft.com/en-us/onedrive/developer/rest-api/api/driveitem_search">
+     * API Documentation</a>.
+     *
+     * @param query the search query
+     * @param options the paging configuration
+     * @return the list of drive items associated with the query
+     * @see PagingOptions
+     */
+    public List<DriveItem> search(final String query, @NonNull final PagingOptions options) {
+        return getSearchIterator(query, options).stream().collect(Collectors.toList());
+    }
+
+    /**
+     * Gets a lazy iterator over the items associated with this {@code Drive} that match the given query. Pages of
+     * results are only fetched as the iterator is consumed.
+     * <p>
+     * <a href="https://learn.microsoft.com/en-us/onedrive/developer/rest-api/api/driveitem_search">
+     * API Documentation</a>.
+     *
+     * @param query the search query
+     * @return the iterator of drive items associated with the query
+     * @see DriveItemIterator
+     */
+    public DriveItemIterator getSearchIterator(final String query) {
+        return getSearchIterator(query, PagingOptions.defaults());
+    }
+
+    /**
+     * Gets a lazy iterator over the items associated with this {@code Drive} that match the given query with the
+     * given paging configuration (e.g., to fetch pages ahead of the consumer).
+     *
+     * @param query the search query
+     * @param options the paging configuration
+     * @return the iterator of drive items associated with the query
+     * @see DriveItemIterator
+     * @see PagingOptions
+     */
+    public DriveItemIterator getSearchIterator(final String query, @NonNull final PagingOptions options) {
+        Validate.notBlank(query, "query must not be blank");
+        Validate.isTrue(query.length() < MAX_QUERY_LENGTH,
+                "query length must be less than " + MAX_QUERY_LENGTH);
+
+        return newDriveItemIterator(getSearchUrl(null, escapeValueForUrlPath(query)), options);
+    }
+
+    /**
+     * Gets a lazy stream of the items associated with this {@code Drive} that match the given query.
+     *
+     * @param query the search query
+     * @return the stream of drive items associated with the query
+     * @see #getSearchIterator(String)
+     */
+    public Stream<DriveItem> streamSearch(final String query) {
+        return getSearchIterator(query).stream();
+    }
+
+    /**
+     * Gets a lazy stream of the items associated with this {@code Drive} that match the given query with the given
+     * paging configuration. Close the stream to cancel any pages that are fetched ahead.
+     *
+     * @param query the search query
+     * @param options the paging configuration
+     * @return the stream of drive items associated with the query
+     * @see #getSearchIterator(String, PagingOptions)
+     */
+    public Stream<DriveItem> streamSearch(final String query, @NonNull final PagingOptions options) {
+        return getSearchIterator(query, options).stream();
+    }
+
+    ////////////////////////
+    // Bulk operations
+    ////////////////////////
+
+    /**
+     * Deletes the drive items with the given identifiers in bulk.
+     *
+     * @param itemIds the identifiers of the drive items to delete
+     * @return the per-item report
+     * @see BulkOperationExecutor
+     */
+    public BulkOperationReport deleteItems(@NonNull final Collection<String> itemIds) {
+        return deleteItems(itemIds, BulkOperationOptions.defaults());
+    }
+
+    /**
+     * Deletes the drive items with the given identifiers in bulk with the given configuration.
+     *
+     * @param itemIds the identifiers of the drive items to delete
+     * @param options the bulk operation configuration
+     * @return the per-item report
+     * @see BulkOperationExecutor
+     */
+    public BulkOperationReport deleteItems(
+            @NonNull final Collection<String> itemIds,
+            @NonNull final BulkOperationOptions options) {
+        return newBulkOperationExecutor(
+                itemIds.stream()
+                        .map(itemId -> BulkOperation.delete(connection, itemId))
+                        .collect(Collectors.toList()),
+                options)
+                .execute();
+    }
+
+    /**
+     * Moves the drive items with the given identifiers in bulk to the given destination folder.
+     *
+     * @param itemIds the identifiers of the drive items to move
+     * @param destinationParentId the identifier of the destination folder
+     * @return the per-item report
+     * @see BulkOperationExecutor
+     */
+    public BulkOperationReport moveItems(
+            @NonNull final Collection<String> itemIds,
+            final String destinationParentId) {
+        return moveItems(itemIds, destinationParentId, BulkOperationOptions.defaults());
+    }
+
+    /**
+     * Moves the drive items with the given identifiers in bulk to the given destination folder with the given
+     * configuration.
+     *
+     * @param itemIds the identifiers of the drive items to move
+     * @param destinationParentId the identifier of the destination folder
+     * @param options the bulk operation configuration
+     * @return the per-item report
+     * @see BulkOperationExecutor
+     */
+    public BulkOperationReport moveItems(
+            @NonNull final Collection<String> itemIds,
+            final String destinationParentId,
+            @NonNull final BulkOperationOptions options) {
+        Validate.notBlank(destinationParentId, "destinationParentId must not be blank");
+        return newBulkOperationExecutor(
+                itemIds.stream()
+                        .map(itemId -> BulkOperation.move(connection, itemId, destinationParentId))
+                        .collect(Collectors.toList()),
+                options)
+                .execute();
+    }
+
+    /**
+     * Renames drive items in bulk.
+     *
+     * @param newNamesByItemId the new names keyed by drive item identifier
+     * @return the per-item report
+     * @see BulkOperationExecutor
+     */
+    public BulkOperationReport renameItems(@NonNull final Map<String, String> newNamesByItemId) {
+        return renameItems(newNamesByItemId, BulkOperationOptions.defaults());
+    }
+
+    /**
+     * Renames drive items in bulk with the given configuration.
+     *
+     * @param newNamesByItemId the new names keyed by drive item identifier
+     * @param options the bulk operation configuration
+     * @return the per-item report
+     * @see BulkOperationExecutor
+     */
+    public BulkOperationReport renameItems(
+            @NonNull final Map<String, String> newNamesByItemId,
+            @NonNull final BulkOperationOptions options) {
+        return newBulkOperationExecutor(
+                newNamesByItemId.entrySet().stream()
+                        .map(entry -> BulkOperation.rename(connection, entry.getKey(), entry.getValue()))
+                        .collect(Collectors.toList()),
+                options)
+                .execute();
+    }
+
     /**
      * Retrieves a special folder for the given {@link SpecialFolder.Type}.
      *
@@ -218,6 +610,27 @@ public class Drive extends BaseItem {
                 Objects.nonNull(getSystem()));
     }
 
+    @VisibleForTesting
+    BulkOperationExecutor newBulkOperationExecutor(
+            final List<BulkOperation> operations,
+            final BulkOperationOptions options) {
+        return BulkOperationExecutor.builder()
+                .connection(connection)
+                .operations(operations)
+                .options(options)
+                .executor(connection.getThreadPool())
+                .build();
+    }
+
+    @VisibleForTesting
+    DriveItemIterator newDriveItemIterator(final String url, final PagingOptions options) {
+        return DriveItemIterator.builder()
+                .connection(connection)
+                .url(options.applyQueryParameters(url))
+                .options(options)
+                .build();
+    }
+
     private String getActivitiesUrl(final String driveId) {
         return new StringBuilder(connection.getBaseUrl())
                 .append(DRIVE_BASE_URL_PATH)
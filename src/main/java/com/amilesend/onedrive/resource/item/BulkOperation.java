@@ -0,0 +1,113 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.resource.item;
+
+import com.amilesend.client.util.StringUtils;
+import com.amilesend.client.util.Validate;
+import com.amilesend.onedrive.connection.OneDriveConnection;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.amilesend.client.connection.Connection.JSON_MEDIA_TYPE;
+import static com.amilesend.onedrive.resource.ResourceHelper.escapeValueForUrlPath;
+import static com.amilesend.onedrive.resource.item.DriveItem.DRIVE_ITEM_BASE_URL_PATH;
+
+/**
+ * A single-item operation (delete, move or rename) that is part of a bulk operation.
+ *
+ * @see BulkOperationExecutor
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@ToString(onlyExplicitlyIncluded = true)
+public class BulkOperation {
+    /** The identifier of the drive item the operation applies to. */
+    @ToString.Include
+    private final String itemId;
+    /** The request that performs the operation. */
+    private final Request request;
+
+    /**
+     * Creates an operation that deletes the drive item with the given identifier.
+     *
+     * @param connection the connection
+     * @param itemId the drive item identifier
+     * @return the operation
+     */
+    public static BulkOperation delete(final OneDriveConnection connection, final String itemId) {
+        return new BulkOperation(itemId, connection.newRequestBuilder()
+                .url(getItemUrl(connection, itemId))
+                .delete()
+                .build());
+    }
+
+    /**
+     * Creates an operation that moves the drive item with the given identifier to the given destination folder.
+     *
+     * @param connection the connection
+     * @param itemId the drive item identifier
+     * @param destinationParentId the identifier of the destination folder
+     * @return the operation
+     */
+    public static BulkOperation move(
+            final OneDriveConnection connection,
+            final String itemId,
+            final String destinationParentId) {
+        Validate.notBlank(destinationParentId, "destinationParentId must not be blank");
+        return update(connection, itemId, Map.of("parentReference", Map.of("id", destinationParentId)));
+    }
+
+    /**
+     * Creates an operation that renames the drive item with the given identifier.
+     *
+     * @param connection the connection
+     * @param itemId the drive item identifier
+     * @param newName the new name
+     * @return the operation
+     */
+    public static BulkOperation rename(final OneDriveConnection connection, final String itemId, final String newName) {
+        Validate.notBlank(newName, "newName must not be blank");
+        return update(connection, itemId, Map.of("name", newName));
+    }
+
+    private static BulkOperation update(
+            final OneDriveConnection connection,
+            final String itemId,
+            final Map<String, Object> attributes) {
+        final String json = connection.getGsonFactory().getInstance(connection).toJson(new HashMap<>(attributes));
+        return new BulkOperation(itemId, connection.newWithBodyRequestBuilder()
+                .url(getItemUrl(connection, itemId))
+                .patch(RequestBody.create(json, JSON_MEDIA_TYPE))
+                .build());
+    }
+
+    private static String getItemUrl(final OneDriveConnection connection, final String itemId) {
+        Validate.isTrue(StringUtils.isNotBlank(itemId), "itemId must not be blank");
+        return new StringBuilder(connection.getBaseUrl())
+                .append(DRIVE_ITEM_BASE_URL_PATH)
+                .append(escapeValueForUrlPath(itemId))
+                .toString();
+    }
+}
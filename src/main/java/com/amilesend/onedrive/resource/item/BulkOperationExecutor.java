@@ -0,0 +1,299 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.resource.item;
+
+import com.amilesend.client.connection.ConnectionException;
+import com.amilesend.client.connection.RequestException;
+import com.amilesend.client.connection.ThrottledException;
+import com.amilesend.client.util.VisibleForTesting;
+import com.amilesend.onedrive.connection.OneDriveConnection;
+import com.amilesend.onedrive.connection.batch.BatchItem;
+import com.amilesend.onedrive.connection.batch.BatchRequest;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Executes a collection of single-item {@link BulkOperation}s with bounded parallelism. Operations are grouped into
+ * JSON batch requests of up to {@link BatchRequest#MAX_REQUESTS} operations (unless disabled), and up to
+ * {@link BulkOperationOptions#getParallelism()} requests are in flight at once. Throttled operations are retried
+ * after the service's {@code Retry-After} delay, and each operation's outcome is recorded in the returned
+ * {@link BulkOperationReport} instead of failing the whole bulk operation.
+ * <p>
+ * The calling thread sends requests alongside the workers that are submitted to the executor, so a saturated
+ * executor slows the bulk operation instead of deadlocking it.
+ *
+ * @see BulkOperationOptions
+ */
+@Slf4j
+public class BulkOperationExecutor {
+    private static final long DEFAULT_RETRY_AFTER_MILLIS = 1000L;
+
+    /** The connection used to send the requests. */
+    private final OneDriveConnection connection;
+    /** The operations to execute. */
+    private final List<BulkOperation> operations;
+    /** The bulk operation configuration. */
+    private final BulkOperationOptions options;
+    /** The executor used to run the concurrent workers. */
+    private final Executor executor;
+
+    // A lock instead of a monitor so that waiting virtual threads do not pin their carrier threads
+    private final ReentrantLock stateLock = new ReentrantLock();
+    private final Condition chunkCompleted = stateLock.newCondition();
+    private final BulkOperationReport.Result[] results;
+    private List<List<Integer>> chunks;
+    private int nextChunkIndex;
+    private int numInFlight;
+
+    /**
+     * Creates a new {@code BulkOperationExecutor}.
+     *
+     * @param connection the connection
+     * @param operations the operations to execute
+     * @param options the bulk operation configuration (defaults to {@link BulkOperationOptions#defaults()})
+     * @param executor the executor used to run the concurrent workers
+     */
+    @Builder
+    private BulkOperationExecutor(
+            @NonNull final OneDriveConnection connection,
+            @NonNull final List<BulkOperation> operations,
+            final BulkOperationOptions options,
+            @NonNull final Executor executor) {
+        this.connection = connection;
+        this.operations = List.copyOf(operations);
+        this.options = options == null ? BulkOperationOptions.defaults() : options;
+        this.executor = executor;
+        this.results = new BulkOperationReport.Result[operations.size()];
+    }
+
+    /**
+     * Executes all operations and blocks until each one has either succeeded or failed.
+     *
+     * @return the per-item report in the order the operations were submitted
+     */
+    public BulkOperationReport execute() {
+        chunks = splitIntoChunks(operations.size(), options.isBatched() ? BatchRequest.MAX_REQUESTS : 1);
+        startWorkers();
+        // The calling thread participates to guarantee progress regardless of executor availability
+        executeChunks();
+        awaitWorkers();
+
+        final List<BulkOperationReport.Result> report = new ArrayList<>(results.length);
+        stateLock.lock();
+        try {
+            for (int i = 0; i < results.length; ++i) {
+                report.add(results[i] != null
+                        ? results[i]
+                        : new BulkOperationReport.Result(
+                                operations.get(i).getItemId(),
+                                new RequestException("Operation was not executed")));
+            }
+        } finally {
+            stateLock.unlock();
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Executed [{}] bulk operations in [{}] requests", operations.size(), chunks.size());
+        }
+        return new BulkOperationReport(report);
+    }
+
+    @VisibleForTesting
+    static List<List<Integer>> splitIntoChunks(final int numOperations, final int chunkSize) {
+        final List<List<Integer>> chunks = new ArrayList<>((numOperations + chunkSize - 1) / chunkSize);
+        for (int start = 0; start < numOperations; start += chunkSize) {
+            final List<Integer> chunk = new ArrayList<>(chunkSize);
+            for (int i = start; i < Math.min(start + chunkSize, numOperations); ++i) {
+                chunk.add(i);
+            }
+            chunks.add(Collections.unmodifiableList(chunk));
+        }
+
+        return Collections.unmodifiableList(chunks);
+    }
+
+    private void startWorkers() {
+        final int numWorkers = Math.min(options.getParallelism(), chunks.size()) - 1;
+        for (int i = 0; i < numWorkers; ++i) {
+            try {
+                executor.execute(this::executeChunks);
+            } catch (final RejectedExecutionException ex) {
+                log.debug("Executor rejected bulk operation worker. Continuing with {} worker(s)", i + 1);
+                break;
+            }
+        }
+    }
+
+    private void executeChunks() {
+        List<Integer> chunk;
+        while ((chunk = claimNextChunk()) != null) {
+            try {
+                executeChunk(chunk);
+            } finally {
+                completeChunk();
+            }
+        }
+    }
+
+    /* Sends the chunk and retries its throttled operations until they complete or exhaust their retries. */
+    private void executeChunk(final List<Integer> chunk) {
+        List<Integer> remaining = chunk;
+        int attempt = 0;
+        while (!remaining.isEmpty()) {
+            final ConnectionException[] failures = send(remaining);
+            final List<Integer> throttled = new ArrayList<>();
+            long retryAfterMillis = 0L;
+            for (int i = 0; i < remaining.size(); ++i) {
+                final ConnectionException failure = failures[i];
+                if (failure instanceof ThrottledException && attempt < options.getMaxThrottleRetries()) {
+                    throttled.add(remaining.get(i));
+                    retryAfterMillis = Math.max(retryAfterMillis, getRetryAfterMillis((ThrottledException) failure));
+                } else {
+                    recordResult(remaining.get(i), failure);
+                }
+            }
+
+            if (!throttled.isEmpty()) {
+                ++attempt;
+                log.warn("{} bulk operation(s) were throttled (attempt {} of {}). Retrying in {} ms",
+                        throttled.size(), attempt, options.getMaxThrottleRetries(), retryAfterMillis);
+                try {
+                    pause(retryAfterMillis);
+                } catch (final RequestException ex) {
+                    throttled.forEach(index -> recordResult(index, ex));
+                    return;
+                }
+            }
+            remaining = throttled;
+        }
+    }
+
+    /* Sends the operations at the given indices and returns the failure of each operation (null on success). */
+    private ConnectionException[] send(final List<Integer> indices) {
+        final ConnectionException[] failures = new ConnectionException[indices.size()];
+        if (indices.size() == 1) {
+            try {
+                // The response body of a delete or an update is not needed
+                connection.execute(operations.get(indices.get(0)).getRequest()).close();
+            } catch (final ConnectionException ex) {
+                failures[0] = ex;
+            } catch (final RuntimeException ex) {
+                failures[0] = new RequestException("Unable to execute operation: " + ex.getMessage(), ex);
+            }
+
+            return failures;
+        }
+
+        final BatchRequest batchRequest = new BatchRequest();
+        final List<BatchItem<Void>> items = new ArrayList<>(indices.size());
+        indices.forEach(index -> items.add(batchRequest.add(operations.get(index).getRequest())));
+        try {
+            connection.executeBatch(batchRequest);
+        } catch (final ConnectionException ex) {
+            // All items are failed with the batch request failure
+            log.debug("Bulk operation batch request failed: {}", ex.getMessage());
+        } catch (final RuntimeException ex) {
+            final RequestException failure = new RequestException("Unable to execute batch: " + ex.getMessage(), ex);
+            Arrays.fill(failures, failure);
+            return failures;
+        }
+
+        for (int i = 0; i < items.size(); ++i) {
+            final BatchItem<Void> item = items.get(i);
+            failures[i] = item.isCompleted()
+                    ? item.getFailure()
+                    : new RequestException("Batch request was not executed");
+        }
+
+        return failures;
+    }
+
+    private static long getRetryAfterMillis(final ThrottledException ex) {
+        final Long retryAfterSeconds = ex.getRetryAfterSeconds();
+        return retryAfterSeconds != null && retryAfterSeconds > 0L
+                ? retryAfterSeconds * 1000L
+                : DEFAULT_RETRY_AFTER_MILLIS;
+    }
+
+    private List<Integer> claimNextChunk() {
+        stateLock.lock();
+        try {
+            if (nextChunkIndex >= chunks.size()) {
+                return null;
+            }
+
+            ++numInFlight;
+            return chunks.get(nextChunkIndex++);
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    private void recordResult(final int index, final ConnectionException failure) {
+        stateLock.lock();
+        try {
+            results[index] = new BulkOperationReport.Result(operations.get(index).getItemId(), failure);
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    private void completeChunk() {
+        stateLock.lock();
+        try {
+            --numInFlight;
+            chunkCompleted.signalAll();
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    private void awaitWorkers() {
+        stateLock.lock();
+        try {
+            while (numInFlight > 0) {
+                chunkCompleted.await();
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while waiting for bulk operations to complete");
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    @VisibleForTesting
+    void pause(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RequestException("Interrupted while waiting to retry throttled operations", ex);
+        }
+    }
+}
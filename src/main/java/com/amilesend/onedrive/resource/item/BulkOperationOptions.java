@@ -0,0 +1,68 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.resource.item;
+
+import com.amilesend.client.util.Validate;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Defines the configuration for bulk operations over collections of drive items.
+ *
+ * @see BulkOperationExecutor
+ */
+@Data
+public class BulkOperationOptions {
+    /** The default number of requests (or batches of requests) to send concurrently. */
+    public static final int DEFAULT_PARALLELISM = 4;
+    /** The default maximum number of retries for a throttled request. */
+    public static final int DEFAULT_MAX_THROTTLE_RETRIES = 3;
+
+    /** The maximum number of requests (or batches of requests) to send concurrently. */
+    private final int parallelism;
+    /** Indicates if requests are grouped into JSON batch requests of up to 20 requests. */
+    private final boolean isBatched;
+    /** The maximum number of retries for a throttled request before it is reported as failed. */
+    private final int maxThrottleRetries;
+
+    /**
+     * Creates a new {@code BulkOperationOptions}.
+     *
+     * @param parallelism the maximum number of requests (or batches of requests) to send concurrently
+     * @param isBatched {@code true} to group requests into JSON batch requests (default)
+     * @param maxThrottleRetries the maximum number of retries for a throttled request
+     */
+    @Builder
+    private BulkOperationOptions(final Integer parallelism, final Boolean isBatched, final Integer maxThrottleRetries) {
+        this.parallelism = parallelism == null ? DEFAULT_PARALLELISM : parallelism;
+        this.isBatched = isBatched == null || isBatched;
+        this.maxThrottleRetries = maxThrottleRetries == null ? DEFAULT_MAX_THROTTLE_RETRIES : maxThrottleRetries;
+
+        Validate.isTrue(this.parallelism > 0, "parallelism must be > 0");
+        Validate.isTrue(this.maxThrottleRetries >= 0, "maxThrottleRetries must be >= 0");
+    }
+
+    /**
+     * Gets the default options.
+     *
+     * @return the default options
+     */
+    public static BulkOperationOptions defaults() {
+        return BulkOperationOptions.builder().build();
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.resource.item;
+
+import com.amilesend.client.connection.ConnectionException;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * The per-item outcome of a bulk operation.
+ *
+ * @see BulkOperationExecutor
+ */
+@Getter
+@ToString
+public class BulkOperationReport {
+    /** The results in the order the operations were submitted. */
+    private final List<Result> results;
+
+    /**
+     * Creates a new {@code BulkOperationReport}.
+     *
+     * @param results the per-item results
+     */
+    public BulkOperationReport(@NonNull final List<Result> results) {
+        this.results = Collections.unmodifiableList(results);
+    }
+
+    /**
+     * Gets the identifiers of the items that the operation succeeded for.
+     *
+     * @return the list of item identifiers
+     */
+    public List<String> getSucceededItemIds() {
+        return results.stream()
+                .filter(Result::isSuccessful)
+                .map(Result::getItemId)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Gets the results of the items that the operation failed for.
+     *
+     * @return the list of failed results
+     */
+    public List<Result> getFailures() {
+        return results.stream()
+                .filter(result -> !result.isSuccessful())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Indicates if the operation succeeded for all items.
+     *
+     * @return {@code true} if all items succeeded; else, {@code false}
+     */
+    public boolean isSuccessful() {
+        return results.stream().allMatch(Result::isSuccessful);
+    }
+
+    /** The outcome of the operation for a single item. */
+    @Getter
+    @RequiredArgsConstructor
+    @ToString
+    public static class Result {
+        /** The identifier of the drive item. */
+        private final String itemId;
+        /** The failure, or {@code null} if the operation succeeded. */
+        private final ConnectionException failure;
+
+        /**
+         * Indicates if the operation succeeded for the item.
+         *
+         * @return {@code true} if the operation succeeded; else, {@code false}
+         */
+        public boolean isSuccessful() {
+            return failure == null;
+        }
+    }
+}
@@ -25,7 +25,14 @@ import com.amilesend.client.util.StringUtils;
 import com.amilesend.client.util.Validate;
 import com.amilesend.client.util.VisibleForTesting;
 import com.amilesend.onedrive.connection.OneDriveConnection;
+import com.amilesend.onedrive.connection.file.ChannelRequestBody;
+import com.amilesend.onedrive.connection.file.SegmentedDownloadOptions;
+import com.amilesend.onedrive.connection.file.StreamingUploader;
+import com.amilesend.onedrive.connection.file.journal.UploadSessionJournal;
 import com.amilesend.onedrive.resource.activities.ItemActivity;
+import com.amilesend.onedrive.resource.delta.DeltaResult;
+import com.amilesend.onedrive.resource.delta.DeltaTokenStore;
+import com.amilesend.onedrive.resource.delta.DeltaTokenStoreException;
 import com.amilesend.onedrive.resource.item.type.Audio;
 import com.amilesend.onedrive.resource.item.type.Deleted;
 import com.amilesend.onedrive.resource.item.type.File;
@@ -45,9 +52,11 @@ import com.amilesend.onedrive.resource.item.type.SharePointIds;
 import com.amilesend.onedrive.resource.item.type.Shared;
 import com.amilesend.onedrive.resource.item.type.SpecialFolder;
 import com.amilesend.onedrive.resource.item.type.ThumbnailSet;
+import com.amilesend.onedrive.resource.item.type.UploadSession;
 import com.amilesend.onedrive.resource.item.type.Video;
 import com.amilesend.onedrive.resource.request.AddPermissionRequest;
 import com.amilesend.onedrive.resource.request.CreateSharingLinkRequest;
+import com.amilesend.onedrive.resource.request.CreateUploadSessionRequest;
 import com.amilesend.onedrive.resource.request.PreviewRequest;
 import com.google.gson.annotations.SerializedName;
 import lombok.EqualsAndHashCode;
@@ -56,17 +65,26 @@ import lombok.NonNull;
 import lombok.Setter;
 import lombok.ToString;
 import lombok.experimental.SuperBuilder;
+import okhttp3.Request;
 import okhttp3.RequestBody;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.amilesend.client.connection.Connection.Headers.CONTENT_TYPE;
 import static com.amilesend.onedrive.connection.OneDriveConnection.JSON_MEDIA_TYPE;
@@ -74,12 +92,14 @@ import static com.amilesend.onedrive.parse.resource.parser.Parsers.DRIVE_ITEM_PA
 import static com.amilesend.onedrive.parse.resource.parser.Parsers.DRIVE_ITEM_PARSER;
 import static com.amilesend.onedrive.parse.resource.parser.Parsers.ITEM_ACTIVITY_LIST_PARSER;
 import static com.amilesend.onedrive.parse.resource.parser.Parsers.THUMBNAIL_SET_LIST_PARSER;
+import static com.amilesend.onedrive.parse.resource.parser.Parsers.UPLOAD_SESSION_PARSER;
 import static com.amilesend.onedrive.parse.resource.parser.Parsers.newDriveItemVersionListParser;
 import static com.amilesend.onedrive.parse.resource.parser.Parsers.newPermissionListParser;
 import static com.amilesend.onedrive.parse.resource.parser.Parsers.newPermissionParser;
 import static com.amilesend.onedrive.parse.resource.parser.Parsers.newPreviewParser;
 import static com.amilesend.onedrive.resource.ResourceHelper.escapeValueForUrlPath;
 import static com.amilesend.onedrive.resource.ResourceHelper.objectDefinedEquals;
+import static com.amilesend.onedrive.resource.ResourceHelper.toDeltaUrl;
 import static com.amilesend.onedrive.resource.ResourceHelper.validateFilename;
 
 /**
@@ -90,9 +110,7 @@ import static com.amilesend.onedrive.resource.ResourceHelper.validateFilename;
  */
 /*
  * TODO:
- *  1. Implement support for upload sessions if there's a use-case for it
- *     (https://learn.microsoft.com/en-us/onedrive/developer/rest-api/api/driveitem_createuploadsession)
- *  2. Implement support for URL based uploads if there's a use-case for it
+ *  1. Implement support for URL based uploads if there's a use-case for it
  *     (https://learn.microsoft.com/en-us/onedrive/developer/rest-api/api/driveitem_upload_url)
  */
 @Getter
@@ -102,6 +120,10 @@ public class DriveItem extends BaseItem {
     public static final String DRIVE_ITEM_BASE_URL_PATH = "/drive/items/";
 
     private static final String CONTENT_URL_SUFFIX = "/content";
+    private static final String CREATE_UPLOAD_SESSION_URL_SUFFIX = "/createUploadSession";
+    /** The maximum content size that can be uploaded in a single request instead of an upload session (4 MiB). */
+    private static final long SIMPLE_UPLOAD_MAX_BYTES = 4L * 1024L * 1024L;
+    private static final String REPLACE_CONFLICT_BEHAVIOR = "replace";
     private static final int MAX_QUERY_LENGTH = 1000;
 
     /** The audio file attributes (read-only). */
@@ -222,6 +244,222 @@ public class DriveItem extends BaseItem {
                 callback);
     }
 
+    /**
+     * Downloads the drive item by splitting it into byte ranges that are downloaded concurrently when the item is
+     * larger than the configured threshold, and reports aggregated transfer progress to the given
+     * {@link TransferProgressCallback}. Each range request is pinned to this item's eTag.
+     * <p>
+     * <a href="https://learn.microsoft.com/en-us/onedrive/developer/rest-api/api/driveitem_get_content">
+     * API Documentation</a>.
+     *
+     * @param folderPath the path of the folder to download the drive item content to
+     * @param options the segmented download configuration
+     * @param callback the callback to inform of transfer progress
+     * @see SegmentedDownloadOptions
+     */
+    public void download(
+            @NonNull final Path folderPath,
+            @NonNull final SegmentedDownloadOptions options,
+            @NonNull final TransferProgressCallback callback) {
+        connection.downloadSegmented(
+                getContentUrl(validateAndGetUrlEncodedId()),
+                getETag(),
+                folderPath,
+                getName(),
+                getSize(),
+                options,
+                callback);
+    }
+
+    /**
+     * Downloads the drive item asynchronously by splitting it into byte ranges that are downloaded concurrently when
+     * the item is larger than the configured threshold.
+     * <p>
+     * <a href="https://learn.microsoft.com/en-us/onedrive/developer/rest-api/api/driveitem_get_content">
+     * API Documentation</a>.
+     *
+     * @param folderPath the path of the folder to download the drive item content to
+     * @param options the segmented download configuration
+     * @param callback the callback to inform of transfer progress
+     * @return the CompletableFuture used to fetch the number of bytes downloaded
+     * @see SegmentedDownloadOptions
+     */
+    public CompletableFuture<Long> downloadAsync(
+            @NonNull final Path folderPath,
+            @NonNull final SegmentedDownloadOptions options,
+            @NonNull final TransferProgressCallback callback) {
+        return connection.downloadSegmentedAsync(
+                getContentUrl(validateAndGetUrlEncodedId()),
+                getETag(),
+                folderPath,
+                getName(),
+                getSize(),
+                options,
+                callback);
+    }
+
+    /**
+     * Downloads the drive item and reports transfer progress to the given {@link TransferProgressCallback}. Content is
+     * written to a partial file with a sidecar checkpoint so that a download that previously failed continues from
+     * the last written byte. The download restarts from the beginning when this item's eTag or cTag no longer
+     * matches the checkpoint.
+     * <p>
+     * <a href="https://learn.microsoft.com/en-us/onedrive/developer/rest-api/api/driveitem_get_content">
+     * API Documentation</a>.
+     *
+     * @param folderPath the path of the folder to download the drive item content to
+     * @param callback the callback to inform of transfer progress
+     * @see com.amilesend.onedrive.connection.file.ResumableDownloader
+     */
+    public void downloadResumable(@NonNull final Path folderPath, @NonNull final TransferProgressCallback callback) {
+        connection.downloadResumable(
+                getContentUrl(validateAndGetUrlEncodedId()),
+                getId(),
+                getETag(),
+                getCTag(),
+                folderPath,
+                getName(),
+                getSize(),
+                callback);
+    }
+
+    /**
+     * Downloads the drive item asynchronously and continues from a partial file that was left behind by a previous
+     * failed download.
+     * <p>
+     * <a href="https://learn.microsoft.com/en-us/onedrive/developer/rest-api/api/driveitem_get_content">
+     * API Documentation</a>.
+     *
+     * @param folderPath the path of the folder to download the drive item content to
+     * @param callback the callback to inform of transfer progress
+     * @return the CompletableFuture used to fetch the number of bytes downloaded
+     * @see #downloadResumable(Path, TransferProgressCallback)
+     */
+    public CompletableFuture<Long> downloadResumableAsync(
+            @NonNull final Path folderPath,
+            @NonNull final TransferProgressCallback callback) {
+        return connection.downloadResumableAsync(
+                getContentUrl(validateAndGetUrlEncodedId()),
+                getId(),
+                getETag(),
+                getCTag(),
+                folderPath,
+                getName(),
+                getSize(),
+                callback);
+    }
+
+    /**
+     * Downloads the drive item content directly to the given {@code output} channel without staging it on disk and
+     * reports transfer progress to the given {@link TransferProgressCallback}. The channel is not closed.
+     * <p>
+     * <a href="https://learn.microsoft.com/en-us/onedrive/developer/rest-api/api/driveitem_get_content">
+     * API Documentation</a>.
+     *
+     * @param output the channel to write the content to
+     * @param callback the callback to inform of transfer progress
+     * @return the number of bytes downloaded
+     */
+    public long downloadTo(
+            @NonNull final WritableByteChannel output,
+            @NonNull final TransferProgressCallback callback) {
+        return connection.downloadTo(
+                connection.newRequestBuilder()
+                        .url(getContentUrl(validateAndGetUrlEncodedId()))
+                        .build(),
+                output,
+                getSize(),
+                callback);
+    }
+
+    /**
+     * Downloads the drive item content directly to the given {@code output} stream without staging it on disk and
+     * reports transfer progress to the given {@link TransferProgressCallback}. The stream is not closed.
+     * <p>
+     * <a href="https://learn.microsoft.com/en-us/onedrive/developer/rest-api/api/driveitem_get_content">
+     * API Documentation</a>.
+     *
+     * @param output the stream to write the content to
+     * @param callback the callback to inform of transfer progress
+     * @return the number of bytes downloaded
+     */
+    public long downloadTo(@NonNull final OutputStream output, @NonNull final TransferProgressCallback callback) {
+        return connection.downloadTo(
+                connection.newRequestBuilder()
+                        .url(getContentUrl(validateAndGetUrlEncodedId()))
+                        .build(),
+                output,
+                getSize(),
+                callback);
+    }
+
+    /**
+     * Downloads the drive item content asynchronously to the given {@code output} channel. The channel is not closed.
+     * <p>
+     * <a href="https://learn.microsoft.com/en-us/onedrive/developer/rest-api/api/driveitem_get_content">
+     * API Documentation</a>.
+     *
+     * @param output the channel to write the content to
+     * @param callback the callback to inform of transfer progress
+     * @return the CompletableFuture used to fetch the number of bytes downloaded
+     * @see #downloadTo(WritableByteChannel, TransferProgressCallback)
+     */
+    public CompletableFuture<Long> downloadToAsync(
+            @NonNull final WritableByteChannel output,
+            @NonNull final TransferProgressCallback callback) {
+        return connection.downloadToAsync(
+                connection.newRequestBuilder()
+                        .url(getContentUrl(validateAndGetUrlEncodedId()))
+                        .build(),
+                output,
+                getSize(),
+                callback);
+    }
+
+    /**
+     * Downloads the drive item content asynchronously to the given {@code output} stream. The stream is not closed.
+     * <p>
+     * <a href="https://learn.microsoft.com/en-us/onedrive/developer/rest-api/api/driveitem_get_content">
+     * API Documentation</a>.
+     *
+     * @param output the stream to write the content to
+     * @param callback the callback to inform of transfer progress
+     * @return the CompletableFuture used to fetch the number of bytes downloaded
+     * @see #downloadTo(OutputStream, TransferProgressCallback)
+     */
+    public CompletableFuture<Long> downloadToAsync(
+            @NonNull final OutputStream output,
+            @NonNull final TransferProgressCallback callback) {
+        return connection.downloadToAsync(
+                connection.newRequestBuilder()
+                        .url(getContentUrl(validateAndGetUrlEncodedId()))
+                        .build(),
+                output,
+                getSize(),
+                callback);
+    }
+
+    /**
+     * Opens a stream over the drive item content that is bounded to the drive item size and reports transfer
+     * progress to the given {@link TransferProgressCallback} as it is consumed. The caller must close the returned
+     * stream to release the underlying connection, which also counts against the connection's concurrency limit
+     * until closed.
+     * <p>
+     * <a href="https://learn.microsoft.com/en-us/onedrive/developer/rest-api/api/driveitem_get_content">
+     * API Documentation</a>.
+     *
+     * @param callback the callback to inform of transfer progress
+     * @return the content stream
+     */
+    public InputStream openContentStream(@NonNull final TransferProgressCallback callback) {
+        return connection.openDownloadStream(
+                connection.newRequestBuilder()
+                        .url(getContentUrl(validateAndGetUrlEncodedId()))
+                        .build(),
+                getSize(),
+                callback);
+    }
+
     ////////////////////////
     // Upload
     ////////////////////////
@@ -320,7 +558,7 @@ public class DriveItem extends BaseItem {
                         .build());
     }
 
-    private DriveItem uploadInternal(final String url, final ProgressReportingRequestBody body) {
+    private DriveItem uploadInternal(final String url, final RequestBody body) {
         return connection.execute(
                 connection.newRequestBuilder()
                         .url(url)
@@ -330,9 +568,7 @@ public class DriveItem extends BaseItem {
                 DRIVE_ITEM_PARSER);
     }
 
-    private CompletableFuture<DriveItem> uploadInternalAsync(
-            final String url,
-            final ProgressReportingRequestBody body) {
+    private CompletableFuture<DriveItem> uploadInternalAsync(final String url, final RequestBody body) {
         return connection.executeAsync(
                 connection.newRequestBuilder()
                         .url(url)
@@ -342,6 +578,443 @@ public class DriveItem extends BaseItem {
                 DRIVE_ITEM_PARSER);
     }
 
+    ////////////////////////
+    // Streaming Upload
+    ////////////////////////
+
+    /**
+     * Uploads the content read from the given {@code source} to replace the contents of this {@code DriveItem}
+     * without staging it on local disk, and reports the transfer status to the given
+     * {@link TransferProgressCallback}. Content with a known size of up to 4 MiB is sent in a single request;
+     * otherwise, the content is uploaded in fragments via an upload session.
+     * <p>
+     * <a href="https://learn.microsoft.com/en-us/onedrive/developer/rest-api/api/driveitem_createuploadsession">
+     * API Documentation</a>.
+     *
+     * @param source the source to read the content from. The source is not closed.
+     * @param sizeBytes the size of the content in bytes, or {@link StreamingUploader#UNKNOWN_SIZE_BYTES} if not known
+     * @param callback the callback to inform of transfer progress
+     * @return the updated drive item information
+     */
+    public DriveItem upload(
+            @NonNull final ReadableByteChannel source,
+            final long sizeBytes,
+            @NonNull final TransferProgressCallback callback) {
+        return uploadStreamInternal(validateAndGetUrlEncodedId(), null, source, sizeBytes, callback);
+    }
+
+    /**
+     * Uploads the content read from the given {@code stream} to replace the contents of this {@code DriveItem}
+     * without staging it on local disk.
+     *
+     * @param stream the stream to read the content from. The stream is not closed.
+     * @param sizeBytes the size of the content in bytes, or {@link StreamingUploader#UNKNOWN_SIZE_BYTES} if not known
+     * @param callback the callback to inform of transfer progress
+     * @return the updated drive item information
+     * @see #upload(ReadableByteChannel, long, TransferProgressCallback)
+     */
+    public DriveItem upload(
+            @NonNull final InputStream stream,
+            final long sizeBytes,
+            @NonNull final TransferProgressCallback callback) {
+        return upload(Channels.newChannel(stream), sizeBytes, callback);
+    }
+
+    /**
+     * Uploads the content read from the given {@code source} asynchronously to replace the contents of this
+     * {@code DriveItem} without staging it on local disk.
+     *
+     * @param source the source to read the content from. The source is not closed.
+     * @param sizeBytes the size of the content in bytes, or {@link StreamingUploader#UNKNOWN_SIZE_BYTES} if not known
+     * @param callback the callback to inform of transfer progress
+     * @return the CompletableFuture to fetch the updated drive item information
+     * @see #upload(ReadableByteChannel, long, TransferProgressCallback)
+     */
+    public CompletableFuture<DriveItem> uploadAsync(
+            @NonNull final ReadableByteChannel source,
+            final long sizeBytes,
+            @NonNull final TransferProgressCallback callback) {
+        return uploadStreamInternalAsync(validateAndGetUrlEncodedId(), null, source, sizeBytes, callback);
+    }
+
+    /**
+     * Uploads the content read from the given {@code stream} asynchronously to replace the contents of this
+     * {@code DriveItem} without staging it on local disk.
+     *
+     * @param stream the stream to read the content from. The stream is not closed.
+     * @param sizeBytes the size of the content in bytes, or {@link StreamingUploader#UNKNOWN_SIZE_BYTES} if not known
+     * @param callback the callback to inform of transfer progress
+     * @return the CompletableFuture to fetch the updated drive item information
+     * @see #upload(ReadableByteChannel, long, TransferProgressCallback)
+     */
+    public CompletableFuture<DriveItem> uploadAsync(
+            @NonNull final InputStream stream,
+            final long sizeBytes,
+            @NonNull final TransferProgressCallback callback) {
+        return uploadAsync(Channels.newChannel(stream), sizeBytes, callback);
+    }
+
+    /**
+     * Uploads the content read from the given {@code source} as a new child of this {@code DriveItem} without
+     * staging it on local disk. An existing child with the same name is replaced.
+     *
+     * @param name the name of the new child drive item
+     * @param source the source to read the content from. The source is not closed.
+     * @param sizeBytes the size of the content in bytes, or {@link StreamingUploader#UNKNOWN_SIZE_BYTES} if not known
+     * @param callback the callback to inform of transfer progress
+     * @return the new child drive item associated with the uploaded content
+     * @see #upload(ReadableByteChannel, long, TransferProgressCallback)
+     */
+    public DriveItem uploadNew(
+            @NonNull final String name,
+            @NonNull final ReadableByteChannel source,
+            final long sizeBytes,
+            @NonNull final TransferProgressCallback callback) {
+        return uploadStreamInternal(validateAndGetUrlEncodedId(), name, source, sizeBytes, callback);
+    }
+
+    /**
+     * Uploads the content read from the given {@code stream} as a new child of this {@code DriveItem} without
+     * staging it on local disk. An existing child with the same name is replaced.
+     *
+     * @param name the name of the new child drive item
+     * @param stream the stream to read the content from. The stream is not closed.
+     * @param sizeBytes the size of the content in bytes, or {@link StreamingUploader#UNKNOWN_SIZE_BYTES} if not known
+     * @param callback the callback to inform of transfer progress
+     * @return the new child drive item associated with the uploaded content
+     * @see #uploadNew(String, ReadableByteChannel, long, TransferProgressCallback)
+     */
+    public DriveItem uploadNew(
+            @NonNull final String name,
+            @NonNull final InputStream stream,
+            final long sizeBytes,
+            @NonNull final TransferProgressCallback callback) {
+        return uploadNew(name, Channels.newChannel(stream), sizeBytes, callback);
+    }
+
+    /**
+     * Uploads the content read from the given {@code source} asynchronously as a new child of this
+     * {@code DriveItem} without staging it on local disk.
+     *
+     * @param name the name of the new child drive item
+     * @param source the source to read the content from. The source is not closed.
+     * @param sizeBytes the size of the content in bytes, or {@link StreamingUploader#UNKNOWN_SIZE_BYTES} if not known
+     * @param callback the callback to inform of transfer progress
+     * @return the CompletableFuture to fetch the new child drive item associated with the uploaded content
+     * @see #uploadNew(String, ReadableByteChannel, long, TransferProgressCallback)
+     */
+    public CompletableFuture<DriveItem> uploadNewAsync(
+            @NonNull final String name,
+            @NonNull final ReadableByteChannel source,
+            final long sizeBytes,
+            @NonNull final TransferProgressCallback callback) {
+        return uploadStreamInternalAsync(validateAndGetUrlEncodedId(), name, source, sizeBytes, callback);
+    }
+
+    /**
+     * Uploads the content read from the given {@code stream} asynchronously as a new child of this
+     * {@code DriveItem} without staging it on local disk.
+     *
+     * @param name the name of the new child drive item
+     * @param stream the stream to read the content from. The stream is not closed.
+     * @param sizeBytes the size of the content in bytes, or {@link StreamingUploader#UNKNOWN_SIZE_BYTES} if not known
+     * @param callback the callback to inform of transfer progress
+     * @return the CompletableFuture to fetch the new child drive item associated with the uploaded content
+     * @see #uploadNew(String, ReadableByteChannel, long, TransferProgressCallback)
+     */
+    public CompletableFuture<DriveItem> uploadNewAsync(
+            @NonNull final String name,
+            @NonNull final InputStream stream,
+            final long sizeBytes,
+            @NonNull final TransferProgressCallback callback) {
+        return uploadNewAsync(name, Channels.newChannel(stream), sizeBytes, callback);
+    }
+
+    private DriveItem uploadStreamInternal(
+            final String encodedId,
+            final String name,
+            final ReadableByteChannel source,
+            final long sizeBytes,
+            final TransferProgressCallback callback) {
+        if (isSimpleUploadSize(sizeBytes)) {
+            return uploadInternal(
+                    getStreamContentUrl(encodedId, name),
+                    newChannelRequestBody(source, sizeBytes, callback));
+        }
+
+        final UploadSession session = createUploadSession(getStreamUploadSessionUrl(encodedId, name), name);
+        return connection.upload(session, source, sizeBytes, callback, DRIVE_ITEM_PARSER);
+    }
+
+    private CompletableFuture<DriveItem> uploadStreamInternalAsync(
+            final String encodedId,
+            final String name,
+            final ReadableByteChannel source,
+            final long sizeBytes,
+            final TransferProgressCallback callback) {
+        if (isSimpleUploadSize(sizeBytes)) {
+            return uploadInternalAsync(
+                    getStreamContentUrl(encodedId, name),
+                    newChannelRequestBody(source, sizeBytes, callback));
+        }
+
+        return createUploadSessionAsync(getStreamUploadSessionUrl(encodedId, name), name)
+                .thenCompose(session ->
+                        connection.uploadAsync(session, source, sizeBytes, callback, DRIVE_ITEM_PARSER));
+    }
+
+    private static boolean isSimpleUploadSize(final long sizeBytes) {
+        return sizeBytes >= 0L && sizeBytes <= SIMPLE_UPLOAD_MAX_BYTES;
+    }
+
+    private static ChannelRequestBody newChannelRequestBody(
+            final ReadableByteChannel source,
+            final long sizeBytes,
+            final TransferProgressCallback callback) {
+        return ChannelRequestBody.builder()
+                .source(source)
+                .sizeBytes(sizeBytes)
+                .callback(callback)
+                .build();
+    }
+
+    private String getStreamContentUrl(final String encodedId, final String name) {
+        return name == null ? getContentUrl(encodedId) : getContentUrl(encodedId, name);
+    }
+
+    private String getStreamUploadSessionUrl(final String encodedId, final String name) {
+        return name == null ? getCreateUploadSessionUrl(encodedId) : getCreateUploadSessionUrl(encodedId, name);
+    }
+
+    ////////////////////////
+    // Resumable Upload
+    ////////////////////////
+
+    /**
+     * Uploads a file to replace the contents of this {@code DriveItem} via a resumable upload session and reports
+     * the transfer status to the given {@link TransferProgressCallback}. The file is uploaded in fragments so that
+     * large files can be uploaded and transient failures only resend the missing byte ranges.
+     * <p>
+     * <a href="https://learn.microsoft.com/en-us/onedrive/developer/rest-api/api/driveitem_createuploadsession">
+     * API Documentation</a>.
+     *
+     * @param filePath the file to upload
+     * @param callback the callback to inform of transfer progress
+     * @return the updated drive item information
+     */
+    public DriveItem uploadResumable(
+            @NonNull final Path filePath,
+            @NonNull final TransferProgressCallback callback) {
+        return connection.upload(
+                createUploadSession(getCreateUploadSessionUrl(validateAndGetUrlEncodedId()), null),
+                filePath,
+                callback,
+                DRIVE_ITEM_PARSER);
+    }
+
+    /**
+     * Uploads a file to replace the contents of this {@code DriveItem} via a resumable upload session that is
+     * persisted to the given {@link UploadSessionJournal}. If the journal contains a resumable session for this
+     * {@code DriveItem} and the same unchanged file, the upload continues from the last acknowledged byte range.
+     *
+     * @param filePath the file to upload
+     * @param callback the callback to inform of transfer progress
+     * @param journal the journal used to persist the upload session state
+     * @return the updated drive item information
+     * @see #uploadResumable(Path, TransferProgressCallback)
+     */
+    public DriveItem uploadResumable(
+            @NonNull final Path filePath,
+            @NonNull final TransferProgressCallback callback,
+            @NonNull final UploadSessionJournal journal) {
+        return uploadResumableInternal(
+                getCreateUploadSessionUrl(validateAndGetUrlEncodedId()),
+                null,
+                filePath,
+                callback,
+                journal);
+    }
+
+    /**
+     * Uploads a file asynchronously to replace the contents of this {@code DriveItem} via a resumable upload
+     * session and reports the transfer status to the given {@link TransferProgressCallback}.
+     * <p>
+     * <a href="https://learn.microsoft.com/en-us/onedrive/developer/rest-api/api/driveitem_createuploadsession">
+     * API Documentation</a>.
+     *
+     * @param filePath the file to upload
+     * @param callback the callback to inform of transfer progress
+     * @return the CompletableFuture to fetch the updated drive item information
+     */
+    public CompletableFuture<DriveItem> uploadResumableAsync(
+            @NonNull final Path filePath,
+            @NonNull final TransferProgressCallback callback) {
+        return createUploadSessionAsync(getCreateUploadSessionUrl(validateAndGetUrlEncodedId()), null)
+                .thenCompose(session -> connection.uploadAsync(session, filePath, callback, DRIVE_ITEM_PARSER));
+    }
+
+    /**
+     * Uploads a file asynchronously to replace the contents of this {@code DriveItem} via a resumable upload
+     * session that is persisted to the given {@link UploadSessionJournal}.
+     *
+     * @param filePath the file to upload
+     * @param callback the callback to inform of transfer progress
+     * @param journal the journal used to persist the upload session state
+     * @return the CompletableFuture to fetch the updated drive item information
+     * @see #uploadResumable(Path, TransferProgressCallback, UploadSessionJournal)
+     */
+    public CompletableFuture<DriveItem> uploadResumableAsync(
+            @NonNull final Path filePath,
+            @NonNull final TransferProgressCallback callback,
+            @NonNull final UploadSessionJournal journal) {
+        final String url = getCreateUploadSessionUrl(validateAndGetUrlEncodedId());
+        return CompletableFuture.supplyAsync(
+                () -> resumeOrCreateUploadSession(url, null, filePath, journal),
+                connection.getThreadPool())
+                .thenCompose(session ->
+                        connection.uploadAsync(session, filePath, callback, DRIVE_ITEM_PARSER, journal, url));
+    }
+
+    /**
+     * Uploads a new file as a child of this {@code DriveItem} via a resumable upload session and reports the
+     * transfer status to the given {@link TransferProgressCallback}. An existing child with the same name is
+     * replaced.
+     * <p>
+     * <a href="https://learn.microsoft.com/en-us/onedrive/developer/rest-api/api/driveitem_createuploadsession">
+     * API Documentation</a>.
+     *
+     * @param filePath the file to upload
+     * @param callback the callback to inform of transfer progress
+     * @return the new child drive item associated with the uploaded file
+     */
+    public DriveItem uploadNewResumable(
+            @NonNull final Path filePath,
+            @NonNull final TransferProgressCallback callback) {
+        final String name = filePath.getFileName().toString();
+        return connection.upload(
+                createUploadSession(getCreateUploadSessionUrl(validateAndGetUrlEncodedId(), name), name),
+                filePath,
+                callback,
+                DRIVE_ITEM_PARSER);
+    }
+
+    /**
+     * Uploads a new file as a child of this {@code DriveItem} via a resumable upload session that is persisted to
+     * the given {@link UploadSessionJournal}. If the journal contains a resumable session for the same destination
+     * and unchanged file, the upload continues from the last acknowledged byte range.
+     *
+     * @param filePath the file to upload
+     * @param callback the callback to inform of transfer progress
+     * @param journal the journal used to persist the upload session state
+     * @return the new child drive item associated with the uploaded file
+     * @see #uploadNewResumable(Path, TransferProgressCallback)
+     */
+    public DriveItem uploadNewResumable(
+            @NonNull final Path filePath,
+            @NonNull final TransferProgressCallback callback,
+            @NonNull final UploadSessionJournal journal) {
+        final String name = filePath.getFileName().toString();
+        return uploadResumableInternal(
+                getCreateUploadSessionUrl(validateAndGetUrlEncodedId(), name),
+                name,
+                filePath,
+                callback,
+                journal);
+    }
+
+    /**
+     * Uploads a new file asynchronously as a child of this {@code DriveItem} via a resumable upload session and
+     * reports the transfer status to the given {@link TransferProgressCallback}. An existing child with the same
+     * name is replaced.
+     * <p>
+     * <a href="https://learn.microsoft.com/en-us/onedrive/developer/rest-api/api/driveitem_createuploadsession">
+     * API Documentation</a>.
+     *
+     * @param filePath the file to upload
+     * @param callback the callback to inform of transfer progress
+     * @return the CompletableFuture to fetch the new child drive item associated with the uploaded file
+     */
+    public CompletableFuture<DriveItem> uploadNewResumableAsync(
+            @NonNull final Path filePath,
+            @NonNull final TransferProgressCallback callback) {
+        final String name = filePath.getFileName().toString();
+        return createUploadSessionAsync(getCreateUploadSessionUrl(validateAndGetUrlEncodedId(), name), name)
+                .thenCompose(session -> connection.uploadAsync(session, filePath, callback, DRIVE_ITEM_PARSER));
+    }
+
+    /**
+     * Uploads a new file asynchronously as a child of this {@code DriveItem} via a resumable upload session that is
+     * persisted to the given {@link UploadSessionJournal}.
+     *
+     * @param filePath the file to upload
+     * @param callback the callback to inform of transfer progress
+     * @param journal the journal used to persist the upload session state
+     * @return the CompletableFuture to fetch the new child drive item associated with the uploaded file
+     * @see #uploadNewResumable(Path, TransferProgressCallback, UploadSessionJournal)
+     */
+    public CompletableFuture<DriveItem> uploadNewResumableAsync(
+            @NonNull final Path filePath,
+            @NonNull final TransferProgressCallback callback,
+            @NonNull final UploadSessionJournal journal) {
+        final String name = filePath.getFileName().toString();
+        final String url = getCreateUploadSessionUrl(validateAndGetUrlEncodedId(), name);
+        return CompletableFuture.supplyAsync(
+                () -> resumeOrCreateUploadSession(url, name, filePath, journal),
+                connection.getThreadPool())
+                .thenCompose(session ->
+                        connection.uploadAsync(session, filePath, callback, DRIVE_ITEM_PARSER, journal, url));
+    }
+
+    /*
+     * The createUploadSession URL uniquely identifies the upload destination, so it is used as the journal identifier.
+     */
+    private DriveItem uploadResumableInternal(
+            final String url,
+            final String name,
+            final Path filePath,
+            final TransferProgressCallback callback,
+            final UploadSessionJournal journal) {
+        return connection.upload(
+                resumeOrCreateUploadSession(url, name, filePath, journal),
+                filePath,
+                callback,
+                DRIVE_ITEM_PARSER,
+                journal,
+                url);
+    }
+
+    private UploadSession resumeOrCreateUploadSession(
+            final String url,
+            final String name,
+            final Path filePath,
+            final UploadSessionJournal journal) {
+        return connection.resumeUploadSession(journal, url, filePath)
+                .orElseGet(() -> createUploadSession(url, name));
+    }
+
+    private UploadSession createUploadSession(final String url, final String name) {
+        return connection.execute(newCreateUploadSessionRequest(url, name), UPLOAD_SESSION_PARSER);
+    }
+
+    private CompletableFuture<UploadSession> createUploadSessionAsync(final String url, final String name) {
+        return connection.executeAsync(newCreateUploadSessionRequest(url, name), UPLOAD_SESSION_PARSER);
+    }
+
+    private Request newCreateUploadSessionRequest(final String url, final String name) {
+        final CreateUploadSessionRequest request = CreateUploadSessionRequest.builder()
+                .item(CreateUploadSessionRequest.Item.builder()
+                        .conflictBehavior(REPLACE_CONFLICT_BEHAVIOR)
+                        .name(name)
+                        .build())
+                .build();
+        return connection.newWithBodyRequestBuilder()
+                .url(url)
+                .post(RequestBody.create(
+                        connection.getGsonFactory().getInstance(connection).toJson(request),
+                        JSON_MEDIA_TYPE))
+                .build();
+    }
+
     ////////////////////////
     // CRUD
     ////////////////////////
@@ -508,6 +1181,131 @@ public class DriveItem extends BaseItem {
         return changes;
     }
 
+    /**
+     * Fetches the list of child {@link DriveItem}s associated with this {@code DriveItem} with the given paging
+     * configuration (e.g., to only return the {@link PagingOptions#getSelect() selected} properties).
+     * <p>
+     * <a href="https://learn.microsoft.com/en-us/onedrive/developer/rest-api/api/driveitem_list_children">
+     * API Documentation</a>.
+     *
+     * @param options the paging configuration
+     * @return the list of child drive items
+     * @see PagingOptions
+     */
+    public List<DriveItem> getChildren(@NonNull final PagingOptions options) {
+        return getChildrenIterator(options).stream().collect(Collectors.toList());
+    }
+
+    /**
+     * Gets a lazy iterator over the child {@link DriveItem}s associated with this {@code DriveItem}. Pages of
+     * children are only fetched as the iterator is consumed.
+     * <p>
+     * <a href="https://learn.microsoft.com/en-us/onedrive/developer/rest-api/api/driveitem_list_children">
+     * API Documentation</a>.
+     *
+     * @return the iterator of child drive items
+     * @see DriveItemIterator
+     */
+    public DriveItemIterator getChildrenIterator() {
+        return getChildrenIterator(PagingOptions.defaults());
+    }
+
+    /**
+     * Gets a lazy iterator over the child {@link DriveItem}s associated with this {@code DriveItem} with the given
+     * paging configuration (e.g., to fetch pages ahead of the consumer).
+     *
+     * @param options the paging configuration
+     * @return the iterator of child drive items
+     * @see DriveItemIterator
+     * @see PagingOptions
+     */
+    public DriveItemIterator getChildrenIterator(@NonNull final PagingOptions options) {
+        return newDriveItemIterator(getChildrenUrl(validateAndGetUrlEncodedId()), options);
+    }
+
+    /**
+     * Gets a lazy stream of the child {@link DriveItem}s associated with this {@code DriveItem}. Pages of children
+     * are only fetched as the stream is consumed.
+     *
+     * @return the stream of child drive items
+     * @see #getChildrenIterator()
+     */
+    public Stream<DriveItem> streamChildren() {
+        return getChildrenIterator().stream();
+    }
+
+    /**
+     * Gets a lazy stream of the child {@link DriveItem}s associated with this {@code DriveItem} with the given
+     * paging configuration. Close the stream to cancel any pages that are fetched ahead.
+     *
+     * @param options the paging configuration
+     * @return the stream of child drive items
+     * @see #getChildrenIterator(PagingOptions)
+     */
+    public Stream<DriveItem> streamChildren(@NonNull final PagingOptions options) {
+        return getChildrenIterator(options).stream();
+    }
+
+    /**
+     * Recursively walks the folder hierarchy under this {@code DriveItem} and passes each discovered item to the
+     * given {@code visitor}. Subfolders are listed concurrently on the connection's thread pool.
+     *
+     * @param visitor the thread-safe visitor of discovered items
+     * @return the number of visited items
+     * @see DriveItemWalker
+     */
+    public long walk(@NonNull final DriveItemVisitor visitor) {
+        return walk(WalkOptions.defaults(), visitor);
+    }
+
+    /**
+     * Recursively walks the folder hierarchy under this {@code DriveItem} with the given configuration (e.g., depth
+     * limit, filters, and number of folders to list concurrently) and passes each discovered item to the given
+     * {@code visitor}. Subfolders are listed concurrently on the connection's thread pool.
+     *
+     * @param options the walk configuration
+     * @param visitor the thread-safe visitor of discovered items
+     * @return the number of visited items
+     * @see DriveItemWalker
+     * @see WalkOptions
+     */
+    public long walk(@NonNull final WalkOptions options, @NonNull final DriveItemVisitor visitor) {
+        validateAndGetUrlEncodedId();
+        return newDriveItemWalker(options, visitor).walk();
+    }
+
+    /**
+     * Moves the drive items with the given identifiers in bulk into this {@code DriveItem} folder.
+     *
+     * @param itemIds the identifiers of the drive items to move
+     * @return the per-item report
+     * @see BulkOperationExecutor
+     */
+    public BulkOperationReport moveItemsHere(@NonNull final Collection<String> itemIds) {
+        return moveItemsHere(itemIds, BulkOperationOptions.defaults());
+    }
+
+    /**
+     * Moves the drive items with the given identifiers in bulk into this {@code DriveItem} folder with the given
+     * configuration.
+     *
+     * @param itemIds the identifiers of the drive items to move
+     * @param options the bulk operation configuration
+     * @return the per-item report
+     * @see BulkOperationExecutor
+     */
+    public BulkOperationReport moveItemsHere(
+            @NonNull final Collection<String> itemIds,
+            @NonNull final BulkOperationOptions options) {
+        validateAndGetUrlEncodedId();
+        return newBulkOperationExecutor(
+                itemIds.stream()
+                        .map(itemId -> BulkOperation.move(connection, itemId, getId()))
+                        .collect(Collectors.toList()),
+                options)
+                .execute();
+    }
+
     /**
      * Fetches the list of versions of this {@code DriveItem}.
      * <p>
@@ -670,6 +1468,201 @@ public class DriveItem extends BaseItem {
         return results;
     }
 
+    /**
+     * Search for items associated with this {@code DriveItem} with the given paging configuration (e.g., to only
+     * return the {@link PagingOptions#getSelect() selected} properties).
+     * <p>
+     * <a href="https://learn.microsoft.com/en-us/onedrive/developer/rest-api/api/driveitem_search">
+     * API Documentation</a>.
+     *
+     * @param query the search query
+     * @param options the paging configuration
+     * @return the list of drive items associated with the query
+     * @see PagingOptions
+     */
+    public List<DriveItem> search(final String query, @NonNull final PagingOptions options) {
+        return getSearchIterator(query, options).stream().collect(Collectors.toList());
+    }
+
+    /**
+     * Gets a lazy iterator over the items associated with this {@code DriveItem} that match the given query. Pages
+     * of results are only fetched as the iterator is consumed.
+     * <p>
+     * <a href="https://learn.microsoft.com/en-us/onedrive/developer/rest-api/api/driveitem_search">
+     * API Documentation</a>.
+     *
+     * @param query the search query
+     * @return the iterator of drive items associated with the query
+     * @see DriveItemIterator
+     */
+    public DriveItemIterator getSearchIterator(final String query) {
+        return getSearchIterator(query, PagingOptions.defaults());
+    }
+
+    /**
+     * Gets a lazy iterator over the items associated with this {@code DriveItem} that match the given query with
+     * the given paging configuration (e.g., to fetch pages ahead of the consumer).
+     *
+     * @param query the search query
+     * @param options the paging configuration
+     * @return the iterator of drive items associated with the query
+     * @see DriveItemIterator
+     * @see PagingOptions
+     */
+    public DriveItemIterator getSearchIterator(final String query, @NonNull final PagingOptions options) {
+        Validate.notBlank(query, "query must not be blank");
+        Validate.isTrue(query.length() < MAX_QUERY_LENGTH,
+                "query length must be less than " + MAX_QUERY_LENGTH);
+
+        return newDriveItemIterator(getSearchUrl(null, validateAndGetUrlEncodedId(), query), options);
+    }
+
+    /**
+     * Gets a lazy stream of the items associated with this {@code DriveItem} that match the given query.
+     *
+     * @param query the search query
+     * @return the stream of drive items associated with the query
+     * @see #getSearchIterator(String)
+     */
+    public Stream<DriveItem> streamSearch(final String query) {
+        return getSearchIterator(query).stream();
+    }
+
+    /**
+     * Gets a lazy stream of the items associated with this {@code DriveItem} that match the given query with the
+     * given paging configuration. Close the stream to cancel any pages that are fetched ahead.
+     *
+     * @param query the search query
+     * @param options the paging configuration
+     * @return the stream of drive items associated with the query
+     * @see #getSearchIterator(String, PagingOptions)
+     */
+    public Stream<DriveItem> streamSearch(final String query, @NonNull final PagingOptions options) {
+        return getSearchIterator(query, options).stream();
+    }
+
+    /**
+     * Fetches the items under this folder {@code DriveItem} that changed since the given delta link (or token) along
+     * with the new delta link to use for the next query. If the {@code deltaLink} is {@code null} or blank, all items
+     * under this folder are enumerated. Deleted items define the {@code deleted} facet.
+     * <p>
+     * Note: OneDrive for Business and SharePoint only support delta queries on the root folder.
+     * <p>
+     * <a href="https://learn.microsoft.com/en-us/onedrive/developer/rest-api/api/driveitem_delta">
+     * API Documentation</a>.
+     *
+     * @param deltaLink the previously returned delta link, a delta token, or {@code null} to enumerate all items
+     * @return the changed items and the new delta link
+     * @see DeltaResult
+     */
+    public DeltaResult<DriveItem> getDelta(final String deltaLink) {
+        return getDelta(deltaLink, PagingOptions.defaults());
+    }
+
+    /**
+     * Fetches the items under this folder {@code DriveItem} that changed since the given delta link (or token) with
+     * the given paging configuration. The {@link PagingOptions#getSelect() select} and
+     * {@link PagingOptions#getPageSize() page size} only apply when enumerating all items, as subsequent delta links
+     * retain the original query parameters.
+     *
+     * @param deltaLink the previously returned delta link, a delta token, or {@code null} to enumerate all items
+     * @param options the paging configuration
+     * @return the changed items and the new delta link
+     * @see DeltaResult
+     * @see PagingOptions
+     */
+    public DeltaResult<DriveItem> getDelta(final String deltaLink, @NonNull final PagingOptions options) {
+        final DriveItemIterator changes = getDeltaIterator(deltaLink, options);
+        final List<DriveItem> items = changes.stream().collect(Collectors.toList());
+        return DeltaResult.<DriveItem>builder()
+                .changes(items)
+                .deltaLink(changes.getDeltaLink())
+                .build();
+    }
+
+    /**
+     * Gets a lazy iterator over the items under this folder {@code DriveItem} that changed since the given delta
+     * link (or token). Pages of changes are only fetched as the iterator is consumed, and the new
+     * {@link DriveItemIterator#getDeltaLink()} is available once the last page has been fetched.
+     *
+     * @param deltaLink the previously returned delta link, a delta token, or {@code null} to enumerate all items
+     * @param options the paging configuration
+     * @return the iterator of changed drive items
+     * @see DriveItemIterator
+     */
+    public DriveItemIterator getDeltaIterator(final String deltaLink, @NonNull final PagingOptions options) {
+        final String deltaUrl = getDeltaUrl(validateAndGetUrlEncodedId());
+        return StringUtils.isBlank(deltaLink)
+                ? newDriveItemIterator(deltaUrl, options)
+                : newDriveItemIterator(toDeltaUrl(deltaUrl, deltaLink), options.withoutQueryParameters());
+    }
+
+    /**
+     * Gets a delta link that represents the current state of the items under this folder {@code DriveItem} without
+     * enumerating them (i.e., {@code token=latest}).
+     *
+     * @return the delta link for the current state
+     */
+    public String getLatestDeltaLink() {
+        return connection.execute(
+                connection.newRequestBuilder()
+                        .url(toDeltaUrl(getDeltaUrl(validateAndGetUrlEncodedId()), DeltaResult.LATEST_DELTA_TOKEN))
+                        .build(),
+                DRIVE_ITEM_PAGE_PARSER)
+                .getDeltaLink();
+    }
+
+    /**
+     * Fetches the changes under this folder {@code DriveItem} since the delta link that is stored in the given
+     * {@code tokenStore} for this item's identifier, and stores the new delta link once all changes have been
+     * fetched. If no delta link is stored, all items under this folder are enumerated.
+     *
+     * @param tokenStore the store of delta links
+     * @return the changed items and the new delta link
+     * @throws DeltaTokenStoreException if an error occurred while retrieving or storing the delta link
+     */
+    public DeltaResult<DriveItem> syncDelta(@NonNull final DeltaTokenStore tokenStore)
+            throws DeltaTokenStoreException {
+        return syncDelta(tokenStore, PagingOptions.defaults());
+    }
+
+    /**
+     * Fetches the changes under this folder {@code DriveItem} since the delta link that is stored in the given
+     * {@code tokenStore} for this item's identifier with the given paging configuration, and stores the new delta
+     * link once all changes have been fetched.
+     *
+     * @param tokenStore the store of delta links
+     * @param options the paging configuration
+     * @return the changed items and the new delta link
+     * @throws DeltaTokenStoreException if an error occurred while retrieving or storing the delta link
+     */
+    public DeltaResult<DriveItem> syncDelta(
+            @NonNull final DeltaTokenStore tokenStore,
+            @NonNull final PagingOptions options) throws DeltaTokenStoreException {
+        Validate.notBlank(getId(), "id must not be blank");
+
+        final DeltaResult<DriveItem> result = getDelta(tokenStore.retrieve(getId()), options);
+        if (StringUtils.isNotBlank(result.getDeltaLink())) {
+            tokenStore.store(getId(), result.getDeltaLink());
+        }
+
+        return result;
+    }
+
+    /**
+     * Stores the delta link for the current state of the items under this folder {@code DriveItem} in the given
+     * {@code tokenStore} so that subsequent calls to {@link #syncDelta(DeltaTokenStore)} only return new changes.
+     *
+     * @param tokenStore the store of delta links
+     * @return the stored delta link
+     * @throws DeltaTokenStoreException if an error occurred while storing the delta link
+     */
+    public String initializeDelta(@NonNull final DeltaTokenStore tokenStore) throws DeltaTokenStoreException {
+        final String deltaLink = getLatestDeltaLink();
+        tokenStore.store(getId(), deltaLink);
+        return deltaLink;
+    }
+
     @Override
     public boolean equals(final Object obj) {
         if (this == obj) {
@@ -793,10 +1786,70 @@ public class DriveItem extends BaseItem {
                 .toString();
     }
 
+    private String getCreateUploadSessionUrl(final String urlEncodedDriveItemId) {
+        return new StringBuilder(connection.getBaseUrl())
+                .append(DRIVE_ITEM_BASE_URL_PATH)
+                .append(urlEncodedDriveItemId)
+                .append(CREATE_UPLOAD_SESSION_URL_SUFFIX)
+                .toString();
+    }
+
+    @VisibleForTesting
+    String getCreateUploadSessionUrl(final String urlEncodedDriveItemId, final String filename) {
+        validateFilename(filename);
+        return new StringBuilder(connection.getBaseUrl())
+                .append(DRIVE_ITEM_BASE_URL_PATH)
+                .append(urlEncodedDriveItemId)
+                .append(":/")
+                .append(escapeValueForUrlPath(filename))
+                .append(":")
+                .append(CREATE_UPLOAD_SESSION_URL_SUFFIX)
+                .toString();
+    }
+
+    @VisibleForTesting
+    BulkOperationExecutor newBulkOperationExecutor(
+            final List<BulkOperation> operations,
+            final BulkOperationOptions options) {
+        return BulkOperationExecutor.builder()
+                .connection(connection)
+                .operations(operations)
+                .options(options)
+                .executor(connection.getThreadPool())
+                .build();
+    }
+
+    @VisibleForTesting
+    DriveItemWalker newDriveItemWalker(final WalkOptions options, final DriveItemVisitor visitor) {
+        return DriveItemWalker.builder()
+                .root(this)
+                .visitor(visitor)
+                .options(options)
+                .executor(connection.getThreadPool())
+                .build();
+    }
+
+    @VisibleForTesting
+    DriveItemIterator newDriveItemIterator(final String url, final PagingOptions options) {
+        return DriveItemIterator.builder()
+                .connection(connection)
+                .url(options.applyQueryParameters(url))
+                .options(options)
+                .build();
+    }
+
     private String getChildrenUrl(final DriveItemPage page, final String urlEncodedDriveItemId) {
         return page == null ? getChildrenUrl(urlEncodedDriveItemId) : page.getNextLink();
     }
 
+    private String getDeltaUrl(final String urlEncodedDriveItemId) {
+        return new StringBuilder(connection.getBaseUrl())
+                .append(DRIVE_ITEM_BASE_URL_PATH)
+                .append(urlEncodedDriveItemId)
+                .append("/delta")
+                .toString();
+    }
+
     private String getChildrenUrl(final String urlEncodedDriveItemId) {
         return new StringBuilder(connection.getBaseUrl())
                 .append(DRIVE_ITEM_BASE_URL_PATH)
@@ -0,0 +1,179 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.resource.item;
+
+import com.amilesend.client.util.StringUtils;
+import com.amilesend.client.util.Validate;
+import com.amilesend.onedrive.connection.OneDriveConnection;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.amilesend.onedrive.parse.resource.parser.Parsers.DRIVE_ITEM_PAGE_PARSER;
+
+/**
+ * Lazily iterates over a paginated collection of {@link DriveItem}s (e.g., children, search results, or changes).
+ * Each {@link DriveItemPage} is only fetched once the items of the previous page have been consumed, so that memory
+ * is bounded by a single page and iteration can be stopped at any time without fetching the remaining pages.
+ * <p>
+ * When {@link PagingOptions#getPrefetchPages()} is greater than zero, the following pages are fetched on the
+ * connection's thread pool while the current page is consumed. At most {@code prefetchPages} pages are buffered
+ * ahead of the consumer, so a slow consumer throttles the read-ahead.
+ * <p>
+ * Enumeration can be resumed later from the {@link #getNextLink()} by creating a new iterator with it as the
+ * {@code url}. Note that the items of the current page that have not yet been consumed are not included when
+ * resuming.
+ * <p>
+ * This iterator is not thread-safe.
+ */
+public class DriveItemIterator implements Iterator<DriveItem>, AutoCloseable {
+    private final OneDriveConnection connection;
+    private final Executor executor;
+    private final int prefetchPages;
+    /**
+     * The URL of the page that follows the current page, or {@code null} if the current page is the last page.
+     */
+    @Getter
+    private String nextLink;
+    /** The delta link that is returned with the last page of a delta (changes) query. */
+    @Getter
+    private String deltaLink;
+    private Iterator<DriveItem> currentPageItems = Collections.emptyIterator();
+    // Pages that are fetched ahead of the consumer in page order. A null page marks the end of the collection.
+    private final Deque<CompletableFuture<DriveItemPage>> prefetchedPages = new ArrayDeque<>();
+
+    /**
+     * Creates a new {@code DriveItemIterator}.
+     *
+     * @param connection the connection
+     * @param url the URL of the first page to fetch (e.g., a request URL or a previously returned next link)
+     * @param options the paging configuration (defaults to {@link PagingOptions#defaults()})
+     */
+    @Builder
+    private DriveItemIterator(
+            @NonNull final OneDriveConnection connection,
+            final String url,
+            final PagingOptions options) {
+        Validate.notBlank(url, "url must not be blank");
+
+        this.connection = connection;
+        this.nextLink = url;
+        this.prefetchPages = (options == null ? PagingOptions.defaults() : options).getPrefetchPages();
+        this.executor = prefetchPages > 0 ? connection.getThreadPool() : null;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!currentPageItems.hasNext() && nextLink != null) {
+            consumePage(prefetchPages > 0 ? takePrefetchedPage() : fetchPage(nextLink));
+        }
+
+        return currentPageItems.hasNext();
+    }
+
+    @Override
+    public DriveItem next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more drive items");
+        }
+
+        return currentPageItems.next();
+    }
+
+    /**
+     * Creates a sequential and lazy {@link Stream} that is backed by this iterator. Short-circuiting operations
+     * (e.g., {@link Stream#findFirst()} or {@link Stream#limit(long)}) stop fetching further pages. Closing the
+     * stream cancels any pages that are being fetched ahead.
+     *
+     * @return the stream of drive items
+     */
+    public Stream<DriveItem> stream() {
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL),
+                false)
+                .onClose(this::close);
+    }
+
+    /**
+     * Cancels any pages that are being fetched ahead of the consumer. Requests that are already in flight run to
+     * completion, but no further pages are requested.
+     */
+    @Override
+    public void close() {
+        prefetchedPages.forEach(page -> page.cancel(false));
+        prefetchedPages.clear();
+    }
+
+    private void consumePage(final DriveItemPage page) {
+        final String pageNextLink = page.getNextLink();
+        nextLink = StringUtils.isNotBlank(pageNextLink) ? pageNextLink : null;
+        if (StringUtils.isNotBlank(page.getDeltaLink())) {
+            deltaLink = page.getDeltaLink();
+        }
+        currentPageItems = page.getValue() == null ? Collections.emptyIterator() : page.getValue().iterator();
+    }
+
+    /*
+     * Takes the next page from the read-ahead buffer and tops the buffer back up so that up to prefetchPages pages
+     * are requested beyond the page that is about to be consumed.
+     */
+    private DriveItemPage takePrefetchedPage() {
+        if (prefetchedPages.isEmpty()) {
+            final String url = nextLink;
+            prefetchedPages.add(CompletableFuture.supplyAsync(() -> fetchPage(url), executor));
+        }
+        while (prefetchedPages.size() <= prefetchPages) {
+            prefetchedPages.add(prefetchedPages.peekLast().thenApplyAsync(
+                    page -> page == null || StringUtils.isBlank(page.getNextLink())
+                            ? null
+                            : fetchPage(page.getNextLink()),
+                    executor));
+        }
+
+        try {
+            return prefetchedPages.removeFirst().join();
+        } catch (final CompletionException ex) {
+            close();
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw ex;
+        }
+    }
+
+    private DriveItemPage fetchPage(final String url) {
+        return connection.execute(
+                connection.newRequestBuilder()
+                        .url(url)
+                        .build(),
+                DRIVE_ITEM_PAGE_PARSER);
+    }
+}
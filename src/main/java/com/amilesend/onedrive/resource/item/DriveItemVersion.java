@@ -32,6 +32,9 @@ import lombok.EqualsAndHashCode;
 import lombok.NonNull;
 import okhttp3.RequestBody;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Path;
 
 import static com.amilesend.client.connection.file.LogProgressCallback.formatPrefix;
@@ -82,7 +85,7 @@ public class DriveItemVersion {
      * <a href="https://learn.microsoft.com/en-us/onedrive/developer/rest-api/api/driveitemversion_get_contents">
      * API Documentation</a>.
      *
-     * @param folderPath the path of the folder to download the drive item version content to
+     * @param folderPath the path of the folder to download the version content to
      */
     public void download(final Path folderPath) {
         download(
@@ -100,7 +103,7 @@ public class DriveItemVersion {
      * <a href="https://learn.microsoft.com/en-us/onedrive/developer/rest-api/api/driveitemversion_get_contents">
      * API Documentation</a>.
      *
-     * @param folderPath the path of the folder to download the drive item version content to
+     * @param folderPath the path of the folder to download the version content to
      * @param callback the callback be notified of transfer progress
      */
     public void download(@NonNull final Path folderPath, @NonNull TransferProgressCallback callback) {
@@ -154,6 +157,164 @@ public class DriveItemVersion {
                 callback));
     }
 
+    /**
+     * Downloads a specific drive item version and continues from a partial file that was left behind by a previous
+     * failed download. Transfer progress is reported to the specified {@link TransferProgressCallback}. As versions
+     * are immutable, the partial file is matched by the item and version identifiers along with the size.
+     * <p>
+     * <a href="https://learn.microsoft.com/en-us/onedrive/developer/rest-api/api/driveitemversion_get_contents">
+     * API Documentation</a>.
+     *
+     * @param folderPath the path of the folder to download the version content to
+     * @param callback the callback be notified of transfer progress
+     */
+    public void downloadResumable(@NonNull final Path folderPath, @NonNull final TransferProgressCallback callback) {
+        connection.downloadResumable(
+                getContentUrl(getDriveItemId(), getId()),
+                getResumableDownloadId(),
+                null,
+                null,
+                folderPath,
+                getName(),
+                getSize(),
+                callback);
+    }
+
+    /**
+     * Downloads a specific drive item version asynchronously and continues from a partial file that was left behind
+     * by a previous failed download. Consumers can block on transfer completion by invoking
+     * {@link DriveFileDownloadExecution#get()}.
+     *
+     * @param folderPath the folder to download the file to
+     * @param callback the callback be notified of transfer progress
+     * @return the asynchronous execution that contains the number of bytes downloaded
+     * @see #downloadResumable(Path, TransferProgressCallback)
+     */
+    public DriveFileDownloadExecution downloadResumableAsync(
+            @NonNull final Path folderPath,
+            @NonNull TransferProgressCallback callback) {
+        return new DriveFileDownloadExecution(connection.downloadResumableAsync(
+                getContentUrl(getDriveItemId(), getId()),
+                getResumableDownloadId(),
+                null,
+                null,
+                folderPath,
+                getName(),
+                getSize(),
+                callback));
+    }
+
+    /**
+     * Downloads the version content directly to the given {@code output} channel without staging it on disk and
+     * reports transfer progress to the given {@link TransferProgressCallback}. The channel is not closed.
+     * <p>
+     * <a href="https://learn.microsoft.com/en-us/onedrive/developer/rest-api/api/driveitemversion_get_contents">
+     * API Documentation</a>.
+     *
+     * @param output the channel to write the content to
+     * @param callback the callback to inform of transfer progress
+     * @return the number of bytes downloaded
+     */
+    public long downloadTo(
+            @NonNull final WritableByteChannel output,
+            @NonNull final TransferProgressCallback callback) {
+        return connection.downloadTo(
+                connection.newRequestBuilder()
+                        .url(getContentUrl(getDriveItemId(), getId()))
+                        .build(),
+                output,
+                getSize(),
+                callback);
+    }
+
+    /**
+     * Downloads the version content directly to the given {@code output} stream without staging it on disk and
+     * reports transfer progress to the given {@link TransferProgressCallback}. The stream is not closed.
+     * <p>
+     * <a href="https://learn.microsoft.com/en-us/onedrive/developer/rest-api/api/driveitemversion_get_contents">
+     * API Documentation</a>.
+     *
+     * @param output the stream to write the content to
+     * @param callback the callback to inform of transfer progress
+     * @return the number of bytes downloaded
+     */
+    public long downloadTo(@NonNull final OutputStream output, @NonNull final TransferProgressCallback callback) {
+        return connection.downloadTo(
+                connection.newRequestBuilder()
+                        .url(getContentUrl(getDriveItemId(), getId()))
+                        .build(),
+                output,
+                getSize(),
+                callback);
+    }
+
+    /**
+     * Downloads the version content asynchronously to the given {@code output} channel. The channel is not closed.
+     * <p>
+     * <a href="https://learn.microsoft.com/en-us/onedrive/developer/rest-api/api/driveitemversion_get_contents">
+     * API Documentation</a>.
+     *
+     * @param output the channel to write the content to
+     * @param callback the callback to inform of transfer progress
+     * @return the asynchronous execution that contains the number of bytes downloaded
+     * @see #downloadTo(WritableByteChannel, TransferProgressCallback)
+     */
+    public DriveFileDownloadExecution downloadToAsync(
+            @NonNull final WritableByteChannel output,
+            @NonNull final TransferProgressCallback callback) {
+        return new DriveFileDownloadExecution(connection.downloadToAsync(
+                connection.newRequestBuilder()
+                        .url(getContentUrl(getDriveItemId(), getId()))
+                        .build(),
+                output,
+                getSize(),
+                callback));
+    }
+
+    /**
+     * Downloads the version content asynchronously to the given {@code output} stream. The stream is not closed.
+     * <p>
+     * <a href="https://learn.microsoft.com/en-us/onedrive/developer/rest-api/api/driveitemversion_get_contents">
+     * API Documentation</a>.
+     *
+     * @param output the stream to write the content to
+     * @param callback the callback to inform of transfer progress
+     * @return the asynchronous execution that contains the number of bytes downloaded
+     * @see #downloadTo(OutputStream, TransferProgressCallback)
+     */
+    public DriveFileDownloadExecution downloadToAsync(
+            @NonNull final OutputStream output,
+            @NonNull final TransferProgressCallback callback) {
+        return new DriveFileDownloadExecution(connection.downloadToAsync(
+                connection.newRequestBuilder()
+                        .url(getContentUrl(getDriveItemId(), getId()))
+                        .build(),
+                output,
+                getSize(),
+                callback));
+    }
+
+    /**
+     * Opens a stream over the version content that is bounded to the version size and reports transfer
+     * progress to the given {@link TransferProgressCallback} as it is consumed. The caller must close the returned
+     * stream to release the underlying connection, which also counts against the connection's concurrency limit
+     * until closed.
+     * <p>
+     * <a href="https://learn.microsoft.com/en-us/onedrive/developer/rest-api/api/driveitemversion_get_contents">
+     * API Documentation</a>.
+     *
+     * @param callback the callback to inform of transfer progress
+     * @return the content stream
+     */
+    public InputStream openContentStream(@NonNull final TransferProgressCallback callback) {
+        return connection.openDownloadStream(
+                connection.newRequestBuilder()
+                        .url(getContentUrl(getDriveItemId(), getId()))
+                        .build(),
+                getSize(),
+                callback);
+    }
+
     /**
      * Restores this version as the primary drive item version.
      * <p>
@@ -172,6 +333,10 @@ public class DriveItemVersion {
         return responseCode == NO_CONTENT_RESPONSE_HTTP_CODE;
     }
 
+    private String getResumableDownloadId() {
+        return getDriveItemId() + VERSIONS_URL_SPECIFIER + getId();
+    }
+
     private String getContentUrl(final String driveItemId, final String versionId) {
         return getVersionBasedUrl(driveItemId, versionId, CONTENT_URL_SUFFIX);
     }
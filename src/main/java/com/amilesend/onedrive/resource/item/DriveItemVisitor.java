@@ -0,0 +1,35 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.resource.item;
+
+/**
+ * Visits the {@link DriveItem}s that are discovered while walking a folder hierarchy. Items are visited concurrently
+ * from multiple threads, so implementations must be thread-safe.
+ *
+ * @see DriveItemWalker
+ */
+@FunctionalInterface
+public interface DriveItemVisitor {
+    /**
+     * Visits the given drive item.
+     *
+     * @param item the discovered drive item
+     * @param depth the depth of the item relative to the folder being walked (direct children have a depth of 1)
+     */
+    void visit(DriveItem item, int depth);
+}
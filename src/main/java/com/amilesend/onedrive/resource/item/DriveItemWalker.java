@@ -0,0 +1,243 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.resource.item;
+
+import com.amilesend.client.connection.RequestException;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Walks a folder hierarchy where up to {@link WalkOptions#getParallelism()} folders are listed concurrently. Each
+ * discovered item is passed to the {@link DriveItemVisitor} as soon as its page of children is fetched, and
+ * discovered subfolders are queued to be listed by the next available worker. Pending folders are expanded in
+ * last-in-first-out order to keep the number of queued folders small for wide hierarchies.
+ * <p>
+ * The calling thread lists folders alongside the workers that are submitted to the executor, so a saturated
+ * executor slows the walk instead of deadlocking it.
+ *
+ * @see WalkOptions
+ */
+@Slf4j
+public class DriveItemWalker {
+    /** The folder to walk. */
+    private final DriveItem root;
+    /** The visitor of discovered items. */
+    private final DriveItemVisitor visitor;
+    /** The walk configuration. */
+    private final WalkOptions options;
+    /** The executor used to run the concurrent folder workers. */
+    private final Executor executor;
+
+    // A lock instead of a monitor so that waiting virtual threads do not pin their carrier threads
+    private final ReentrantLock stateLock = new ReentrantLock();
+    private final Condition stateChanged = stateLock.newCondition();
+    private final AtomicLong numVisited = new AtomicLong();
+    private final Deque<PendingFolder> pendingFolders = new ArrayDeque<>();
+    private int numInFlight;
+    private RuntimeException failure;
+
+    /**
+     * Creates a new {@code DriveItemWalker}.
+     *
+     * @param root the folder to walk
+     * @param visitor the visitor of discovered items
+     * @param options the walk configuration (defaults to {@link WalkOptions#defaults()})
+     * @param executor the executor used to run the concurrent folder workers
+     */
+    @Builder
+    private DriveItemWalker(
+            @NonNull final DriveItem root,
+            @NonNull final DriveItemVisitor visitor,
+            final WalkOptions options,
+            @NonNull final Executor executor) {
+        this.root = root;
+        this.visitor = visitor;
+        this.options = options == null ? WalkOptions.defaults() : options;
+        this.executor = executor;
+    }
+
+    /**
+     * Walks the folder hierarchy and blocks until all folders have been listed.
+     *
+     * @return the number of visited items
+     * @throws RuntimeException the first exception thrown while listing a folder or visiting an item
+     */
+    public long walk() {
+        pendingFolders.add(new PendingFolder(root, 1));
+        startWorkers();
+        // The calling thread participates to guarantee progress regardless of executor availability
+        walkFolders();
+        awaitInFlightFolders();
+
+        if (failure != null) {
+            throw failure;
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Visited [{}] items under [{}]", numVisited.get(), root.getId());
+        }
+        return numVisited.get();
+    }
+
+    private void startWorkers() {
+        for (int i = 0; i < options.getParallelism() - 1; ++i) {
+            try {
+                executor.execute(this::walkFolders);
+            } catch (final RejectedExecutionException ex) {
+                log.debug("Executor rejected folder worker. Continuing with {} worker(s)", i + 1);
+                break;
+            }
+        }
+    }
+
+    private void walkFolders() {
+        PendingFolder folder;
+        while ((folder = claimNextFolder()) != null) {
+            try {
+                listFolder(folder);
+            } catch (final RuntimeException ex) {
+                recordFailure(ex);
+            } finally {
+                completeFolder();
+            }
+        }
+    }
+
+    private void listFolder(final PendingFolder folder) {
+        final int depth = folder.getChildDepth();
+        final Iterator<DriveItem> children = folder.getItem().getChildrenIterator(options.getPagingOptions());
+        while (children.hasNext() && !isFailed()) {
+            final DriveItem child = children.next();
+            if (options.getFilter().test(child)) {
+                visitor.visit(child, depth);
+                numVisited.incrementAndGet();
+            }
+
+            if (child.getFolder() != null && depth < options.getMaxDepth() && options.getFolderFilter().test(child)) {
+                addPendingFolder(new PendingFolder(child, depth + 1));
+            }
+        }
+    }
+
+    /*
+     * Claims the next pending folder. Blocks while there are no pending folders but other folders are still being
+     * listed, as those may discover more subfolders. Returns null once the walk is complete or has failed.
+     */
+    private PendingFolder claimNextFolder() {
+        stateLock.lock();
+        try {
+            while (failure == null) {
+                if (!pendingFolders.isEmpty()) {
+                    ++numInFlight;
+                    return pendingFolders.removeLast();
+                }
+
+                if (numInFlight == 0) {
+                    return null;
+                }
+
+                try {
+                    stateChanged.await();
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    recordFailure(new RequestException("Interrupted while walking folders", ex));
+                }
+            }
+
+            return null;
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    private void addPendingFolder(final PendingFolder folder) {
+        stateLock.lock();
+        try {
+            pendingFolders.addLast(folder);
+            stateChanged.signalAll();
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    private void completeFolder() {
+        stateLock.lock();
+        try {
+            --numInFlight;
+            stateChanged.signalAll();
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    private void awaitInFlightFolders() {
+        stateLock.lock();
+        try {
+            while (numInFlight > 0) {
+                stateChanged.await();
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            recordFailure(new RequestException("Interrupted while waiting for folders to be listed", ex));
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    private void recordFailure(final RuntimeException ex) {
+        stateLock.lock();
+        try {
+            if (failure == null) {
+                failure = ex;
+            }
+            stateChanged.signalAll();
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    private boolean isFailed() {
+        stateLock.lock();
+        try {
+            return failure != null;
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class PendingFolder {
+        /** The folder to list. */
+        private final DriveItem item;
+        /** The depth of the folder's children. */
+        private final int childDepth;
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.resource.item;
+
+import com.amilesend.client.util.StringUtils;
+import com.amilesend.client.util.Validate;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.amilesend.onedrive.resource.ResourceHelper.TOP_QUERY_PARAMETER;
+import static com.amilesend.onedrive.resource.ResourceHelper.appendQueryParameter;
+import static com.amilesend.onedrive.resource.ResourceHelper.appendSelectQueryParameter;
+
+/**
+ * Defines the configuration for enumerating a paginated collection of {@link DriveItem}s.
+ *
+ * @see DriveItemIterator
+ */
+@Data
+public class PagingOptions {
+    /** The default number of pages to fetch ahead of the consumer (no read-ahead). */
+    public static final int DEFAULT_PREFETCH_PAGES = 0;
+    /**
+     * The facet properties that determine the type of a {@link DriveItem} (i.e., file, folder, or package). These are
+     * always included in a non-empty {@link #getSelect() select} so that items can be resolved to their type.
+     */
+    public static final List<String> TYPE_FACET_PROPERTIES = List.of("file", "folder", "package");
+
+    /**
+     * The maximum number of pages to fetch ahead of the page that is currently being consumed. Pages are fetched on
+     * the connection's thread pool, and no more than this number of pages are buffered.
+     */
+    private final int prefetchPages;
+    /**
+     * The names of the {@link DriveItem} properties to return (e.g., {@code id}, {@code name}, {@code size},
+     * {@code eTag}, {@code parentReference}, or {@code file}). Properties that are not selected are {@code null}
+     * (or the default value for primitive types). If empty, the full representation is returned. Otherwise, the
+     * {@link #TYPE_FACET_PROPERTIES type facets} are always included so that folders are not mistaken for files.
+     */
+    private final Set<String> select;
+    /**
+     * The maximum number of items to return per page (applied as {@code $top}), or {@code null} to use the
+     * service's default page size. Larger pages reduce the number of round trips for bulk scans, while smaller pages
+     * reduce latency and memory for interactive use.
+     */
+    private final Integer pageSize;
+
+    /**
+     * Creates a new {@code PagingOptions}.
+     *
+     * @param prefetchPages the maximum number of pages to fetch ahead of the consumer
+     * @param select the names of the drive item properties to return along with the type facets (defaults to all)
+     * @param pageSize the maximum number of items to return per page (defaults to the service's page size)
+     */
+    @Builder
+    private PagingOptions(final Integer prefetchPages, final Collection<String> select, final Integer pageSize) {
+        this.prefetchPages = prefetchPages == null ? DEFAULT_PREFETCH_PAGES : prefetchPages;
+        this.select = toSelect(select);
+        this.pageSize = pageSize;
+
+        Validate.isTrue(this.prefetchPages >= 0, "prefetchPages must be >= 0");
+        Validate.isTrue(this.select.stream().allMatch(StringUtils::isNotBlank), "select must not contain blank values");
+        Validate.isTrue(pageSize == null || pageSize > 0, "pageSize must be > 0");
+    }
+
+    /**
+     * Gets the default options.
+     *
+     * @return the default options
+     */
+    public static PagingOptions defaults() {
+        return PagingOptions.builder().build();
+    }
+
+    /**
+     * Creates a copy of these options without the options that are applied as query parameters (i.e., select and
+     * page size). Used when resuming from a delta or next link that already includes the original query parameters.
+     *
+     * @return the options without query parameters
+     */
+    public PagingOptions withoutQueryParameters() {
+        return PagingOptions.builder()
+                .prefetchPages(prefetchPages)
+                .build();
+    }
+
+    /**
+     * Applies the query parameters that are defined by these options to the URL of the first page. Subsequent page
+     * URLs (i.e., next links) already include the query parameters.
+     *
+     * @param url the URL of the first page
+     * @return the URL with the query parameters
+     */
+    public String applyQueryParameters(final String url) {
+        final String selectUrl = appendSelectQueryParameter(url, select);
+        return pageSize == null ? selectUrl : appendQueryParameter(selectUrl, TOP_QUERY_PARAMETER, pageSize.toString());
+    }
+
+    private static Set<String> toSelect(final Collection<String> select) {
+        if (select == null || select.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        final Set<String> properties = new LinkedHashSet<>(select);
+        properties.addAll(TYPE_FACET_PROPERTIES);
+        return Collections.unmodifiableSet(properties);
+    }
+}
@@ -22,6 +22,7 @@ import com.amilesend.client.util.Validate;
 import com.amilesend.onedrive.connection.OneDriveConnection;
 import com.amilesend.onedrive.resource.item.type.SpecialFolder;
 import lombok.Getter;
+import lombok.NonNull;
 import lombok.Setter;
 import lombok.ToString;
 import lombok.experimental.SuperBuilder;
@@ -58,16 +59,18 @@ public class SpecialDriveItem extends DriveItem {
         final OneDriveConnection connection = getConnection();
         return connection.execute(
                 connection.newRequestBuilder()
-                        .url(new StringBuilder(connection.getBaseUrl())
-                                .append(DRIVE_BASE_URL_PATH)
-                                .append("special/")
-                                .append(specialFolderType.getId())
-                                .append("/children")
-                                .toString())
+                        .url(getSpecialChildrenUrl())
                         .build(),
                 DRIVE_ITEM_LIST_PARSER);
     }
 
+    @Override
+    public DriveItemIterator getChildrenIterator(@NonNull final PagingOptions options) {
+        Validate.notNull(specialFolderType, "specialFolderType must not be null");
+
+        return newDriveItemIterator(getSpecialChildrenUrl(), options);
+    }
+
     @Override
     public boolean equals(final Object obj) {
         if (this == obj) {
@@ -90,4 +93,13 @@ public class SpecialDriveItem extends DriveItem {
     public int hashCode() {
         return Objects.hash(super.hashCode(), getSpecialFolderType());
     }
+
+    private String getSpecialChildrenUrl() {
+        return new StringBuilder(getConnection().getBaseUrl())
+                .append(DRIVE_BASE_URL_PATH)
+                .append("special/")
+                .append(specialFolderType.getId())
+                .append("/children")
+                .toString();
+    }
 }
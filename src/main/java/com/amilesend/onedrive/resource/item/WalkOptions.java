@@ -0,0 +1,83 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.resource.item;
+
+import com.amilesend.client.util.Validate;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.function.Predicate;
+
+/**
+ * Defines the configuration for walking a folder hierarchy where subfolders are listed concurrently.
+ *
+ * @see DriveItemWalker
+ */
+@Data
+public class WalkOptions {
+    /** The default maximum depth to walk (unlimited). */
+    public static final int DEFAULT_MAX_DEPTH = Integer.MAX_VALUE;
+    /** The default number of folders to list concurrently. */
+    public static final int DEFAULT_PARALLELISM = 4;
+
+    /** The maximum depth of items to visit where the direct children of the walked folder have a depth of 1. */
+    private final int maxDepth;
+    /** The maximum number of folders to list concurrently. */
+    private final int parallelism;
+    /** The paging configuration used to list the children of each folder. */
+    private final PagingOptions pagingOptions;
+    /** Determines which discovered items are visited. */
+    private final Predicate<DriveItem> filter;
+    /** Determines which discovered folders are descended into. */
+    private final Predicate<DriveItem> folderFilter;
+
+    /**
+     * Creates a new {@code WalkOptions}.
+     *
+     * @param maxDepth the maximum depth of items to visit
+     * @param parallelism the maximum number of folders to list concurrently
+     * @param pagingOptions the paging configuration used to list the children of each folder
+     * @param filter determines which discovered items are visited (defaults to all items)
+     * @param folderFilter determines which discovered folders are descended into (defaults to all folders)
+     */
+    @Builder
+    private WalkOptions(
+            final Integer maxDepth,
+            final Integer parallelism,
+            final PagingOptions pagingOptions,
+            final Predicate<DriveItem> filter,
+            final Predicate<DriveItem> folderFilter) {
+        this.maxDepth = maxDepth == null ? DEFAULT_MAX_DEPTH : maxDepth;
+        this.parallelism = parallelism == null ? DEFAULT_PARALLELISM : parallelism;
+        this.pagingOptions = pagingOptions == null ? PagingOptions.defaults() : pagingOptions;
+        this.filter = filter == null ? item -> true : filter;
+        this.folderFilter = folderFilter == null ? item -> true : folderFilter;
+
+        Validate.isTrue(this.maxDepth > 0, "maxDepth must be > 0");
+        Validate.isTrue(this.parallelism > 0, "parallelism must be > 0");
+    }
+
+    /**
+     * Gets the default options.
+     *
+     * @return the default options
+     */
+    public static WalkOptions defaults() {
+        return WalkOptions.builder().build();
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.resource.item.type;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Describes a resumable upload session used to upload large files in fragments.
+ * <p>
+ * <a href="https://learn.microsoft.com/en-us/onedrive/developer/rest-api/resources/uploadsession">
+ * API Documentation</a>.
+ */
+@Builder
+@Data
+public class UploadSession {
+    /** The URL endpoint that accepts the byte range PUT requests for the file. */
+    private final String uploadUrl;
+    /** The date and time in UTC when the upload session will expire. */
+    private final String expirationDateTime;
+    /**
+     * The collection of byte ranges that the server is missing for the file. Each range is formatted as
+     * {@literal start-end} (inclusive), or {@literal start-} to indicate that all remaining bytes are expected.
+     */
+    @Builder.Default
+    private final List<String> nextExpectedRanges = Collections.emptyList();
+}
@@ -0,0 +1,53 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.resource.request;
+
+import com.google.gson.annotations.SerializedName;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Represents a request to create a resumable upload session.
+ * <p>
+ * <a href="https://learn.microsoft.com/en-us/onedrive/developer/rest-api/api/driveitem_createuploadsession">
+ * API Documentation</a>.
+ */
+@Builder
+@Data
+public class CreateUploadSessionRequest {
+    /** Describes the drive item properties to apply to the uploaded file. */
+    private final Item item;
+
+    /** The properties of the drive item associated with the upload session. */
+    @Builder
+    @Data
+    public static class Item {
+        /**
+         * Describes how to handle conflicts if the item already exists. Valid values include:
+         * <ul>
+         *     <li>{@literal fail}</li>
+         *     <li>{@literal replace}</li>
+         *     <li>{@literal rename}</li>
+         * </ul>
+         */
+        @SerializedName("@microsoft.graph.conflictBehavior")
+        private final String conflictBehavior;
+        /** The optional name of the item. */
+        private final String name;
+    }
+}
@@ -17,9 +17,17 @@
  */
 package com.amilesend.onedrive.connection;
 
+import com.amilesend.client.connection.retry.RetryStrategy;
 import com.amilesend.client.util.StringUtils;
 import com.amilesend.onedrive.connection.auth.OneDriveAuthInfo;
 import com.amilesend.onedrive.connection.auth.PersonalAccountAuthManager;
+import com.amilesend.onedrive.connection.cache.MetadataCacheOptions;
+import com.amilesend.onedrive.connection.http.AdaptiveConcurrencyOptions;
+import com.amilesend.onedrive.connection.http.ConnectionWarmer;
+import com.amilesend.onedrive.connection.http.RequestRateLimiter;
+import com.amilesend.onedrive.connection.http.ThrottlingRetryInterceptor;
+import com.amilesend.onedrive.connection.http.ThrottlingRetryOptions;
+import com.amilesend.onedrive.connection.http.TokenBucket;
 import com.amilesend.onedrive.parse.GsonFactory;
 import okhttp3.OkHttpClient;
 import org.junit.jupiter.api.BeforeEach;
@@ -29,14 +37,20 @@ import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -156,6 +170,130 @@ public class OneDriveConnectionBuilderTest {
         }
     }
 
+    @Test
+    public void builder_withThrottlingRetryOptions_shouldAddRetryInterceptor() {
+        when(mockAuthManager.getAuthenticatedEndpoint()).thenReturn(BASE_URL);
+        final OkHttpClient httpClient = new OkHttpClient();
+
+        final OneDriveConnection actual = builderUnderTest
+                .authManager(mockAuthManager)
+                .httpClient(httpClient)
+                .throttlingRetryOptions(ThrottlingRetryOptions.defaults())
+                .build(AUTH_CODE);
+
+        assertAll(
+                () -> assertEquals(1, actual.getHttpClient().interceptors().size()),
+                () -> assertInstanceOf(ThrottlingRetryInterceptor.class, actual.getHttpClient().interceptors().get(0)),
+                () -> assertEquals(httpClient.connectionPool(), actual.getHttpClient().connectionPool()),
+                () -> assertTrue(httpClient.interceptors().isEmpty()));
+    }
+
+    @Test
+    public void builder_withThrottlingRetryOptions_shouldBuildAuthManagerWithoutInterceptors() {
+        when(mockAuthManager.getAuthenticatedEndpoint()).thenReturn(BASE_URL);
+        final PersonalAccountAuthManager.BuilderWithAuthCode mockBuilder =
+                setUpAuthManagerBuilderWithAuthCode(mockAuthManager);
+        final OkHttpClient httpClient = new OkHttpClient();
+        try (final MockedStatic<PersonalAccountAuthManager> authManagerMockedStatic =
+                     mockStatic(PersonalAccountAuthManager.class)) {
+            authManagerMockedStatic.when(
+                    () -> PersonalAccountAuthManager.builderWithAuthCode()).thenReturn(mockBuilder);
+
+            final OneDriveConnection actual = builderUnderTest
+                    .clientId(CLIENT_ID)
+                    .clientSecret(CLIENT_SECRET)
+                    .redirectUrl(REDIRECT_URL)
+                    .httpClient(httpClient)
+                    .throttlingRetryOptions(ThrottlingRetryOptions.defaults())
+                    .build(AUTH_CODE);
+
+            assertAll(
+                    () -> assertInstanceOf(ThrottlingRetryInterceptor.class,
+                            actual.getHttpClient().interceptors().get(0)),
+                    () -> verify(mockBuilder).httpClient(httpClient));
+        }
+    }
+
+    @Test
+    public void builder_withRetryConfiguration_shouldSetAsyncRetryPolicy() {
+        when(mockAuthManager.getAuthenticatedEndpoint()).thenReturn(BASE_URL);
+
+        final OneDriveConnection withDefaults = builderUnderTest
+                .authManager(mockAuthManager)
+                .httpClient(new OkHttpClient())
+                .build(AUTH_CODE);
+        final OneDriveConnection withRetryStrategy = OneDriveConnectionBuilder.newInstance()
+                .authManager(mockAuthManager)
+                .httpClient(new OkHttpClient())
+                .retryStrategy(mock(RetryStrategy.class))
+                .build(AUTH_CODE);
+        final OneDriveConnection withThrottlingRetryOptions = OneDriveConnectionBuilder.newInstance()
+                .authManager(mockAuthManager)
+                .httpClient(new OkHttpClient())
+                .throttlingRetryOptions(ThrottlingRetryOptions.defaults())
+                .build(AUTH_CODE);
+
+        assertAll(
+                () -> assertNull(withDefaults.getAsyncRetryPolicy()),
+                () -> assertNotNull(withRetryStrategy.getAsyncRetryPolicy()),
+                () -> assertNotNull(withThrottlingRetryOptions.getAsyncRetryPolicy()));
+    }
+
+    @Test
+    public void builder_withLimiters_shouldAddInterceptorsInOrder() {
+        when(mockAuthManager.getAuthenticatedEndpoint()).thenReturn(BASE_URL);
+        final RequestRateLimiter rateLimiter = RequestRateLimiter.builder()
+                .metadataBucket(TokenBucket.builder().permitsPerSecond(10.0D).burstSize(20).build())
+                .build();
+
+        final OneDriveConnection actual = builderUnderTest
+                .authManager(mockAuthManager)
+                .httpClient(new OkHttpClient())
+                .throttlingRetryOptions(ThrottlingRetryOptions.defaults())
+                .requestRateLimiter(rateLimiter)
+                .adaptiveConcurrencyOptions(AdaptiveConcurrencyOptions.defaults())
+                .build(AUTH_CODE);
+
+        assertAll(
+                () -> assertNotNull(actual.getConcurrencyLimiter()),
+                () -> assertEquals(AdaptiveConcurrencyOptions.DEFAULT_INITIAL_LIMIT,
+                        actual.getConcurrencyLimiter().getLimit()),
+                () -> assertInstanceOf(ThrottlingRetryInterceptor.class, actual.getHttpClient().interceptors().get(0)),
+                () -> assertEquals(rateLimiter, actual.getHttpClient().interceptors().get(1)),
+                () -> assertEquals(actual.getConcurrencyLimiter(), actual.getHttpClient().interceptors().get(2)));
+    }
+
+    @Test
+    public void builder_withMetadataCacheOptions_shouldEnableMetadataCache() {
+        when(mockAuthManager.getAuthenticatedEndpoint()).thenReturn(BASE_URL);
+        final MetadataCacheOptions options = MetadataCacheOptions.builder().maxEntries(10).build();
+
+        final OneDriveConnection actual = builderUnderTest
+                .authManager(mockAuthManager)
+                .httpClient(mockClient)
+                .metadataCacheOptions(options)
+                .build(AUTH_CODE);
+
+        assertAll(
+                () -> assertNotNull(actual.getMetadataCache()),
+                () -> assertEquals(options, actual.getMetadataCache().getOptions()));
+    }
+
+    @Test
+    public void builder_withWarmupEnabled_shouldWarmUpConnections() {
+        when(mockAuthManager.getAuthenticatedEndpoint()).thenReturn(BASE_URL);
+        try (final MockedStatic<ConnectionWarmer> warmerMockedStatic = mockStatic(ConnectionWarmer.class)) {
+            builderUnderTest
+                    .authManager(mockAuthManager)
+                    .httpClient(mockClient)
+                    .isWarmupEnabled(true)
+                    .build(AUTH_CODE);
+
+            warmerMockedStatic.verify(() ->
+                    ConnectionWarmer.warmUp(mockClient, List.of(BASE_URL, ConnectionWarmer.LOGIN_URL)));
+        }
+    }
+
     @Test
     public void builder_withInvalidParameters_shouldThrowException() {
         assertAll(
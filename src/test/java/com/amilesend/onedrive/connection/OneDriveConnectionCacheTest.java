@@ -0,0 +1,267 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection;
+
+import com.amilesend.client.parse.parser.GsonParser;
+import com.amilesend.onedrive.connection.batch.BatchExecutor;
+import com.amilesend.onedrive.connection.batch.BatchRequest;
+import com.amilesend.onedrive.connection.cache.MetadataCache;
+import com.amilesend.onedrive.connection.cache.MetadataCacheOptions;
+import lombok.SneakyThrows;
+import okhttp3.Call;
+import okhttp3.HttpUrl;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+public class OneDriveConnectionCacheTest extends OneDriveConnectionTestBase {
+    private static final String ITEM_URL = "https://graph.microsoft.com/v1.0/me/drive/items/ItemId";
+    private static final String ETAG = "\"ETag,1\"";
+    private static final String CACHED_BODY = "{\"id\":\"ItemId\",\"name\":\"Cached\"}";
+    private static final String NEW_BODY = "{\"id\":\"ItemId\",\"name\":\"New\",\"eTag\":\"\\\"ETag,2\\\"\"}";
+    private static final int NOT_MODIFIED_RESPONSE_CODE = 304;
+    private static final GsonParser<String> STRING_PARSER =
+            (gson, jsonStream) -> readAllBytes(jsonStream);
+
+    ////////////////////////////////////
+    // execute
+    ////////////////////////////////////
+
+    @Test
+    public void execute_withCacheMiss_shouldCacheResponseWithETagHeader() {
+        final OneDriveConnection connection = newCachingConnection(Duration.ZERO);
+        final Response mockResponse = newMockedResponse(SUCCESS_RESPONSE_CODE, CACHED_BODY.getBytes());
+        when(mockResponse.header("ETag")).thenReturn(ETAG);
+        setUpHttpClientMock(mockResponse);
+
+        final String actual = connection.execute(newGetRequest(), STRING_PARSER);
+
+        final MetadataCache.Entry entry = connection.getMetadataCache().get(HttpUrl.get(ITEM_URL));
+        assertAll(
+                () -> assertEquals(CACHED_BODY, actual),
+                () -> assertNotNull(entry),
+                () -> assertEquals(ETAG, entry.getETag()));
+    }
+
+    @Test
+    public void execute_withCacheMissAndNoETagHeader_shouldCacheResponseWithResourceETag() {
+        final OneDriveConnection connection = newCachingConnection(Duration.ZERO);
+        setUpHttpClientMock(newMockedResponse(SUCCESS_RESPONSE_CODE, NEW_BODY.getBytes()));
+
+        final String actual = connection.execute(newGetRequest(), STRING_PARSER);
+
+        assertAll(
+                () -> assertEquals(NEW_BODY, actual),
+                () -> assertEquals("\"ETag,2\"", connection.getMetadataCache().get(HttpUrl.get(ITEM_URL)).getETag()));
+    }
+
+    @Test
+    public void execute_withCachedEntryAndNotModifiedResponse_shouldRevalidateAndReturnCachedBody() {
+        final OneDriveConnection connection = newCachingConnection(Duration.ZERO);
+        connection.getMetadataCache().put(HttpUrl.get(ITEM_URL), ETAG, CACHED_BODY.getBytes());
+        setUpHttpClientMock(newMockedResponse(NOT_MODIFIED_RESPONSE_CODE, new byte[0]));
+
+        final String actual = connection.execute(newGetRequest(), STRING_PARSER);
+
+        final ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        verify(mockHttpClient).newCall(requestCaptor.capture());
+        assertAll(
+                () -> assertEquals(CACHED_BODY, actual),
+                () -> assertEquals(ETAG, requestCaptor.getValue().header("If-None-Match")));
+    }
+
+    @Test
+    public void execute_withCachedEntryAndModifiedResponse_shouldReplaceCachedEntry() {
+        final OneDriveConnection connection = newCachingConnection(Duration.ZERO);
+        connection.getMetadataCache().put(HttpUrl.get(ITEM_URL), ETAG, CACHED_BODY.getBytes());
+        setUpHttpClientMock(newMockedResponse(SUCCESS_RESPONSE_CODE, NEW_BODY.getBytes()));
+
+        final String actual = connection.execute(newGetRequest(), STRING_PARSER);
+
+        assertAll(
+                () -> assertEquals(NEW_BODY, actual),
+                () -> assertEquals("\"ETag,2\"", connection.getMetadataCache().get(HttpUrl.get(ITEM_URL)).getETag()));
+    }
+
+    @Test
+    public void execute_withFreshCachedEntry_shouldReturnCachedBodyWithoutRequest() {
+        final OneDriveConnection connection = newCachingConnection(Duration.ofMinutes(1L));
+        connection.getMetadataCache().put(HttpUrl.get(ITEM_URL), ETAG, CACHED_BODY.getBytes());
+
+        final String actual = connection.execute(newGetRequest(), STRING_PARSER);
+
+        assertAll(
+                () -> assertEquals(CACHED_BODY, actual),
+                () -> verifyNoInteractions(mockHttpClient));
+    }
+
+    @Test
+    public void execute_withRequestPreconditions_shouldBypassCache() {
+        final OneDriveConnection connection = newCachingConnection(Duration.ofMinutes(1L));
+        connection.getMetadataCache().put(HttpUrl.get(ITEM_URL), ETAG, CACHED_BODY.getBytes());
+        setUpHttpClientMock(newMockedResponse(SUCCESS_RESPONSE_CODE, NEW_BODY.getBytes()));
+
+        final String actual = connection.execute(
+                newGetRequest().newBuilder().header("Range", "bytes=0-10").build(),
+                STRING_PARSER);
+
+        assertAll(
+                () -> assertEquals(NEW_BODY, actual),
+                () -> assertEquals(CACHED_BODY, readAllBytes(connection.getMetadataCache()
+                        .get(HttpUrl.get(ITEM_URL)).newBodyStream())));
+    }
+
+    @Test
+    public void execute_withMutatingRequest_shouldInvalidateCachedItem() {
+        final OneDriveConnection connection = newCachingConnection(Duration.ofMinutes(1L));
+        connection.getMetadataCache().put(HttpUrl.get(ITEM_URL), ETAG, CACHED_BODY.getBytes());
+        connection.getMetadataCache().put(HttpUrl.get(ITEM_URL + "/children"), ETAG, CACHED_BODY.getBytes());
+        setUpHttpClientMock(newMockedResponse(SUCCESS_RESPONSE_CODE, new byte[0]));
+
+        connection.execute(new Request.Builder().url(ITEM_URL).delete().build()).close();
+
+        assertEquals(0, connection.getMetadataCache().size());
+    }
+
+    ////////////////////////////////////
+    // enqueue
+    ////////////////////////////////////
+
+    @SneakyThrows
+    @Test
+    public void enqueue_withCachedEntryAndNotModifiedResponse_shouldReturnCachedBody() {
+        final OneDriveConnection connection = newCachingConnection(Duration.ZERO);
+        connection.getMetadataCache().put(HttpUrl.get(ITEM_URL), ETAG, CACHED_BODY.getBytes());
+        final Call mockCall = setUpHttpClientMockAsync();
+
+        final CompletableFuture<String> actual = connection.enqueue(newGetRequest(), STRING_PARSER);
+        getCallbackFromCallMock(mockCall)
+                .onResponse(mockCall, newMockedResponse(NOT_MODIFIED_RESPONSE_CODE, new byte[0]));
+
+        assertEquals(CACHED_BODY, actual.get());
+    }
+
+    @SneakyThrows
+    @Test
+    public void enqueue_withFreshCachedEntry_shouldReturnCachedBodyWithoutRequest() {
+        final OneDriveConnection connection = newCachingConnection(Duration.ofMinutes(1L));
+        connection.getMetadataCache().put(HttpUrl.get(ITEM_URL), ETAG, CACHED_BODY.getBytes());
+
+        final CompletableFuture<String> actual = connection.enqueue(newGetRequest(), STRING_PARSER);
+
+        assertAll(
+                () -> assertEquals(CACHED_BODY, actual.get()),
+                () -> verifyNoInteractions(mockHttpClient));
+    }
+
+    ////////////////////////////////////
+    // executeBatch
+    ////////////////////////////////////
+
+    @Test
+    public void executeBatch_withMutatingRequest_shouldInvalidateCachedItem() {
+        final OneDriveConnection connection = spy(newCachingConnection(Duration.ofMinutes(1L)));
+        connection.getMetadataCache().put(HttpUrl.get(ITEM_URL), ETAG, CACHED_BODY.getBytes());
+        final BatchExecutor mockExecutor = mock(BatchExecutor.class);
+        when(mockExecutor.execute()).thenReturn(1);
+        doReturn(mockExecutor).when(connection).newBatchExecutor(any(BatchRequest.class));
+        final BatchRequest batchRequest = new BatchRequest();
+        batchRequest.add(new Request.Builder().url(ITEM_URL).delete().build());
+
+        final int actual = connection.executeBatch(batchRequest);
+
+        assertAll(
+                () -> assertEquals(1, actual),
+                () -> assertNull(connection.getMetadataCache().get(HttpUrl.get(ITEM_URL))));
+    }
+
+    ////////////////////////////////////
+    // isCacheable
+    ////////////////////////////////////
+
+    @Test
+    public void isCacheable_withRequests_shouldReturnExpected() {
+        final OneDriveConnection connection = newCachingConnection(Duration.ZERO);
+        final Request getRequest = newGetRequest();
+
+        assertAll(
+                () -> assertTrue(connection.isCacheable(getRequest)),
+                () -> assertFalse(connection.isCacheable(
+                        getRequest.newBuilder().header("If-None-Match", ETAG).build())),
+                () -> assertFalse(connection.isCacheable(getRequest.newBuilder().header("If-Match", ETAG).build())),
+                () -> assertFalse(connection.isCacheable(getRequest.newBuilder().delete().build())),
+                () -> assertFalse(connectionUnderTest.isCacheable(getRequest)));
+    }
+
+    private OneDriveConnection newCachingConnection(final Duration freshnessDuration) {
+        return OneDriveConnection.builder()
+                .baseUrl(REQUEST_URL)
+                .authManager(mockAuthManager)
+                .gsonFactory(mockGsonFactory)
+                .httpClient(mockHttpClient)
+                .threadPool(Executors.newSingleThreadExecutor())
+                .responseExecutor(Runnable::run)
+                .metadataCache(new MetadataCache(MetadataCacheOptions.builder()
+                        .freshnessDuration(freshnessDuration)
+                        .build()))
+                .build();
+    }
+
+    private static Request newGetRequest() {
+        return new Request.Builder().url(ITEM_URL).build();
+    }
+
+    private static Response newMockedResponse(final int code, final byte[] body) {
+        final ResponseBody mockBody = mock(ResponseBody.class);
+        lenient().when(mockBody.byteStream()).thenReturn(new ByteArrayInputStream(body));
+
+        final Response mockResponse = mock(Response.class);
+        lenient().when(mockResponse.code()).thenReturn(code);
+        lenient().when(mockResponse.body()).thenReturn(mockBody);
+        return mockResponse;
+    }
+
+    @SneakyThrows
+    private static String readAllBytes(final InputStream stream) {
+        return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+    }
+}
@@ -22,17 +22,30 @@ import com.amilesend.client.connection.RequestException;
 import com.amilesend.client.connection.file.TransferFileWriter;
 import com.amilesend.client.connection.file.TransferProgressCallback;
 import com.amilesend.client.util.StringUtils;
+import com.amilesend.onedrive.connection.file.ResumableDownloader;
+import com.amilesend.onedrive.connection.file.SegmentedDownloadOptions;
+import com.amilesend.onedrive.connection.file.SegmentedDownloader;
 import lombok.SneakyThrows;
+import okhttp3.Call;
 import okhttp3.Request;
 import okhttp3.Response;
+import okio.Buffer;
 import okio.BufferedSource;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -49,10 +62,12 @@ import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class OneDriveConnectionDownloadTest extends OneDriveConnectionTestBase {
+    private static final long SEGMENTED_SIZE = 64L * 1024L * 1024L;
 
     ////////////////////////////////////
     // download
@@ -284,6 +299,61 @@ public class OneDriveConnectionDownloadTest extends OneDriveConnectionTestBase {
                 () -> verify(mockCallback, never()).onFailure(any(Throwable.class)));
     }
 
+    @SneakyThrows
+    @Test
+    public void downloadAsync_withNonBlockingAsyncEnabled_shouldEnqueueAndProcessDownloadResponse() {
+        final OneDriveConnection nonBlockingConnection = newNonBlockingConnection();
+        doReturn(BYTES_TRANSFERRED)
+                .when(nonBlockingConnection)
+                .processDownloadResponse(
+                        any(Response.class),
+                        any(Path.class),
+                        anyLong(),
+                        any(TransferProgressCallback.class));
+        doReturn(mock(Path.class))
+                .when(nonBlockingConnection)
+                .checkFolderAndGetDestinationPath(any(Path.class), anyString());
+        final Call mockCall = setUpHttpClientMockAsync();
+        final Response mockResponse = newMockedResponse(SUCCESS_RESPONSE_CODE);
+
+        final CompletableFuture<Long> actual = nonBlockingConnection.downloadAsync(
+                mock(Request.class),
+                mock(Path.class),
+                "filename",
+                BYTES_TRANSFERRED,
+                mock(TransferProgressCallback.class));
+        getCallbackFromCallMock(mockCall).onResponse(mockCall, mockResponse);
+
+        assertAll(
+                () -> assertEquals(BYTES_TRANSFERRED, actual.get()),
+                () -> verify(mockCall, never()).execute(),
+                () -> verify(mockResponse).close());
+    }
+
+    @SneakyThrows
+    @Test
+    public void downloadAsync_withNonBlockingAsyncEnabledAndErrorResponse_shouldNotifyCallback() {
+        final OneDriveConnection nonBlockingConnection = newNonBlockingConnection();
+        doReturn(mock(Path.class))
+                .when(nonBlockingConnection)
+                .checkFolderAndGetDestinationPath(any(Path.class), anyString());
+        final Call mockCall = setUpHttpClientMockAsync();
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        final CompletableFuture<Long> actual = nonBlockingConnection.downloadAsync(
+                mock(Request.class),
+                mock(Path.class),
+                "filename",
+                BYTES_TRANSFERRED,
+                mockCallback);
+        getCallbackFromCallMock(mockCall).onResponse(mockCall, newMockedResponse(REQUEST_ERROR_CODE, (Long) null));
+
+        final Throwable thrown = assertThrows(ExecutionException.class, () -> actual.get());
+        assertAll(
+                () -> assertInstanceOf(RequestException.class, thrown.getCause()),
+                () -> verify(mockCallback).onFailure(thrown.getCause()));
+    }
+
     @SneakyThrows
     @Test
     public void downloadAsync_withIOExceptionGettingDownloadPath_shouldThrowException() {
@@ -405,6 +475,542 @@ public class OneDriveConnectionDownloadTest extends OneDriveConnectionTestBase {
                                 null))); // Null callback
     }
 
+    ////////////////////////////////////
+    // downloadTo
+    ////////////////////////////////////
+
+    @SneakyThrows
+    @Test
+    public void downloadTo_withChannel_shouldProcessDownloadResponse() {
+        doReturn(BYTES_TRANSFERRED)
+                .when(connectionUnderTest)
+                .processDownloadResponse(
+                        any(Response.class),
+                        any(WritableByteChannel.class),
+                        anyLong(),
+                        any(TransferProgressCallback.class));
+        final Response mockResponse = newMockedResponse(SUCCESS_RESPONSE_CODE);
+        setUpHttpClientMock(mockResponse);
+        final WritableByteChannel mockChannel = mock(WritableByteChannel.class);
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        final long actual = connectionUnderTest.downloadTo(
+                mock(Request.class),
+                mockChannel,
+                BYTES_TRANSFERRED,
+                mockCallback);
+
+        assertAll(
+                () -> assertEquals(BYTES_TRANSFERRED, actual),
+                () -> verify(connectionUnderTest).processDownloadResponse(
+                        eq(mockResponse),
+                        eq(mockChannel),
+                        eq(BYTES_TRANSFERRED),
+                        eq(mockCallback)));
+    }
+
+    @SneakyThrows
+    @Test
+    public void downloadTo_withOutputStream_shouldWriteToStream() {
+        final Response mockResponse = newMockedResponse(SUCCESS_RESPONSE_CODE);
+        when(mockResponse.body().source()).thenReturn(new Buffer().writeUtf8("Content"));
+        setUpHttpClientMock(mockResponse);
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        final long actual = connectionUnderTest.downloadTo(mock(Request.class), output, 7L, mockCallback);
+
+        assertAll(
+                () -> assertEquals(7L, actual),
+                () -> assertEquals("Content", output.toString(StandardCharsets.UTF_8)),
+                () -> verify(mockCallback).onUpdate(eq(7L), eq(7L)),
+                () -> verify(mockCallback).onComplete(eq(7L)));
+    }
+
+    @SneakyThrows
+    @Test
+    public void downloadTo_withIOExceptionDuringProcess_shouldThrowException() {
+        doThrow(new IOException("Exception"))
+                .when(connectionUnderTest)
+                .processDownloadResponse(
+                        any(Response.class),
+                        any(WritableByteChannel.class),
+                        anyLong(),
+                        any(TransferProgressCallback.class));
+        final Response mockResponse = newMockedResponse(SUCCESS_RESPONSE_CODE);
+        setUpHttpClientMock(mockResponse);
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        final Throwable thrown = assertThrows(RequestException.class,
+                () -> connectionUnderTest.downloadTo(
+                        mock(Request.class),
+                        mock(WritableByteChannel.class),
+                        BYTES_TRANSFERRED,
+                        mockCallback));
+
+        assertAll(
+                () -> assertInstanceOf(IOException.class, thrown.getCause()),
+                () -> verify(mockCallback, never()).onFailure(any(Throwable.class)));
+    }
+
+    @SneakyThrows
+    @Test
+    public void downloadTo_withOneDriveConnectionException_shouldThrowException() {
+        doThrow(new ConnectionException("Exception"))
+                .when(connectionUnderTest)
+                .processDownloadResponse(
+                        any(Response.class),
+                        any(WritableByteChannel.class),
+                        anyLong(),
+                        any(TransferProgressCallback.class));
+        final Response mockResponse = newMockedResponse(SUCCESS_RESPONSE_CODE);
+        setUpHttpClientMock(mockResponse);
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        assertThrows(ConnectionException.class, () -> connectionUnderTest.downloadTo(
+                mock(Request.class),
+                mock(WritableByteChannel.class),
+                BYTES_TRANSFERRED,
+                mockCallback));
+
+        verify(mockCallback).onFailure(any(Throwable.class));
+    }
+
+    @Test
+    public void downloadTo_withInvalidParameters_shouldThrowException() {
+        final Request mockRequest = mock(Request.class);
+        final WritableByteChannel mockChannel = mock(WritableByteChannel.class);
+        final OutputStream mockOutputStream = mock(OutputStream.class);
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        assertAll(
+                () -> assertThrows(NullPointerException.class,
+                        () -> connectionUnderTest.downloadTo(null, mockChannel, 1L, mockCallback)),
+                () -> assertThrows(NullPointerException.class,
+                        () -> connectionUnderTest.downloadTo(
+                                mockRequest, (WritableByteChannel) null, 1L, mockCallback)),
+                () -> assertThrows(NullPointerException.class,
+                        () -> connectionUnderTest.downloadTo(mockRequest, (OutputStream) null, 1L, mockCallback)),
+                () -> assertThrows(NullPointerException.class,
+                        () -> connectionUnderTest.downloadTo(mockRequest, mockOutputStream, 1L, null)),
+                () -> assertThrows(NullPointerException.class,
+                        () -> connectionUnderTest.downloadToAsync(mockRequest, mockChannel, 1L, null)),
+                () -> assertThrows(NullPointerException.class,
+                        () -> connectionUnderTest.downloadToAsync(mockRequest, (OutputStream) null, 1L, mockCallback)));
+    }
+
+    @SneakyThrows
+    @Test
+    public void downloadToAsync_withChannel_shouldReturnBytesDownloaded() {
+        doReturn(BYTES_TRANSFERRED)
+                .when(connectionUnderTest)
+                .downloadTo(
+                        any(Request.class),
+                        any(WritableByteChannel.class),
+                        anyLong(),
+                        any(TransferProgressCallback.class));
+
+        final long actual = connectionUnderTest.downloadToAsync(
+                mock(Request.class),
+                mock(WritableByteChannel.class),
+                BYTES_TRANSFERRED,
+                mock(TransferProgressCallback.class)).get();
+
+        assertEquals(BYTES_TRANSFERRED, actual);
+    }
+
+    @SneakyThrows
+    @Test
+    public void downloadToAsync_withOutputStream_shouldReturnBytesDownloaded() {
+        doReturn(BYTES_TRANSFERRED)
+                .when(connectionUnderTest)
+                .downloadTo(
+                        any(Request.class),
+                        any(OutputStream.class),
+                        anyLong(),
+                        any(TransferProgressCallback.class));
+
+        final long actual = connectionUnderTest.downloadToAsync(
+                mock(Request.class),
+                mock(OutputStream.class),
+                BYTES_TRANSFERRED,
+                mock(TransferProgressCallback.class)).get();
+
+        assertEquals(BYTES_TRANSFERRED, actual);
+    }
+
+    ////////////////////////////////////
+    // openDownloadStream
+    ////////////////////////////////////
+
+    @SneakyThrows
+    @Test
+    public void openDownloadStream_withValidRequest_shouldReturnBoundedStream() {
+        final Response mockResponse = newMockedResponse(SUCCESS_RESPONSE_CODE);
+        when(mockResponse.body().byteStream())
+                .thenReturn(new ByteArrayInputStream("ContentAndMore".getBytes(StandardCharsets.UTF_8)));
+        setUpHttpClientMock(mockResponse);
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        final String actual;
+        try (final InputStream stream = connectionUnderTest.openDownloadStream(mock(Request.class), 7L, mockCallback)) {
+            actual = new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        assertAll(
+                () -> assertEquals("Content", actual),
+                () -> verify(mockCallback).onComplete(eq(7L)),
+                () -> verify(mockResponse).close());
+    }
+
+    @Test
+    public void openDownloadStream_withRequestError_shouldThrowException() {
+        final Response mockResponse = newMockedResponse(REQUEST_ERROR_CODE);
+        setUpHttpClientMock(mockResponse);
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        assertThrows(RequestException.class,
+                () -> connectionUnderTest.openDownloadStream(mock(Request.class), 7L, mockCallback));
+
+        verify(mockCallback).onFailure(any(RequestException.class));
+    }
+
+    @Test
+    public void openDownloadStream_withInvalidParameters_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(NullPointerException.class,
+                        () -> connectionUnderTest.openDownloadStream(null, 7L, mock(TransferProgressCallback.class))),
+                () -> assertThrows(NullPointerException.class,
+                        () -> connectionUnderTest.openDownloadStream(mock(Request.class), 7L, null)));
+    }
+
+    ////////////////////////////////////
+    // downloadSegmented
+    ////////////////////////////////////
+
+    @SneakyThrows
+    @Test
+    public void downloadSegmented_withSizeAboveThreshold_shouldUseSegmentedDownloader() {
+        final Path mockDownloadPath = mock(Path.class);
+        doReturn(mockDownloadPath)
+                .when(connectionUnderTest)
+                .checkFolderAndGetDestinationPath(any(Path.class), anyString());
+        final SegmentedDownloader mockDownloader = mock(SegmentedDownloader.class);
+        when(mockDownloader.download()).thenReturn(SEGMENTED_SIZE);
+        doReturn(mockDownloader)
+                .when(connectionUnderTest)
+                .newSegmentedDownloader(
+                        anyString(),
+                        anyString(),
+                        any(Path.class),
+                        anyLong(),
+                        any(SegmentedDownloadOptions.class),
+                        any(TransferProgressCallback.class));
+        final SegmentedDownloadOptions options = SegmentedDownloadOptions.defaults();
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        final long actual = connectionUnderTest.downloadSegmented(
+                "https://localhost/content",
+                "ETag",
+                mock(Path.class),
+                "filename",
+                SEGMENTED_SIZE,
+                options,
+                mockCallback);
+
+        assertAll(
+                () -> assertEquals(SEGMENTED_SIZE, actual),
+                () -> verify(connectionUnderTest).newSegmentedDownloader(
+                        eq("https://localhost/content"),
+                        eq("ETag"),
+                        eq(mockDownloadPath),
+                        eq(SEGMENTED_SIZE),
+                        eq(options),
+                        eq(mockCallback)),
+                () -> verify(connectionUnderTest, never()).download(
+                        any(Request.class),
+                        any(Path.class),
+                        anyString(),
+                        anyLong(),
+                        any(TransferProgressCallback.class)));
+    }
+
+    @SneakyThrows
+    @Test
+    public void downloadSegmented_withSizeBelowThreshold_shouldDownloadSingleStream() {
+        doReturn(BYTES_TRANSFERRED)
+                .when(connectionUnderTest)
+                .download(
+                        any(Request.class),
+                        any(Path.class),
+                        anyString(),
+                        anyLong(),
+                        any(TransferProgressCallback.class));
+        final Path mockFolderPath = mock(Path.class);
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        final long actual = connectionUnderTest.downloadSegmented(
+                "https://localhost/content",
+                "ETag",
+                mockFolderPath,
+                "filename",
+                BYTES_TRANSFERRED,
+                SegmentedDownloadOptions.defaults(),
+                mockCallback);
+
+        assertAll(
+                () -> assertEquals(BYTES_TRANSFERRED, actual),
+                () -> verify(connectionUnderTest).download(
+                        isA(Request.class),
+                        eq(mockFolderPath),
+                        eq("filename"),
+                        eq(BYTES_TRANSFERRED),
+                        eq(mockCallback)),
+                () -> verify(connectionUnderTest, never()).newSegmentedDownloader(
+                        anyString(),
+                        anyString(),
+                        any(Path.class),
+                        anyLong(),
+                        any(SegmentedDownloadOptions.class),
+                        any(TransferProgressCallback.class)));
+    }
+
+    @SneakyThrows
+    @Test
+    public void downloadSegmented_withIOExceptionGettingDownloadPath_shouldThrowException() {
+        doThrow(new IOException("Exception"))
+                .when(connectionUnderTest)
+                .checkFolderAndGetDestinationPath(any(Path.class), anyString());
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        final Throwable thrown = assertThrows(RequestException.class,
+                () -> connectionUnderTest.downloadSegmented(
+                        "https://localhost/content",
+                        "ETag",
+                        mock(Path.class),
+                        "filename",
+                        SEGMENTED_SIZE,
+                        SegmentedDownloadOptions.defaults(),
+                        mockCallback));
+
+        assertAll(
+                () -> assertInstanceOf(IOException.class, thrown.getCause()),
+                () -> verify(mockCallback).onFailure(eq(thrown.getCause())));
+    }
+
+    @Test
+    public void downloadSegmented_withInvalidParameters_shouldThrowException() {
+        final Path mockPath = mock(Path.class);
+        final SegmentedDownloadOptions options = SegmentedDownloadOptions.defaults();
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> connectionUnderTest.downloadSegmented(
+                                StringUtils.EMPTY, null, mockPath, "filename", SEGMENTED_SIZE, options, mockCallback)),
+                () -> assertThrows(NullPointerException.class,
+                        () -> connectionUnderTest.downloadSegmented(
+                                "https://localhost/content", null, null, "filename", SEGMENTED_SIZE, options,
+                                mockCallback)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> connectionUnderTest.downloadSegmented(
+                                "https://localhost/content", null, mockPath, StringUtils.EMPTY, SEGMENTED_SIZE,
+                                options, mockCallback)),
+                () -> assertThrows(NullPointerException.class,
+                        () -> connectionUnderTest.downloadSegmented(
+                                "https://localhost/content", null, mockPath, "filename", SEGMENTED_SIZE, null,
+                                mockCallback)),
+                () -> assertThrows(NullPointerException.class,
+                        () -> connectionUnderTest.downloadSegmented(
+                                "https://localhost/content", null, mockPath, "filename", SEGMENTED_SIZE, options,
+                                null)));
+    }
+
+    @SneakyThrows
+    @Test
+    public void downloadSegmentedAsync_withValidParameters_shouldReturnBytesDownloaded() {
+        doReturn(SEGMENTED_SIZE)
+                .when(connectionUnderTest)
+                .downloadSegmented(
+                        anyString(),
+                        anyString(),
+                        any(Path.class),
+                        anyString(),
+                        anyLong(),
+                        any(SegmentedDownloadOptions.class),
+                        any(TransferProgressCallback.class));
+
+        final long actual = connectionUnderTest.downloadSegmentedAsync(
+                "https://localhost/content",
+                "ETag",
+                mock(Path.class),
+                "filename",
+                SEGMENTED_SIZE,
+                SegmentedDownloadOptions.defaults(),
+                mock(TransferProgressCallback.class)).get();
+
+        assertEquals(SEGMENTED_SIZE, actual);
+    }
+
+    ////////////////////////////////////
+    // downloadResumable
+    ////////////////////////////////////
+
+    @SneakyThrows
+    @Test
+    public void downloadResumable_withValidParameters_shouldUseResumableDownloader() {
+        final Path mockDownloadPath = mock(Path.class);
+        doReturn(mockDownloadPath)
+                .when(connectionUnderTest)
+                .checkFolderAndGetDestinationPath(any(Path.class), anyString());
+        final ResumableDownloader mockDownloader = mock(ResumableDownloader.class);
+        when(mockDownloader.download()).thenReturn(BYTES_TRANSFERRED);
+        doReturn(mockDownloader)
+                .when(connectionUnderTest)
+                .newResumableDownloader(
+                        anyString(),
+                        anyString(),
+                        anyString(),
+                        anyString(),
+                        any(Path.class),
+                        anyLong(),
+                        any(TransferProgressCallback.class));
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        final long actual = connectionUnderTest.downloadResumable(
+                "https://localhost/content",
+                "ItemId",
+                "ETag",
+                "CTag",
+                mock(Path.class),
+                "filename",
+                BYTES_TRANSFERRED,
+                mockCallback);
+
+        assertAll(
+                () -> assertEquals(BYTES_TRANSFERRED, actual),
+                () -> verify(connectionUnderTest).newResumableDownloader(
+                        eq("https://localhost/content"),
+                        eq("ItemId"),
+                        eq("ETag"),
+                        eq("CTag"),
+                        eq(mockDownloadPath),
+                        eq(BYTES_TRANSFERRED),
+                        eq(mockCallback)));
+    }
+
+    @SneakyThrows
+    @Test
+    public void downloadResumable_withEmptyContent_shouldDownloadSingleStream() {
+        doReturn(0L)
+                .when(connectionUnderTest)
+                .download(
+                        any(Request.class),
+                        any(Path.class),
+                        anyString(),
+                        anyLong(),
+                        any(TransferProgressCallback.class));
+        final Path mockFolderPath = mock(Path.class);
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        final long actual = connectionUnderTest.downloadResumable(
+                "https://localhost/content",
+                "ItemId",
+                "ETag",
+                "CTag",
+                mockFolderPath,
+                "filename",
+                0L,
+                mockCallback);
+
+        assertAll(
+                () -> assertEquals(0L, actual),
+                () -> verify(connectionUnderTest).download(
+                        isA(Request.class),
+                        eq(mockFolderPath),
+                        eq("filename"),
+                        eq(0L),
+                        eq(mockCallback)));
+    }
+
+    @SneakyThrows
+    @Test
+    public void downloadResumable_withIOExceptionGettingDownloadPath_shouldThrowException() {
+        doThrow(new IOException("Exception"))
+                .when(connectionUnderTest)
+                .checkFolderAndGetDestinationPath(any(Path.class), anyString());
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        final Throwable thrown = assertThrows(RequestException.class,
+                () -> connectionUnderTest.downloadResumable(
+                        "https://localhost/content",
+                        "ItemId",
+                        "ETag",
+                        "CTag",
+                        mock(Path.class),
+                        "filename",
+                        BYTES_TRANSFERRED,
+                        mockCallback));
+
+        assertAll(
+                () -> assertInstanceOf(IOException.class, thrown.getCause()),
+                () -> verify(mockCallback).onFailure(eq(thrown.getCause())));
+    }
+
+    @Test
+    public void downloadResumable_withInvalidParameters_shouldThrowException() {
+        final Path mockPath = mock(Path.class);
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> connectionUnderTest.downloadResumable(
+                                StringUtils.EMPTY, "ItemId", null, null, mockPath, "filename", 1L, mockCallback)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> connectionUnderTest.downloadResumable(
+                                "https://localhost/content", StringUtils.EMPTY, null, null, mockPath, "filename", 1L,
+                                mockCallback)),
+                () -> assertThrows(NullPointerException.class,
+                        () -> connectionUnderTest.downloadResumable(
+                                "https://localhost/content", "ItemId", null, null, null, "filename", 1L,
+                                mockCallback)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> connectionUnderTest.downloadResumable(
+                                "https://localhost/content", "ItemId", null, null, mockPath, StringUtils.EMPTY, 1L,
+                                mockCallback)),
+                () -> assertThrows(NullPointerException.class,
+                        () -> connectionUnderTest.downloadResumableAsync(
+                                "https://localhost/content", "ItemId", null, null, mockPath, "filename", 1L, null)));
+    }
+
+    @SneakyThrows
+    @Test
+    public void downloadResumableAsync_withValidParameters_shouldReturnBytesDownloaded() {
+        doReturn(BYTES_TRANSFERRED)
+                .when(connectionUnderTest)
+                .downloadResumable(
+                        anyString(),
+                        anyString(),
+                        anyString(),
+                        anyString(),
+                        any(Path.class),
+                        anyString(),
+                        anyLong(),
+                        any(TransferProgressCallback.class));
+
+        final long actual = connectionUnderTest.downloadResumableAsync(
+                "https://localhost/content",
+                "ItemId",
+                "ETag",
+                "CTag",
+                mock(Path.class),
+                "filename",
+                BYTES_TRANSFERRED,
+                mock(TransferProgressCallback.class)).get();
+
+        assertEquals(BYTES_TRANSFERRED, actual);
+    }
+
     ////////////////////////////////////
     // processDownloadResponse
     ////////////////////////////////////
@@ -517,4 +1123,16 @@ public class OneDriveConnectionDownloadTest extends OneDriveConnectionTestBase {
 
         return mockBuilder;
     }
+
+    private OneDriveConnection newNonBlockingConnection() {
+        return spy(OneDriveConnection.builder()
+                .baseUrl(REQUEST_URL)
+                .authManager(mockAuthManager)
+                .gsonFactory(mockGsonFactory)
+                .httpClient(mockHttpClient)
+                .threadPool(Executors.newSingleThreadExecutor())
+                .isNonBlockingAsyncEnabled(true)
+                .responseExecutor(Runnable::run)
+                .build());
+    }
 }
@@ -21,25 +21,38 @@ import com.amilesend.client.connection.RequestException;
 import com.amilesend.client.connection.ResponseException;
 import com.amilesend.client.connection.ResponseParseException;
 import com.amilesend.client.connection.ThrottledException;
+import com.amilesend.client.connection.retry.NoRetryStrategy;
 import com.amilesend.client.parse.parser.GsonParser;
+import com.amilesend.onedrive.connection.batch.BatchExecutor;
+import com.amilesend.onedrive.connection.batch.BatchRequest;
+import com.amilesend.onedrive.connection.batch.RequestCoalescer;
+import com.amilesend.onedrive.connection.http.ThrottlingRetryInterceptor;
+import com.amilesend.onedrive.connection.http.ThrottlingRetryOptions;
 import com.amilesend.onedrive.resource.item.DriveItem;
 import com.google.gson.Gson;
 import com.google.gson.JsonParseException;
 import lombok.SneakyThrows;
 import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.Request;
 import okhttp3.Response;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.MockedConstruction;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.zip.GZIPInputStream;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.isA;
@@ -47,6 +60,9 @@ import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -312,6 +328,31 @@ public class OneDriveConnectionExecuteTest extends OneDriveConnectionTestBase {
         }
     }
 
+    @SneakyThrows
+    @Test
+    public void executeAsync_withNonBlockingAsyncEnabled_shouldEnqueueRequest() {
+        final Call mockCall = setUpHttpClientMockAsync();
+        final OneDriveConnection connection = OneDriveConnection.builder()
+                .baseUrl(REQUEST_URL)
+                .authManager(mockAuthManager)
+                .gsonFactory(mockGsonFactory)
+                .httpClient(mockHttpClient)
+                .threadPool(Executors.newSingleThreadExecutor())
+                .isNonBlockingAsyncEnabled(true)
+                .responseExecutor(Runnable::run)
+                .build();
+        final DriveItem mockDriveItem = mock(DriveItem.class);
+        final GsonParser<DriveItem> mockParser = mock(GsonParser.class);
+        when(mockParser.parse(any(Gson.class), any(InputStream.class))).thenReturn(mockDriveItem);
+
+        final CompletableFuture<DriveItem> actual = connection.executeAsync(mock(Request.class), mockParser);
+        getCallbackFromCallMock(mockCall).onResponse(mockCall, newMockedResponse(SUCCESS_RESPONSE_CODE));
+
+        assertAll(
+                () -> assertEquals(mockDriveItem, actual.get()),
+                () -> verify(mockCall, never()).execute());
+    }
+
     @Test
     public void executeAsync_withInvalidParameters_shouldThrowException() {
         assertAll(
@@ -321,6 +362,151 @@ public class OneDriveConnectionExecuteTest extends OneDriveConnectionTestBase {
                         () -> connectionUnderTest.executeAsync(mock(Request.class), null)));
     }
 
+    ////////////////////////////////////
+    // enqueue
+    ////////////////////////////////////
+
+    @SneakyThrows
+    @Test
+    public void enqueue_withSuccessfulResponse_shouldParseResponseAndCloseIt() {
+        final Call mockCall = setUpHttpClientMockAsync();
+        final DriveItem mockDriveItem = mock(DriveItem.class);
+        final GsonParser<DriveItem> mockParser = mock(GsonParser.class);
+        when(mockParser.parse(any(Gson.class), any(InputStream.class))).thenReturn(mockDriveItem);
+        final Response mockResponse = newMockedResponse(SUCCESS_RESPONSE_CODE);
+        // Handle the response on the calling thread so that the mocked construction applies
+        doReturn((Executor) Runnable::run).when(connectionUnderTest).getResponseExecutor();
+
+        try (final MockedConstruction<GZIPInputStream> streamCons = mockConstruction(GZIPInputStream.class)) {
+            final CompletableFuture<DriveItem> actual = connectionUnderTest.enqueue(mock(Request.class), mockParser);
+            getCallbackFromCallMock(mockCall).onResponse(mockCall, mockResponse);
+
+            assertAll(
+                    () -> assertEquals(mockDriveItem, actual.get()),
+                    () -> assertEquals(1, streamCons.constructed().size()),
+                    () -> verify(mockResponse).close());
+        }
+    }
+
+    @SneakyThrows
+    @Test
+    public void enqueue_withErrorResponseCode_shouldCompleteExceptionally() {
+        final Call mockCall = setUpHttpClientMockAsync();
+        final Response mockResponse = newMockedResponse(SERVER_ERROR_RESPONSE_CODE, (Long) null);
+
+        final CompletableFuture<DriveItem> actual =
+                connectionUnderTest.enqueue(mock(Request.class), mock(GsonParser.class));
+        getCallbackFromCallMock(mockCall).onResponse(mockCall, mockResponse);
+
+        final Throwable thrown = assertThrows(ExecutionException.class, () -> actual.get());
+        assertAll(
+                () -> assertInstanceOf(ResponseException.class, thrown.getCause()),
+                () -> verify(mockResponse).close());
+    }
+
+    @Test
+    public void enqueue_withCallFailure_shouldCompleteExceptionally() {
+        final Call mockCall = setUpHttpClientMockAsync();
+
+        final CompletableFuture<DriveItem> actual =
+                connectionUnderTest.enqueue(mock(Request.class), mock(GsonParser.class));
+        getCallbackFromCallMock(mockCall).onFailure(mockCall, new IOException("Exception"));
+
+        final Throwable thrown = assertThrows(ExecutionException.class, () -> actual.get());
+        assertAll(
+                () -> assertInstanceOf(RequestException.class, thrown.getCause()),
+                () -> assertInstanceOf(IOException.class, thrown.getCause().getCause()));
+    }
+
+    @SneakyThrows
+    @Test
+    public void enqueue_withThrottledResponseAndAsyncRetryPolicy_shouldEnqueueRetryAfterDelay() {
+        final Call mockCall = setUpHttpClientMockAsync();
+        final OneDriveConnection connection = OneDriveConnection.builder()
+                .baseUrl(REQUEST_URL)
+                .authManager(mockAuthManager)
+                .gsonFactory(mockGsonFactory)
+                .httpClient(mockHttpClient)
+                .userAgent("TestUserAgent/1.0")
+                .retryStrategy(new NoRetryStrategy())
+                .threadPool(Executors.newSingleThreadExecutor())
+                .asyncRetryPolicy(new ThrottlingRetryInterceptor(ThrottlingRetryOptions.builder()
+                        .maxRetries(1)
+                        .build()))
+                .build();
+        final Response throttledResponse = newMockedResponse(THROTTLED_ERROR_CODE, 0L);
+        final Response successResponse = newMockedResponse(SUCCESS_RESPONSE_CODE);
+
+        final CompletableFuture<Integer> actual = connection.enqueue(
+                connection.newRequestBuilder().url(REQUEST_URL).build(),
+                Response::code);
+        final ArgumentCaptor<Callback> callbackCaptor = ArgumentCaptor.forClass(Callback.class);
+        verify(mockCall).enqueue(callbackCaptor.capture());
+        callbackCaptor.getValue().onResponse(mockCall, throttledResponse);
+        verify(mockCall, timeout(5000L).times(2)).enqueue(callbackCaptor.capture());
+        callbackCaptor.getValue().onResponse(mockCall, successResponse);
+
+        final ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        assertAll(
+                () -> assertEquals(SUCCESS_RESPONSE_CODE, actual.get(5L, TimeUnit.SECONDS)),
+                () -> verify(throttledResponse).close(),
+                () -> verify(mockHttpClient, times(2)).newCall(requestCaptor.capture()),
+                () -> assertEquals(requestCaptor.getAllValues().get(0), requestCaptor.getAllValues().get(1)));
+    }
+
+    @Test
+    public void enqueue_withCancelledFuture_shouldCancelCall() {
+        final Call mockCall = setUpHttpClientMockAsync();
+
+        connectionUnderTest.enqueue(mock(Request.class), mock(GsonParser.class)).cancel(true);
+
+        verify(mockCall).cancel();
+    }
+
+    ////////////////////////////////////
+    // ExecuteBatch
+    ////////////////////////////////////
+
+    @SneakyThrows
+    @Test
+    public void executeBatchAsync_withBatchRequest_shouldReturnNumberOfSuccessfulRequests() {
+        final BatchRequest batchRequest = new BatchRequest();
+        final BatchExecutor mockExecutor = mock(BatchExecutor.class);
+        when(mockExecutor.execute()).thenReturn(3);
+        doReturn(mockExecutor).when(connectionUnderTest).newBatchExecutor(batchRequest);
+
+        assertAll(
+                () -> assertEquals(3, connectionUnderTest.executeBatchAsync(batchRequest).get()),
+                () -> verify(connectionUnderTest).executeBatch(batchRequest));
+    }
+
+    @SneakyThrows
+    @Test
+    public void executeAsync_withBatchCoalescingEnabled_shouldSubmitEligibleRequestToCoalescer() {
+        final RequestCoalescer mockCoalescer = mock(RequestCoalescer.class);
+        final Request mockRequest = mock(Request.class);
+        final GsonParser<DriveItem> mockParser = mock(GsonParser.class);
+        final DriveItem mockDriveItem = mock(DriveItem.class);
+        when(mockCoalescer.isEligible(mockRequest)).thenReturn(true);
+        when(mockCoalescer.submit(mockRequest, mockParser))
+                .thenReturn(CompletableFuture.completedFuture(mockDriveItem));
+        doReturn(mockCoalescer).when(connectionUnderTest).getRequestCoalescer();
+
+        assertAll(
+                () -> assertEquals(mockDriveItem, connectionUnderTest.executeAsync(mockRequest, mockParser).get()),
+                () -> verify(connectionUnderTest, never()).execute(any(Request.class), any(GsonParser.class)));
+    }
+
+    @Test
+    public void getRequestCoalescer_withoutBatchCoalescingOptions_shouldReturnNull() {
+        assertNull(connectionUnderTest.getRequestCoalescer());
+    }
+
+    @Test
+    public void executeBatch_withNullBatchRequest_shouldThrowException() {
+        assertThrows(NullPointerException.class, () -> connectionUnderTest.executeBatch(null));
+    }
+
     @SneakyThrows
     private void setUpHttpClientMock(final IOException ioException) {
         final Call mockCall = mock(Call.class);
@@ -0,0 +1,285 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection;
+
+import com.amilesend.client.connection.file.TransferProgressCallback;
+import com.amilesend.client.parse.parser.GsonParser;
+import com.amilesend.client.connection.RequestException;
+import com.amilesend.onedrive.connection.file.ResumableUploader;
+import com.amilesend.onedrive.connection.file.StreamingUploader;
+import com.amilesend.onedrive.connection.file.journal.FileFingerprint;
+import com.amilesend.onedrive.connection.file.journal.UploadSessionJournal;
+import com.amilesend.onedrive.connection.file.journal.UploadSessionJournalEntry;
+import com.amilesend.onedrive.connection.file.journal.UploadSessionJournalException;
+import com.amilesend.onedrive.resource.item.type.UploadSession;
+import lombok.SneakyThrows;
+import okhttp3.Request;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static com.amilesend.client.connection.Connection.Headers.AUTHORIZATION;
+import static com.amilesend.onedrive.connection.file.ResumableUploader.DEFAULT_FRAGMENT_SIZE_BYTES;
+import static com.amilesend.onedrive.connection.file.ResumableUploader.DEFAULT_MAX_RETRIES;
+import static com.amilesend.onedrive.connection.file.StreamingUploader.UNKNOWN_SIZE_BYTES;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class OneDriveConnectionUploadTest extends OneDriveConnectionTestBase {
+    private static final UploadSession SESSION = UploadSession.builder().uploadUrl("https://localhost/upload").build();
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    public void upload_withValidParameters_shouldReturnParsedResponse() {
+        final ResumableUploader<String> mockUploader = mock(ResumableUploader.class);
+        when(mockUploader.upload()).thenReturn("Uploaded");
+        doReturn(mockUploader).when(connectionUnderTest)
+                .newResumableUploader(any(), any(), any(), any(), any(), any());
+
+        final GsonParser<String> mockParser = mock(GsonParser.class);
+
+        final String actual = connectionUnderTest.upload(
+                SESSION, mock(Path.class), mock(TransferProgressCallback.class), mockParser);
+
+        assertEquals("Uploaded", actual);
+    }
+
+    @SneakyThrows
+    @Test
+    public void uploadAsync_withValidParameters_shouldReturnParsedResponse() {
+        final ResumableUploader<String> mockUploader = mock(ResumableUploader.class);
+        when(mockUploader.upload()).thenReturn("Uploaded");
+        doReturn(mockUploader).when(connectionUnderTest)
+                .newResumableUploader(any(), any(), any(), any(), any(), any());
+
+        final GsonParser<String> mockParser = mock(GsonParser.class);
+
+        final String actual = connectionUnderTest.uploadAsync(
+                SESSION, mock(Path.class), mock(TransferProgressCallback.class), mockParser).get();
+
+        assertEquals("Uploaded", actual);
+    }
+
+    @Test
+    public void upload_withInvalidParameters_shouldThrowException() {
+        final Path mockPath = mock(Path.class);
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+        final GsonParser<String> mockParser = mock(GsonParser.class);
+
+        assertAll(
+                () -> assertThrows(NullPointerException.class,
+                        () -> connectionUnderTest.upload(null, mockPath, mockCallback, mockParser)),
+                () -> assertThrows(NullPointerException.class,
+                        () -> connectionUnderTest.upload(SESSION, null, mockCallback, mockParser)),
+                () -> assertThrows(NullPointerException.class,
+                        () -> connectionUnderTest.upload(SESSION, mockPath, null, mockParser)),
+                () -> assertThrows(NullPointerException.class,
+                        () -> connectionUnderTest.upload(SESSION, mockPath, mockCallback, null)));
+    }
+
+    @Test
+    public void upload_withChannel_shouldReturnParsedResponse() {
+        final StreamingUploader<String> mockUploader = mock(StreamingUploader.class);
+        when(mockUploader.upload()).thenReturn("Uploaded");
+        doReturn(mockUploader).when(connectionUnderTest)
+                .newStreamingUploader(any(), any(), anyLong(), any(), any());
+        final ReadableByteChannel mockSource = mock(ReadableByteChannel.class);
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+        final GsonParser<String> mockParser = mock(GsonParser.class);
+
+        final String actual = connectionUnderTest.upload(SESSION, mockSource, 100L, mockCallback, mockParser);
+
+        assertAll(
+                () -> assertEquals("Uploaded", actual),
+                () -> verify(connectionUnderTest)
+                        .newStreamingUploader(SESSION, mockSource, 100L, mockCallback, mockParser));
+    }
+
+    @SneakyThrows
+    @Test
+    public void uploadAsync_withChannel_shouldReturnParsedResponse() {
+        final StreamingUploader<String> mockUploader = mock(StreamingUploader.class);
+        when(mockUploader.upload()).thenReturn("Uploaded");
+        doReturn(mockUploader).when(connectionUnderTest)
+                .newStreamingUploader(any(), any(), anyLong(), any(), any());
+        final GsonParser<String> mockParser = mock(GsonParser.class);
+
+        final String actual = connectionUnderTest.uploadAsync(
+                SESSION,
+                mock(ReadableByteChannel.class),
+                UNKNOWN_SIZE_BYTES,
+                mock(TransferProgressCallback.class),
+                mockParser).get();
+
+        assertEquals("Uploaded", actual);
+    }
+
+    @Test
+    public void newStreamingUploader_shouldReturnUploaderWithDefaults() {
+        final GsonParser<String> mockParser = mock(GsonParser.class);
+
+        final StreamingUploader<String> actual = connectionUnderTest.newStreamingUploader(
+                SESSION, mock(ReadableByteChannel.class), UNKNOWN_SIZE_BYTES, mock(TransferProgressCallback.class),
+                mockParser);
+
+        assertAll(
+                () -> assertEquals(SESSION, actual.getSession()),
+                () -> assertEquals(DEFAULT_FRAGMENT_SIZE_BYTES, actual.getFragmentSizeBytes()),
+                () -> assertEquals(DEFAULT_MAX_RETRIES, actual.getMaxRetries()));
+    }
+
+    @SneakyThrows
+    @Test
+    public void newResumableUploader_shouldReturnUploaderWithDefaults() {
+        final Path file = Files.write(tempDir.resolve("File.bin"), new byte[] {1, 2, 3});
+
+        final GsonParser<String> mockParser = mock(GsonParser.class);
+
+        final ResumableUploader<String> actual = connectionUnderTest.newResumableUploader(
+                SESSION, file, mock(TransferProgressCallback.class), mockParser, null, null);
+
+        assertAll(
+                () -> assertEquals(SESSION, actual.getSession()),
+                () -> assertEquals(DEFAULT_FRAGMENT_SIZE_BYTES, actual.getFragmentSizeBytes()),
+                () -> assertEquals(DEFAULT_MAX_RETRIES, actual.getMaxRetries()));
+    }
+
+    @Test
+    public void upload_withJournal_shouldPassJournalToUploader() {
+        final ResumableUploader<String> mockUploader = mock(ResumableUploader.class);
+        when(mockUploader.upload()).thenReturn("Uploaded");
+        final UploadSessionJournal mockJournal = mock(UploadSessionJournal.class);
+        doReturn(mockUploader).when(connectionUnderTest)
+                .newResumableUploader(any(), any(), any(), any(), any(), any());
+        final Path mockPath = mock(Path.class);
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+        final GsonParser<String> mockParser = mock(GsonParser.class);
+
+        final String actual = connectionUnderTest.upload(
+                SESSION, mockPath, mockCallback, mockParser, mockJournal, "JournalId");
+
+        assertAll(
+                () -> assertEquals("Uploaded", actual),
+                () -> verify(connectionUnderTest).newResumableUploader(
+                        SESSION, mockPath, mockCallback, mockParser, mockJournal, "JournalId"),
+                () -> assertThrows(IllegalArgumentException.class, () -> connectionUnderTest.upload(
+                        SESSION, mockPath, mockCallback, mockParser, mockJournal, "")));
+    }
+
+    @SneakyThrows
+    @Test
+    public void resumeUploadSession_withResumableEntry_shouldReturnSessionWithCurrentRanges() {
+        final Path file = Files.write(tempDir.resolve("File.bin"), new byte[] {1, 2, 3});
+        final UploadSessionJournal mockJournal = mock(UploadSessionJournal.class);
+        when(mockJournal.retrieve("JournalId")).thenReturn(newJournalEntry(file));
+        doReturn(UploadSession.builder()
+                .expirationDateTime("2030-01-01T00:00:00Z")
+                .nextExpectedRanges(List.of("2-"))
+                .build())
+                .when(connectionUnderTest).execute(any(Request.class), any(GsonParser.class));
+
+        final Optional<UploadSession> actual = connectionUnderTest.resumeUploadSession(mockJournal, "JournalId", file);
+
+        final ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        assertAll(
+                () -> assertEquals("https://localhost/upload", actual.get().getUploadUrl()),
+                () -> assertEquals(List.of("2-"), actual.get().getNextExpectedRanges()),
+                () -> verify(connectionUnderTest).execute(requestCaptor.capture(), any(GsonParser.class)),
+                () -> assertEquals("GET", requestCaptor.getValue().method()),
+                () -> assertNull(requestCaptor.getValue().header(AUTHORIZATION)),
+                () -> verify(mockJournal, never()).remove(any()));
+    }
+
+    @SneakyThrows
+    @Test
+    public void resumeUploadSession_withNoEntry_shouldReturnEmpty() {
+        final UploadSessionJournal mockJournal = mock(UploadSessionJournal.class);
+
+        assertTrue(connectionUnderTest.resumeUploadSession(mockJournal, "JournalId", mock(Path.class)).isEmpty());
+    }
+
+    @SneakyThrows
+    @Test
+    public void resumeUploadSession_withChangedFile_shouldRemoveEntryAndReturnEmpty() {
+        final Path file = Files.write(tempDir.resolve("File.bin"), new byte[] {1, 2, 3});
+        final UploadSessionJournal mockJournal = mock(UploadSessionJournal.class);
+        when(mockJournal.retrieve("JournalId")).thenReturn(newJournalEntry(file));
+        Files.write(file, new byte[] {1, 2, 3, 4});
+
+        final Optional<UploadSession> actual = connectionUnderTest.resumeUploadSession(mockJournal, "JournalId", file);
+
+        assertAll(
+                () -> assertTrue(actual.isEmpty()),
+                () -> verify(mockJournal).remove("JournalId"),
+                () -> verify(connectionUnderTest, never()).execute(any(Request.class), any(GsonParser.class)));
+    }
+
+    @SneakyThrows
+    @Test
+    public void resumeUploadSession_withUnknownSession_shouldRemoveEntryAndReturnEmpty() {
+        final Path file = Files.write(tempDir.resolve("File.bin"), new byte[] {1, 2, 3});
+        final UploadSessionJournal mockJournal = mock(UploadSessionJournal.class);
+        when(mockJournal.retrieve("JournalId")).thenReturn(newJournalEntry(file));
+        doThrow(new RequestException("Not Found"))
+                .when(connectionUnderTest).execute(any(Request.class), any(GsonParser.class));
+
+        final Optional<UploadSession> actual = connectionUnderTest.resumeUploadSession(mockJournal, "JournalId", file);
+
+        assertAll(
+                () -> assertTrue(actual.isEmpty()),
+                () -> verify(mockJournal).remove("JournalId"));
+    }
+
+    @SneakyThrows
+    @Test
+    public void resumeUploadSession_withJournalException_shouldReturnEmpty() {
+        final UploadSessionJournal mockJournal = mock(UploadSessionJournal.class);
+        when(mockJournal.retrieve("JournalId")).thenThrow(new UploadSessionJournalException("Exception"));
+
+        assertTrue(connectionUnderTest.resumeUploadSession(mockJournal, "JournalId", mock(Path.class)).isEmpty());
+    }
+
+    @SneakyThrows
+    private static UploadSessionJournalEntry newJournalEntry(final Path file) {
+        return UploadSessionJournalEntry.builder()
+                .uploadUrl("https://localhost/upload")
+                .nextExpectedRanges(List.of("0-"))
+                .filePath(file.toAbsolutePath().normalize().toString())
+                .fingerprint(FileFingerprint.of(file, false))
+                .build();
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class ThreadPoolsTest {
+
+    @SneakyThrows
+    @Test
+    public void newDefaultThreadPool_shouldReturnUsableExecutor() {
+        final ExecutorService actual = ThreadPools.newDefaultThreadPool(1);
+        try {
+            assertEquals("Done", actual.submit(() -> "Done").get(5L, TimeUnit.SECONDS));
+        } finally {
+            actual.shutdownNow();
+        }
+    }
+
+    @Test
+    public void isVirtualThreadSupported_shouldMatchRuntime() {
+        boolean isExpected;
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            isExpected = true;
+        } catch (final NoSuchMethodException ex) {
+            isExpected = false;
+        }
+
+        assertEquals(isExpected, ThreadPools.isVirtualThreadSupported());
+    }
+
+    @SneakyThrows
+    @Test
+    public void newVirtualThreadExecutor_withFactories_shouldReturnExecutorOrNull() {
+        final ExecutorService actual = ThreadPools.newVirtualThreadExecutor(
+                Executors.class.getMethod("newCachedThreadPool"));
+        try {
+            assertAll(
+                    () -> assertNotNull(actual),
+                    () -> assertNull(ThreadPools.newVirtualThreadExecutor(null)),
+                    () -> assertNull(ThreadPools.newVirtualThreadExecutor(
+                            ThreadPoolsTest.class.getDeclaredMethod("throwingFactory"))));
+        } finally {
+            actual.shutdownNow();
+        }
+    }
+
+    static ExecutorService throwingFactory() {
+        throw new UnsupportedOperationException("Exception");
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection.batch;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static com.amilesend.onedrive.connection.batch.BatchCoalescingOptions.DEFAULT_MAX_BATCH_SIZE;
+import static com.amilesend.onedrive.connection.batch.BatchCoalescingOptions.DEFAULT_WINDOW;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BatchCoalescingOptionsTest {
+    @Test
+    public void defaults_shouldReturnDefaultValues() {
+        final BatchCoalescingOptions actual = BatchCoalescingOptions.defaults();
+
+        assertAll(
+                () -> assertEquals(DEFAULT_WINDOW, actual.getWindow()),
+                () -> assertEquals(DEFAULT_MAX_BATCH_SIZE, actual.getMaxBatchSize()));
+    }
+
+    @Test
+    public void builder_withInvalidValues_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> BatchCoalescingOptions.builder().maxBatchSize(BatchRequest.MAX_REQUESTS + 1).build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> BatchCoalescingOptions.builder().maxBatchSize(0).build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> BatchCoalescingOptions.builder().window(Duration.ofMillis(-1L)).build()));
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection.batch;
+
+import com.amilesend.client.connection.RequestException;
+import com.amilesend.client.connection.ResponseException;
+import com.amilesend.client.connection.ResponseParseException;
+import com.amilesend.client.connection.ThrottledException;
+import com.amilesend.client.parse.parser.BasicParser;
+import com.amilesend.client.parse.parser.GsonParser;
+import com.amilesend.onedrive.connection.OneDriveConnection;
+import com.amilesend.onedrive.connection.http.ThrottlingRetryInterceptor;
+import com.amilesend.onedrive.parse.GsonFactory;
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static com.amilesend.client.connection.Connection.JSON_MEDIA_TYPE;
+import static com.amilesend.onedrive.parse.resource.parser.Parsers.BATCH_RESPONSE_PARSER;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class BatchExecutorTest {
+    private static final String BASE_URL = "https://graph.microsoft.com/v1.0/me";
+    private static final GsonParser<Map> MAP_PARSER = new BasicParser<>(Map.class);
+
+    @Mock
+    private OneDriveConnection mockConnection;
+    private BatchRequest batchRequest;
+
+    @BeforeEach
+    public void setUp() {
+        final GsonFactory mockGsonFactory = mock(GsonFactory.class);
+        lenient().when(mockGsonFactory.getInstance(any(OneDriveConnection.class))).thenReturn(new Gson());
+        lenient().when(mockConnection.getGsonFactory()).thenReturn(mockGsonFactory);
+        lenient().when(mockConnection.getBaseUrl()).thenReturn(BASE_URL);
+        lenient().when(mockConnection.newWithBodyRequestBuilder()).thenAnswer(i -> new Request.Builder());
+        batchRequest = new BatchRequest();
+    }
+
+    @Test
+    public void execute_withMixedResponses_shouldResolveEachItemIndividually() {
+        final BatchItem<Map> get = batchRequest.add(newRequest("/me/drive/items/1").build(), MAP_PARSER);
+        final BatchItem<Void> delete = batchRequest.add(newRequest("/me/drive/items/2").delete().build(), get);
+        final BatchItem<Map> throttled = batchRequest.add(newRequest("/me/drive/items/3").build(), MAP_PARSER);
+        final BatchItem<Map> serverError = batchRequest.add(newRequest("/me/drive/items/4").build(), MAP_PARSER);
+        final BatchItem<Map> missing = batchRequest.add(newRequest("/me/drive/items/5").build(), MAP_PARSER);
+        final ArgumentCaptor<Request> requestCaptor = mockBatchResponse("{\"responses\":["
+                + "{\"id\":\"4\",\"status\":503,\"body\":{\"error\":{\"message\":\"Unavailable\"}}},"
+                + "{\"id\":\"2\",\"status\":404,\"body\":{\"error\":{\"message\":\"Not found\"}}},"
+                + "{\"id\":\"1\",\"status\":200,\"body\":{\"name\":\"File\"}},"
+                + "{\"id\":\"3\",\"status\":429,\"headers\":{\"retry-after\":\"7\"}}]}");
+
+        final int actual = newExecutor().execute();
+
+        assertAll(
+                () -> assertEquals(1, actual),
+                () -> assertEquals(BASE_URL.replace("/me", "") + "/$batch",
+                        requestCaptor.getValue().url().toString()),
+                () -> assertEquals("File", get.getResult().get("name")),
+                () -> assertEquals(200, get.getStatus()),
+                () -> assertFalse(delete.isSuccessful()),
+                () -> assertEquals(404, delete.getStatus()),
+                () -> assertTrue(delete.getFailure().getMessage().contains("Not found")),
+                () -> assertInstanceOf(RequestException.class, delete.getFailure()),
+                () -> assertEquals(7L, ((ThrottledException) assertThrows(ThrottledException.class,
+                        throttled::getResult)).getRetryAfterSeconds()),
+                () -> assertInstanceOf(ResponseException.class, serverError.getFailure()),
+                () -> assertInstanceOf(ResponseException.class, missing.getFailure()));
+    }
+
+    @Test
+    public void execute_withNoResponseBodyParser_shouldCompleteWithNullResult() {
+        final BatchItem<Void> delete = batchRequest.add(newRequest("/me/drive/items/1").delete().build());
+        mockBatchResponse("{\"responses\":[{\"id\":\"1\",\"status\":204}]}");
+
+        newExecutor().execute();
+
+        assertAll(
+                () -> assertTrue(delete.isSuccessful()),
+                () -> assertNull(delete.getResult()),
+                () -> assertEquals(204, delete.getStatus()));
+    }
+
+    @Test
+    public void execute_withParseFailure_shouldFailOnlyThatItem() {
+        final GsonParser<Map> mockParser = mock(GsonParser.class);
+        when(mockParser.parse(any(Gson.class), any())).thenThrow(new IllegalStateException("Bad"));
+        final BatchItem<Map> bad = batchRequest.add(newRequest("/me/drive/items/1").build(), mockParser);
+        final BatchItem<Map> good = batchRequest.add(newRequest("/me/drive/items/2").build(), MAP_PARSER);
+        mockBatchResponse("{\"responses\":[{\"id\":\"1\",\"status\":200,\"body\":{}},"
+                + "{\"id\":\"2\",\"status\":200,\"body\":{\"name\":\"File\"}}]}");
+
+        assertAll(
+                () -> assertEquals(1, newExecutor().execute()),
+                () -> assertInstanceOf(ResponseParseException.class, bad.getFailure()),
+                () -> assertTrue(good.isSuccessful()));
+    }
+
+    @Test
+    public void execute_withBatchRequestFailure_shouldFailAllItemsAndThrowException() {
+        final BatchItem<Map> item = batchRequest.add(newRequest("/me/drive/items/1").build(), MAP_PARSER);
+        final ResponseException expected = new ResponseException("Unavailable");
+        when(mockConnection.execute(any(Request.class), eq(BATCH_RESPONSE_PARSER))).thenThrow(expected);
+
+        final BatchExecutor executorUnderTest = newExecutor();
+        final Throwable thrown = assertThrows(ResponseException.class, executorUnderTest::execute);
+
+        assertAll(
+                () -> assertSame(expected, thrown),
+                () -> assertSame(expected, item.getFailure()));
+    }
+
+    @Test
+    public void execute_withInvalidJsonBody_shouldFailOnlyThatItemAndItsDependents() {
+        final BatchItem<Map> invalid = batchRequest.add(
+                newRequest("/me/drive/items/1").patch(RequestBody.create("Not JSON", JSON_MEDIA_TYPE)).build(),
+                MAP_PARSER);
+        final BatchItem<Void> dependent = batchRequest.add(newRequest("/me/drive/items/1").delete().build(), invalid);
+        final BatchItem<Map> valid = batchRequest.add(newRequest("/me/drive/items/3").build(), MAP_PARSER);
+        final ArgumentCaptor<Request> requestCaptor =
+                mockBatchResponse("{\"responses\":[{\"id\":\"3\",\"status\":200,\"body\":{\"name\":\"File\"}}]}");
+
+        final int actual = newExecutor().execute();
+
+        assertAll(
+                () -> assertEquals(1, actual),
+                () -> assertEquals(1, readRequests(requestCaptor.getValue()).size()),
+                () -> assertInstanceOf(RequestException.class, invalid.getFailure()),
+                () -> assertInstanceOf(RequestException.class, dependent.getFailure()),
+                () -> assertEquals("File", valid.getResult().get("name")));
+    }
+
+    @Test
+    public void execute_withOnlyGetRequests_shouldMarkBatchRequestRetryable() {
+        when(mockConnection.newWithBodyRequestBuilder())
+                .thenAnswer(i -> new Request.Builder().header("Authorization", "Token"));
+        batchRequest.add(newRequest("/me/drive/items/1").build(), MAP_PARSER);
+        batchRequest.add(newRequest("/me/drive/items/2").build(), MAP_PARSER);
+        final ArgumentCaptor<Request> requestCaptor = mockBatchResponse("{\"responses\":[]}");
+
+        newExecutor().execute();
+
+        assertTrue(ThrottlingRetryInterceptor.isRetryable(requestCaptor.getValue()));
+    }
+
+    @Test
+    public void execute_withMutatingRequest_shouldNotMarkBatchRequestRetryable() {
+        when(mockConnection.newWithBodyRequestBuilder())
+                .thenAnswer(i -> new Request.Builder().header("Authorization", "Token"));
+        batchRequest.add(newRequest("/me/drive/items/1").build(), MAP_PARSER);
+        batchRequest.add(newRequest("/me/drive/items/2").delete().build());
+        final ArgumentCaptor<Request> requestCaptor = mockBatchResponse("{\"responses\":[]}");
+
+        newExecutor().execute();
+
+        assertFalse(ThrottlingRetryInterceptor.isRetryable(requestCaptor.getValue()));
+    }
+
+    @Test
+    public void toJson_withBodyHeadersAndDependencies_shouldSerializeRelativeRequests() {
+        final BatchItem<Map> update = batchRequest.add(
+                newRequest("/me/drive/items/1")
+                        .header("Authorization", "Token")
+                        .header("If-Match", "ETag")
+                        .patch(RequestBody.create("{\"name\":\"New\"}", JSON_MEDIA_TYPE))
+                        .build(),
+                MAP_PARSER);
+        batchRequest.add(newRequest("/me/drive/items/1").delete().build(), update);
+
+        final JsonArray actual = JsonParser.parseString(newExecutor().toJson("https://graph.microsoft.com/v1.0"))
+                .getAsJsonObject()
+                .getAsJsonArray("requests");
+
+        final JsonObject first = actual.get(0).getAsJsonObject();
+        final JsonObject second = actual.get(1).getAsJsonObject();
+        assertAll(
+                () -> assertEquals(2, actual.size()),
+                () -> assertEquals("1", first.get("id").getAsString()),
+                () -> assertEquals("PATCH", first.get("method").getAsString()),
+                () -> assertEquals("/me/drive/items/1", first.get("url").getAsString()),
+                () -> assertEquals("New", first.getAsJsonObject("body").get("name").getAsString()),
+                () -> assertEquals("ETag", first.getAsJsonObject("headers").get("If-Match").getAsString()),
+                () -> assertFalse(first.getAsJsonObject("headers").has("Authorization")),
+                () -> assertEquals("application/json",
+                        first.getAsJsonObject("headers").get("Content-Type").getAsString()),
+                () -> assertEquals("DELETE", second.get("method").getAsString()),
+                () -> assertEquals("1", second.getAsJsonArray("dependsOn").get(0).getAsString()));
+    }
+
+    @Test
+    public void toJson_withNonJsonBody_shouldThrowException() {
+        batchRequest.add(newRequest("/me/drive/items/1/content")
+                .put(RequestBody.create(new byte[] {1}, okhttp3.MediaType.parse("application/octet-stream")))
+                .build());
+
+        final BatchExecutor executorUnderTest = newExecutor();
+        assertThrows(RequestException.class, () -> executorUnderTest.toJson("https://graph.microsoft.com/v1.0"));
+    }
+
+    @Test
+    public void toJson_withRequestOutsideOfServiceRoot_shouldThrowException() {
+        batchRequest.add(new Request.Builder().url("https://example.com/other").build());
+
+        final BatchExecutor executorUnderTest = newExecutor();
+        assertThrows(RequestException.class, () -> executorUnderTest.toJson("https://graph.microsoft.com/v1.0"));
+    }
+
+    @Test
+    public void getServiceRoot_withBaseUrls_shouldStripUserSegment() {
+        assertAll(
+                () -> assertEquals("https://graph.microsoft.com/v1.0",
+                        BatchExecutor.getServiceRoot("https://graph.microsoft.com/v1.0/me")),
+                () -> assertEquals("https://tenant.sharepoint.com/_api/v2.0",
+                        BatchExecutor.getServiceRoot("https://tenant.sharepoint.com/_api/v2.0/")));
+    }
+
+    @Test
+    public void builder_withEmptyBatch_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> newExecutor());
+    }
+
+    private BatchExecutor newExecutor() {
+        return BatchExecutor.builder()
+                .connection(mockConnection)
+                .batchRequest(batchRequest)
+                .build();
+    }
+
+    private static Request.Builder newRequest(final String path) {
+        return new Request.Builder().url("https://graph.microsoft.com/v1.0" + path);
+    }
+
+    private static JsonArray readRequests(final Request request) throws IOException {
+        final Buffer body = new Buffer();
+        request.body().writeTo(body);
+        return JsonParser.parseString(body.readUtf8()).getAsJsonObject().getAsJsonArray("requests");
+    }
+
+    private ArgumentCaptor<Request> mockBatchResponse(final String json) {
+        final ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        when(mockConnection.execute(requestCaptor.capture(), eq(BATCH_RESPONSE_PARSER))).thenAnswer(i -> {
+            final Buffer body = new Buffer();
+            ((Request) i.getArgument(0)).body().writeTo(body);
+            assertTrue(body.readUtf8().startsWith("{\"requests\":["));
+            return BATCH_RESPONSE_PARSER.parse(
+                    new Gson(),
+                    new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+        });
+        return requestCaptor;
+    }
+}
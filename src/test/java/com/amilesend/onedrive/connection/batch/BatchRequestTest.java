@@ -0,0 +1,76 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection.batch;
+
+import com.amilesend.client.parse.parser.GsonParser;
+import okhttp3.Request;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public class BatchRequestTest {
+    private final BatchRequest batchUnderTest = new BatchRequest();
+
+    @Test
+    public void add_withDependencies_shouldAssignSequentialIds() {
+        final BatchItem<Object> first = batchUnderTest.add(newRequest(), mock(GsonParser.class));
+        final BatchItem<Void> second = batchUnderTest.add(newRequest(), first);
+
+        assertAll(
+                () -> assertEquals("1", first.getId()),
+                () -> assertEquals("2", second.getId()),
+                () -> assertEquals(List.of("1"), second.getDependsOn()),
+                () -> assertEquals(List.of(first, second), batchUnderTest.getItems()),
+                () -> assertFalse(second.isCompleted()));
+    }
+
+    @Test
+    public void add_withFullBatch_shouldThrowException() {
+        IntStream.range(0, BatchRequest.MAX_REQUESTS).forEach(i -> batchUnderTest.add(newRequest()));
+
+        assertAll(
+                () -> assertTrue(batchUnderTest.isFull()),
+                () -> assertThrows(IllegalArgumentException.class, () -> batchUnderTest.add(newRequest())));
+    }
+
+    @Test
+    public void add_withDependencyFromAnotherBatch_shouldThrowException() {
+        final BatchItem<Void> other = new BatchRequest().add(newRequest());
+
+        assertThrows(IllegalArgumentException.class, () -> batchUnderTest.add(newRequest(), other));
+    }
+
+    @Test
+    public void getResult_withUnexecutedBatch_shouldThrowException() {
+        final BatchItem<Void> item = batchUnderTest.add(newRequest());
+
+        assertThrows(IllegalStateException.class, item::getResult);
+    }
+
+    private static Request newRequest() {
+        return new Request.Builder().url("https://graph.microsoft.com/v1.0/me/drive/items/1").build();
+    }
+}
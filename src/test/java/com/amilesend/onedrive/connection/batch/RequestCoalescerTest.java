@@ -0,0 +1,248 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection.batch;
+
+import com.amilesend.client.connection.RequestException;
+import com.amilesend.client.connection.ResponseException;
+import com.amilesend.client.connection.ThrottledException;
+import com.amilesend.client.parse.parser.GsonParser;
+import com.amilesend.onedrive.connection.OneDriveConnection;
+import com.amilesend.onedrive.connection.http.ThrottlingRetryInterceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static com.amilesend.client.connection.Connection.JSON_MEDIA_TYPE;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class RequestCoalescerTest {
+    private static final String SERVICE_ROOT = "https://graph.microsoft.com/v1.0";
+
+    @Mock
+    private OneDriveConnection mockConnection;
+    @Mock
+    private GsonParser<String> mockParser;
+
+    @BeforeEach
+    public void setUp() {
+        when(mockConnection.getBaseUrl()).thenReturn(SERVICE_ROOT + "/me");
+    }
+
+    @Test
+    public void submit_withFullBatch_shouldSendSingleBatchAndCompleteEachFuture() {
+        final ArgumentCaptor<BatchRequest> batchCaptor = ArgumentCaptor.forClass(BatchRequest.class);
+        doAnswer(i -> {
+            final List<BatchItem<?>> items = ((BatchRequest) i.getArgument(0)).getItems();
+            ((BatchItem<String>) items.get(0)).complete(200, "First");
+            items.get(1).fail(404, new RequestException("Not found"));
+            ((BatchItem<String>) items.get(2)).complete(200, "Third");
+            return 2;
+        }).when(mockConnection).executeBatch(batchCaptor.capture());
+        final RequestCoalescer coalescerUnderTest = newCoalescer(3, Duration.ofHours(1L));
+
+        final CompletableFuture<String> first = coalescerUnderTest.submit(newRequest("1"), mockParser);
+        final CompletableFuture<String> second = coalescerUnderTest.submit(newRequest("2"), mockParser);
+        assertFalse(first.isDone());
+        final CompletableFuture<String> third = coalescerUnderTest.submit(newRequest("3"), mockParser);
+
+        assertAll(
+                () -> assertEquals(3, batchCaptor.getValue().size()),
+                () -> assertEquals("First", first.getNow(null)),
+                () -> assertInstanceOf(RequestException.class,
+                        assertThrows(ExecutionException.class, second::get).getCause()),
+                () -> assertEquals("Third", third.getNow(null)),
+                () -> verify(mockConnection, never()).execute(any(Request.class), any(GsonParser.class)));
+    }
+
+    @Test
+    public void submit_withSingleRequestInWindow_shouldSendRequestDirectly() throws Exception {
+        when(mockConnection.execute(any(Request.class), any(GsonParser.class))).thenReturn("Result");
+        final RequestCoalescer coalescerUnderTest = newCoalescer(20, Duration.ofMillis(1L));
+
+        final CompletableFuture<String> actual = coalescerUnderTest.submit(newRequest("1"), mockParser);
+
+        assertAll(
+                () -> assertEquals("Result", actual.get(5L, TimeUnit.SECONDS)),
+                () -> verify(mockConnection, never()).executeBatch(any(BatchRequest.class)));
+    }
+
+    @Test
+    public void flush_withBufferedRequests_shouldSendBatchWithoutWaitingForWindow() {
+        doAnswer(i -> {
+            ((BatchRequest) i.getArgument(0)).getItems()
+                    .forEach(item -> ((BatchItem<String>) item).complete(200, item.getId()));
+            return 2;
+        }).when(mockConnection).executeBatch(any(BatchRequest.class));
+        final RequestCoalescer coalescerUnderTest = newCoalescer(20, Duration.ofHours(1L));
+        final CompletableFuture<String> first = coalescerUnderTest.submit(newRequest("1"), mockParser);
+        final CompletableFuture<String> second = coalescerUnderTest.submit(newRequest("2"), mockParser);
+
+        coalescerUnderTest.flush();
+
+        assertAll(
+                () -> assertEquals("1", first.getNow(null)),
+                () -> assertEquals("2", second.getNow(null)));
+    }
+
+    @Test
+    public void flush_withBatchFailure_shouldCompleteAllFuturesExceptionally() {
+        final ResponseException expected = new ResponseException("Unavailable");
+        doThrow(expected).when(mockConnection).executeBatch(any(BatchRequest.class));
+        final RequestCoalescer coalescerUnderTest = newCoalescer(20, Duration.ofHours(1L));
+        final CompletableFuture<String> first = coalescerUnderTest.submit(newRequest("1"), mockParser);
+        final CompletableFuture<String> second = coalescerUnderTest.submit(newRequest("2"), mockParser);
+
+        coalescerUnderTest.flush();
+
+        assertAll(
+                () -> assertSame(expected, assertThrows(ExecutionException.class, first::get).getCause()),
+                () -> assertSame(expected, assertThrows(ExecutionException.class, second::get).getCause()));
+    }
+
+    @Test
+    public void flush_withThrottledRequest_shouldRetryRequestDirectly() throws Exception {
+        when(mockConnection.getAsyncRetryPolicy()).thenReturn(new ThrottlingRetryInterceptor());
+        doAnswer(i -> {
+            final List<BatchItem<?>> items = ((BatchRequest) i.getArgument(0)).getItems();
+            ((BatchItem<String>) items.get(0)).complete(200, "First");
+            items.get(1).fail(429, new ThrottledException("Throttled", 0L));
+            return 1;
+        }).when(mockConnection).executeBatch(any(BatchRequest.class));
+        final Request throttledRequest = newAuthorizedRequest("2");
+        when(mockConnection.execute(same(throttledRequest), any(GsonParser.class))).thenReturn("Second");
+        final RequestCoalescer coalescerUnderTest = newCoalescer(20, Duration.ofHours(1L));
+        final CompletableFuture<String> first = coalescerUnderTest.submit(newAuthorizedRequest("1"), mockParser);
+        final CompletableFuture<String> second = coalescerUnderTest.submit(throttledRequest, mockParser);
+
+        coalescerUnderTest.flush();
+
+        assertAll(
+                () -> assertEquals("First", first.getNow(null)),
+                () -> assertEquals("Second", second.get(5L, TimeUnit.SECONDS)));
+    }
+
+    @Test
+    public void flush_withThrottledRequestAndNoRetryPolicy_shouldCompleteFutureExceptionally() {
+        doAnswer(i -> {
+            ((BatchRequest) i.getArgument(0)).getItems()
+                    .forEach(item -> item.fail(429, new ThrottledException("Throttled", 0L)));
+            return 0;
+        }).when(mockConnection).executeBatch(any(BatchRequest.class));
+        final RequestCoalescer coalescerUnderTest = newCoalescer(20, Duration.ofHours(1L));
+        final CompletableFuture<String> first = coalescerUnderTest.submit(newAuthorizedRequest("1"), mockParser);
+        coalescerUnderTest.submit(newAuthorizedRequest("2"), mockParser);
+
+        coalescerUnderTest.flush();
+
+        assertAll(
+                () -> assertInstanceOf(ThrottledException.class,
+                        assertThrows(ExecutionException.class, first::get).getCause()),
+                () -> verify(mockConnection, never()).execute(any(Request.class), any(GsonParser.class)));
+    }
+
+    @Test
+    public void isEligible_withContentTransferRequests_shouldNotAcceptRequests() {
+        final RequestCoalescer coalescerUnderTest = newCoalescer(20, Duration.ofHours(1L));
+
+        assertAll(
+                () -> assertFalse(coalescerUnderTest.isEligible(new Request.Builder()
+                        .url(SERVICE_ROOT + "/me/drive/items/1/content")
+                        .build())),
+                () -> assertFalse(coalescerUnderTest.isEligible(new Request.Builder()
+                        .url(SERVICE_ROOT + "/me/drive/root:/data.json:/content")
+                        .put(RequestBody.create("{}", JSON_MEDIA_TYPE))
+                        .build())),
+                () -> assertFalse(coalescerUnderTest.isEligible(new Request.Builder()
+                        .url(SERVICE_ROOT + "/me/drive/root:/data.json:/createUploadSession")
+                        .post(RequestBody.create("{}", JSON_MEDIA_TYPE))
+                        .build())),
+                () -> assertFalse(coalescerUnderTest.isEligible(new Request.Builder()
+                        .url(SERVICE_ROOT + "/me/drive/items/1")
+                        .patch(RequestBody.create(new byte[] {1}, null))
+                        .build())));
+    }
+
+    @Test
+    public void isEligible_withRequests_shouldOnlyAcceptJsonRequestsUnderServiceRoot() {
+        final RequestCoalescer coalescerUnderTest = newCoalescer(20, Duration.ofHours(1L));
+
+        assertAll(
+                () -> assertTrue(coalescerUnderTest.isEligible(newRequest("1"))),
+                () -> assertTrue(coalescerUnderTest.isEligible(new Request.Builder()
+                        .url(SERVICE_ROOT + "/me/drive/items/1")
+                        .patch(RequestBody.create("{}", JSON_MEDIA_TYPE))
+                        .build())),
+                () -> assertFalse(coalescerUnderTest.isEligible(new Request.Builder()
+                        .url(SERVICE_ROOT + "/me/drive/items/1/content")
+                        .put(RequestBody.create(new byte[] {1}, MediaType.parse("application/octet-stream")))
+                        .build())),
+                () -> assertFalse(coalescerUnderTest.isEligible(
+                        new Request.Builder().url("https://example.com/file").build())),
+                () -> assertFalse(coalescerUnderTest.isEligible(
+                        new Request.Builder().url(SERVICE_ROOT + "/$batch").build())));
+    }
+
+    private RequestCoalescer newCoalescer(final int maxBatchSize, final Duration window) {
+        return RequestCoalescer.builder()
+                .connection(mockConnection)
+                .options(BatchCoalescingOptions.builder()
+                        .maxBatchSize(maxBatchSize)
+                        .window(window)
+                        .build())
+                .executor(Runnable::run)
+                .build();
+    }
+
+    private static Request newRequest(final String id) {
+        return new Request.Builder().url(SERVICE_ROOT + "/me/drive/items/" + id).build();
+    }
+
+    private static Request newAuthorizedRequest(final String id) {
+        return new Request.Builder()
+                .url(SERVICE_ROOT + "/me/drive/items/" + id)
+                .header("Authorization", "Token")
+                .build();
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection.cache;
+
+import lombok.SneakyThrows;
+import okhttp3.HttpUrl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MetadataCacheTest {
+    private static final String BASE_URL = "https://graph.microsoft.com/v1.0";
+    private static final HttpUrl ITEM_URL = HttpUrl.get(BASE_URL + "/me/drive/items/ItemId");
+    private static final String ETAG = "\"ETag,1\"";
+    private static final byte[] BODY = "{\"id\":\"ItemId\"}".getBytes();
+
+    private final AtomicLong nanos = new AtomicLong();
+    private MetadataCache cacheUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        cacheUnderTest = new MetadataCache(MetadataCacheOptions.builder()
+                .maxEntries(2)
+                .maxEntrySizeBytes(64)
+                .timeToLive(Duration.ofMinutes(10L))
+                .freshnessDuration(Duration.ofMinutes(1L))
+                .build(),
+                nanos::get);
+    }
+
+    ////////////////////
+    // get/put
+    ////////////////////
+
+    @SneakyThrows
+    @Test
+    public void get_withCachedEntry_shouldReturnEntry() {
+        cacheUnderTest.put(ITEM_URL, ETAG, BODY);
+
+        final MetadataCache.Entry actual = cacheUnderTest.get(ITEM_URL);
+
+        assertAll(
+                () -> assertNotNull(actual),
+                () -> assertEquals(ETAG, actual.getETag()),
+                () -> assertArrayEquals(BODY, actual.newBodyStream().readAllBytes()));
+    }
+
+    @Test
+    public void get_withExpiredEntry_shouldRemoveEntryAndReturnNull() {
+        cacheUnderTest.put(ITEM_URL, ETAG, BODY);
+        nanos.addAndGet(Duration.ofMinutes(11L).toNanos());
+
+        assertAll(
+                () -> assertNull(cacheUnderTest.get(ITEM_URL)),
+                () -> assertEquals(0, cacheUnderTest.size()));
+    }
+
+    @Test
+    public void put_withBlankETagOrLargeBody_shouldNotCache() {
+        cacheUnderTest.put(ITEM_URL, ETAG, BODY);
+        cacheUnderTest.put(ITEM_URL, null, BODY);
+        cacheUnderTest.put(HttpUrl.get(BASE_URL + "/me/drive"), ETAG, new byte[65]);
+
+        assertEquals(0, cacheUnderTest.size());
+    }
+
+    @Test
+    public void put_withMaxEntriesExceeded_shouldEvictLeastRecentlyUsedEntry() {
+        final HttpUrl driveUrl = HttpUrl.get(BASE_URL + "/me/drive");
+        final HttpUrl siteUrl = HttpUrl.get(BASE_URL + "/sites/root");
+        cacheUnderTest.put(ITEM_URL, ETAG, BODY);
+        cacheUnderTest.put(driveUrl, ETAG, BODY);
+        cacheUnderTest.get(ITEM_URL);
+
+        cacheUnderTest.put(siteUrl, ETAG, BODY);
+
+        assertAll(
+                () -> assertEquals(2, cacheUnderTest.size()),
+                () -> assertNotNull(cacheUnderTest.get(ITEM_URL)),
+                () -> assertNull(cacheUnderTest.get(driveUrl)),
+                () -> assertNotNull(cacheUnderTest.get(siteUrl)));
+    }
+
+    ////////////////////
+    // isFresh/markRevalidated
+    ////////////////////
+
+    @Test
+    public void isFresh_withElapsedFreshnessDuration_shouldReturnFalseUntilRevalidated() {
+        cacheUnderTest.put(ITEM_URL, ETAG, BODY);
+        final MetadataCache.Entry entry = cacheUnderTest.get(ITEM_URL);
+        assertTrue(cacheUnderTest.isFresh(entry));
+
+        nanos.addAndGet(Duration.ofMinutes(2L).toNanos());
+        assertFalse(cacheUnderTest.isFresh(entry));
+
+        cacheUnderTest.markRevalidated(entry);
+        assertTrue(cacheUnderTest.isFresh(entry));
+    }
+
+    ////////////////////
+    // invalidate
+    ////////////////////
+
+    @Test
+    public void invalidate_withItemUrl_shouldRemoveEntriesForItem() {
+        cacheUnderTest.put(HttpUrl.get(BASE_URL + "/drives/DriveId/items/ItemId?expand=children"), ETAG, BODY);
+        cacheUnderTest.put(HttpUrl.get(BASE_URL + "/me/drive/items/OtherId"), ETAG, BODY);
+
+        cacheUnderTest.invalidate(HttpUrl.get(BASE_URL + "/me/drive/items/ItemId:/file.txt:/content"));
+
+        assertAll(
+                () -> assertEquals(1, cacheUnderTest.size()),
+                () -> assertNotNull(cacheUnderTest.get(HttpUrl.get(BASE_URL + "/me/drive/items/OtherId"))));
+    }
+
+    @Test
+    public void invalidate_withPathAddressedUrl_shouldRemoveEntriesWithPathPrefix() {
+        final HttpUrl fileUrl = HttpUrl.get(BASE_URL + "/me/drive/root:/folder/file.txt");
+        cacheUnderTest.put(fileUrl, ETAG, BODY);
+        cacheUnderTest.put(ITEM_URL, ETAG, BODY);
+
+        cacheUnderTest.invalidate(HttpUrl.get(BASE_URL + "/me/drive/root:/folder/file.txt:/content"));
+
+        assertAll(
+                () -> assertNull(cacheUnderTest.get(fileUrl)),
+                () -> assertNotNull(cacheUnderTest.get(ITEM_URL)));
+    }
+
+    @Test
+    public void invalidate_withDeletedChild_shouldRemoveParentListings() {
+        cacheUnderTest = newLargeCache();
+        final HttpUrl childUrl = HttpUrl.get(BASE_URL + "/me/drive/items/ChildId");
+        final HttpUrl parentListingUrl = HttpUrl.get(BASE_URL + "/me/drive/items/ParentId/children");
+        final HttpUrl otherListingUrl = HttpUrl.get(BASE_URL + "/me/drive/items/OtherId/children");
+        final HttpUrl deltaUrl = HttpUrl.get(BASE_URL + "/me/drive/root/delta");
+        cacheUnderTest.put(childUrl, ETAG,
+                "{\"id\":\"ChildId\",\"parentReference\":{\"id\":\"ParentId\"}}".getBytes());
+        cacheUnderTest.put(parentListingUrl, ETAG, "{\"value\":[{\"id\":\"ChildId\"}]}".getBytes());
+        cacheUnderTest.put(otherListingUrl, ETAG, "{\"value\":[]}".getBytes());
+        cacheUnderTest.put(deltaUrl, ETAG, "{\"value\":[]}".getBytes());
+
+        cacheUnderTest.invalidate(childUrl);
+
+        assertAll(
+                () -> assertNull(cacheUnderTest.get(childUrl)),
+                () -> assertNull(cacheUnderTest.get(parentListingUrl)),
+                () -> assertNull(cacheUnderTest.get(deltaUrl)),
+                () -> assertNotNull(cacheUnderTest.get(otherListingUrl)));
+    }
+
+    @Test
+    public void invalidate_withUnknownParent_shouldRemoveAllListings() {
+        cacheUnderTest = newLargeCache();
+        final HttpUrl itemUrl = HttpUrl.get(BASE_URL + "/me/drive/items/OtherId");
+        final HttpUrl rootListingUrl = HttpUrl.get(BASE_URL + "/me/drive/root/children");
+        final HttpUrl folderListingUrl = HttpUrl.get(BASE_URL + "/me/drive/items/FolderId/children");
+        cacheUnderTest.put(itemUrl, ETAG, BODY);
+        cacheUnderTest.put(rootListingUrl, ETAG, "{\"value\":[]}".getBytes());
+        cacheUnderTest.put(folderListingUrl, ETAG, "{\"value\":[]}".getBytes());
+
+        cacheUnderTest.invalidate(ITEM_URL);
+
+        assertAll(
+                () -> assertNotNull(cacheUnderTest.get(itemUrl)),
+                () -> assertNull(cacheUnderTest.get(rootListingUrl)),
+                () -> assertNull(cacheUnderTest.get(folderListingUrl)));
+    }
+
+    @Test
+    public void clear_shouldRemoveAllEntries() {
+        cacheUnderTest.put(ITEM_URL, ETAG, BODY);
+
+        cacheUnderTest.clear();
+
+        assertEquals(0, cacheUnderTest.size());
+    }
+
+    @Test
+    public void getListingType_withUrls_shouldReturnExpected() {
+        assertAll(
+                () -> assertEquals(MetadataCache.ListingType.NONE, MetadataCache.getListingType(ITEM_URL)),
+                () -> assertEquals(MetadataCache.ListingType.CHILDREN,
+                        MetadataCache.getListingType(HttpUrl.get(BASE_URL + "/me/drive/root:/folder:/children"))),
+                () -> assertEquals(MetadataCache.ListingType.DELTA,
+                        MetadataCache.getListingType(HttpUrl.get(BASE_URL + "/me/drive/root/delta(token='latest')"))));
+    }
+
+    @Test
+    public void getParentId_withBodies_shouldReturnExpected() {
+        assertAll(
+                () -> assertEquals("ParentId", MetadataCache.getParentId(
+                        "{\"id\":\"ItemId\",\"parentReference\":{\"id\":\"ParentId\"}}".getBytes())),
+                () -> assertNull(MetadataCache.getParentId(BODY)),
+                () -> assertNull(MetadataCache.getParentId("Not JSON {".getBytes())));
+    }
+
+    @Test
+    public void getItemId_withUrls_shouldReturnExpected() {
+        assertAll(
+                () -> assertEquals("ItemId", MetadataCache.getItemId(ITEM_URL)),
+                () -> assertEquals("ItemId",
+                        MetadataCache.getItemId(HttpUrl.get(BASE_URL + "/me/drive/items/ItemId:/name.txt:/content"))),
+                () -> assertEquals("ItemId",
+                        MetadataCache.getItemId(HttpUrl.get(BASE_URL + "/drives/DriveId/items/ItemId/children"))),
+                () -> assertNull(MetadataCache.getItemId(HttpUrl.get(BASE_URL + "/me/drive/root"))),
+                () -> assertNull(MetadataCache.getItemId(HttpUrl.get(BASE_URL + "/me/drive/items"))));
+    }
+
+    ////////////////////
+    // options
+    ////////////////////
+
+    @Test
+    public void options_withInvalidParameters_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> MetadataCacheOptions.builder().maxEntries(0).build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> MetadataCacheOptions.builder().maxEntrySizeBytes(0).build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> MetadataCacheOptions.builder().timeToLive(Duration.ZERO).build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> MetadataCacheOptions.builder().freshnessDuration(Duration.ofMinutes(11L)).build()));
+    }
+
+    private MetadataCache newLargeCache() {
+        return new MetadataCache(MetadataCacheOptions.builder()
+                .maxEntries(10)
+                .timeToLive(Duration.ofMinutes(10L))
+                .freshnessDuration(Duration.ofMinutes(1L))
+                .build(),
+                nanos::get);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection.file;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ByteRangeTest {
+    @Test
+    public void ctor_withInvalidParameters_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> new ByteRange(-1L, 10L)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new ByteRange(10L, 9L)));
+    }
+
+    @Test
+    public void length_shouldReturnInclusiveLength() {
+        assertEquals(10L, new ByteRange(0L, 9L).length());
+    }
+
+    @Test
+    public void toContentRange_shouldReturnFormattedValue() {
+        assertEquals("bytes 0-9/100", new ByteRange(0L, 9L).toContentRange(100L));
+    }
+
+    @Test
+    public void toRangeHeader_shouldReturnFormattedValue() {
+        assertEquals("bytes=10-19", new ByteRange(10L, 19L).toRangeHeader());
+    }
+
+    @Test
+    public void parse_withClosedRange_shouldReturnRange() {
+        assertEquals(new ByteRange(10L, 19L), ByteRange.parse("10-19", 100L));
+    }
+
+    @Test
+    public void parse_withOpenEndedRange_shouldReturnRangeToEndOfFile() {
+        assertEquals(new ByteRange(10L, 99L), ByteRange.parse("10-", 100L));
+    }
+
+    @Test
+    public void parse_withInvalidRange_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> ByteRange.parse("", 100L)),
+                () -> assertThrows(IllegalArgumentException.class, () -> ByteRange.parse("-10", 100L)),
+                () -> assertThrows(IllegalArgumentException.class, () -> ByteRange.parse("a-b", 100L)));
+    }
+
+    @Test
+    public void parse_withList_shouldReturnSortedRanges() {
+        final List<ByteRange> actual = ByteRange.parse(List.of("50-", "0-9"), 100L);
+
+        assertAll(
+                () -> assertEquals(List.of(new ByteRange(0L, 9L), new ByteRange(50L, 99L)), actual),
+                () -> assertEquals(60L, ByteRange.totalLength(actual)));
+    }
+
+    @Test
+    public void parse_withEmptyList_shouldReturnEmptyList() {
+        assertAll(
+                () -> assertTrue(ByteRange.parse((List<String>) null, 100L).isEmpty()),
+                () -> assertTrue(ByteRange.parse(List.of(), 100L).isEmpty()));
+    }
+}
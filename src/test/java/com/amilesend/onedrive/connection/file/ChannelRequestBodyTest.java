@@ -0,0 +1,99 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection.file;
+
+import com.amilesend.client.connection.file.TransferProgressCallback;
+import lombok.SneakyThrows;
+import okio.Buffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class ChannelRequestBodyTest {
+    private static final byte[] CONTENTS = new byte[] {1, 2, 3, 4, 5};
+
+    @Mock
+    private TransferProgressCallback mockCallback;
+
+    @SneakyThrows
+    @Test
+    public void writeTo_withSource_shouldWriteContentAndReportProgress() {
+        final ChannelRequestBody bodyUnderTest = newBody(CONTENTS, CONTENTS.length);
+        final Buffer sink = new Buffer();
+
+        bodyUnderTest.writeTo(sink);
+
+        assertAll(
+                () -> assertArrayEquals(CONTENTS, sink.readByteArray()),
+                () -> assertEquals("application/octet-stream", bodyUnderTest.contentType().toString()),
+                () -> assertEquals(CONTENTS.length, bodyUnderTest.contentLength()),
+                () -> assertTrue(bodyUnderTest.isOneShot()),
+                () -> verify(mockCallback).onUpdate(CONTENTS.length, CONTENTS.length),
+                () -> verify(mockCallback).onComplete(CONTENTS.length));
+    }
+
+    @SneakyThrows
+    @Test
+    public void writeTo_withLongerSource_shouldOnlyWriteSizeBytes() {
+        final Buffer sink = new Buffer();
+
+        newBody(CONTENTS, 3L).writeTo(sink);
+
+        assertAll(
+                () -> assertArrayEquals(new byte[] {1, 2, 3}, sink.readByteArray()),
+                () -> verify(mockCallback).onComplete(3L));
+    }
+
+    @Test
+    public void writeTo_withShortSource_shouldThrowException() {
+        final IOException thrown = assertThrows(IOException.class,
+                () -> newBody(CONTENTS, CONTENTS.length + 1L).writeTo(new Buffer()));
+
+        assertAll(
+                () -> verify(mockCallback).onFailure(thrown),
+                () -> verify(mockCallback, never()).onComplete(anyLong()));
+    }
+
+    @Test
+    public void builder_withNegativeSize_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> newBody(CONTENTS, -1L));
+    }
+
+    private ChannelRequestBody newBody(final byte[] contents, final long sizeBytes) {
+        return ChannelRequestBody.builder()
+                .source(Channels.newChannel(new ByteArrayInputStream(contents)))
+                .sizeBytes(sizeBytes)
+                .callback(mockCallback)
+                .build();
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection.file;
+
+import com.amilesend.client.connection.file.TransferProgressCallback;
+import lombok.SneakyThrows;
+import okio.Buffer;
+import okio.BufferedSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ChannelTransferWriterTest {
+    @Mock
+    private TransferProgressCallback mockCallback;
+
+    @SneakyThrows
+    @Test
+    public void write_withSource_shouldWriteAllBytesToChannel() {
+        final byte[] contents = new byte[100 * 1024];
+        for (int i = 0; i < contents.length; ++i) {
+            contents[i] = (byte) i;
+        }
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        final long actual = ChannelTransferWriter.builder()
+                .output(Channels.newChannel(output))
+                .callback(mockCallback)
+                .build()
+                .write(new Buffer().write(contents), contents.length);
+
+        assertAll(
+                () -> assertEquals(contents.length, actual),
+                () -> assertArrayEquals(contents, output.toByteArray()),
+                () -> verify(mockCallback).onUpdate(eq((long) contents.length), eq((long) contents.length)),
+                () -> verify(mockCallback).onComplete(eq((long) contents.length)));
+    }
+
+    @SneakyThrows
+    @Test
+    public void write_withIOException_shouldNotifyCallbackAndThrowException() {
+        final BufferedSource mockSource = mock(BufferedSource.class);
+        final IOException expected = new IOException("Exception");
+        when(mockSource.read(any(ByteBuffer.class))).thenThrow(expected);
+        final ChannelTransferWriter writerUnderTest = ChannelTransferWriter.builder()
+                .output(mock(WritableByteChannel.class))
+                .callback(mockCallback)
+                .build();
+
+        assertThrows(IOException.class, () -> writerUnderTest.write(mockSource, 10L));
+
+        assertAll(
+                () -> verify(mockCallback).onFailure(eq(expected)),
+                () -> verify(mockCallback, never()).onComplete(anyLong()));
+    }
+
+    @Test
+    public void builder_withInvalidParameters_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(NullPointerException.class, () -> ChannelTransferWriter.builder()
+                        .callback(mockCallback)
+                        .build()),
+                () -> assertThrows(NullPointerException.class, () -> ChannelTransferWriter.builder()
+                        .output(mock(WritableByteChannel.class))
+                        .build()));
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection.file;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DownloadCheckpointTest {
+    private static final DownloadCheckpoint CHECKPOINT = DownloadCheckpoint.builder()
+            .itemId("ItemId")
+            .eTag("ETag")
+            .cTag("CTag")
+            .sizeBytes(1000L)
+            .bytesWritten(300L)
+            .lastUpdatedMillis(1234L)
+            .build();
+
+    @Test
+    public void toJson_withCheckpoint_shouldRoundTrip() {
+        assertEquals(CHECKPOINT, DownloadCheckpoint.fromJson(CHECKPOINT.toJson()));
+    }
+
+    @Test
+    public void isSameContent_withCheckpoint_shouldCompareContentIdentity() {
+        assertAll(
+                () -> assertTrue(CHECKPOINT.isSameContent(CHECKPOINT.toBuilder().bytesWritten(0L).build())),
+                () -> assertFalse(CHECKPOINT.isSameContent(CHECKPOINT.toBuilder().itemId("OtherId").build())),
+                () -> assertFalse(CHECKPOINT.isSameContent(CHECKPOINT.toBuilder().eTag("OtherETag").build())),
+                () -> assertFalse(CHECKPOINT.isSameContent(CHECKPOINT.toBuilder().cTag(null).build())),
+                () -> assertFalse(CHECKPOINT.isSameContent(CHECKPOINT.toBuilder().sizeBytes(1L).build())),
+                () -> assertFalse(CHECKPOINT.isSameContent(null)));
+    }
+}
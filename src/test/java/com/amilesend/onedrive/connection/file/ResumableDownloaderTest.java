@@ -0,0 +1,367 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection.file;
+
+import com.amilesend.client.connection.RequestException;
+import com.amilesend.client.connection.ResponseException;
+import com.amilesend.client.connection.file.TransferProgressCallback;
+import com.amilesend.onedrive.connection.OneDriveConnection;
+import lombok.SneakyThrows;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ResumableDownloaderTest {
+    private static final String DOWNLOAD_URL = "https://localhost/drive/items/ItemId/content";
+    private static final String ITEM_ID = "ItemId";
+    private static final String ETAG = "ETag";
+    private static final String CTAG = "CTag";
+    private static final int FILE_SIZE = 1000;
+
+    @TempDir
+    private Path tempDir;
+    @Mock
+    private OneDriveConnection mockConnection;
+    @Mock
+    private TransferProgressCallback mockCallback;
+    private Path downloadPath;
+    private byte[] contents;
+
+    @BeforeEach
+    public void setUp() {
+        contents = new byte[FILE_SIZE];
+        for (int i = 0; i < FILE_SIZE; ++i) {
+            contents[i] = (byte) i;
+        }
+        downloadPath = tempDir.resolve("Download.bin");
+        lenient().when(mockConnection.newRequestBuilder()).thenAnswer(invocation -> new Request.Builder());
+    }
+
+    @SneakyThrows
+    @Test
+    public void download_withNoPartialFile_shouldDownloadFullContent() {
+        final Response response = newPartialResponse(0, FILE_SIZE);
+        when(mockConnection.execute(any(Request.class))).thenReturn(response);
+
+        final long actual = newDownloader(ETAG).download();
+
+        final ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        verify(mockConnection).execute(requestCaptor.capture());
+        final Request request = requestCaptor.getValue();
+        assertAll(
+                () -> assertEquals(FILE_SIZE, actual),
+                () -> assertArrayEquals(contents, Files.readAllBytes(downloadPath)),
+                () -> assertEquals("bytes=0-", request.header("Range")),
+                () -> assertEquals(ETAG, request.header("If-Range")),
+                () -> assertEquals("identity", request.header("Accept-Encoding")),
+                () -> assertFalse(Files.exists(ResumableDownloader.getPartialPath(downloadPath))),
+                () -> assertFalse(Files.exists(ResumableDownloader.getCheckpointPath(downloadPath))),
+                () -> verify(mockCallback).onComplete(eq((long) FILE_SIZE)));
+    }
+
+    @SneakyThrows
+    @Test
+    public void download_withMatchingCheckpoint_shouldRequestRemainingRange() {
+        writePartialDownload(400, newCheckpoint(ETAG, 300L));
+        final Response response = newPartialResponse(300, FILE_SIZE);
+        when(mockConnection.execute(any(Request.class))).thenReturn(response);
+
+        final long actual = newDownloader(ETAG).download();
+
+        final ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        verify(mockConnection).execute(requestCaptor.capture());
+        assertAll(
+                () -> assertEquals(FILE_SIZE, actual),
+                () -> assertArrayEquals(contents, Files.readAllBytes(downloadPath)),
+                () -> assertEquals("bytes=300-", requestCaptor.getValue().header("Range")),
+                () -> verify(mockCallback).onUpdate(eq(300L), eq((long) FILE_SIZE)),
+                () -> assertFalse(Files.exists(ResumableDownloader.getCheckpointPath(downloadPath))));
+    }
+
+    @SneakyThrows
+    @Test
+    public void download_withChangedRemoteContent_shouldRestartDownload() {
+        writePartialDownload(300, newCheckpoint("PreviousETag", 300L));
+        final Response response = newPartialResponse(0, FILE_SIZE);
+        when(mockConnection.execute(any(Request.class))).thenReturn(response);
+
+        newDownloader(ETAG).download();
+
+        final ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        verify(mockConnection).execute(requestCaptor.capture());
+        assertAll(
+                () -> assertArrayEquals(contents, Files.readAllBytes(downloadPath)),
+                () -> assertEquals("bytes=0-", requestCaptor.getValue().header("Range")));
+    }
+
+    @SneakyThrows
+    @Test
+    public void download_withFullContentResponseWhenResuming_shouldRestartDownload() {
+        writePartialDownload(300, newCheckpoint(ETAG, 300L));
+        final Response response = newResponse(200, null, 0, FILE_SIZE);
+        when(mockConnection.execute(any(Request.class))).thenReturn(response);
+
+        final long actual = newDownloader(ETAG).download();
+
+        assertAll(
+                () -> assertEquals(FILE_SIZE, actual),
+                () -> assertArrayEquals(contents, Files.readAllBytes(downloadPath)));
+    }
+
+    @SneakyThrows
+    @Test
+    public void download_withUnreadableCheckpoint_shouldRestartDownload() {
+        writePartialDownload(300, null);
+        Files.writeString(ResumableDownloader.getCheckpointPath(downloadPath), "{Invalid");
+
+        final ResumableDownloader downloaderUnderTest = newDownloader(ETAG);
+
+        assertAll(
+                () -> assertEquals(0L, downloaderUnderTest.getResumePosition()),
+                () -> assertFalse(Files.exists(ResumableDownloader.getPartialPath(downloadPath))),
+                () -> assertFalse(Files.exists(ResumableDownloader.getCheckpointPath(downloadPath))));
+    }
+
+    @SneakyThrows
+    @Test
+    public void download_withPartialFileShorterThanCheckpoint_shouldRestartDownload() {
+        writePartialDownload(100, newCheckpoint(ETAG, 300L));
+
+        assertEquals(0L, newDownloader(ETAG).getResumePosition());
+    }
+
+    @SneakyThrows
+    @Test
+    public void download_withTruncatedResponse_shouldResumeFromLastWrittenByte() {
+        final Response truncatedResponse = newPartialResponse(0, 250);
+        final Response remainingResponse = newPartialResponse(250, FILE_SIZE);
+        when(mockConnection.execute(any(Request.class))).thenReturn(truncatedResponse, remainingResponse);
+        final ResumableDownloader downloaderUnderTest = spy(newDownloader(ETAG));
+        doNothing().when(downloaderUnderTest).pause(anyLong());
+
+        final long actual = downloaderUnderTest.download();
+
+        final ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        verify(mockConnection, times(2)).execute(requestCaptor.capture());
+        final List<Request> requests = requestCaptor.getAllValues();
+        assertAll(
+                () -> assertEquals(FILE_SIZE, actual),
+                () -> assertArrayEquals(contents, Files.readAllBytes(downloadPath)),
+                () -> assertEquals("bytes=250-", requests.get(1).header("Range")),
+                () -> verify(downloaderUnderTest).pause(eq(1000L)));
+    }
+
+    @SneakyThrows
+    @Test
+    public void download_withNonTransientFailure_shouldKeepCheckpointAndThrowException() {
+        final Response truncatedResponse = newPartialResponse(0, 250);
+        final RequestException expected = new RequestException("Forbidden");
+        when(mockConnection.execute(any(Request.class))).thenReturn(truncatedResponse).thenThrow(expected);
+        final ResumableDownloader downloaderUnderTest = spy(newDownloader(ETAG));
+        doNothing().when(downloaderUnderTest).pause(anyLong());
+
+        final RequestException thrown = assertThrows(RequestException.class, downloaderUnderTest::download);
+
+        final DownloadCheckpoint checkpoint = DownloadCheckpoint.fromJson(
+                Files.readString(ResumableDownloader.getCheckpointPath(downloadPath)));
+        assertAll(
+                () -> assertSame(expected, thrown),
+                () -> assertEquals(250L, checkpoint.getBytesWritten()),
+                () -> assertEquals(ITEM_ID, checkpoint.getItemId()),
+                () -> assertEquals(ETAG, checkpoint.getETag()),
+                () -> assertEquals(250L, Files.size(ResumableDownloader.getPartialPath(downloadPath))),
+                () -> assertFalse(Files.exists(downloadPath)),
+                () -> verify(mockCallback).onFailure(eq(expected)),
+                () -> verify(mockCallback, never()).onComplete(anyLong()));
+    }
+
+    @SneakyThrows
+    @Test
+    public void download_withExhaustedRetries_shouldThrowException() {
+        when(mockConnection.execute(any(Request.class))).thenThrow(new ResponseException("Unavailable"));
+        final ResumableDownloader downloaderUnderTest = spy(ResumableDownloader.builder()
+                .connection(mockConnection)
+                .url(DOWNLOAD_URL)
+                .itemId(ITEM_ID)
+                .sizeBytes(FILE_SIZE)
+                .downloadPath(downloadPath)
+                .callback(mockCallback)
+                .maxRetries(2)
+                .build());
+        doNothing().when(downloaderUnderTest).pause(anyLong());
+
+        assertThrows(ResponseException.class, downloaderUnderTest::download);
+
+        assertAll(
+                () -> verify(mockConnection, times(3)).execute(any(Request.class)),
+                () -> verify(downloaderUnderTest, times(2)).pause(anyLong()));
+    }
+
+    @SneakyThrows
+    @Test
+    public void download_withMismatchedContentRange_shouldRetry() {
+        writePartialDownload(300, newCheckpoint(ETAG, 300L));
+        final Response mismatchedResponse = newResponse(206, "bytes 0-999/1000", 0, FILE_SIZE);
+        final Response response = newPartialResponse(300, FILE_SIZE);
+        when(mockConnection.execute(any(Request.class))).thenReturn(mismatchedResponse, response);
+        final ResumableDownloader downloaderUnderTest = spy(newDownloader(ETAG));
+        doNothing().when(downloaderUnderTest).pause(anyLong());
+
+        downloaderUnderTest.download();
+
+        assertArrayEquals(contents, Files.readAllBytes(downloadPath));
+    }
+
+    @Test
+    public void builder_withNoETag_shouldNotSendIfRange() {
+        final ResumableDownloader downloaderUnderTest = newDownloader(null);
+        final Response response = newPartialResponse(0, FILE_SIZE);
+        when(mockConnection.execute(any(Request.class))).thenReturn(response);
+
+        downloaderUnderTest.download();
+
+        final ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        verify(mockConnection).execute(requestCaptor.capture());
+        assertNull(requestCaptor.getValue().header("If-Range"));
+    }
+
+    @Test
+    public void builder_withInvalidParameters_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> ResumableDownloader.builder()
+                        .connection(mockConnection)
+                        .url(DOWNLOAD_URL)
+                        .itemId(ITEM_ID)
+                        .sizeBytes(0L)
+                        .downloadPath(downloadPath)
+                        .callback(mockCallback)
+                        .build()),
+                () -> assertThrows(NullPointerException.class, () -> ResumableDownloader.builder()
+                        .connection(mockConnection)
+                        .url(DOWNLOAD_URL)
+                        .sizeBytes(FILE_SIZE)
+                        .downloadPath(downloadPath)
+                        .callback(mockCallback)
+                        .build()),
+                () -> assertThrows(IllegalArgumentException.class, () -> ResumableDownloader.builder()
+                        .connection(mockConnection)
+                        .url(DOWNLOAD_URL)
+                        .itemId(ITEM_ID)
+                        .sizeBytes(FILE_SIZE)
+                        .downloadPath(downloadPath)
+                        .callback(mockCallback)
+                        .maxRetries(-1)
+                        .build()));
+    }
+
+    @Test
+    public void getPartialPath_withDownloadPath_shouldReturnSiblingPaths() {
+        assertAll(
+                () -> assertEquals(tempDir.resolve("Download.bin.partial"),
+                        ResumableDownloader.getPartialPath(downloadPath)),
+                () -> assertEquals(tempDir.resolve("Download.bin.partial.json"),
+                        ResumableDownloader.getCheckpointPath(downloadPath)),
+                () -> assertTrue(ResumableDownloader.getPartialPath(downloadPath).startsWith(tempDir)));
+    }
+
+    private ResumableDownloader newDownloader(final String eTag) {
+        return ResumableDownloader.builder()
+                .connection(mockConnection)
+                .url(DOWNLOAD_URL)
+                .itemId(ITEM_ID)
+                .eTag(eTag)
+                .cTag(CTAG)
+                .sizeBytes(FILE_SIZE)
+                .downloadPath(downloadPath)
+                .callback(mockCallback)
+                .build();
+    }
+
+    private static DownloadCheckpoint newCheckpoint(final String eTag, final long bytesWritten) {
+        return DownloadCheckpoint.builder()
+                .itemId(ITEM_ID)
+                .eTag(eTag)
+                .cTag(CTAG)
+                .sizeBytes(FILE_SIZE)
+                .bytesWritten(bytesWritten)
+                .build();
+    }
+
+    @SneakyThrows
+    private void writePartialDownload(final int numBytes, final DownloadCheckpoint checkpoint) {
+        Files.write(ResumableDownloader.getPartialPath(downloadPath), Arrays.copyOf(contents, numBytes));
+        if (checkpoint != null) {
+            Files.write(
+                    ResumableDownloader.getCheckpointPath(downloadPath),
+                    checkpoint.toJson().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private Response newPartialResponse(final int start, final int end) {
+        return newResponse(206, "bytes " + start + "-" + (FILE_SIZE - 1) + "/" + FILE_SIZE, start, end);
+    }
+
+    /*
+     * Creates a response that serves the content from start (inclusive) to end (exclusive). An end that is less than
+     * the file size simulates a dropped connection.
+     */
+    private Response newResponse(final int code, final String contentRange, final int start, final int end) {
+        final ResponseBody mockBody = mock(ResponseBody.class);
+        lenient().when(mockBody.source()).thenReturn(new Buffer().write(Arrays.copyOfRange(contents, start, end)));
+        final Response mockResponse = mock(Response.class);
+        lenient().when(mockResponse.code()).thenReturn(code);
+        lenient().when(mockResponse.header("Content-Range")).thenReturn(contentRange);
+        lenient().when(mockResponse.body()).thenReturn(mockBody);
+        return mockResponse;
+    }
+}
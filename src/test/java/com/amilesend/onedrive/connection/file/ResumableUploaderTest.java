@@ -0,0 +1,368 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection.file;
+
+import com.amilesend.client.connection.RequestException;
+import com.amilesend.client.connection.ResponseException;
+import com.amilesend.client.connection.ThrottledException;
+import com.amilesend.client.connection.file.TransferProgressCallback;
+import com.amilesend.client.parse.parser.GsonParser;
+import com.amilesend.onedrive.connection.OneDriveConnection;
+import com.amilesend.onedrive.connection.file.journal.UploadSessionJournal;
+import com.amilesend.onedrive.connection.file.journal.UploadSessionJournalEntry;
+import com.amilesend.onedrive.connection.file.journal.UploadSessionJournalException;
+import com.amilesend.onedrive.parse.GsonFactory;
+import com.amilesend.onedrive.resource.item.type.UploadSession;
+import com.google.gson.Gson;
+import lombok.SneakyThrows;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static com.amilesend.client.connection.Connection.Headers.AUTHORIZATION;
+import static com.amilesend.onedrive.connection.file.ResumableUploader.FRAGMENT_SIZE_MULTIPLE_BYTES;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ResumableUploaderTest {
+    private static final String UPLOAD_URL = "https://localhost/upload/session";
+    private static final int FILE_SIZE = FRAGMENT_SIZE_MULTIPLE_BYTES * 2 + 100;
+
+    @TempDir
+    private Path tempDir;
+    @Mock
+    private OneDriveConnection mockConnection;
+    @Mock
+    private GsonFactory mockGsonFactory;
+    @Mock
+    private GsonParser<String> mockParser;
+    @Mock
+    private TransferProgressCallback mockCallback;
+    private Path file;
+    private byte[] fileContents;
+
+    @SneakyThrows
+    @BeforeEach
+    public void setUp() {
+        fileContents = new byte[FILE_SIZE];
+        for (int i = 0; i < FILE_SIZE; ++i) {
+            fileContents[i] = (byte) i;
+        }
+        file = Files.write(tempDir.resolve("LargeFile.bin"), fileContents);
+        lenient().when(mockConnection.getGsonFactory()).thenReturn(mockGsonFactory);
+        lenient().when(mockGsonFactory.getInstance(any(OneDriveConnection.class))).thenReturn(new Gson());
+    }
+
+    @SneakyThrows
+    @Test
+    public void upload_withMultipleFragments_shouldUploadAllFragments() {
+        final Response firstResponse = newSessionResponse("327680-");
+        final Response secondResponse = newSessionResponse("655360-");
+        final Response completedResponse = newCompletedResponse();
+        when(mockConnection.execute(any(Request.class)))
+                .thenReturn(firstResponse, secondResponse, completedResponse);
+        when(mockParser.parse(any(Gson.class), any(InputStream.class))).thenReturn("Completed");
+
+        final String actual = newUploader(null).upload();
+
+        final ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        verify(mockConnection, times(3)).execute(requestCaptor.capture());
+        final List<Request> requests = requestCaptor.getAllValues();
+        assertAll(
+                () -> assertEquals("Completed", actual),
+                () -> assertEquals("bytes 0-327679/655460", requests.get(0).header("Content-Range")),
+                () -> assertEquals("bytes 327680-655359/655460", requests.get(1).header("Content-Range")),
+                () -> assertEquals("bytes 655360-655459/655460", requests.get(2).header("Content-Range")),
+                () -> assertEquals("PUT", requests.get(0).method()),
+                () -> assertEquals(UPLOAD_URL, requests.get(0).url().toString()),
+                () -> assertNull(requests.get(0).header(AUTHORIZATION)),
+                () -> assertArrayEquals(fileContents, concatBodies(requests)),
+                () -> verify(mockCallback).onUpdate(0L, FILE_SIZE),
+                () -> verify(mockCallback).onUpdate(327680L, FILE_SIZE),
+                () -> verify(mockCallback).onUpdate(655360L, FILE_SIZE),
+                () -> verify(mockCallback).onComplete(FILE_SIZE));
+    }
+
+    @SneakyThrows
+    @Test
+    public void upload_withTransientFailure_shouldResendMissingRanges() {
+        final ResumableUploader<String> uploaderUnderTest = spy(newUploader(null));
+        doNothing().when(uploaderUnderTest).pause(anyLong());
+        final Response firstResponse = newSessionResponse("327680-");
+        final Response statusResponse = newSessionResponse("400000-");
+        final Response completedResponse = newCompletedResponse();
+        when(mockConnection.execute(any(Request.class)))
+                .thenReturn(firstResponse)
+                .thenThrow(new ThrottledException("Throttled", 5L))
+                .thenReturn(statusResponse, completedResponse);
+        when(mockParser.parse(any(Gson.class), any(InputStream.class))).thenReturn("Completed");
+
+        final String actual = uploaderUnderTest.upload();
+
+        final ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        verify(mockConnection, times(4)).execute(requestCaptor.capture());
+        final List<Request> requests = requestCaptor.getAllValues();
+        assertAll(
+                () -> assertEquals("Completed", actual),
+                () -> verify(uploaderUnderTest).pause(5000L),
+                () -> assertEquals("GET", requests.get(2).method()),
+                () -> assertEquals("bytes 400000-655459/655460", requests.get(3).header("Content-Range")),
+                () -> verify(mockCallback).onUpdate(400000L, FILE_SIZE),
+                () -> verify(mockCallback).onComplete(FILE_SIZE));
+    }
+
+    @SneakyThrows
+    @Test
+    public void upload_withExhaustedRetries_shouldThrowException() {
+        final ResumableUploader<String> uploaderUnderTest = spy(newUploader(1));
+        doNothing().when(uploaderUnderTest).pause(anyLong());
+        when(mockConnection.execute(any(Request.class))).thenThrow(new ResponseException("Unavailable"));
+
+        final ResponseException thrown = assertThrows(ResponseException.class, () -> uploaderUnderTest.upload());
+
+        assertAll(
+                () -> verify(uploaderUnderTest).pause(1000L),
+                () -> verify(mockCallback).onFailure(thrown),
+                () -> verify(mockCallback, never()).onComplete(anyLong()));
+    }
+
+    @SneakyThrows
+    @Test
+    public void upload_withNonTransientFailure_shouldThrowException() {
+        final ResumableUploader<String> uploaderUnderTest = spy(newUploader(null));
+        when(mockConnection.execute(any(Request.class))).thenThrow(new RequestException("Forbidden"));
+
+        assertThrows(RequestException.class, () -> uploaderUnderTest.upload());
+
+        assertAll(
+                () -> verify(mockConnection, times(1)).execute(any(Request.class)),
+                () -> verify(uploaderUnderTest, never()).pause(anyLong()),
+                () -> verify(mockCallback).onFailure(any(RequestException.class)));
+    }
+
+    @SneakyThrows
+    @Test
+    public void upload_withSessionMissingCompletedResource_shouldThrowExceptionWithoutRetrying() {
+        final ResumableUploader<String> uploaderUnderTest = spy(newUploader(null));
+        final Response noRangesResponse = newMockedResponse(202, "{\"nextExpectedRanges\":[]}");
+        when(mockConnection.execute(any(Request.class))).thenReturn(noRangesResponse);
+
+        assertThrows(ResponseException.class, () -> uploaderUnderTest.upload());
+
+        assertAll(
+                () -> verify(mockConnection, times(1)).execute(any(Request.class)),
+                () -> verify(uploaderUnderTest, never()).pause(anyLong()),
+                () -> verify(mockCallback).onFailure(any(ResponseException.class)));
+    }
+
+    @SneakyThrows
+    @Test
+    public void upload_withJournal_shouldStoreProgressAndRemoveOnCompletion() {
+        final UploadSessionJournal mockJournal = mock(UploadSessionJournal.class);
+        final Response firstResponse = newMockedResponse(202,
+                "{\"expirationDateTime\":\"2030-01-01T00:00:00Z\",\"nextExpectedRanges\":[\"327680-\"]}");
+        final Response completedResponse = newCompletedResponse();
+        when(mockConnection.execute(any(Request.class))).thenReturn(firstResponse, completedResponse);
+        when(mockParser.parse(any(Gson.class), any(InputStream.class))).thenReturn("Completed");
+        final ResumableUploader<String> uploaderUnderTest = ResumableUploader.<String>builder()
+                .connection(mockConnection)
+                .session(UploadSession.builder().uploadUrl(UPLOAD_URL).build())
+                .file(file)
+                .parser(mockParser)
+                .callback(mockCallback)
+                .fragmentSizeBytes(FRAGMENT_SIZE_MULTIPLE_BYTES * 2)
+                .journal(mockJournal)
+                .journalId("JournalId")
+                .build();
+
+        final String actual = uploaderUnderTest.upload();
+
+        final ArgumentCaptor<UploadSessionJournalEntry> entryCaptor =
+                ArgumentCaptor.forClass(UploadSessionJournalEntry.class);
+        final ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        verify(mockJournal, times(2)).store(eq("JournalId"), entryCaptor.capture());
+        verify(mockConnection, times(2)).execute(requestCaptor.capture());
+        final UploadSessionJournalEntry lastEntry = entryCaptor.getAllValues().get(1);
+        assertAll(
+                () -> assertEquals("Completed", actual),
+                () -> assertEquals(UPLOAD_URL, lastEntry.getUploadUrl()),
+                () -> assertEquals(List.of("327680-"), lastEntry.getNextExpectedRanges()),
+                () -> assertEquals(FILE_SIZE, lastEntry.getFingerprint().getSizeBytes()),
+                () -> assertEquals(file.toAbsolutePath().normalize().toString(), lastEntry.getFilePath()),
+                () -> assertEquals(UPLOAD_URL, requestCaptor.getAllValues().get(1).url().toString()),
+                () -> verify(mockJournal).remove("JournalId"));
+    }
+
+    @SneakyThrows
+    @Test
+    public void upload_withJournalException_shouldContinueUpload() {
+        final UploadSessionJournal mockJournal = mock(UploadSessionJournal.class);
+        doThrow(new UploadSessionJournalException("Exception")).when(mockJournal).store(any(), any());
+        doThrow(new UploadSessionJournalException("Exception")).when(mockJournal).remove(any());
+        final Response completedResponse = newCompletedResponse();
+        when(mockConnection.execute(any(Request.class))).thenReturn(completedResponse);
+        when(mockParser.parse(any(Gson.class), any(InputStream.class))).thenReturn("Completed");
+        final ResumableUploader<String> uploaderUnderTest = ResumableUploader.<String>builder()
+                .connection(mockConnection)
+                .session(UploadSession.builder().uploadUrl(UPLOAD_URL).build())
+                .file(file)
+                .parser(mockParser)
+                .callback(mockCallback)
+                .journal(mockJournal)
+                .journalId("JournalId")
+                .build();
+
+        assertEquals("Completed", uploaderUnderTest.upload());
+    }
+
+    @SneakyThrows
+    @Test
+    public void upload_withEmptyFile_shouldThrowException() {
+        final Path emptyFile = Files.createFile(tempDir.resolve("Empty.bin"));
+        final ResumableUploader<String> uploaderUnderTest = ResumableUploader.<String>builder()
+                .connection(mockConnection)
+                .session(UploadSession.builder().uploadUrl(UPLOAD_URL).build())
+                .file(emptyFile)
+                .parser(mockParser)
+                .callback(mockCallback)
+                .build();
+
+        assertThrows(RequestException.class, () -> uploaderUnderTest.upload());
+    }
+
+    @Test
+    public void builder_withInvalidParameters_shouldThrowException() {
+        final UploadSession session = UploadSession.builder().uploadUrl(UPLOAD_URL).build();
+        assertAll(
+                () -> assertThrows(NullPointerException.class, () -> ResumableUploader.<String>builder()
+                        .session(session)
+                        .file(file)
+                        .parser(mockParser)
+                        .callback(mockCallback)
+                        .build()),
+                () -> assertThrows(NullPointerException.class, () -> ResumableUploader.<String>builder()
+                        .connection(mockConnection)
+                        .session(UploadSession.builder().build())
+                        .file(file)
+                        .parser(mockParser)
+                        .callback(mockCallback)
+                        .build()),
+                () -> assertThrows(IllegalArgumentException.class, () -> ResumableUploader.<String>builder()
+                        .connection(mockConnection)
+                        .session(session)
+                        .file(tempDir)
+                        .parser(mockParser)
+                        .callback(mockCallback)
+                        .build()),
+                () -> assertThrows(IllegalArgumentException.class, () -> ResumableUploader.<String>builder()
+                        .connection(mockConnection)
+                        .session(session)
+                        .file(file)
+                        .parser(mockParser)
+                        .callback(mockCallback)
+                        .fragmentSizeBytes(1000)
+                        .build()),
+                () -> assertThrows(IllegalArgumentException.class, () -> ResumableUploader.<String>builder()
+                        .connection(mockConnection)
+                        .session(session)
+                        .file(file)
+                        .parser(mockParser)
+                        .callback(mockCallback)
+                        .maxRetries(-1)
+                        .build()),
+                () -> assertThrows(NullPointerException.class, () -> ResumableUploader.<String>builder()
+                        .connection(mockConnection)
+                        .session(session)
+                        .file(file)
+                        .parser(mockParser)
+                        .callback(mockCallback)
+                        .journal(mock(UploadSessionJournal.class))
+                        .build()));
+    }
+
+    private ResumableUploader<String> newUploader(final Integer maxRetries) {
+        return ResumableUploader.<String>builder()
+                .connection(mockConnection)
+                .session(UploadSession.builder().uploadUrl(UPLOAD_URL).build())
+                .file(file)
+                .parser(mockParser)
+                .callback(mockCallback)
+                .fragmentSizeBytes(FRAGMENT_SIZE_MULTIPLE_BYTES)
+                .maxRetries(maxRetries)
+                .build();
+    }
+
+    private static Response newSessionResponse(final String nextExpectedRange) {
+        return newMockedResponse(202, "{\"uploadUrl\":\"" + UPLOAD_URL + "\",\"nextExpectedRanges\":[\""
+                + nextExpectedRange + "\"]}");
+    }
+
+    private static Response newCompletedResponse() {
+        return newMockedResponse(201, "{}");
+    }
+
+    private static Response newMockedResponse(final int code, final String json) {
+        final ResponseBody mockBody = mock(ResponseBody.class);
+        lenient().when(mockBody.byteStream())
+                .thenReturn(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+        final Response mockResponse = mock(Response.class);
+        lenient().when(mockResponse.code()).thenReturn(code);
+        lenient().when(mockResponse.body()).thenReturn(mockBody);
+        return mockResponse;
+    }
+
+    @SneakyThrows
+    private static byte[] concatBodies(final List<Request> requests) {
+        final Buffer buffer = new Buffer();
+        for (final Request request : requests) {
+            request.body().writeTo(buffer);
+        }
+        return buffer.readByteArray();
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection.file;
+
+import org.junit.jupiter.api.Test;
+
+import static com.amilesend.onedrive.connection.file.SegmentedDownloadOptions.DEFAULT_MAX_RETRIES;
+import static com.amilesend.onedrive.connection.file.SegmentedDownloadOptions.DEFAULT_PARALLELISM;
+import static com.amilesend.onedrive.connection.file.SegmentedDownloadOptions.DEFAULT_SEGMENT_SIZE_BYTES;
+import static com.amilesend.onedrive.connection.file.SegmentedDownloadOptions.DEFAULT_THRESHOLD_BYTES;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SegmentedDownloadOptionsTest {
+    @Test
+    public void defaults_shouldReturnDefaultValues() {
+        final SegmentedDownloadOptions actual = SegmentedDownloadOptions.defaults();
+
+        assertAll(
+                () -> assertEquals(DEFAULT_THRESHOLD_BYTES, actual.getThresholdBytes()),
+                () -> assertEquals(DEFAULT_SEGMENT_SIZE_BYTES, actual.getSegmentSizeBytes()),
+                () -> assertEquals(DEFAULT_PARALLELISM, actual.getParallelism()),
+                () -> assertEquals(DEFAULT_MAX_RETRIES, actual.getMaxRetries()));
+    }
+
+    @Test
+    public void builder_withInvalidValues_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> SegmentedDownloadOptions.builder().thresholdBytes(-1L).build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> SegmentedDownloadOptions.builder().segmentSizeBytes(0L).build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> SegmentedDownloadOptions.builder().parallelism(0).build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> SegmentedDownloadOptions.builder().maxRetries(-1).build()));
+    }
+
+    @Test
+    public void isSegmented_withSize_shouldReturnExpectedValue() {
+        final SegmentedDownloadOptions options = SegmentedDownloadOptions.builder()
+                .thresholdBytes(100L)
+                .segmentSizeBytes(50L)
+                .build();
+
+        assertAll(
+                () -> assertTrue(options.isSegmented(100L)),
+                () -> assertFalse(options.isSegmented(99L)),
+                () -> assertFalse(options.isSegmented(0L)),
+                () -> assertFalse(SegmentedDownloadOptions.builder()
+                        .thresholdBytes(0L)
+                        .segmentSizeBytes(50L)
+                        .build()
+                        .isSegmented(50L)));
+    }
+}
@@ -0,0 +1,297 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection.file;
+
+import com.amilesend.client.connection.RequestException;
+import com.amilesend.client.connection.ResponseException;
+import com.amilesend.client.connection.file.TransferProgressCallback;
+import com.amilesend.onedrive.connection.OneDriveConnection;
+import lombok.SneakyThrows;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class SegmentedDownloaderTest {
+    private static final String DOWNLOAD_URL = "https://localhost/drive/items/ItemId/content";
+    private static final String ETAG = "ETag";
+    private static final int FILE_SIZE = 1000;
+
+    @TempDir
+    private Path tempDir;
+    @Mock
+    private OneDriveConnection mockConnection;
+    @Mock
+    private TransferProgressCallback mockCallback;
+    private ExecutorService executor;
+    private Path downloadPath;
+    private byte[] contents;
+
+    @BeforeEach
+    public void setUp() {
+        contents = new byte[FILE_SIZE];
+        for (int i = 0; i < FILE_SIZE; ++i) {
+            contents[i] = (byte) i;
+        }
+        downloadPath = tempDir.resolve("Download.bin");
+        executor = Executors.newFixedThreadPool(2);
+        lenient().when(mockConnection.newRequestBuilder()).thenAnswer(invocation -> new Request.Builder());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @SneakyThrows
+    @Test
+    public void download_withMultipleSegments_shouldWriteAllSegments() {
+        when(mockConnection.execute(any(Request.class)))
+                .thenAnswer(invocation -> newRangeResponse(invocation.getArgument(0), Integer.MAX_VALUE));
+
+        final long actual = newDownloader(ETAG, 3).download();
+
+        final ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        verify(mockConnection, times(4)).execute(requestCaptor.capture());
+        final List<Request> requests = requestCaptor.getAllValues();
+        assertAll(
+                () -> assertEquals(FILE_SIZE, actual),
+                () -> assertArrayEquals(contents, Files.readAllBytes(downloadPath)),
+                () -> assertEquals(
+                        List.of("bytes=0-299", "bytes=300-599", "bytes=600-899", "bytes=900-999"),
+                        requests.stream().map(r -> r.header("Range")).sorted().collect(Collectors.toList())),
+                () -> requests.forEach(r -> assertEquals(ETAG, r.header("If-Match"))),
+                () -> requests.forEach(r -> assertEquals("identity", r.header("Accept-Encoding"))),
+                () -> verify(mockCallback).onUpdate(eq((long) FILE_SIZE), eq((long) FILE_SIZE)),
+                () -> verify(mockCallback).onComplete(eq((long) FILE_SIZE)),
+                () -> verify(mockCallback, never()).onFailure(any(Throwable.class)));
+    }
+
+    @SneakyThrows
+    @Test
+    public void download_withNoETag_shouldNotSendIfMatchHeader() {
+        when(mockConnection.execute(any(Request.class)))
+                .thenAnswer(invocation -> newRangeResponse(invocation.getArgument(0), Integer.MAX_VALUE));
+
+        newDownloader(null, 1).download();
+
+        final ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        verify(mockConnection, times(4)).execute(requestCaptor.capture());
+        assertAll(
+                () -> assertArrayEquals(contents, Files.readAllBytes(downloadPath)),
+                () -> requestCaptor.getAllValues().forEach(r -> assertNull(r.header("If-Match"))));
+    }
+
+    @SneakyThrows
+    @Test
+    public void download_withTruncatedResponse_shouldResumeFromLastWrittenByte() {
+        final Response truncatedResponse = newRangeResponse(
+                new Request.Builder().url(DOWNLOAD_URL).header("Range", "bytes=0-299").build(), 100);
+        when(mockConnection.execute(any(Request.class)))
+                .thenReturn(truncatedResponse)
+                .thenAnswer(invocation -> newRangeResponse(invocation.getArgument(0), Integer.MAX_VALUE));
+        final SegmentedDownloader downloaderUnderTest = spy(newDownloader(ETAG, 1));
+        doNothing().when(downloaderUnderTest).pause(anyLong());
+
+        final long actual = downloaderUnderTest.download();
+
+        final ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        verify(mockConnection, times(5)).execute(requestCaptor.capture());
+        assertAll(
+                () -> assertEquals(FILE_SIZE, actual),
+                () -> assertArrayEquals(contents, Files.readAllBytes(downloadPath)),
+                () -> assertEquals("bytes=100-299", requestCaptor.getAllValues().get(1).header("Range")),
+                () -> verify(downloaderUnderTest).pause(eq(1000L)),
+                () -> verify(mockCallback).onComplete(eq((long) FILE_SIZE)));
+    }
+
+    @SneakyThrows
+    @Test
+    public void download_withTransientFailure_shouldRetry() {
+        when(mockConnection.execute(any(Request.class)))
+                .thenThrow(new ResponseException("Unavailable"))
+                .thenAnswer(invocation -> newRangeResponse(invocation.getArgument(0), Integer.MAX_VALUE));
+        final SegmentedDownloader downloaderUnderTest = spy(newDownloader(ETAG, 1));
+        doNothing().when(downloaderUnderTest).pause(anyLong());
+
+        final long actual = downloaderUnderTest.download();
+
+        assertAll(
+                () -> assertEquals(FILE_SIZE, actual),
+                () -> assertArrayEquals(contents, Files.readAllBytes(downloadPath)),
+                () -> verify(mockConnection, times(5)).execute(any(Request.class)),
+                () -> verify(downloaderUnderTest).pause(eq(1000L)));
+    }
+
+    @SneakyThrows
+    @Test
+    public void download_withExhaustedRetries_shouldThrowException() {
+        final ResponseException expected = new ResponseException("Unavailable");
+        when(mockConnection.execute(any(Request.class))).thenThrow(expected);
+        final SegmentedDownloader downloaderUnderTest = spy(newDownloader(ETAG, 1));
+        doNothing().when(downloaderUnderTest).pause(anyLong());
+
+        final ResponseException thrown = assertThrows(ResponseException.class, downloaderUnderTest::download);
+
+        assertAll(
+                () -> assertSame(expected, thrown),
+                () -> verify(mockConnection, times(3)).execute(any(Request.class)),
+                () -> verify(downloaderUnderTest, times(2)).pause(anyLong()),
+                () -> verify(mockCallback).onFailure(eq(expected)),
+                () -> verify(mockCallback, never()).onComplete(anyLong()));
+    }
+
+    @SneakyThrows
+    @Test
+    public void download_withNonTransientFailure_shouldStopAndThrowException() {
+        final RequestException expected = new RequestException("Precondition failed");
+        when(mockConnection.execute(any(Request.class))).thenThrow(expected);
+        final SegmentedDownloader downloaderUnderTest = spy(newDownloader(ETAG, 2));
+
+        final RequestException thrown = assertThrows(RequestException.class, downloaderUnderTest::download);
+
+        assertAll(
+                () -> assertSame(expected, thrown),
+                () -> verify(downloaderUnderTest, never()).pause(anyLong()),
+                () -> verify(mockCallback).onFailure(eq(expected)),
+                () -> verify(mockCallback, never()).onComplete(anyLong()));
+    }
+
+    @SneakyThrows
+    @Test
+    public void download_withNonPartialContentResponse_shouldThrowException() {
+        final Response mockResponse = mock(Response.class);
+        when(mockResponse.code()).thenReturn(200);
+        when(mockConnection.execute(any(Request.class))).thenReturn(mockResponse);
+
+        assertThrows(RequestException.class, () -> newDownloader(ETAG, 1).download());
+
+        verify(mockCallback, atLeastOnce()).onFailure(any(RequestException.class));
+    }
+
+    @Test
+    public void builder_withInvalidParameters_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(NullPointerException.class, () -> SegmentedDownloader.builder()
+                        .url(DOWNLOAD_URL)
+                        .sizeBytes(FILE_SIZE)
+                        .downloadPath(downloadPath)
+                        .callback(mockCallback)
+                        .executor(executor)
+                        .build()),
+                () -> assertThrows(NullPointerException.class, () -> SegmentedDownloader.builder()
+                        .connection(mockConnection)
+                        .sizeBytes(FILE_SIZE)
+                        .downloadPath(downloadPath)
+                        .callback(mockCallback)
+                        .executor(executor)
+                        .build()),
+                () -> assertThrows(IllegalArgumentException.class, () -> SegmentedDownloader.builder()
+                        .connection(mockConnection)
+                        .url(DOWNLOAD_URL)
+                        .sizeBytes(0L)
+                        .downloadPath(downloadPath)
+                        .callback(mockCallback)
+                        .executor(executor)
+                        .build()));
+    }
+
+    @Test
+    public void splitIntoSegments_withRemainder_shouldReturnSegments() {
+        assertAll(
+                () -> assertEquals(
+                        List.of(new ByteRange(0L, 299L), new ByteRange(300L, 599L), new ByteRange(600L, 699L)),
+                        SegmentedDownloader.splitIntoSegments(700L, 300L)),
+                () -> assertEquals(
+                        List.of(new ByteRange(0L, 299L), new ByteRange(300L, 599L)),
+                        SegmentedDownloader.splitIntoSegments(600L, 300L)),
+                () -> assertEquals(
+                        List.of(new ByteRange(0L, 99L)),
+                        SegmentedDownloader.splitIntoSegments(100L, 300L)));
+    }
+
+    private SegmentedDownloader newDownloader(final String eTag, final int parallelism) {
+        return SegmentedDownloader.builder()
+                .connection(mockConnection)
+                .url(DOWNLOAD_URL)
+                .eTag(eTag)
+                .sizeBytes(FILE_SIZE)
+                .downloadPath(downloadPath)
+                .callback(mockCallback)
+                .options(SegmentedDownloadOptions.builder()
+                        .thresholdBytes(0L)
+                        .segmentSizeBytes(300L)
+                        .parallelism(parallelism)
+                        .maxRetries(2)
+                        .build())
+                .executor(executor)
+                .build();
+    }
+
+    /*
+     * Creates a 206 response that serves the requested range, truncated to at most maxBytes to simulate a dropped
+     * connection.
+     */
+    private Response newRangeResponse(final Request request, final int maxBytes) {
+        final ByteRange range = ByteRange.parse(request.header("Range").substring("bytes=".length()), FILE_SIZE);
+        final int start = (int) range.getStart();
+        final int end = (int) Math.min(range.getEnd() + 1, (long) start + maxBytes);
+        final ResponseBody mockBody = mock(ResponseBody.class);
+        lenient().when(mockBody.source()).thenReturn(new Buffer().write(Arrays.copyOfRange(contents, start, end)));
+        final Response mockResponse = mock(Response.class);
+        lenient().when(mockResponse.code()).thenReturn(206);
+        lenient().when(mockResponse.body()).thenReturn(mockBody);
+        return mockResponse;
+    }
+}
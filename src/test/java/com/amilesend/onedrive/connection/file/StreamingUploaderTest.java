@@ -0,0 +1,355 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection.file;
+
+import com.amilesend.client.connection.RequestException;
+import com.amilesend.client.connection.ResponseException;
+import com.amilesend.client.connection.ThrottledException;
+import com.amilesend.client.connection.file.TransferProgressCallback;
+import com.amilesend.client.parse.parser.GsonParser;
+import com.amilesend.onedrive.connection.OneDriveConnection;
+import com.amilesend.onedrive.parse.GsonFactory;
+import com.amilesend.onedrive.resource.item.type.UploadSession;
+import com.google.gson.Gson;
+import lombok.SneakyThrows;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+import static com.amilesend.client.connection.Connection.Headers.AUTHORIZATION;
+import static com.amilesend.onedrive.connection.file.ResumableUploader.FRAGMENT_SIZE_MULTIPLE_BYTES;
+import static com.amilesend.onedrive.connection.file.StreamingUploader.UNKNOWN_SIZE_BYTES;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class StreamingUploaderTest {
+    private static final String UPLOAD_URL = "https://localhost/upload/session";
+    private static final int CONTENT_SIZE = FRAGMENT_SIZE_MULTIPLE_BYTES * 2 + 100;
+
+    @Mock
+    private OneDriveConnection mockConnection;
+    @Mock
+    private GsonFactory mockGsonFactory;
+    @Mock
+    private GsonParser<String> mockParser;
+    @Mock
+    private TransferProgressCallback mockCallback;
+    private byte[] contents;
+    // Fragment bodies are captured as they are sent since the fragment buffer is reused
+    private final List<Request> requests = new ArrayList<>();
+    private final List<byte[]> sentBodies = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        contents = new byte[CONTENT_SIZE];
+        for (int i = 0; i < CONTENT_SIZE; ++i) {
+            contents[i] = (byte) i;
+        }
+        lenient().when(mockConnection.getGsonFactory()).thenReturn(mockGsonFactory);
+        lenient().when(mockGsonFactory.getInstance(any(OneDriveConnection.class))).thenReturn(new Gson());
+    }
+
+    @SneakyThrows
+    @Test
+    public void upload_withKnownSize_shouldUploadAllFragments() {
+        mockResponses(newSessionResponse("327680-"), newSessionResponse("655360-"), newCompletedResponse());
+        when(mockParser.parse(any(Gson.class), any(InputStream.class))).thenReturn("Completed");
+
+        final String actual = newUploader(newSource(), CONTENT_SIZE, null).upload();
+
+        assertAll(
+                () -> assertEquals("Completed", actual),
+                () -> assertEquals(3, requests.size()),
+                () -> assertEquals("bytes 0-327679/655460", requests.get(0).header("Content-Range")),
+                () -> assertEquals("bytes 327680-655359/655460", requests.get(1).header("Content-Range")),
+                () -> assertEquals("bytes 655360-655459/655460", requests.get(2).header("Content-Range")),
+                () -> assertEquals("PUT", requests.get(0).method()),
+                () -> assertEquals(UPLOAD_URL, requests.get(0).url().toString()),
+                () -> assertNull(requests.get(0).header(AUTHORIZATION)),
+                () -> assertArrayEquals(contents, concatSentBodies()),
+                () -> verify(mockCallback).onUpdate(327680L, CONTENT_SIZE),
+                () -> verify(mockCallback).onUpdate(655360L, CONTENT_SIZE),
+                () -> verify(mockCallback).onUpdate(CONTENT_SIZE, CONTENT_SIZE),
+                () -> verify(mockCallback).onComplete(CONTENT_SIZE));
+    }
+
+    @SneakyThrows
+    @Test
+    public void upload_withUnknownSize_shouldDeclareTotalOnLastFragment() {
+        mockResponses(newSessionResponse("327680-"), newSessionResponse("655360-"), newCompletedResponse());
+        when(mockParser.parse(any(Gson.class), any(InputStream.class))).thenReturn("Completed");
+
+        final String actual = newUploader(newSource(), UNKNOWN_SIZE_BYTES, null).upload();
+
+        assertAll(
+                () -> assertEquals("Completed", actual),
+                () -> assertEquals("bytes 0-327679/*", requests.get(0).header("Content-Range")),
+                () -> assertEquals("bytes 327680-655359/*", requests.get(1).header("Content-Range")),
+                () -> assertEquals("bytes 655360-655459/655460", requests.get(2).header("Content-Range")),
+                () -> assertArrayEquals(contents, concatSentBodies()),
+                () -> verify(mockCallback).onUpdate(327680L, UNKNOWN_SIZE_BYTES),
+                () -> verify(mockCallback).onComplete(CONTENT_SIZE));
+    }
+
+    @SneakyThrows
+    @Test
+    public void upload_withUnknownSizeEndingOnFragmentBoundary_shouldDeclareTotalOnLastFragment() {
+        contents = Arrays.copyOf(contents, FRAGMENT_SIZE_MULTIPLE_BYTES * 2);
+        mockResponses(newSessionResponse("327680-"), newCompletedResponse());
+        when(mockParser.parse(any(Gson.class), any(InputStream.class))).thenReturn("Completed");
+
+        final String actual = newUploader(newSource(), UNKNOWN_SIZE_BYTES, null).upload();
+
+        assertAll(
+                () -> assertEquals("Completed", actual),
+                () -> assertEquals(2, requests.size()),
+                () -> assertEquals("bytes 0-327679/*", requests.get(0).header("Content-Range")),
+                () -> assertEquals("bytes 327680-655359/655360", requests.get(1).header("Content-Range")),
+                () -> assertArrayEquals(contents, concatSentBodies()));
+    }
+
+    @SneakyThrows
+    @Test
+    public void upload_withTransientFailure_shouldResendBufferedFragment() {
+        final StreamingUploader<String> uploaderUnderTest = spy(newUploader(newSource(), CONTENT_SIZE, null));
+        doNothing().when(uploaderUnderTest).pause(anyLong());
+        final Response firstResponse = newSessionResponse("327680-");
+        final Response statusResponse = newSessionResponse("400000-");
+        final Response secondResponse = newSessionResponse("655360-");
+        final Response completedResponse = newCompletedResponse();
+        final LinkedList<Object> outcomes = new LinkedList<>(Arrays.asList(
+                firstResponse,
+                new ThrottledException("Throttled", 5L),
+                statusResponse,
+                secondResponse,
+                completedResponse));
+        when(mockConnection.execute(any(Request.class))).thenAnswer(invocation -> {
+            captureRequest(invocation.getArgument(0));
+            final Object outcome = outcomes.removeFirst();
+            if (outcome instanceof RuntimeException) {
+                throw (RuntimeException) outcome;
+            }
+            return outcome;
+        });
+        when(mockParser.parse(any(Gson.class), any(InputStream.class))).thenReturn("Completed");
+
+        final String actual = uploaderUnderTest.upload();
+
+        assertAll(
+                () -> assertEquals("Completed", actual),
+                () -> verify(uploaderUnderTest).pause(5000L),
+                () -> assertEquals("GET", requests.get(2).method()),
+                () -> assertEquals("bytes 400000-655359/655460", requests.get(3).header("Content-Range")),
+                () -> assertArrayEquals(
+                        Arrays.copyOfRange(contents, 400000, 655360),
+                        sentBodies.get(3)),
+                () -> verify(mockCallback).onComplete(CONTENT_SIZE));
+    }
+
+    @SneakyThrows
+    @Test
+    public void upload_withUnknownSizeAndTransientFailureOnLastFragment_shouldResendWithTotal() {
+        final StreamingUploader<String> uploaderUnderTest = spy(newUploader(newSource(), UNKNOWN_SIZE_BYTES, null));
+        doNothing().when(uploaderUnderTest).pause(anyLong());
+        final LinkedList<Object> outcomes = new LinkedList<>(Arrays.asList(
+                newSessionResponse("327680-"),
+                newSessionResponse("655360-"),
+                new ThrottledException("Throttled", 1L),
+                newSessionResponse("655400-"),
+                newCompletedResponse()));
+        when(mockConnection.execute(any(Request.class))).thenAnswer(invocation -> {
+            captureRequest(invocation.getArgument(0));
+            final Object outcome = outcomes.removeFirst();
+            if (outcome instanceof RuntimeException) {
+                throw (RuntimeException) outcome;
+            }
+            return outcome;
+        });
+        when(mockParser.parse(any(Gson.class), any(InputStream.class))).thenReturn("Completed");
+
+        final String actual = uploaderUnderTest.upload();
+
+        final Request lastRequest = requests.get(requests.size() - 1);
+        assertAll(
+                () -> assertEquals("Completed", actual),
+                () -> assertEquals("bytes 655360-655459/655460", requests.get(2).header("Content-Range")),
+                () -> assertEquals("GET", requests.get(3).method()),
+                () -> assertEquals("bytes 655400-655459/655460", lastRequest.header("Content-Range")),
+                () -> verify(mockCallback).onComplete(CONTENT_SIZE));
+    }
+
+    @SneakyThrows
+    @Test
+    public void upload_withExhaustedRetries_shouldThrowException() {
+        final StreamingUploader<String> uploaderUnderTest = spy(newUploader(newSource(), CONTENT_SIZE, 1));
+        doNothing().when(uploaderUnderTest).pause(anyLong());
+        when(mockConnection.execute(any(Request.class))).thenThrow(new ResponseException("Unavailable"));
+
+        final ResponseException thrown = assertThrows(ResponseException.class, () -> uploaderUnderTest.upload());
+
+        assertAll(
+                () -> verify(uploaderUnderTest).pause(1000L),
+                () -> verify(mockCallback).onFailure(thrown),
+                () -> verify(mockCallback, never()).onComplete(anyLong()));
+    }
+
+    @Test
+    public void upload_withSourceShorterThanSize_shouldThrowException() {
+        contents = Arrays.copyOf(contents, 100);
+
+        final RequestException thrown = assertThrows(RequestException.class,
+                () -> newUploader(newSource(), 1000L, null).upload());
+
+        assertAll(
+                () -> assertInstanceOf(IOException.class, thrown.getCause()),
+                () -> verify(mockCallback).onFailure(any(IOException.class)),
+                () -> verify(mockConnection, never()).execute(any(Request.class)));
+    }
+
+    @Test
+    public void upload_withEmptySource_shouldThrowException() {
+        contents = new byte[0];
+
+        final RequestException thrown = assertThrows(RequestException.class,
+                () -> newUploader(newSource(), UNKNOWN_SIZE_BYTES, null).upload());
+
+        assertAll(
+                () -> assertEquals("Empty content cannot be uploaded via an upload session", thrown.getMessage()),
+                () -> verify(mockCallback).onFailure(thrown));
+    }
+
+    @Test
+    public void builder_withInvalidSize_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> newUploader(newSource(), 0L, null)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> newUploader(newSource(), -2L, null)));
+    }
+
+    @Test
+    public void builder_withInvalidFragmentSize_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> StreamingUploader.<String>builder()
+                .connection(mockConnection)
+                .session(UploadSession.builder().uploadUrl(UPLOAD_URL).build())
+                .source(newSource())
+                .sizeBytes(CONTENT_SIZE)
+                .parser(mockParser)
+                .callback(mockCallback)
+                .fragmentSizeBytes(1000)
+                .build());
+    }
+
+    private StreamingUploader<String> newUploader(
+            final ReadableByteChannel source,
+            final long sizeBytes,
+            final Integer maxRetries) {
+        return StreamingUploader.<String>builder()
+                .connection(mockConnection)
+                .session(UploadSession.builder().uploadUrl(UPLOAD_URL).build())
+                .source(source)
+                .sizeBytes(sizeBytes)
+                .parser(mockParser)
+                .callback(mockCallback)
+                .fragmentSizeBytes(FRAGMENT_SIZE_MULTIPLE_BYTES)
+                .maxRetries(maxRetries)
+                .build();
+    }
+
+    private ReadableByteChannel newSource() {
+        return Channels.newChannel(new ByteArrayInputStream(contents));
+    }
+
+    private void mockResponses(final Response... responses) {
+        final LinkedList<Response> remaining = new LinkedList<>(Arrays.asList(responses));
+        when(mockConnection.execute(any(Request.class))).thenAnswer(invocation -> {
+            captureRequest(invocation.getArgument(0));
+            return remaining.removeFirst();
+        });
+    }
+
+    @SneakyThrows
+    private void captureRequest(final Request request) {
+        requests.add(request);
+        final Buffer buffer = new Buffer();
+        if (request.body() != null) {
+            request.body().writeTo(buffer);
+        }
+        sentBodies.add(buffer.readByteArray());
+    }
+
+    @SneakyThrows
+    private byte[] concatSentBodies() {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        for (final byte[] body : sentBodies) {
+            output.write(body);
+        }
+        return output.toByteArray();
+    }
+
+    private static Response newSessionResponse(final String nextExpectedRange) {
+        return newMockedResponse(202, "{\"uploadUrl\":\"" + UPLOAD_URL + "\",\"nextExpectedRanges\":[\""
+                + nextExpectedRange + "\"]}");
+    }
+
+    private static Response newCompletedResponse() {
+        return newMockedResponse(201, "{}");
+    }
+
+    private static Response newMockedResponse(final int code, final String json) {
+        final ResponseBody mockBody = mock(ResponseBody.class);
+        lenient().when(mockBody.byteStream())
+                .thenReturn(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+        final Response mockResponse = mock(Response.class);
+        lenient().when(mockResponse.code()).thenReturn(code);
+        lenient().when(mockResponse.body()).thenReturn(mockBody);
+        return mockResponse;
+    }
+}
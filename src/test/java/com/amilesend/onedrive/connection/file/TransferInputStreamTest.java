@@ -0,0 +1,122 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection.file;
+
+import com.amilesend.client.connection.file.TransferProgressCallback;
+import lombok.SneakyThrows;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class TransferInputStreamTest {
+    @Mock
+    private Response mockResponse;
+    @Mock
+    private ResponseBody mockBody;
+    @Mock
+    private TransferProgressCallback mockCallback;
+
+    @SneakyThrows
+    @Test
+    public void read_withKnownSize_shouldStopAtSize() {
+        setUpBody(new ByteArrayInputStream("ContentAndMore".getBytes(StandardCharsets.UTF_8)));
+
+        final TransferInputStream streamUnderTest = newStream(7L);
+        final String actual = new String(streamUnderTest.readAllBytes(), StandardCharsets.UTF_8);
+
+        assertAll(
+                () -> assertEquals("Content", actual),
+                () -> assertEquals(-1, streamUnderTest.read()),
+                () -> verify(mockCallback).onUpdate(eq(7L), eq(7L)),
+                () -> verify(mockCallback, times(1)).onComplete(eq(7L)));
+    }
+
+    @SneakyThrows
+    @Test
+    public void read_withUnknownSize_shouldReadToEndOfStream() {
+        setUpBody(new ByteArrayInputStream("Content".getBytes(StandardCharsets.UTF_8)));
+
+        final TransferInputStream streamUnderTest = newStream(0L);
+
+        assertAll(
+                () -> assertEquals('C', streamUnderTest.read()),
+                () -> assertEquals("ontent", new String(streamUnderTest.readAllBytes(), StandardCharsets.UTF_8)),
+                () -> verify(mockCallback).onComplete(eq(7L)));
+    }
+
+    @SneakyThrows
+    @Test
+    public void read_withIOException_shouldNotifyCallbackAndThrowException() {
+        final InputStream mockInputStream = mock(InputStream.class);
+        final IOException expected = new IOException("Exception");
+        when(mockInputStream.read(any(byte[].class), anyInt(), anyInt())).thenThrow(expected);
+        setUpBody(mockInputStream);
+
+        final TransferInputStream streamUnderTest = newStream(7L);
+
+        assertThrows(IOException.class, () -> streamUnderTest.read(new byte[7], 0, 7));
+        verify(mockCallback).onFailure(eq(expected));
+    }
+
+    @SneakyThrows
+    @Test
+    public void close_withOpenStream_shouldCloseResponseOnce() {
+        setUpBody(new ByteArrayInputStream(new byte[1]));
+
+        final TransferInputStream streamUnderTest = newStream(1L);
+        streamUnderTest.close();
+        streamUnderTest.close();
+
+        assertAll(
+                () -> verify(mockResponse, times(1)).close(),
+                () -> assertThrows(IOException.class, streamUnderTest::read));
+    }
+
+    private void setUpBody(final InputStream inputStream) {
+        when(mockResponse.body()).thenReturn(mockBody);
+        when(mockBody.byteStream()).thenReturn(inputStream);
+    }
+
+    private TransferInputStream newStream(final long sizeBytes) {
+        return TransferInputStream.builder()
+                .response(mockResponse)
+                .callback(mockCallback)
+                .sizeBytes(sizeBytes)
+                .build();
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection.file;
+
+import com.amilesend.client.connection.RequestException;
+import com.amilesend.client.connection.ResponseException;
+import com.amilesend.client.connection.ResponseParseException;
+import com.amilesend.client.connection.ThrottledException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TransferRetryPolicyTest {
+    @Test
+    public void isTransient_withException_shouldReturnExpectedResult() {
+        assertAll(
+                () -> assertTrue(TransferRetryPolicy.isTransient(new ThrottledException("Throttled", 1L))),
+                () -> assertTrue(TransferRetryPolicy.isTransient(new ResponseException("Unavailable"))),
+                () -> assertTrue(TransferRetryPolicy.isTransient(
+                        new RequestException("IO", new IOException("Reset")))),
+                () -> assertTrue(TransferRetryPolicy.isTransient(
+                        new ResponseParseException("IO", new IOException("Reset")))),
+                () -> assertFalse(TransferRetryPolicy.isTransient(new RequestException("Forbidden"))),
+                () -> assertFalse(TransferRetryPolicy.isTransient(new ResponseParseException("Invalid JSON"))),
+                () -> assertFalse(TransferRetryPolicy.isTransient(new ResponseException("Invalid") { })));
+    }
+
+    @Test
+    public void getBackoffMillis_withAttempts_shouldReturnCappedExponentialBackoff() {
+        final ResponseException ex = new ResponseException("Unavailable");
+        assertAll(
+                () -> assertEquals(1000L, TransferRetryPolicy.getBackoffMillis(ex, 1)),
+                () -> assertEquals(4000L, TransferRetryPolicy.getBackoffMillis(ex, 3)),
+                () -> assertEquals(60000L, TransferRetryPolicy.getBackoffMillis(ex, 10)),
+                () -> assertEquals(3000L,
+                        TransferRetryPolicy.getBackoffMillis(new ThrottledException("Throttled", 3L), 1)));
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection.file.journal;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
+
+public class FileBasedUploadSessionJournalTest {
+    private static final String ID = "http://localhost/me/drive/items/ParentId:/File.bin:/createUploadSession";
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @TempDir
+    private Path tempDir;
+    private Path journalDirectory;
+    private FileBasedUploadSessionJournal journalUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        journalDirectory = tempDir.resolve("journal");
+        journalUnderTest = spy(FileBasedUploadSessionJournal.builder()
+                .journalDirectory(journalDirectory)
+                .maxAge(Duration.ofDays(1L))
+                .build());
+        doReturn(NOW).when(journalUnderTest).now();
+    }
+
+    ////////////////
+    // store
+    ////////////////
+
+    @SneakyThrows
+    @Test
+    public void store_withEntry_shouldWriteEntryFile() {
+        final UploadSessionJournalEntry entry = newEntry("2026-01-02T00:00:00Z", NOW);
+
+        journalUnderTest.store(ID, entry);
+
+        assertAll(
+                () -> assertTrue(Files.exists(journalUnderTest.getEntryPath(ID))),
+                () -> assertEquals(1L, listFiles().size()),
+                () -> assertEquals(entry, journalUnderTest.retrieve(ID)));
+    }
+
+    @SneakyThrows
+    @Test
+    public void store_withExistingEntry_shouldReplaceEntry() {
+        journalUnderTest.store(ID, newEntry("2026-01-02T00:00:00Z", NOW));
+        final UploadSessionJournalEntry updatedEntry = newEntry("2026-01-02T00:00:00Z", NOW).toBuilder()
+                .nextExpectedRanges(List.of("1024-"))
+                .build();
+
+        journalUnderTest.store(ID, updatedEntry);
+
+        assertAll(
+                () -> assertEquals(updatedEntry, journalUnderTest.retrieve(ID)),
+                () -> assertEquals(1L, listFiles().size()));
+    }
+
+    @Test
+    public void store_withInvalidParameters_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(NullPointerException.class, () -> journalUnderTest.store(ID, null)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> journalUnderTest.store("", newEntry(null, NOW))));
+    }
+
+    @SneakyThrows
+    @Test
+    public void store_withUnwritableDirectory_shouldThrowException() {
+        Files.write(journalDirectory, "NotADirectory".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(UploadSessionJournalException.class, () -> journalUnderTest.store(ID, newEntry(null, NOW)));
+    }
+
+    ////////////////
+    // retrieve
+    ////////////////
+
+    @SneakyThrows
+    @Test
+    public void retrieve_withNoEntry_shouldReturnNull() {
+        assertNull(journalUnderTest.retrieve(ID));
+    }
+
+    @SneakyThrows
+    @Test
+    public void retrieve_withExpiredSession_shouldRemoveEntryAndReturnNull() {
+        journalUnderTest.store(ID, newEntry("2025-12-31T00:00:00Z", NOW));
+
+        assertAll(
+                () -> assertNull(journalUnderTest.retrieve(ID)),
+                () -> assertFalse(Files.exists(journalUnderTest.getEntryPath(ID))));
+    }
+
+    @SneakyThrows
+    @Test
+    public void retrieve_withEntryOlderThanMaxAge_shouldReturnNull() {
+        journalUnderTest.store(ID, newEntry(null, NOW.minus(Duration.ofDays(2L))));
+
+        assertNull(journalUnderTest.retrieve(ID));
+    }
+
+    @SneakyThrows
+    @Test
+    public void retrieve_withMalformedEntry_shouldThrowException() {
+        Files.createDirectories(journalDirectory);
+        Files.write(journalUnderTest.getEntryPath(ID), "{not json".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(UploadSessionJournalException.class, () -> journalUnderTest.retrieve(ID));
+    }
+
+    ////////////////
+    // remove
+    ////////////////
+
+    @SneakyThrows
+    @Test
+    public void remove_withEntry_shouldDeleteEntryFile() {
+        journalUnderTest.store(ID, newEntry(null, NOW));
+
+        journalUnderTest.remove(ID);
+
+        assertFalse(Files.exists(journalUnderTest.getEntryPath(ID)));
+    }
+
+    ////////////////
+    // removeExpired
+    ////////////////
+
+    @SneakyThrows
+    @Test
+    public void removeExpired_withMixedEntries_shouldRemoveExpiredAndMalformedEntries() {
+        journalUnderTest.store("Active", newEntry("2026-01-02T00:00:00Z", NOW));
+        journalUnderTest.store("Expired", newEntry("2025-12-31T00:00:00Z", NOW));
+        journalUnderTest.store("Stale", newEntry(null, NOW.minus(Duration.ofDays(3L))));
+        Files.write(journalUnderTest.getEntryPath("Malformed"), "{not json".getBytes(StandardCharsets.UTF_8));
+
+        final int actual = journalUnderTest.removeExpired();
+
+        assertAll(
+                () -> assertEquals(3, actual),
+                () -> assertEquals(1L, listFiles().size()),
+                () -> assertTrue(Files.exists(journalUnderTest.getEntryPath("Active"))));
+    }
+
+    @SneakyThrows
+    @Test
+    public void removeExpired_withNoDirectory_shouldReturnZero() {
+        assertEquals(0, journalUnderTest.removeExpired());
+    }
+
+    ////////////////
+    // builder
+    ////////////////
+
+    @Test
+    public void builder_withDefaults_shouldUseDefaultMaxAge() {
+        final FileBasedUploadSessionJournal actual = FileBasedUploadSessionJournal.builder()
+                .journalDirectory(journalDirectory)
+                .build();
+
+        assertAll(
+                () -> assertEquals(FileBasedUploadSessionJournal.DEFAULT_MAX_AGE, actual.getMaxAge()),
+                () -> assertFalse(actual.isFileHashRequired()));
+    }
+
+    @Test
+    public void builder_withInvalidParameters_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(NullPointerException.class,
+                        () -> FileBasedUploadSessionJournal.builder().build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> FileBasedUploadSessionJournal.builder()
+                                .journalDirectory(journalDirectory)
+                                .maxAge(Duration.ZERO)
+                                .build()));
+    }
+
+    private static UploadSessionJournalEntry newEntry(final String expirationDateTime, final Instant lastUpdated) {
+        return UploadSessionJournalEntry.builder()
+                .uploadUrl("https://localhost/upload")
+                .expirationDateTime(expirationDateTime)
+                .nextExpectedRanges(List.of("0-"))
+                .filePath("/tmp/File.bin")
+                .fingerprint(FileFingerprint.builder()
+                        .sizeBytes(1024L)
+                        .lastModifiedMillis(1000L)
+                        .build())
+                .lastUpdatedMillis(lastUpdated.toEpochMilli())
+                .build();
+    }
+
+    @SneakyThrows
+    private List<Path> listFiles() {
+        try (final Stream<Path> paths = Files.list(journalDirectory)) {
+            return paths.collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection.file.journal;
+
+import com.amilesend.onedrive.resource.item.type.UploadSession;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class UploadSessionJournalEntryTest {
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    public void from_withSession_shouldReturnEntry() {
+        final UploadSession session = UploadSession.builder()
+                .uploadUrl("https://localhost/upload")
+                .expirationDateTime("2026-01-02T00:00:00Z")
+                .nextExpectedRanges(List.of("0-"))
+                .build();
+        final FileFingerprint fingerprint = FileFingerprint.builder().sizeBytes(10L).build();
+
+        final UploadSessionJournalEntry actual = UploadSessionJournalEntry.from(session, "/tmp/File.bin", fingerprint);
+
+        assertAll(
+                () -> assertEquals("https://localhost/upload", actual.getUploadUrl()),
+                () -> assertEquals("2026-01-02T00:00:00Z", actual.getExpirationDateTime()),
+                () -> assertEquals(List.of("0-"), actual.getNextExpectedRanges()),
+                () -> assertEquals("/tmp/File.bin", actual.getFilePath()),
+                () -> assertEquals(fingerprint, actual.getFingerprint()),
+                () -> assertTrue(actual.getLastUpdatedMillis() > 0L),
+                () -> assertEquals(session, actual.toUploadSession()));
+    }
+
+    @Test
+    public void toJson_withEntry_shouldRoundTrip() {
+        final UploadSessionJournalEntry expected = UploadSessionJournalEntry.builder()
+                .uploadUrl("https://localhost/upload")
+                .expirationDateTime("2026-01-02T00:00:00Z")
+                .nextExpectedRanges(List.of("0-9", "20-"))
+                .filePath("/tmp/File.bin")
+                .fingerprint(FileFingerprint.builder().sizeBytes(10L).lastModifiedMillis(5L).sha256("abc").build())
+                .lastUpdatedMillis(100L)
+                .build();
+
+        assertEquals(expected, UploadSessionJournalEntry.fromJson(expected.toJson()));
+    }
+
+    @Test
+    public void isExpired_withExpirationDateTime_shouldReturnExpectedResult() {
+        assertAll(
+                () -> assertFalse(newEntry(null).isExpired(NOW)),
+                () -> assertFalse(newEntry("2026-01-01T00:00:01Z").isExpired(NOW)),
+                () -> assertTrue(newEntry("2026-01-01T00:00:00Z").isExpired(NOW)),
+                () -> assertTrue(newEntry("NotADate").isExpired(NOW)));
+    }
+
+    @Test
+    public void toUploadSession_withNullRanges_shouldReturnEmptyRanges() {
+        final UploadSessionJournalEntry entry =
+                UploadSessionJournalEntry.fromJson("{\"uploadUrl\":\"https://localhost\"}");
+
+        assertTrue(entry.toUploadSession().getNextExpectedRanges().isEmpty());
+    }
+
+    @SneakyThrows
+    @Test
+    public void fingerprint_withFile_shouldDetectChanges() {
+        final Path file = Files.write(tempDir.resolve("File.bin"), "Contents".getBytes(StandardCharsets.UTF_8));
+
+        final FileFingerprint withoutHash = FileFingerprint.of(file, false);
+        final FileFingerprint withHash = FileFingerprint.of(file, true);
+        Files.write(file, "Changed Contents".getBytes(StandardCharsets.UTF_8));
+
+        assertAll(
+                () -> assertNull(withoutHash.getSha256()),
+                () -> assertEquals(64, withHash.getSha256().length()),
+                () -> assertEquals(8L, withHash.getSizeBytes()),
+                () -> assertNotEquals(withHash, FileFingerprint.of(file, true)));
+    }
+
+    private static UploadSessionJournalEntry newEntry(final String expirationDateTime) {
+        return UploadSessionJournalEntry.builder()
+                .uploadUrl("https://localhost/upload")
+                .expirationDateTime(expirationDateTime)
+                .build();
+    }
+}
@@ -0,0 +1,303 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection.http;
+
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class AdaptiveConcurrencyLimiterTest {
+    private static final String URL = "https://graph.microsoft.com/v1.0/me/drive/root";
+    private static final long MILLIS = 1000000L;
+
+    private final AtomicLong nanoTime = new AtomicLong(1L);
+    private AdaptiveConcurrencyLimiter limiterUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        limiterUnderTest = new AdaptiveConcurrencyLimiter(
+                AdaptiveConcurrencyOptions.builder()
+                        .initialLimit(4)
+                        .minLimit(1)
+                        .maxLimit(6)
+                        .build(),
+                nanoTime::get);
+    }
+
+    ////////////////
+    // intercept
+    ////////////////
+
+    @Test
+    public void intercept_withThrottledResponse_shouldHalveLimit() throws Exception {
+        final Response actual = limiterUnderTest.intercept(newChain(429));
+        actual.close();
+
+        assertAll(
+                () -> assertEquals(429, actual.code()),
+                () -> assertEquals(2, limiterUnderTest.getLimit()),
+                () -> assertEquals(0, limiterUnderTest.getInFlight()));
+    }
+
+    @Test
+    public void intercept_withUnconsumedResponseBody_shouldHoldPermitUntilClosed() throws Exception {
+        final Response actual = limiterUnderTest.intercept(newChain(200));
+        final int numInFlightBeforeClose = limiterUnderTest.getInFlight();
+
+        actual.close();
+        actual.close();
+
+        assertAll(
+                () -> assertEquals(1, numInFlightBeforeClose),
+                () -> assertEquals(0, limiterUnderTest.getInFlight()));
+    }
+
+    @Test
+    public void intercept_withFullyReadResponseBody_shouldReleasePermit() throws Exception {
+        final Response actual = limiterUnderTest.intercept(newChain(200));
+
+        final String body = actual.body().string();
+
+        assertAll(
+                () -> assertEquals("{}", body),
+                () -> assertEquals(0, limiterUnderTest.getInFlight()));
+    }
+
+    @Test
+    public void intercept_withBodilessResponse_shouldReleasePermitAtHeaders() throws Exception {
+        final Request headRequest = new Request.Builder().url(URL).head().build();
+
+        final Response headResponse = limiterUnderTest.intercept(newChain(headRequest, 200, "{}"));
+        final Response noContentResponse =
+                limiterUnderTest.intercept(newChain(new Request.Builder().url(URL).build(), 204, ""));
+
+        assertAll(
+                () -> assertEquals(200, headResponse.code()),
+                () -> assertEquals(204, noContentResponse.code()),
+                () -> assertEquals(0, limiterUnderTest.getInFlight()));
+    }
+
+    @Test
+    public void intercept_withResponseLeftOpenPastMaxHoldTime_shouldReleasePermitOnNextAcquire() throws Exception {
+        limiterUnderTest = new AdaptiveConcurrencyLimiter(
+                AdaptiveConcurrencyOptions.builder()
+                        .initialLimit(1)
+                        .minLimit(1)
+                        .maxPermitHoldTime(Duration.ofMinutes(1L))
+                        .build(),
+                nanoTime::get);
+        final Response leaked = limiterUnderTest.intercept(newChain(200));
+        nanoTime.addAndGet(Duration.ofMinutes(2L).toNanos());
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5L), () -> limiterUnderTest.acquire());
+        final int numInFlightAfterAcquire = limiterUnderTest.getInFlight();
+        leaked.close();
+
+        assertAll(
+                () -> assertEquals(1, numInFlightAfterAcquire),
+                () -> assertEquals(1, limiterUnderTest.getInFlight()));
+    }
+
+    @Test
+    public void intercept_withConnectionFailure_shouldReleasePermitWithoutChangingLimit() throws Exception {
+        final Interceptor.Chain mockChain = mock(Interceptor.Chain.class);
+        when(mockChain.request()).thenReturn(new Request.Builder().url(URL).build());
+        when(mockChain.proceed(any(Request.class))).thenThrow(new IOException("Exception"));
+
+        assertThrows(IOException.class, () -> limiterUnderTest.intercept(mockChain));
+        assertAll(
+                () -> assertEquals(4, limiterUnderTest.getLimit()),
+                () -> assertEquals(0, limiterUnderTest.getInFlight()));
+    }
+
+    @Test
+    public void intercept_withLimitReached_shouldWaitForPermit() throws Exception {
+        acquire(4);
+        final Interceptor.Chain chain = newChain(200);
+        final CountDownLatch completed = new CountDownLatch(1);
+        final Thread thread = new Thread(() -> {
+            try (final Response response = limiterUnderTest.intercept(chain)) {
+                completed.countDown();
+            } catch (final IOException ex) {
+                // Not counted down, which fails the assertion
+            }
+        });
+        thread.start();
+
+        final boolean isCompletedWhileFull = completed.await(100L, TimeUnit.MILLISECONDS);
+        limiterUnderTest.onSuccess(nanoTime.get(), MILLIS);
+
+        assertAll(
+                () -> assertFalse(isCompletedWhileFull),
+                () -> assertTrue(completed.await(5L, TimeUnit.SECONDS)));
+    }
+
+    ////////////////
+    // onSuccess
+    ////////////////
+
+    @Test
+    public void onSuccess_withHealthyLatencyAtCapacity_shouldIncreaseLimitUpToMax() throws Exception {
+        for (int i = 0; i < 100; ++i) {
+            final int limit = limiterUnderTest.getLimit();
+            acquire(limit);
+            for (int j = 0; j < limit; ++j) {
+                limiterUnderTest.onSuccess(nanoTime.get(), 10L * MILLIS);
+            }
+        }
+
+        assertAll(
+                () -> assertEquals(6, limiterUnderTest.getLimit()),
+                () -> assertEquals(0, limiterUnderTest.getInFlight()));
+    }
+
+    @Test
+    public void onSuccess_withIdleClient_shouldNotIncreaseLimit() throws Exception {
+        for (int i = 0; i < 100; ++i) {
+            limiterUnderTest.intercept(newChain(200)).close();
+        }
+
+        assertAll(
+                () -> assertEquals(4, limiterUnderTest.getLimit()),
+                () -> assertEquals(0, limiterUnderTest.getInFlight()));
+    }
+
+    @Test
+    public void onSuccess_withLatencySpike_shouldDecreaseLimit() throws Exception {
+        for (int i = 0; i < 10; ++i) {
+            acquire(1);
+            limiterUnderTest.onSuccess(nanoTime.get(), 10L * MILLIS);
+        }
+        nanoTime.addAndGet(MILLIS);
+
+        acquire(1);
+        limiterUnderTest.onSuccess(nanoTime.get(), 50L * MILLIS);
+
+        assertAll(
+                () -> assertEquals(2, limiterUnderTest.getLimit()),
+                () -> assertEquals(0, limiterUnderTest.getInFlight()));
+    }
+
+    @Test
+    public void onSuccess_withLastingLatencyShift_shouldAdoptNewBaselineAndRecoverLimit() throws Exception {
+        for (int i = 0; i < 10; ++i) {
+            acquire(1);
+            limiterUnderTest.onSuccess(nanoTime.get(), 10L * MILLIS);
+        }
+
+        for (int i = 0; i < 200; ++i) {
+            nanoTime.addAndGet(MILLIS);
+            final int limit = limiterUnderTest.getLimit();
+            acquire(limit);
+            for (int j = 0; j < limit; ++j) {
+                limiterUnderTest.onSuccess(nanoTime.get(), 50L * MILLIS);
+            }
+        }
+
+        assertAll(
+                () -> assertEquals(6, limiterUnderTest.getLimit()),
+                () -> assertEquals(0, limiterUnderTest.getInFlight()));
+    }
+
+    ////////////////
+    // onDropped
+    ////////////////
+
+    @Test
+    public void onDropped_withRequestsFromSameWindow_shouldDecreaseOnce() throws Exception {
+        final long startNanos = nanoTime.get();
+        acquire(2);
+        nanoTime.addAndGet(MILLIS);
+
+        limiterUnderTest.onDropped(startNanos);
+        limiterUnderTest.onDropped(startNanos);
+        final int limitAfterWindow = limiterUnderTest.getLimit();
+        nanoTime.addAndGet(MILLIS);
+        acquire(1);
+        limiterUnderTest.onDropped(nanoTime.get());
+
+        assertAll(
+                () -> assertEquals(2, limitAfterWindow),
+                () -> assertEquals(1, limiterUnderTest.getLimit()),
+                () -> assertEquals(0, limiterUnderTest.getInFlight()));
+    }
+
+    ////////////////
+    // options
+    ////////////////
+
+    @Test
+    public void options_withInvalidValues_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> AdaptiveConcurrencyOptions.builder().minLimit(0).build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> AdaptiveConcurrencyOptions.builder().initialLimit(100).build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> AdaptiveConcurrencyOptions.builder().backoffRatio(1.0D).build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> AdaptiveConcurrencyOptions.builder().latencyTolerance(1.0D).build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> AdaptiveConcurrencyOptions.builder().maxPermitHoldTime(Duration.ZERO).build()));
+    }
+
+    private void acquire(final int numPermits) throws IOException {
+        for (int i = 0; i < numPermits; ++i) {
+            limiterUnderTest.acquire();
+        }
+    }
+
+    private static Interceptor.Chain newChain(final int code) throws IOException {
+        return newChain(new Request.Builder().url(URL).build(), code, "{}");
+    }
+
+    private static Interceptor.Chain newChain(final Request request, final int code, final String body)
+            throws IOException {
+        final Interceptor.Chain mockChain = mock(Interceptor.Chain.class);
+        when(mockChain.request()).thenReturn(request);
+        when(mockChain.proceed(any(Request.class))).thenReturn(new Response.Builder()
+                .request(request)
+                .protocol(Protocol.HTTP_1_1)
+                .code(code)
+                .message("Message")
+                .body(ResponseBody.create(body, MediaType.parse("application/json")))
+                .build());
+        return mockChain;
+    }
+}
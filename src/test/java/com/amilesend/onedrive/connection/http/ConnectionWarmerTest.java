@@ -0,0 +1,125 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection.http;
+
+import lombok.SneakyThrows;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ConnectionWarmerTest {
+    @Mock
+    private OkHttpClient mockClient;
+    @Mock
+    private Call mockCall;
+
+    @Test
+    public void warmUp_withDefaultUrls_shouldSendHeadRequestToEachHost() {
+        when(mockClient.newCall(any(Request.class))).thenReturn(mockCall);
+
+        final CompletableFuture<Integer> actual = ConnectionWarmer.warmUp(mockClient);
+
+        final ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        verify(mockClient, times(2)).newCall(requestCaptor.capture());
+        final List<Request> requests = requestCaptor.getAllValues();
+        assertAll(
+                () -> assertFalse(actual.isDone()),
+                () -> assertEquals("HEAD", requests.get(0).method()),
+                () -> assertEquals(ConnectionWarmer.GRAPH_URL, requests.get(0).url().toString()),
+                () -> assertEquals(ConnectionWarmer.LOGIN_URL, requests.get(1).url().toString()));
+    }
+
+    @Test
+    public void warmUp_withDuplicateAndInvalidUrls_shouldConnectOncePerHost() {
+        when(mockClient.newCall(any(Request.class))).thenReturn(mockCall);
+
+        ConnectionWarmer.warmUp(mockClient, Arrays.asList(
+                "https://graph.microsoft.com/v1.0/me?select=id",
+                "https://graph.microsoft.com/v1.0/drives",
+                "NotAUrl",
+                null));
+
+        final ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        verify(mockClient).newCall(requestCaptor.capture());
+        assertEquals(ConnectionWarmer.GRAPH_URL, requestCaptor.getValue().url().toString());
+    }
+
+    @SneakyThrows
+    @Test
+    public void warmUp_withResponseAndFailure_shouldCompleteWithNumConnected() {
+        when(mockClient.newCall(any(Request.class))).thenReturn(mockCall);
+        final CompletableFuture<Integer> actual = ConnectionWarmer.warmUp(mockClient);
+
+        final ArgumentCaptor<Callback> callbackCaptor = ArgumentCaptor.forClass(Callback.class);
+        verify(mockCall, times(2)).enqueue(callbackCaptor.capture());
+        final Response mockResponse = mock(Response.class);
+        when(mockResponse.protocol()).thenReturn(Protocol.HTTP_2);
+        callbackCaptor.getAllValues().get(0).onResponse(mockCall, mockResponse);
+        assertFalse(actual.isDone());
+        callbackCaptor.getAllValues().get(1).onFailure(mockCall, new IOException("Exception"));
+
+        assertAll(
+                () -> assertTrue(actual.isDone()),
+                () -> assertEquals(1, actual.join()),
+                () -> verify(mockResponse).close());
+    }
+
+    @Test
+    public void warmUp_withNoUrls_shouldReturnCompletedFuture() {
+        final CompletableFuture<Integer> actual = ConnectionWarmer.warmUp(mockClient, Collections.emptyList());
+
+        assertAll(
+                () -> assertEquals(0, actual.join()),
+                () -> verifyNoInteractions(mockClient));
+    }
+
+    @Test
+    public void warmUp_withInvalidParameters_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(NullPointerException.class, () -> ConnectionWarmer.warmUp(null)),
+                () -> assertThrows(NullPointerException.class,
+                        () -> ConnectionWarmer.warmUp(mockClient, null)));
+    }
+}
@@ -23,6 +23,7 @@ import lombok.SneakyThrows;
 import okhttp3.Authenticator;
 import okhttp3.ConnectionSpec;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 import okhttp3.Request;
 import okhttp3.Response;
 import okhttp3.Route;
@@ -43,6 +44,7 @@ import java.security.SecureRandom;
 import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
 import java.time.Duration;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -140,6 +142,60 @@ public class OkHttpClientBuilderTest {
                 () -> assertInstanceOf(OkHostnameVerifier.class, actual.hostnameVerifier()));
     }
 
+    ////////////////////
+    // Concurrency
+    ////////////////////
+
+    @Test
+    public void builder_withConcurrencyConfigured_shouldReturnClient() {
+        final List<Protocol> protocols = List.of(Protocol.HTTP_1_1);
+
+        final OkHttpClient actual = new OkHttpClientBuilder()
+                .connectionPool(10, Duration.ofSeconds(30L))
+                .maxRequests(100)
+                .maxRequestsPerHost(20)
+                .protocols(protocols)
+                .build();
+
+        assertAll(
+                () -> assertEquals(100, actual.dispatcher().getMaxRequests()),
+                () -> assertEquals(20, actual.dispatcher().getMaxRequestsPerHost()),
+                () -> assertEquals(protocols, actual.protocols()));
+    }
+
+    @Test
+    public void builder_withNoConcurrencyConfigured_shouldUseDefaults() {
+        final OkHttpClient actual = new OkHttpClientBuilder().build();
+
+        assertAll(
+                () -> assertEquals(64, actual.dispatcher().getMaxRequests()),
+                () -> assertEquals(5, actual.dispatcher().getMaxRequestsPerHost()),
+                () -> assertEquals(List.of(Protocol.HTTP_2, Protocol.HTTP_1_1), actual.protocols()));
+    }
+
+    @Test
+    public void forBulkWorkloads_shouldReturnTunedClient() {
+        final OkHttpClient actual = OkHttpClientBuilder.forBulkWorkloads().build();
+
+        assertAll(
+                () -> assertEquals(OkHttpClientBuilder.BULK_MAX_REQUESTS, actual.dispatcher().getMaxRequests()),
+                () -> assertEquals(OkHttpClientBuilder.BULK_MAX_REQUESTS_PER_HOST,
+                        actual.dispatcher().getMaxRequestsPerHost()),
+                () -> assertEquals(Protocol.HTTP_2, actual.protocols().get(0)));
+    }
+
+    @Test
+    public void builder_withInvalidConcurrencyParameters_shouldThrowException() {
+        final OkHttpClientBuilder builder = new OkHttpClientBuilder();
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> builder.connectionPool(-1, Duration.ofSeconds(1L))),
+                () -> assertThrows(IllegalArgumentException.class, () -> builder.connectionPool(1, Duration.ZERO)),
+                () -> assertThrows(NullPointerException.class, () -> builder.connectionPool(1, null)),
+                () -> assertThrows(IllegalArgumentException.class, () -> builder.maxRequests(0)),
+                () -> assertThrows(IllegalArgumentException.class, () -> builder.maxRequestsPerHost(0)));
+    }
+
     ////////////////////
     // Proxy
     ////////////////////
@@ -0,0 +1,118 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection.http;
+
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class RequestRateLimiterTest {
+    private static final String URL = "https://graph.microsoft.com/v1.0/me/drive/items/ItemId";
+
+    @Mock
+    private TokenBucket mockMetadataBucket;
+    @Mock
+    private TokenBucket mockContentBucket;
+    @Mock
+    private Interceptor.Chain mockChain;
+
+    @Test
+    public void intercept_withMetadataRequest_shouldAcquireMetadataPermit() throws Exception {
+        final Request request = new Request.Builder().url(URL).build();
+        final Response mockResponse = mock(Response.class);
+        when(mockChain.request()).thenReturn(request);
+        when(mockChain.proceed(request)).thenReturn(mockResponse);
+
+        final Response actual = newLimiter().intercept(mockChain);
+
+        assertAll(
+                () -> assertEquals(mockResponse, actual),
+                () -> verify(mockMetadataBucket).acquire(),
+                () -> verify(mockContentBucket, never()).acquire());
+    }
+
+    @Test
+    public void intercept_withContentRequest_shouldAcquireContentPermit() throws Exception {
+        final Request request = new Request.Builder().url(URL + "/content").build();
+        when(mockChain.request()).thenReturn(request);
+
+        newLimiter().intercept(mockChain);
+
+        assertAll(
+                () -> verify(mockContentBucket).acquire(),
+                () -> verify(mockMetadataBucket, never()).acquire());
+    }
+
+    @Test
+    public void intercept_withUndefinedBudget_shouldNotLimit() throws Exception {
+        final Request request = new Request.Builder().url(URL + "/content").build();
+        when(mockChain.request()).thenReturn(request);
+
+        RequestRateLimiter.builder().metadataBucket(mockMetadataBucket).build().intercept(mockChain);
+
+        verify(mockChain).proceed(request);
+        verify(mockMetadataBucket, never()).acquire();
+    }
+
+    @Test
+    public void isContentTransfer_withRequests_shouldReturnExpectedValues() {
+        final MediaType octetStream = MediaType.parse("application/octet-stream");
+        final MediaType json = MediaType.parse("application/json");
+        final MediaType formData = MediaType.parse("application/x-www-form-urlencoded");
+
+        assertAll(
+                () -> assertFalse(RequestRateLimiter.isContentTransfer(new Request.Builder().url(URL).build())),
+                () -> assertTrue(RequestRateLimiter.isContentTransfer(
+                        new Request.Builder().url(URL).header("Range", "bytes=0-9").build())),
+                () -> assertTrue(RequestRateLimiter.isContentTransfer(new Request.Builder()
+                        .url(URL)
+                        .put(RequestBody.create(new byte[1], octetStream))
+                        .build())),
+                () -> assertFalse(RequestRateLimiter.isContentTransfer(new Request.Builder()
+                        .url(URL)
+                        .patch(RequestBody.create("{}", json))
+                        .build())),
+                () -> assertFalse(RequestRateLimiter.isContentTransfer(new Request.Builder()
+                        .url(URL)
+                        .post(RequestBody.create("a=b", formData))
+                        .build())));
+    }
+
+    private RequestRateLimiter newLimiter() {
+        return RequestRateLimiter.builder()
+                .metadataBucket(mockMetadataBucket)
+                .contentBucket(mockContentBucket)
+                .build();
+    }
+}
@@ -0,0 +1,301 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection.http;
+
+import com.amilesend.client.connection.file.TransferProgressCallback;
+import com.amilesend.onedrive.connection.file.ChannelRequestBody;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.InterruptedIOException;
+import java.nio.channels.ReadableByteChannel;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static com.amilesend.client.connection.Connection.Headers.AUTHORIZATION;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ThrottlingRetryInterceptorTest {
+    private static final String URL = "https://graph.microsoft.com/v1.0/me/drive/root";
+    private static final String UPLOAD_URL = "https://api.onedrive.com/rup/UploadSessionId";
+    private static final String TOKEN_URL = "https://login.live.com/oauth20_token.srf";
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Mock
+    private Interceptor.Chain mockChain;
+    private ThrottlingRetryInterceptor interceptorUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        interceptorUnderTest = spy(new ThrottlingRetryInterceptor(
+                ThrottlingRetryOptions.builder().maxRetries(2).build(),
+                Clock.fixed(NOW, ZoneOffset.UTC)));
+    }
+
+    ////////////////
+    // intercept
+    ////////////////
+
+    @Test
+    public void intercept_withThrottledIdempotentRequest_shouldRetryAfterDelay() throws Exception {
+        final Request request = newRequestBuilder().build();
+        final Response throttled = newResponse(request, 429, "3");
+        final Response success = newResponse(request, 200, null);
+        when(mockChain.request()).thenReturn(request);
+        when(mockChain.proceed(any(Request.class))).thenReturn(throttled, success);
+        doNothing().when(interceptorUnderTest).pause(anyLong());
+
+        final Response actual = interceptorUnderTest.intercept(mockChain);
+
+        assertAll(
+                () -> assertEquals(success, actual),
+                () -> verify(mockChain, times(2)).proceed(request),
+                () -> verify(interceptorUnderTest).pause(3000L));
+    }
+
+    @Test
+    public void intercept_withUnavailableResponseAndNoRetryAfter_shouldRetryWithBackoff() throws Exception {
+        final Request request = newRequestBuilder().delete().build();
+        when(mockChain.request()).thenReturn(request);
+        when(mockChain.proceed(any(Request.class))).thenReturn(
+                newResponse(request, 503, null),
+                newResponse(request, 504, null),
+                newResponse(request, 503, null));
+        doNothing().when(interceptorUnderTest).pause(anyLong());
+
+        final Response actual = interceptorUnderTest.intercept(mockChain);
+
+        assertAll(
+                () -> assertEquals(503, actual.code()),
+                () -> verify(mockChain, times(3)).proceed(request),
+                () -> verify(interceptorUnderTest).getBackoffMillis(1),
+                () -> verify(interceptorUnderTest).getBackoffMillis(2));
+    }
+
+    @Test
+    public void intercept_withNonIdempotentRequest_shouldNotRetry() throws Exception {
+        final Request request = newRequestBuilder()
+                .post(RequestBody.create("{}", MediaType.parse("application/json")))
+                .build();
+        when(mockChain.request()).thenReturn(request);
+        when(mockChain.proceed(any(Request.class))).thenReturn(newResponse(request, 429, "1"));
+
+        final Response actual = interceptorUnderTest.intercept(mockChain);
+
+        assertAll(
+                () -> assertEquals(429, actual.code()),
+                () -> verify(mockChain).proceed(request),
+                () -> verify(interceptorUnderTest, never()).pause(anyLong()));
+    }
+
+    @Test
+    public void intercept_withRetryAfterExceedingMaxDelay_shouldNotRetry() throws Exception {
+        final Request request = newRequestBuilder().build();
+        when(mockChain.request()).thenReturn(request);
+        when(mockChain.proceed(any(Request.class))).thenReturn(newResponse(request, 429, "3600"));
+
+        final Response actual = interceptorUnderTest.intercept(mockChain);
+
+        assertAll(
+                () -> assertEquals(429, actual.code()),
+                () -> verify(interceptorUnderTest, never()).pause(anyLong()));
+    }
+
+    @Test
+    public void intercept_withInterruptedPause_shouldThrowException() throws Exception {
+        final Request request = newRequestBuilder().build();
+        when(mockChain.request()).thenReturn(request);
+        when(mockChain.proceed(any(Request.class))).thenReturn(newResponse(request, 429, "1"));
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(InterruptedIOException.class, () -> interceptorUnderTest.intercept(mockChain));
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    public void intercept_withThrottledUnauthenticatedRequest_shouldNotRetry() throws Exception {
+        final Request request = new Request.Builder().url(UPLOAD_URL).put(RequestBody.create(new byte[1])).build();
+        when(mockChain.request()).thenReturn(request);
+        when(mockChain.proceed(any(Request.class))).thenReturn(newResponse(request, 429, "1"));
+
+        final Response actual = interceptorUnderTest.intercept(mockChain);
+
+        assertAll(
+                () -> assertEquals(429, actual.code()),
+                () -> verify(mockChain, times(1)).proceed(request),
+                () -> verify(interceptorUnderTest, never()).pause(anyLong()));
+    }
+
+    @Test
+    public void intercept_withRequestRetriedByCaller_shouldNotRetry() throws Exception {
+        final Request request = ThrottlingRetryInterceptor.markRetriedByCaller(newRequestBuilder()).build();
+        when(mockChain.request()).thenReturn(request);
+        when(mockChain.proceed(any(Request.class))).thenReturn(newResponse(request, 429, "1"));
+
+        final Response actual = interceptorUnderTest.intercept(mockChain);
+
+        assertAll(
+                () -> assertEquals(429, actual.code()),
+                () -> verify(mockChain, times(1)).proceed(request),
+                () -> verify(interceptorUnderTest, never()).pause(anyLong()));
+    }
+
+    ////////////////
+    // getRetryDelayMillis
+    ////////////////
+
+    @Test
+    public void getRetryDelayMillis_withResponses_shouldReturnExpectedDelay() {
+        final Request request = ThrottlingRetryInterceptor.markRetriedByCaller(newRequestBuilder()).build();
+
+        assertAll(
+                () -> assertEquals(3000L, interceptorUnderTest.getRetryDelayMillis(
+                        request, newResponse(request, 429, "3"), 1)),
+                () -> assertEquals(1000L, interceptorUnderTest.getRetryDelayMillis(
+                        request, newResponse(request, 503, "1"), 2)),
+                () -> assertNull(interceptorUnderTest.getRetryDelayMillis(
+                        request, newResponse(request, 429, "1"), 3)),
+                () -> assertNull(interceptorUnderTest.getRetryDelayMillis(
+                        request, newResponse(request, 500, "1"), 1)),
+                () -> assertNull(interceptorUnderTest.getRetryDelayMillis(
+                        request, newResponse(request, 429, "3600"), 1)));
+    }
+
+    ////////////////
+    // isRetryable
+    ////////////////
+
+    @Test
+    public void isRetryable_withRequests_shouldReturnExpectedValues() {
+        final RequestBody jsonBody = RequestBody.create("{}", MediaType.parse("application/json"));
+        final RequestBody oneShotBody = ChannelRequestBody.builder()
+                .source(mock(ReadableByteChannel.class))
+                .sizeBytes(1L)
+                .callback(mock(TransferProgressCallback.class))
+                .build();
+
+        assertAll(
+                () -> assertTrue(ThrottlingRetryInterceptor.isRetryable(newRequestBuilder().build())),
+                () -> assertTrue(ThrottlingRetryInterceptor.isRetryable(
+                        newRequestBuilder().put(jsonBody).build())),
+                () -> assertFalse(ThrottlingRetryInterceptor.isRetryable(
+                        newRequestBuilder().post(jsonBody).build())),
+                () -> assertTrue(ThrottlingRetryInterceptor.isRetryable(ThrottlingRetryInterceptor
+                        .markRetryable(newRequestBuilder().post(jsonBody)).build())),
+                () -> assertFalse(ThrottlingRetryInterceptor.isRetryable(
+                        newRequestBuilder().put(oneShotBody).build())),
+                () -> assertFalse(ThrottlingRetryInterceptor.isRetryable(
+                        new Request.Builder().url(UPLOAD_URL).put(jsonBody).build())),
+                () -> assertFalse(ThrottlingRetryInterceptor.isRetryable(ThrottlingRetryInterceptor
+                        .markRetryable(new Request.Builder().url(TOKEN_URL).post(jsonBody)).build())));
+    }
+
+    ////////////////
+    // parseRetryAfterMillis
+    ////////////////
+
+    @Test
+    public void parseRetryAfterMillis_withValues_shouldReturnDelay() {
+        assertAll(
+                () -> assertEquals(5000L, interceptorUnderTest.parseRetryAfterMillis("5")),
+                () -> assertEquals(0L, interceptorUnderTest.parseRetryAfterMillis("-1")),
+                () -> assertEquals(30000L, interceptorUnderTest.parseRetryAfterMillis("Thu, 1 Jan 2026 00:00:30 GMT")),
+                () -> assertEquals(0L, interceptorUnderTest.parseRetryAfterMillis("Wed, 31 Dec 2025 23:59:00 GMT")),
+                () -> assertNull(interceptorUnderTest.parseRetryAfterMillis("Invalid")),
+                () -> assertNull(interceptorUnderTest.parseRetryAfterMillis(null)));
+    }
+
+    ////////////////
+    // getBackoffMillis
+    ////////////////
+
+    @Test
+    public void getBackoffMillis_withAttempts_shouldReturnJitteredCappedDelay() {
+        assertAll(
+                () -> assertTrue(interceptorUnderTest.getBackoffMillis(1) <= 1000L),
+                () -> assertTrue(interceptorUnderTest.getBackoffMillis(3) <= 4000L),
+                () -> assertTrue(interceptorUnderTest.getBackoffMillis(40) <= 60000L),
+                () -> assertTrue(interceptorUnderTest.getBackoffMillis(40) >= 0L));
+    }
+
+    ////////////////
+    // options
+    ////////////////
+
+    @Test
+    public void options_withInvalidValues_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> ThrottlingRetryOptions.builder().maxRetries(-1).build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> ThrottlingRetryOptions.builder().baseDelay(Duration.ZERO).build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> ThrottlingRetryOptions.builder()
+                                .baseDelay(Duration.ofSeconds(2L))
+                                .maxDelay(Duration.ofSeconds(1L))
+                                .build()));
+    }
+
+    private static Request.Builder newRequestBuilder() {
+        return new Request.Builder()
+                .url(URL)
+                .header(AUTHORIZATION, "bearer Token");
+    }
+
+    private static Response newResponse(final Request request, final int code, final String retryAfter) {
+        final Response.Builder builder = new Response.Builder()
+                .request(request)
+                .protocol(Protocol.HTTP_1_1)
+                .code(code)
+                .message("Message");
+        if (retryAfter != null) {
+            builder.header("Retry-After", retryAfter);
+        }
+
+        return builder.build();
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.connection.http;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TokenBucketTest {
+    private static final long NANOS_PER_SECOND = 1000000000L;
+
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    @Test
+    public void reserve_withinBurst_shouldNotWait() {
+        final TokenBucket bucketUnderTest = new TokenBucket(2.0D, 3, nanoTime::get);
+
+        assertAll(
+                () -> assertEquals(0L, bucketUnderTest.reserve()),
+                () -> assertEquals(0L, bucketUnderTest.reserve()),
+                () -> assertEquals(0L, bucketUnderTest.reserve()));
+    }
+
+    @Test
+    public void reserve_withExhaustedBurst_shouldWaitForEachTokenInOrder() {
+        final TokenBucket bucketUnderTest = new TokenBucket(2.0D, 1, nanoTime::get);
+        bucketUnderTest.reserve();
+
+        assertAll(
+                () -> assertEquals(NANOS_PER_SECOND / 2L, bucketUnderTest.reserve()),
+                () -> assertEquals(NANOS_PER_SECOND, bucketUnderTest.reserve()));
+    }
+
+    @Test
+    public void reserve_withElapsedTime_shouldRefillUpToBurstSize() {
+        final TokenBucket bucketUnderTest = new TokenBucket(1.0D, 2, nanoTime::get);
+        bucketUnderTest.reserve();
+        bucketUnderTest.reserve();
+
+        nanoTime.addAndGet(10L * NANOS_PER_SECOND);
+
+        assertAll(
+                () -> assertEquals(0L, bucketUnderTest.reserve()),
+                () -> assertEquals(0L, bucketUnderTest.reserve()),
+                () -> assertEquals(NANOS_PER_SECOND, bucketUnderTest.reserve()));
+    }
+
+    @Test
+    public void tryAcquire_withExhaustedBucket_shouldReturnFalse() {
+        final TokenBucket bucketUnderTest = new TokenBucket(1.0D, 1, nanoTime::get);
+
+        assertAll(
+                () -> assertTrue(bucketUnderTest.tryAcquire()),
+                () -> assertFalse(bucketUnderTest.tryAcquire()));
+    }
+
+    @Test
+    public void builder_withInvalidValues_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> TokenBucket.builder().build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> TokenBucket.builder().permitsPerSecond(1.0D).burstSize(0).build()),
+                () -> assertEquals(1, TokenBucket.builder().permitsPerSecond(1.0D).build().getBurstSize()));
+    }
+}
@@ -23,6 +23,8 @@ import com.amilesend.client.util.StringUtils;
 import com.amilesend.onedrive.resource.activities.ItemActivity;
 import com.amilesend.onedrive.resource.identity.IdentitySet;
 import com.amilesend.onedrive.resource.item.AsyncJob;
+import com.amilesend.onedrive.connection.file.SegmentedDownloadOptions;
+import com.amilesend.onedrive.connection.file.journal.UploadSessionJournal;
 import com.amilesend.onedrive.resource.item.DriveItem;
 import com.amilesend.onedrive.resource.item.DriveItemVersion;
 import com.amilesend.onedrive.resource.item.type.AsyncJobStatus;
@@ -50,10 +52,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
+import static com.amilesend.onedrive.connection.file.StreamingUploader.UNKNOWN_SIZE_BYTES;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -61,6 +68,7 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
@@ -487,6 +495,268 @@ public class DriveFileTest {
                         () -> driveFileUnderTest.uploadAsync(mockFilePath, mock(TransferProgressCallback.class))));
     }
 
+    @Test
+    public void download_withSegmentedOptions_shouldInvokeDelegate() {
+        final Path mockFolderPath = mock(Path.class);
+        final SegmentedDownloadOptions options = SegmentedDownloadOptions.defaults();
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        driveFileUnderTest.download(mockFolderPath, options, mockCallback);
+
+        verify(mockDelegate).download(eq(mockFolderPath), eq(options), eq(mockCallback));
+    }
+
+    @SneakyThrows
+    @Test
+    public void downloadAsync_withSegmentedOptions_shouldReturnExecution() {
+        when(mockDelegate.downloadAsync(
+                any(Path.class), any(SegmentedDownloadOptions.class), any(TransferProgressCallback.class)))
+                .thenReturn(CompletableFuture.completedFuture(1024L));
+        final Path mockFolderPath = mock(Path.class);
+        final SegmentedDownloadOptions options = SegmentedDownloadOptions.defaults();
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        final DriveFileDownloadExecution actual =
+                driveFileUnderTest.downloadAsync(mockFolderPath, options, mockCallback);
+
+        assertAll(
+                () -> assertEquals(1024L, actual.get()),
+                () -> verify(mockDelegate).downloadAsync(eq(mockFolderPath), eq(options), eq(mockCallback)));
+    }
+
+    @Test
+    public void downloadResumable_withFolderPathAndCallback_shouldInvokeDelegate() {
+        final Path mockFolderPath = mock(Path.class);
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        driveFileUnderTest.downloadResumable(mockFolderPath, mockCallback);
+
+        verify(mockDelegate).downloadResumable(eq(mockFolderPath), eq(mockCallback));
+    }
+
+    @SneakyThrows
+    @Test
+    public void downloadResumableAsync_withFolderPathAndCallback_shouldReturnExecution() {
+        when(mockDelegate.downloadResumableAsync(any(Path.class), any(TransferProgressCallback.class)))
+                .thenReturn(CompletableFuture.completedFuture(1024L));
+        final Path mockFolderPath = mock(Path.class);
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        final DriveFileDownloadExecution actual =
+                driveFileUnderTest.downloadResumableAsync(mockFolderPath, mockCallback);
+
+        assertAll(
+                () -> assertEquals(1024L, actual.get()),
+                () -> verify(mockDelegate).downloadResumableAsync(eq(mockFolderPath), eq(mockCallback)));
+    }
+
+    @Test
+    public void downloadTo_withChannelAndOutputStream_shouldInvokeDelegate() {
+        when(mockDelegate.downloadTo(any(WritableByteChannel.class), any(TransferProgressCallback.class)))
+                .thenReturn(1024L);
+        final WritableByteChannel mockChannel = mock(WritableByteChannel.class);
+        final OutputStream mockOutputStream = mock(OutputStream.class);
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        final long actual = driveFileUnderTest.downloadTo(mockChannel, mockCallback);
+        driveFileUnderTest.downloadTo(mockOutputStream, mockCallback);
+
+        assertAll(
+                () -> assertEquals(1024L, actual),
+                () -> verify(mockDelegate).downloadTo(eq(mockChannel), eq(mockCallback)),
+                () -> verify(mockDelegate).downloadTo(eq(mockOutputStream), eq(mockCallback)));
+    }
+
+    @SneakyThrows
+    @Test
+    public void downloadToAsync_withChannelAndOutputStream_shouldReturnExecution() {
+        when(mockDelegate.downloadToAsync(any(WritableByteChannel.class), any(TransferProgressCallback.class)))
+                .thenReturn(CompletableFuture.completedFuture(1024L));
+        when(mockDelegate.downloadToAsync(any(OutputStream.class), any(TransferProgressCallback.class)))
+                .thenReturn(CompletableFuture.completedFuture(2048L));
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        final DriveFileDownloadExecution channelActual =
+                driveFileUnderTest.downloadToAsync(mock(WritableByteChannel.class), mockCallback);
+        final DriveFileDownloadExecution streamActual =
+                driveFileUnderTest.downloadToAsync(mock(OutputStream.class), mockCallback);
+
+        assertAll(
+                () -> assertEquals(1024L, channelActual.get()),
+                () -> assertEquals(2048L, streamActual.get()));
+    }
+
+    @Test
+    public void openContentStream_withCallback_shouldReturnDelegateStream() {
+        final InputStream mockInputStream = mock(InputStream.class);
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+        when(mockDelegate.openContentStream(any(TransferProgressCallback.class))).thenReturn(mockInputStream);
+
+        assertEquals(mockInputStream, driveFileUnderTest.openContentStream(mockCallback));
+    }
+
+    @Test
+    public void uploadResumable_withFile_shouldReturnDriveFile() {
+        final DriveItem uploadedItem = mock(DriveItem.class);
+        when(uploadedItem.getId()).thenReturn("UploadedFileId");
+        when(mockDelegate.uploadResumable(any(Path.class), any(TransferProgressCallback.class)))
+                .thenReturn(uploadedItem);
+        final Path mockFilePath = newMockFilePath();
+
+        final DriveFile actual = driveFileUnderTest.uploadResumable(mockFilePath);
+
+        assertAll(
+                () -> assertEquals("UploadedFileId", actual.getId()),
+                () -> verify(mockDelegate).uploadResumable(eq(mockFilePath), isA(LogProgressCallback.class)));
+    }
+
+    @Test
+    public void uploadResumable_withFileAndCallback_shouldReturnDriveFile() {
+        final DriveItem uploadedItem = mock(DriveItem.class);
+        when(uploadedItem.getId()).thenReturn("UploadedFileId");
+        when(mockDelegate.uploadResumable(any(Path.class), any(TransferProgressCallback.class)))
+                .thenReturn(uploadedItem);
+        final Path mockFilePath = newMockFilePath();
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        final DriveFile actual = driveFileUnderTest.uploadResumable(mockFilePath, mockCallback);
+
+        assertAll(
+                () -> assertEquals("UploadedFileId", actual.getId()),
+                () -> verify(mockDelegate).uploadResumable(eq(mockFilePath), eq(mockCallback)));
+    }
+
+    @Test
+    public void upload_withChannel_shouldReturnDriveFile() {
+        final DriveItem uploadedItem = mock(DriveItem.class);
+        when(uploadedItem.getId()).thenReturn("UploadedFileId");
+        when(mockDelegate.upload(any(ReadableByteChannel.class), anyLong(), any(TransferProgressCallback.class)))
+                .thenReturn(uploadedItem);
+        final ReadableByteChannel mockSource = mock(ReadableByteChannel.class);
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        final DriveFile actual = driveFileUnderTest.upload(mockSource, 10L, mockCallback);
+
+        assertAll(
+                () -> assertEquals("UploadedFileId", actual.getId()),
+                () -> verify(mockDelegate).upload(eq(mockSource), eq(10L), eq(mockCallback)));
+    }
+
+    @Test
+    public void upload_withInputStream_shouldReturnDriveFile() {
+        final DriveItem uploadedItem = mock(DriveItem.class);
+        when(uploadedItem.getId()).thenReturn("UploadedFileId");
+        when(mockDelegate.upload(any(InputStream.class), anyLong(), any(TransferProgressCallback.class)))
+                .thenReturn(uploadedItem);
+        final InputStream mockStream = mock(InputStream.class);
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        final DriveFile actual = driveFileUnderTest.upload(mockStream, UNKNOWN_SIZE_BYTES, mockCallback);
+
+        assertAll(
+                () -> assertEquals("UploadedFileId", actual.getId()),
+                () -> verify(mockDelegate).upload(eq(mockStream), eq(UNKNOWN_SIZE_BYTES), eq(mockCallback)));
+    }
+
+    @SneakyThrows
+    @Test
+    public void uploadAsync_withChannel_shouldReturnExecution() {
+        final DriveItem mockUploadedDriveItem = mock(DriveItem.class);
+        when(mockUploadedDriveItem.getId()).thenReturn("UploadedDriveItemId");
+        when(mockDelegate.uploadAsync(any(ReadableByteChannel.class), anyLong(), any(TransferProgressCallback.class)))
+                .thenReturn(CompletableFuture.completedFuture(mockUploadedDriveItem));
+
+        final DriveFileUploadExecution actual = driveFileUnderTest.uploadAsync(
+                mock(ReadableByteChannel.class), 10L, mock(TransferProgressCallback.class));
+
+        assertEquals("UploadedDriveItemId", actual.get().getId());
+    }
+
+    @SneakyThrows
+    @Test
+    public void uploadAsync_withInputStream_shouldReturnExecution() {
+        final DriveItem mockUploadedDriveItem = mock(DriveItem.class);
+        when(mockUploadedDriveItem.getId()).thenReturn("UploadedDriveItemId");
+        when(mockDelegate.uploadAsync(any(InputStream.class), anyLong(), any(TransferProgressCallback.class)))
+                .thenReturn(CompletableFuture.completedFuture(mockUploadedDriveItem));
+
+        final DriveFileUploadExecution actual = driveFileUnderTest.uploadAsync(
+                mock(InputStream.class), 10L, mock(TransferProgressCallback.class));
+
+        assertEquals("UploadedDriveItemId", actual.get().getId());
+    }
+
+    @SneakyThrows
+    @Test
+    public void uploadResumableAsync_withFile_shouldReturnExecution() {
+        final DriveItem mockUploadedDriveItem = mock(DriveItem.class);
+        when(mockUploadedDriveItem.getId()).thenReturn("UploadedDriveItemId");
+        when(mockDelegate.uploadResumableAsync(any(Path.class), any(TransferProgressCallback.class)))
+                .thenReturn(CompletableFuture.completedFuture(mockUploadedDriveItem));
+        final Path mockFilePath = newMockFilePath();
+
+        final DriveFileUploadExecution actual = driveFileUnderTest.uploadResumableAsync(mockFilePath);
+
+        assertAll(
+                () -> assertEquals("UploadedDriveItemId", actual.get().getId()),
+                () -> verify(mockDelegate).uploadResumableAsync(eq(mockFilePath), isA(LogProgressCallback.class)));
+    }
+
+    @SneakyThrows
+    @Test
+    public void uploadResumableAsync_withFileAndCallback_shouldReturnExecution() {
+        final DriveItem mockUploadedDriveItem = mock(DriveItem.class);
+        when(mockUploadedDriveItem.getId()).thenReturn("UploadedDriveItemId");
+        when(mockDelegate.uploadResumableAsync(any(Path.class), any(TransferProgressCallback.class)))
+                .thenReturn(CompletableFuture.completedFuture(mockUploadedDriveItem));
+        final Path mockFilePath = newMockFilePath();
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        final DriveFileUploadExecution actual = driveFileUnderTest.uploadResumableAsync(mockFilePath, mockCallback);
+
+        assertAll(
+                () -> assertEquals("UploadedDriveItemId", actual.get().getId()),
+                () -> verify(mockDelegate).uploadResumableAsync(eq(mockFilePath), eq(mockCallback)));
+    }
+
+    @Test
+    public void uploadResumable_withJournal_shouldReturnDriveFile() {
+        final DriveItem uploadedItem = mock(DriveItem.class);
+        when(uploadedItem.getId()).thenReturn("UploadedFileId");
+        final UploadSessionJournal mockJournal = mock(UploadSessionJournal.class);
+        when(mockDelegate.uploadResumable(
+                any(Path.class), any(TransferProgressCallback.class), any(UploadSessionJournal.class)))
+                .thenReturn(uploadedItem);
+        final Path mockFilePath = newMockFilePath();
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        final DriveFile actual = driveFileUnderTest.uploadResumable(mockFilePath, mockCallback, mockJournal);
+
+        assertAll(
+                () -> assertEquals("UploadedFileId", actual.getId()),
+                () -> verify(mockDelegate).uploadResumable(eq(mockFilePath), eq(mockCallback), eq(mockJournal)));
+    }
+
+    @SneakyThrows
+    @Test
+    public void uploadResumableAsync_withJournal_shouldReturnExecution() {
+        final DriveItem mockUploadedDriveItem = mock(DriveItem.class);
+        when(mockUploadedDriveItem.getId()).thenReturn("UploadedDriveItemId");
+        final UploadSessionJournal mockJournal = mock(UploadSessionJournal.class);
+        when(mockDelegate.uploadResumableAsync(
+                any(Path.class), any(TransferProgressCallback.class), any(UploadSessionJournal.class)))
+                .thenReturn(CompletableFuture.completedFuture(mockUploadedDriveItem));
+        final Path mockFilePath = newMockFilePath();
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        final DriveFileUploadExecution actual =
+                driveFileUnderTest.uploadResumableAsync(mockFilePath, mockCallback, mockJournal);
+
+        assertAll(
+                () -> assertEquals("UploadedDriveItemId", actual.get().getId()),
+                () -> verify(mockDelegate).uploadResumableAsync(eq(mockFilePath), eq(mockCallback), eq(mockJournal)));
+    }
+
     //////////////////////
     // Operations
     //////////////////////
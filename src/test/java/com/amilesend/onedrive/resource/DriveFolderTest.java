@@ -22,10 +22,15 @@ import com.amilesend.client.connection.file.TransferProgressCallback;
 import com.amilesend.client.util.StringUtils;
 import com.amilesend.onedrive.connection.OneDriveConnection;
 import com.amilesend.onedrive.resource.activities.ItemActivity;
+import com.amilesend.onedrive.resource.delta.DeltaResult;
 import com.amilesend.onedrive.resource.identity.IdentitySet;
 import com.amilesend.onedrive.resource.item.AsyncJob;
+import com.amilesend.onedrive.connection.file.journal.UploadSessionJournal;
 import com.amilesend.onedrive.resource.item.DriveItem;
 import com.amilesend.onedrive.resource.item.DriveItemVersion;
+import com.amilesend.onedrive.resource.item.DriveItemVisitor;
+import com.amilesend.onedrive.resource.item.PagingOptions;
+import com.amilesend.onedrive.resource.item.WalkOptions;
 import com.amilesend.onedrive.resource.item.type.AsyncJobStatus;
 import com.amilesend.onedrive.resource.item.type.Deleted;
 import com.amilesend.onedrive.resource.item.type.FileSystemInfo;
@@ -47,19 +52,25 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 import static com.amilesend.onedrive.resource.DriveFileTest.newMockFilePath;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
@@ -67,6 +78,7 @@ import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -378,6 +390,170 @@ public class DriveFolderTest {
                         () -> driveFolderUnderTest.uploadAsync(mockFilePath, mock(TransferProgressCallback.class))));
     }
 
+    @Test
+    public void uploadResumable_withFile_shouldReturnDriveFile() {
+        final DriveItem uploadedItem = mock(DriveItem.class);
+        when(uploadedItem.getId()).thenReturn("UploadedFileId");
+        when(mockDelegate.uploadNewResumable(any(Path.class), any(TransferProgressCallback.class)))
+                .thenReturn(uploadedItem);
+        final Path mockFilePath = newMockFilePath();
+
+        final DriveFile actual = driveFolderUnderTest.uploadResumable(mockFilePath);
+
+        assertAll(
+                () -> assertEquals("UploadedFileId", actual.getId()),
+                () -> verify(mockDelegate).uploadNewResumable(eq(mockFilePath), isA(LogProgressCallback.class)));
+    }
+
+    @Test
+    public void uploadResumable_withFileAndCallback_shouldReturnDriveFile() {
+        final DriveItem uploadedItem = mock(DriveItem.class);
+        when(uploadedItem.getId()).thenReturn("UploadedFileId");
+        when(mockDelegate.uploadNewResumable(any(Path.class), any(TransferProgressCallback.class)))
+                .thenReturn(uploadedItem);
+        final Path mockFilePath = newMockFilePath();
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        final DriveFile actual = driveFolderUnderTest.uploadResumable(mockFilePath, mockCallback);
+
+        assertAll(
+                () -> assertEquals("UploadedFileId", actual.getId()),
+                () -> verify(mockDelegate).uploadNewResumable(eq(mockFilePath), eq(mockCallback)));
+    }
+
+    @SneakyThrows
+    @Test
+    public void uploadResumableAsync_withFile_shouldReturnExecution() {
+        final DriveItem mockUploadedDriveItem = mock(DriveItem.class);
+        when(mockUploadedDriveItem.getId()).thenReturn("UploadedDriveItemId");
+        when(mockDelegate.uploadNewResumableAsync(any(Path.class), any(TransferProgressCallback.class)))
+                .thenReturn(CompletableFuture.completedFuture(mockUploadedDriveItem));
+        final Path mockFilePath = newMockFilePath();
+
+        final DriveFileUploadExecution actual = driveFolderUnderTest.uploadResumableAsync(mockFilePath);
+
+        assertAll(
+                () -> assertEquals("UploadedDriveItemId", actual.get().getId()),
+                () -> verify(mockDelegate).uploadNewResumableAsync(eq(mockFilePath), isA(LogProgressCallback.class)));
+    }
+
+    @SneakyThrows
+    @Test
+    public void uploadResumableAsync_withFileAndCallback_shouldReturnExecution() {
+        final DriveItem mockUploadedDriveItem = mock(DriveItem.class);
+        when(mockUploadedDriveItem.getId()).thenReturn("UploadedDriveItemId");
+        when(mockDelegate.uploadNewResumableAsync(any(Path.class), any(TransferProgressCallback.class)))
+                .thenReturn(CompletableFuture.completedFuture(mockUploadedDriveItem));
+        final Path mockFilePath = newMockFilePath();
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        final DriveFileUploadExecution actual = driveFolderUnderTest.uploadResumableAsync(mockFilePath, mockCallback);
+
+        assertAll(
+                () -> assertEquals("UploadedDriveItemId", actual.get().getId()),
+                () -> verify(mockDelegate).uploadNewResumableAsync(eq(mockFilePath), eq(mockCallback)));
+    }
+
+    @Test
+    public void upload_withNameAndChannel_shouldReturnDriveFile() {
+        final DriveItem uploadedItem = mock(DriveItem.class);
+        when(uploadedItem.getId()).thenReturn("UploadedFileId");
+        when(mockDelegate.uploadNew(
+                anyString(), any(ReadableByteChannel.class), anyLong(), any(TransferProgressCallback.class)))
+                .thenReturn(uploadedItem);
+        final ReadableByteChannel mockSource = mock(ReadableByteChannel.class);
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        final DriveFile actual = driveFolderUnderTest.upload("File.bin", mockSource, 10L, mockCallback);
+
+        assertAll(
+                () -> assertEquals("UploadedFileId", actual.getId()),
+                () -> verify(mockDelegate).uploadNew(eq("File.bin"), eq(mockSource), eq(10L), eq(mockCallback)));
+    }
+
+    @Test
+    public void upload_withNameAndInputStream_shouldReturnDriveFile() {
+        final DriveItem uploadedItem = mock(DriveItem.class);
+        when(uploadedItem.getId()).thenReturn("UploadedFileId");
+        when(mockDelegate.uploadNew(
+                anyString(), any(InputStream.class), anyLong(), any(TransferProgressCallback.class)))
+                .thenReturn(uploadedItem);
+
+        final DriveFile actual = driveFolderUnderTest.upload(
+                "File.bin", mock(InputStream.class), 10L, mock(TransferProgressCallback.class));
+
+        assertEquals("UploadedFileId", actual.getId());
+    }
+
+    @SneakyThrows
+    @Test
+    public void uploadAsync_withNameAndChannel_shouldReturnExecution() {
+        final DriveItem uploadedItem = mock(DriveItem.class);
+        when(uploadedItem.getId()).thenReturn("UploadedFileId");
+        when(mockDelegate.uploadNewAsync(
+                anyString(), any(ReadableByteChannel.class), anyLong(), any(TransferProgressCallback.class)))
+                .thenReturn(CompletableFuture.completedFuture(uploadedItem));
+
+        final DriveFileUploadExecution actual = driveFolderUnderTest.uploadAsync(
+                "File.bin", mock(ReadableByteChannel.class), 10L, mock(TransferProgressCallback.class));
+
+        assertEquals("UploadedFileId", actual.get().getId());
+    }
+
+    @SneakyThrows
+    @Test
+    public void uploadAsync_withNameAndInputStream_shouldReturnExecution() {
+        final DriveItem uploadedItem = mock(DriveItem.class);
+        when(uploadedItem.getId()).thenReturn("UploadedFileId");
+        when(mockDelegate.uploadNewAsync(
+                anyString(), any(InputStream.class), anyLong(), any(TransferProgressCallback.class)))
+                .thenReturn(CompletableFuture.completedFuture(uploadedItem));
+
+        final DriveFileUploadExecution actual = driveFolderUnderTest.uploadAsync(
+                "File.bin", mock(InputStream.class), 10L, mock(TransferProgressCallback.class));
+
+        assertEquals("UploadedFileId", actual.get().getId());
+    }
+
+    @Test
+    public void uploadResumable_withJournal_shouldReturnDriveFile() {
+        final DriveItem uploadedItem = mock(DriveItem.class);
+        when(uploadedItem.getId()).thenReturn("UploadedFileId");
+        final UploadSessionJournal mockJournal = mock(UploadSessionJournal.class);
+        when(mockDelegate.uploadNewResumable(
+                any(Path.class), any(TransferProgressCallback.class), any(UploadSessionJournal.class)))
+                .thenReturn(uploadedItem);
+        final Path mockFilePath = newMockFilePath();
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        final DriveFile actual = driveFolderUnderTest.uploadResumable(mockFilePath, mockCallback, mockJournal);
+
+        assertAll(
+                () -> assertEquals("UploadedFileId", actual.getId()),
+                () -> verify(mockDelegate).uploadNewResumable(eq(mockFilePath), eq(mockCallback), eq(mockJournal)));
+    }
+
+    @SneakyThrows
+    @Test
+    public void uploadResumableAsync_withJournal_shouldReturnExecution() {
+        final DriveItem mockUploadedDriveItem = mock(DriveItem.class);
+        when(mockUploadedDriveItem.getId()).thenReturn("UploadedDriveItemId");
+        final UploadSessionJournal mockJournal = mock(UploadSessionJournal.class);
+        when(mockDelegate.uploadNewResumableAsync(
+                any(Path.class), any(TransferProgressCallback.class), any(UploadSessionJournal.class)))
+                .thenReturn(CompletableFuture.completedFuture(mockUploadedDriveItem));
+        final Path mockFilePath = newMockFilePath();
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        final DriveFileUploadExecution actual =
+                driveFolderUnderTest.uploadResumableAsync(mockFilePath, mockCallback, mockJournal);
+
+        assertAll(
+                () -> assertEquals("UploadedDriveItemId", actual.get().getId()),
+                () -> verify(mockDelegate)
+                        .uploadNewResumableAsync(eq(mockFilePath), eq(mockCallback), eq(mockJournal)));
+    }
+
     //////////////////////
     // Operations
     //////////////////////
@@ -466,6 +642,87 @@ public class DriveFolderTest {
                 () -> assertEquals("FileId", actual.get(0).getId()));
     }
 
+    @Test
+    public void getPartitionedChildren_shouldListOnceAndPartitionByType() {
+        final List<DriveItem> children = newDriveItemList();
+        when(mockDelegate.streamChildren(any(PagingOptions.class))).thenReturn(children.stream());
+
+        final DriveFolderChildren actual = driveFolderUnderTest.getPartitionedChildren();
+
+        assertAll(
+                () -> assertEquals(3, actual.size()),
+                () -> assertEquals("FolderId", actual.getFolders().get(0).getId()),
+                () -> assertEquals("FileId", actual.getFiles().get(0).getId()),
+                () -> assertEquals("PackageId", actual.getPackages().get(0).getId()),
+                () -> verify(mockDelegate).streamChildren(any(PagingOptions.class)),
+                () -> verify(mockDelegate, never()).getChildren());
+    }
+
+    @Test
+    public void forEachChild_withConsumers_shouldRouteEachChildByType() {
+        final List<DriveItem> children = newDriveItemList();
+        final PagingOptions options = PagingOptions.builder().pageSize(100).build();
+        when(mockDelegate.streamChildren(any(PagingOptions.class))).thenReturn(children.stream());
+        final List<String> folderIds = new ArrayList<>();
+        final List<String> fileIds = new ArrayList<>();
+        final List<String> packageIds = new ArrayList<>();
+
+        driveFolderUnderTest.forEachChild(
+                options,
+                folder -> folderIds.add(folder.getId()),
+                file -> fileIds.add(file.getId()),
+                drivePackage -> packageIds.add(drivePackage.getId()));
+
+        assertAll(
+                () -> assertEquals(List.of("FolderId"), folderIds),
+                () -> assertEquals(List.of("FileId"), fileIds),
+                () -> assertEquals(List.of("PackageId"), packageIds),
+                () -> verify(mockDelegate).streamChildren(options));
+    }
+
+    @Test
+    public void forEachChild_withNullConsumer_shouldThrowException() {
+        assertThrows(NullPointerException.class, () -> driveFolderUnderTest.forEachChild(null, file -> {}, pkg -> {}));
+    }
+
+    @Test
+    public void getDelta_withDeltaLink_shouldReturnDriveItemTypeDeltaResult() {
+        final DeltaResult<DriveItem> delta = DeltaResult.<DriveItem>builder()
+                .changes(newDriveItemList())
+                .deltaLink("DeltaLink")
+                .build();
+        when(mockDelegate.getDelta(anyString())).thenReturn(delta);
+
+        final DeltaResult<DriveItemType> actual = driveFolderUnderTest.getDelta("PreviousDeltaLink");
+
+        assertAll(
+                () -> assertEquals("DeltaLink", actual.getDeltaLink()),
+                () -> assertEquals(3, actual.getChanges().size()),
+                () -> assertInstanceOf(DriveFolder.class, actual.getChanges().get(1)),
+                () -> assertEquals("FolderId", actual.getChanges().get(1).getId()),
+                () -> verify(mockDelegate).getDelta("PreviousDeltaLink"));
+    }
+
+    @Test
+    public void walk_withVisitor_shouldWrapVisitedDriveItems() {
+        final List<DriveItem> items = newDriveItemList();
+        when(mockDelegate.walk(any(WalkOptions.class), any(DriveItemVisitor.class))).thenAnswer(invocation -> {
+            final DriveItemVisitor visitor = invocation.getArgument(1);
+            items.forEach(item -> visitor.visit(item, 1));
+            return 3L;
+        });
+        final List<DriveItemType> visited = new ArrayList<>();
+
+        final long actual = driveFolderUnderTest.walk(visited::add);
+
+        assertAll(
+                () -> assertEquals(3L, actual),
+                () -> assertInstanceOf(DriveFile.class, visited.get(0)),
+                () -> assertInstanceOf(DriveFolder.class, visited.get(1)),
+                () -> assertInstanceOf(DrivePackage.class, visited.get(2)),
+                () -> assertEquals("FolderId", visited.get(1).getId()));
+    }
+
     @Test
     public void getChildren_shouldReturnDriveItemTypeList() {
         setUpChildren();
@@ -492,6 +749,46 @@ public class DriveFolderTest {
                 () -> assertEquals("PackageId", actual.get(2).getId()));
     }
 
+    @Test
+    public void streamChildren_shouldReturnDriveItemTypeStream() {
+        final List<DriveItem> children = newDriveItemList();
+        when(mockDelegate.streamChildren()).thenReturn(children.stream());
+
+        final List<DriveItemType> actual = driveFolderUnderTest.streamChildren().collect(Collectors.toList());
+
+        assertAll(
+                () -> assertEquals(3, actual.size()),
+                () -> assertEquals("FileId", actual.get(0).getId()),
+                () -> assertEquals("FolderId", actual.get(1).getId()),
+                () -> assertEquals("PackageId", actual.get(2).getId()));
+    }
+
+    @Test
+    public void getChildren_withPagingOptions_shouldReturnDriveItemTypeList() {
+        final List<DriveItem> children = newDriveItemList();
+        final PagingOptions options = PagingOptions.builder().pageSize(500).build();
+        when(mockDelegate.getChildren(any(PagingOptions.class))).thenReturn(children);
+
+        final List<? extends DriveItemType> actual = driveFolderUnderTest.getChildren(options);
+
+        assertAll(
+                () -> assertEquals(3, actual.size()),
+                () -> assertEquals("FileId", actual.get(0).getId()),
+                () -> verify(mockDelegate).getChildren(options));
+    }
+
+    @Test
+    public void streamSearch_withQuery_shouldReturnDriveItemTypeStream() {
+        final List<DriveItem> searchResults = newDriveItemList();
+        when(mockDelegate.streamSearch(anyString())).thenReturn(searchResults.stream());
+
+        final List<DriveItemType> actual = driveFolderUnderTest.streamSearch("Query").collect(Collectors.toList());
+
+        assertAll(
+                () -> assertEquals(3, actual.size()),
+                () -> verify(mockDelegate).streamSearch("Query"));
+    }
+
     @Test
     public void copy_withFolderAndName_shouldReturnAsyncJob() {
         final String newName = "NewName";
@@ -18,6 +18,7 @@
 package com.amilesend.onedrive.resource;
 
 import com.amilesend.onedrive.resource.activities.ItemActivity;
+import com.amilesend.onedrive.resource.delta.DeltaResult;
 import com.amilesend.onedrive.resource.drive.Quota;
 import com.amilesend.onedrive.resource.identity.IdentitySet;
 import com.amilesend.onedrive.resource.item.DriveItem;
@@ -33,6 +34,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -43,6 +45,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -217,6 +220,56 @@ public class DriveTest {
                 () -> assertEquals("FolderName", actual.get(1).getName()));
     }
 
+    @Test
+    public void streamSearch_withQuery_shouldReturnDriveItemTypeStream() {
+        final List<DriveItem> queryResponse = List.of(newDriveItem(true), newDriveItem(false));
+        when(mockDelegate.streamSearch(anyString())).thenReturn(queryResponse.stream());
+
+        final List<DriveItemType> actual = driveUnderTest.streamSearch("Query").collect(Collectors.toList());
+
+        assertAll(
+                () -> assertEquals(2, actual.size()),
+                () -> assertInstanceOf(DriveFile.class, actual.get(0)),
+                () -> assertInstanceOf(DriveFolder.class, actual.get(1)),
+                () -> assertEquals("FileName", actual.get(0).getName()),
+                () -> assertEquals("FolderName", actual.get(1).getName()));
+    }
+
+    @Test
+    public void streamChanges_shouldReturnDriveItemTypeStream() {
+        final List<DriveItem> queryResponse = List.of(newDriveItem(true), newDriveItem(false));
+        when(mockDelegate.streamChanges()).thenReturn(queryResponse.stream());
+
+        final List<DriveItemType> actual = driveUnderTest.streamChanges().collect(Collectors.toList());
+
+        assertAll(
+                () -> assertEquals(2, actual.size()),
+                () -> assertInstanceOf(DriveFile.class, actual.get(0)),
+                () -> assertInstanceOf(DriveFolder.class, actual.get(1)),
+                () -> assertEquals("FileName", actual.get(0).getName()),
+                () -> assertEquals("FolderName", actual.get(1).getName()));
+    }
+
+    @Test
+    public void getDelta_withDeltaLink_shouldReturnDriveItemTypeDeltaResult() {
+        final List<DriveItem> changes = List.of(newDriveItem(true), newDriveItem(false));
+        final DeltaResult<DriveItem> delta = DeltaResult.<DriveItem>builder()
+                .changes(changes)
+                .deltaLink("DeltaLink")
+                .build();
+        when(mockDelegate.getDelta(anyString())).thenReturn(delta);
+
+        final DeltaResult<DriveItemType> actual = driveUnderTest.getDelta("PreviousDeltaLink");
+
+        assertAll(
+                () -> assertEquals("DeltaLink", actual.getDeltaLink()),
+                () -> assertInstanceOf(DriveFile.class, actual.getChanges().get(0)),
+                () -> assertInstanceOf(DriveFolder.class, actual.getChanges().get(1)),
+                () -> assertEquals("FileName", actual.getChanges().get(0).getName()),
+                () -> assertEquals("FolderName", actual.getChanges().get(1).getName()),
+                () -> verify(mockDelegate).getDelta("PreviousDeltaLink"));
+    }
+
     @Test
     public void getSpecialFolder_shouldReturnDriveFolder() {
         final SpecialDriveItem specialDriveItem = mock(SpecialDriveItem.class);
@@ -19,9 +19,15 @@ package com.amilesend.onedrive.resource;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
+import java.util.List;
+
+import static com.amilesend.onedrive.resource.ResourceHelper.appendSelectQueryParameter;
 import static com.amilesend.onedrive.resource.ResourceHelper.objectDefinedEquals;
+import static com.amilesend.onedrive.resource.ResourceHelper.toDeltaUrl;
 import static com.amilesend.onedrive.resource.ResourceHelper.validateFilename;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -44,6 +50,28 @@ public class ResourceHelperTest {
                 () -> assertFalse(objectDefinedEquals(null, new Object())));
     }
 
+    @Test
+    public void appendSelectQueryParameter_withFields_shouldAppendQueryParameter() {
+        assertAll(
+                () -> assertEquals("http://localhost/root?$select=id,name",
+                        appendSelectQueryParameter("http://localhost/root", List.of("id", "name"))),
+                () -> assertEquals("http://localhost/root?expand=children&$select=id",
+                        appendSelectQueryParameter("http://localhost/root?expand=children", List.of("id"))),
+                () -> assertEquals("http://localhost/root", appendSelectQueryParameter("http://localhost/root", null)),
+                () -> assertEquals("http://localhost/root",
+                        appendSelectQueryParameter("http://localhost/root", Collections.emptyList())));
+    }
+
+    @Test
+    public void toDeltaUrl_withDeltaLinkOrToken_shouldReturnDeltaUrl() {
+        assertAll(
+                () -> assertEquals("https://localhost/delta?token=Previous",
+                        toDeltaUrl("http://localhost/delta", "https://localhost/delta?token=Previous")),
+                () -> assertEquals("http://localhost/delta?token=latest",
+                        toDeltaUrl("http://localhost/delta", "latest")),
+                () -> assertThrows(IllegalArgumentException.class, () -> toDeltaUrl("http://localhost/delta", " ")));
+    }
+
     @Test
     public void validateFilename_withInvalidFilenames_shouldThrowException() {
         assertAll(
@@ -0,0 +1,54 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.resource.delta;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DeltaResultTest {
+    @Test
+    public void builder_withNoChanges_shouldReturnEmptyChanges() {
+        final DeltaResult<String> actual = DeltaResult.<String>builder().build();
+
+        assertAll(
+                () -> assertTrue(actual.getChanges().isEmpty()),
+                () -> assertNull(actual.getDeltaLink()));
+    }
+
+    @Test
+    public void map_withMapper_shouldMapChangesAndRetainDeltaLink() {
+        final DeltaResult<String> delta = DeltaResult.<String>builder()
+                .changes(List.of("a", "bb"))
+                .deltaLink("DeltaLink")
+                .build();
+
+        final DeltaResult<Integer> actual = delta.map(String::length);
+
+        assertAll(
+                () -> assertEquals(List.of(1, 2), actual.getChanges()),
+                () -> assertEquals("DeltaLink", actual.getDeltaLink()),
+                () -> assertThrows(NullPointerException.class, () -> delta.map(null)));
+    }
+}
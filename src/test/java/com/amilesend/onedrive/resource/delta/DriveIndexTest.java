@@ -0,0 +1,338 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.resource.delta;
+
+import com.amilesend.client.connection.RequestException;
+import com.amilesend.onedrive.resource.drive.Drive;
+import com.amilesend.onedrive.resource.item.DriveItem;
+import com.amilesend.onedrive.resource.item.DriveItemIterator;
+import com.amilesend.onedrive.resource.item.PagingOptions;
+import com.amilesend.onedrive.resource.item.type.Deleted;
+import com.amilesend.onedrive.resource.item.type.File;
+import com.amilesend.onedrive.resource.item.type.Folder;
+import com.amilesend.onedrive.resource.item.type.Hashes;
+import com.amilesend.onedrive.resource.item.type.ItemReference;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class DriveIndexTest {
+    private static final Instant SYNC_TIME = Instant.parse("2026-01-01T00:00:00Z");
+
+    @TempDir
+    private Path tempDir;
+    @Mock
+    private Drive mockDrive;
+    private Clock mockClock;
+    private DriveIndex indexUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        mockClock = mock(Clock.class);
+        lenient().when(mockClock.instant()).thenReturn(SYNC_TIME);
+        lenient().when(mockDrive.getId()).thenReturn("DriveId");
+        indexUnderTest = DriveIndex.builder()
+                .drive(mockDrive)
+                .indexFilePath(tempDir.resolve("drive.idx"))
+                .clock(mockClock)
+                .build();
+    }
+
+    ////////////////
+    // sync
+    ////////////////
+
+    @SneakyThrows
+    @Test
+    public void sync_withNoDeltaLink_shouldBootstrapIndex() {
+        mockDelta(null, "DeltaLink1", newBootstrapItems());
+
+        final int actual = indexUnderTest.sync();
+
+        assertAll(
+                () -> assertEquals(4, actual),
+                () -> assertEquals(4, indexUnderTest.size()),
+                () -> assertEquals("RootId", indexUnderTest.getRoot().getId()),
+                () -> assertEquals(List.of("DocsId"), getChildIds("RootId")),
+                () -> assertEquals(List.of("ReportId", "NotesId"), getChildIds("DocsId")),
+                () -> assertEquals("ReportId", indexUnderTest.getByPath("/documents/REPORT.docx").getId()),
+                () -> assertEquals("/Documents/report.docx", indexUnderTest.getPath("ReportId")),
+                () -> assertEquals("RootId", indexUnderTest.getByPath("/").getId()),
+                () -> assertNull(indexUnderTest.getByPath("/Documents/missing.txt")),
+                () -> assertEquals(List.of("ReportId"), indexUnderTest.findByHash("Sha1Report").stream()
+                        .map(IndexedItem::getId)
+                        .collect(Collectors.toList())),
+                () -> assertEquals("DeltaLink1", indexUnderTest.getDeltaLink()),
+                () -> assertEquals(SYNC_TIME, indexUnderTest.getLastSyncTime()),
+                () -> assertTrue(Files.exists(tempDir.resolve("drive.idx"))),
+                () -> verify(mockDrive).getDeltaIterator(isNull(), any(PagingOptions.class)));
+    }
+
+    @SneakyThrows
+    @Test
+    public void sync_withChanges_shouldApplyRenamesMovesAndDeletions() {
+        mockDelta(null, "DeltaLink1", newBootstrapItems());
+        indexUnderTest.sync();
+        mockDelta("DeltaLink1", "DeltaLink2", List.of(
+                newFile("NotesId", "renamed.txt", "RootId", "Sha1Notes"),
+                newDeleted("DocsId")));
+
+        final int actual = indexUnderTest.sync();
+
+        assertAll(
+                () -> assertEquals(2, actual),
+                () -> assertEquals(2, indexUnderTest.size()),
+                () -> assertEquals(List.of("NotesId"), getChildIds("RootId")),
+                () -> assertEquals("/renamed.txt", indexUnderTest.getPath("NotesId")),
+                () -> assertNull(indexUnderTest.getItem("DocsId")),
+                // Descendants of deleted folders are removed even if not listed in the delta
+                () -> assertNull(indexUnderTest.getItem("ReportId")),
+                () -> assertTrue(indexUnderTest.findByHash("Sha1Report").isEmpty()),
+                () -> assertEquals("DeltaLink2", indexUnderTest.getDeltaLink()));
+    }
+
+    @SneakyThrows
+    @Test
+    public void sync_whileEnumeratingChanges_shouldNotBlockLookups() {
+        mockDelta(null, "DeltaLink1", newBootstrapItems());
+        indexUnderTest.sync();
+        final DriveItemIterator mockIterator = mockDelta("DeltaLink1", "DeltaLink2", List.of(newDeleted("NotesId")));
+        final AtomicReference<IndexedItem> lookupDuringSync = new AtomicReference<>();
+        when(mockIterator.hasNext()).thenAnswer(i -> {
+            // Looked up from another thread while the next page of changes is being fetched
+            final CompletableFuture<IndexedItem> lookup =
+                    CompletableFuture.supplyAsync(() -> indexUnderTest.getItem("NotesId"));
+            lookupDuringSync.set(lookup.get(5L, TimeUnit.SECONDS));
+            return false;
+        });
+
+        final int actual = indexUnderTest.sync();
+
+        assertAll(
+                () -> assertEquals(0, actual),
+                () -> assertEquals("NotesId", lookupDuringSync.get().getId()),
+                () -> assertEquals("DeltaLink2", indexUnderTest.getDeltaLink()),
+                () -> verify(mockIterator).close());
+    }
+
+    @SneakyThrows
+    @Test
+    public void sync_withFailureWhileEnumeratingChanges_shouldNotAdvanceDeltaLink() {
+        mockDelta(null, "DeltaLink1", newBootstrapItems());
+        indexUnderTest.sync();
+        final DriveItemIterator mockIterator = mockDelta("DeltaLink1", "DeltaLink2", List.of());
+        when(mockIterator.hasNext()).thenThrow(new RequestException("Exception"));
+
+        assertAll(
+                () -> assertThrows(RequestException.class, () -> indexUnderTest.sync()),
+                () -> assertEquals("DeltaLink1", indexUnderTest.getDeltaLink()),
+                () -> assertEquals(4, indexUnderTest.size()));
+    }
+
+    @SneakyThrows
+    @Test
+    public void rebuild_withExistingIndex_shouldEnumerateAllItemsAgain() {
+        mockDelta(null, "DeltaLink1", newBootstrapItems());
+        indexUnderTest.sync();
+        mockDelta(null, "DeltaLink1", newBootstrapItems());
+
+        final int actual = indexUnderTest.rebuild();
+
+        assertAll(
+                () -> assertEquals(4, actual),
+                () -> verify(mockDrive, times(2)).getDeltaIterator(isNull(), any(PagingOptions.class)));
+    }
+
+    ////////////////
+    // staleness
+    ////////////////
+
+    @SneakyThrows
+    @Test
+    public void isStale_withElapsedTime_shouldReportStaleness() {
+        assertTrue(indexUnderTest.isStale(Duration.ofMinutes(5)));
+        assertNull(indexUnderTest.getStaleness());
+
+        mockDelta(null, "DeltaLink1", newBootstrapItems());
+        indexUnderTest.sync();
+        when(mockClock.instant()).thenReturn(SYNC_TIME.plus(Duration.ofMinutes(10)));
+
+        assertAll(
+                () -> assertEquals(Duration.ofMinutes(10), indexUnderTest.getStaleness()),
+                () -> assertTrue(indexUnderTest.isStale(Duration.ofMinutes(5))),
+                () -> assertFalse(indexUnderTest.isStale(Duration.ofMinutes(15))));
+    }
+
+    ////////////////
+    // persistence
+    ////////////////
+
+    @SneakyThrows
+    @Test
+    public void open_withSavedIndex_shouldRestoreIndexWithoutNetwork() {
+        mockDelta(null, "DeltaLink1", newBootstrapItems());
+        indexUnderTest.sync();
+
+        final DriveIndex actual = DriveIndex.open(mockDrive, tempDir.resolve("drive.idx"));
+
+        assertAll(
+                () -> assertEquals(4, actual.size()),
+                () -> assertEquals("RootId", actual.getRoot().getId()),
+                () -> assertEquals(indexUnderTest.getItem("ReportId"), actual.getItem("ReportId")),
+                () -> assertEquals(List.of("ReportId"), actual.findByHash("Sha1Report").stream()
+                        .map(IndexedItem::getId)
+                        .collect(Collectors.toList())),
+                () -> assertEquals("DeltaLink1", actual.getDeltaLink()),
+                () -> assertEquals(SYNC_TIME, actual.getLastSyncTime()),
+                () -> assertFalse(Files.exists(tempDir.resolve("drive.idx.tmp"))));
+    }
+
+    @SneakyThrows
+    @Test
+    public void open_withNonExistentFile_shouldReturnEmptyIndex() {
+        final DriveIndex actual = DriveIndex.open(mockDrive, tempDir.resolve("missing.idx"));
+
+        assertAll(
+                () -> assertEquals(0, actual.size()),
+                () -> assertNull(actual.getRoot()),
+                () -> assertNull(actual.getDeltaLink()));
+    }
+
+    @SneakyThrows
+    @Test
+    public void open_withIndexOfAnotherDrive_shouldThrowException() {
+        mockDelta(null, "DeltaLink1", newBootstrapItems());
+        indexUnderTest.sync();
+        final Drive otherDrive = mock(Drive.class);
+        when(otherDrive.getId()).thenReturn("OtherDriveId");
+
+        assertThrows(DriveIndexException.class, () -> DriveIndex.open(otherDrive, tempDir.resolve("drive.idx")));
+    }
+
+    @SneakyThrows
+    @Test
+    public void open_withCorruptFile_shouldThrowException() {
+        final Path indexFilePath = tempDir.resolve("corrupt.idx");
+        Files.write(indexFilePath, new byte[] {1, 2});
+
+        final Throwable thrown =
+                assertThrows(DriveIndexException.class, () -> DriveIndex.open(mockDrive, indexFilePath));
+        assertInstanceOf(IOException.class, thrown.getCause());
+    }
+
+    @Test
+    public void save_withNoIndexFilePath_shouldThrowException() {
+        final DriveIndex inMemoryIndex = DriveIndex.builder().drive(mockDrive).build();
+
+        assertThrows(DriveIndexException.class, () -> inMemoryIndex.save());
+    }
+
+    private DriveItemIterator mockDelta(
+            final String deltaLink,
+            final String newDeltaLink,
+            final List<DriveItem> changes) {
+        final Iterator<DriveItem> iterator = changes.iterator();
+        final DriveItemIterator mockIterator = mock(DriveItemIterator.class);
+        lenient().when(mockIterator.hasNext()).thenAnswer(i -> iterator.hasNext());
+        lenient().when(mockIterator.next()).thenAnswer(i -> iterator.next());
+        lenient().when(mockIterator.getDeltaLink()).thenReturn(newDeltaLink);
+        when(mockDrive.getDeltaIterator(deltaLink == null ? isNull() : eq(deltaLink), any(PagingOptions.class)))
+                .thenReturn(mockIterator);
+        return mockIterator;
+    }
+
+    private List<String> getChildIds(final String parentId) {
+        return indexUnderTest.getChildren(parentId).stream()
+                .map(IndexedItem::getId)
+                .collect(Collectors.toList());
+    }
+
+    private static List<DriveItem> newBootstrapItems() {
+        return List.of(
+                DriveItem.builder()
+                        .id("RootId")
+                        .name("root")
+                        .root(new Object())
+                        .folder(Folder.builder().build())
+                        .build(),
+                // Children may be listed before their parent
+                newFile("ReportId", "report.docx", "DocsId", "Sha1Report"),
+                DriveItem.builder()
+                        .id("DocsId")
+                        .name("Documents")
+                        .parentReference(ItemReference.builder().id("RootId").build())
+                        .folder(Folder.builder().build())
+                        .build(),
+                newFile("NotesId", "notes.txt", "DocsId", "Sha1Notes"));
+    }
+
+    private static DriveItem newFile(final String id, final String name, final String parentId, final String sha1) {
+        return DriveItem.builder()
+                .id(id)
+                .name(name)
+                .parentReference(ItemReference.builder().id(parentId).build())
+                .size(10L)
+                .eTag(id + "ETag")
+                .file(File.builder()
+                        .hashes(Hashes.builder().sha1Hash(sha1).quickXorHash(id + "QuickXor").build())
+                        .build())
+                .build();
+    }
+
+    private static DriveItem newDeleted(final String id) {
+        return DriveItem.builder()
+                .id(id)
+                .deleted(Deleted.builder().build())
+                .build();
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.resource.delta;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class FileBasedDeltaTokenStoreTest {
+    private static final String DELTA_LINK = "https://graph.microsoft.com/v1.0/me/drive/root/delta?token=abc=";
+
+    @TempDir
+    private Path tempDir;
+
+    @SneakyThrows
+    @Test
+    public void store_withMultipleKeys_shouldPersistAllDeltaLinks() {
+        final Path stateFilePath = tempDir.resolve("delta.properties");
+        final FileBasedDeltaTokenStore storeUnderTest = new FileBasedDeltaTokenStore(stateFilePath);
+
+        storeUnderTest.store("DriveId", DELTA_LINK);
+        storeUnderTest.store("FolderId", "FolderDeltaLink");
+        storeUnderTest.store("FolderId", "UpdatedFolderDeltaLink");
+
+        final FileBasedDeltaTokenStore reloadedStore = new FileBasedDeltaTokenStore(stateFilePath);
+        assertAll(
+                () -> assertEquals(DELTA_LINK, reloadedStore.retrieve("DriveId")),
+                () -> assertEquals("UpdatedFolderDeltaLink", reloadedStore.retrieve("FolderId")),
+                () -> assertFalse(Files.exists(tempDir.resolve("delta.properties.tmp"))));
+    }
+
+    @SneakyThrows
+    @Test
+    public void retrieve_withNonExistentStateFile_shouldReturnNull() {
+        assertNull(new FileBasedDeltaTokenStore(tempDir.resolve("missing.properties")).retrieve("DriveId"));
+    }
+
+    @Test
+    public void store_withIOException_shouldThrowException() {
+        final FileBasedDeltaTokenStore storeUnderTest =
+                new FileBasedDeltaTokenStore(tempDir.resolve("missing").resolve("delta.properties"));
+
+        final Throwable thrown =
+                assertThrows(DeltaTokenStoreException.class, () -> storeUnderTest.store("DriveId", DELTA_LINK));
+        assertInstanceOf(IOException.class, thrown.getCause());
+    }
+
+    @Test
+    public void ctor_withNullPath_shouldThrowException() {
+        assertThrows(NullPointerException.class, () -> new FileBasedDeltaTokenStore(null));
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.resource.delta;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class InMemoryDeltaTokenStoreTest {
+    private final InMemoryDeltaTokenStore storeUnderTest = new InMemoryDeltaTokenStore();
+
+    @Test
+    public void store_withDeltaLink_shouldBeRetrievable() {
+        storeUnderTest.store("Key", "DeltaLink");
+
+        assertAll(
+                () -> assertEquals("DeltaLink", storeUnderTest.retrieve("Key")),
+                () -> assertNull(storeUnderTest.retrieve("OtherKey")));
+    }
+
+    @Test
+    public void store_withNullParameters_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(NullPointerException.class, () -> storeUnderTest.store(null, "DeltaLink")),
+                () -> assertThrows(NullPointerException.class, () -> storeUnderTest.store("Key", null)));
+    }
+}
@@ -24,9 +24,19 @@ import com.amilesend.onedrive.connection.OneDriveConnection;
 import com.amilesend.onedrive.parse.resource.parser.ListResponseBodyParser;
 import com.amilesend.onedrive.parse.resource.parser.SpecialDriveItemParser;
 import com.amilesend.onedrive.resource.activities.ItemActivity;
+import com.amilesend.onedrive.resource.delta.DeltaResult;
+import com.amilesend.onedrive.resource.delta.DeltaTokenStore;
+import com.amilesend.onedrive.resource.delta.DeltaTokenStoreException;
+import com.amilesend.onedrive.resource.delta.InMemoryDeltaTokenStore;
+import com.amilesend.onedrive.resource.item.BulkOperation;
+import com.amilesend.onedrive.resource.item.BulkOperationExecutor;
+import com.amilesend.onedrive.resource.item.BulkOperationOptions;
+import com.amilesend.onedrive.resource.item.BulkOperationReport;
 import com.amilesend.onedrive.resource.item.DriveItem;
+import com.amilesend.onedrive.resource.item.DriveItemIterator;
 import com.amilesend.onedrive.resource.item.DriveItemPage;
 import com.amilesend.onedrive.resource.item.DriveItemVersion;
+import com.amilesend.onedrive.resource.item.PagingOptions;
 import com.amilesend.onedrive.resource.item.SpecialDriveItem;
 import com.amilesend.onedrive.resource.item.type.SpecialFolder;
 import lombok.SneakyThrows;
@@ -39,6 +49,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static com.amilesend.onedrive.data.DriveTestDataHelper.newDrive;
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -47,9 +58,13 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -59,6 +74,8 @@ public class DriveTest {
     private static final String BASE_URL = "http://localhost/me";
     private static final String DRIVE_ID = "DriveIdValue";
     private static final String NEXT_LINK_URL = "http://localhost/NextPageUrl";
+    private static final String DELTA_LINK_URL = "http://localhost/me/drive/root/delta?token=NewToken";
+    private static final String PREVIOUS_DELTA_LINK_URL = "http://localhost/me/drive/root/delta?token=PreviousToken";
 
     @Mock
     private OneDriveConnection mockConnection;
@@ -112,6 +129,21 @@ public class DriveTest {
                 () -> assertEquals("GET", requestCaptor.getValue().method()));
     }
 
+    @Test
+    public void getRootFolder_withSelect_shouldRequestSelectedProperties() {
+        final DriveItem expected = mock(DriveItem.class);
+        when(mockConnection.execute(any(Request.class), any(GsonParser.class))).thenReturn(expected);
+
+        final DriveItem actual = driveUnderTest.getRootFolder(List.of("id", "name", "eTag"));
+
+        final ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        assertAll(
+                () -> assertEquals(expected, actual),
+                () -> verify(mockConnection).execute(requestCaptor.capture(), isA(BasicParser.class)),
+                () -> assertEquals("http://localhost/me/drive/root?$select=id,name,eTag",
+                        requestCaptor.getValue().url().toString()));
+    }
+
     @SneakyThrows
     @Test
     public void getChanges_shouldReturnDriveItemList() {
@@ -122,6 +154,138 @@ public class DriveTest {
         validatePaginatedDriveItemResponseBehavior(actual, "http://localhost/me/drive/root/delta");
     }
 
+    @Test
+    public void getChanges_withSelectOptions_shouldRequestSelectedProperties() {
+        final DriveItem expected = mock(DriveItem.class);
+        final DriveItemPage page = DriveItemPage.builder()
+                .value(List.of(expected))
+                .build();
+        when(mockConnection.execute(any(Request.class), any(GsonParser.class))).thenReturn(page);
+
+        final List<DriveItem> actual = driveUnderTest.getChanges(PagingOptions.builder()
+                .select(List.of("id", "name", "parentReference"))
+                .build());
+
+        final ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        assertAll(
+                () -> assertEquals(List.of(expected), actual),
+                () -> verify(mockConnection).execute(requestCaptor.capture(), isA(BasicParser.class)),
+                () -> assertEquals(
+                        "http://localhost/me/drive/root/delta?$select=id,name,parentReference,file,folder,package",
+                        requestCaptor.getValue().url().toString()));
+    }
+
+    @Test
+    public void getDelta_withNullDeltaLink_shouldEnumerateAllItems() {
+        final DriveItem first = mock(DriveItem.class);
+        final DriveItem second = mock(DriveItem.class);
+        setUpDeltaPages(first, second);
+
+        final DeltaResult<DriveItem> actual = driveUnderTest.getDelta(null, PagingOptions.builder()
+                .select(List.of("id", "deleted"))
+                .build());
+
+        final ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        assertAll(
+                () -> assertEquals(List.of(first, second), actual.getChanges()),
+                () -> assertEquals(DELTA_LINK_URL, actual.getDeltaLink()),
+                () -> verify(mockConnection, times(2)).execute(requestCaptor.capture(), isA(BasicParser.class)),
+                () -> assertEquals("http://localhost/me/drive/root/delta?$select=id,deleted,file,folder,package",
+                        requestCaptor.getAllValues().get(0).url().toString()),
+                () -> assertEquals(NEXT_LINK_URL, requestCaptor.getAllValues().get(1).url().toString()));
+    }
+
+    @Test
+    public void getDelta_withDeltaLink_shouldResumeFromDeltaLink() {
+        setUpDeltaPages(mock(DriveItem.class));
+
+        final DeltaResult<DriveItem> actual = driveUnderTest.getDelta(PREVIOUS_DELTA_LINK_URL, PagingOptions.builder()
+                .select(List.of("id"))
+                .build());
+
+        final ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        assertAll(
+                () -> assertEquals(1, actual.getChanges().size()),
+                () -> assertEquals(DELTA_LINK_URL, actual.getDeltaLink()),
+                () -> verify(mockConnection, times(2)).execute(requestCaptor.capture(), isA(BasicParser.class)),
+                () -> assertEquals(PREVIOUS_DELTA_LINK_URL, requestCaptor.getAllValues().get(0).url().toString()));
+    }
+
+    @Test
+    public void getDelta_withDeltaToken_shouldRequestDeltaToken() {
+        setUpDeltaPages(mock(DriveItem.class));
+
+        driveUnderTest.getDelta("TokenValue");
+
+        final ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        assertAll(
+                () -> verify(mockConnection, times(2)).execute(requestCaptor.capture(), isA(BasicParser.class)),
+                () -> assertEquals("http://localhost/me/drive/root/delta?token=TokenValue",
+                        requestCaptor.getAllValues().get(0).url().toString()));
+    }
+
+    @Test
+    public void getLatestDeltaLink_shouldRequestLatestToken() {
+        final DriveItemPage page = DriveItemPage.builder()
+                .deltaLink(DELTA_LINK_URL)
+                .build();
+        when(mockConnection.execute(any(Request.class), any(GsonParser.class))).thenReturn(page);
+
+        final String actual = driveUnderTest.getLatestDeltaLink();
+
+        final ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        assertAll(
+                () -> assertEquals(DELTA_LINK_URL, actual),
+                () -> verify(mockConnection).execute(requestCaptor.capture(), isA(BasicParser.class)),
+                () -> assertEquals("http://localhost/me/drive/root/delta?token=latest",
+                        requestCaptor.getValue().url().toString()));
+    }
+
+    @SneakyThrows
+    @Test
+    public void syncDelta_withStoredDeltaLink_shouldStoreNewDeltaLink() {
+        final DeltaTokenStore tokenStore = new InMemoryDeltaTokenStore();
+        tokenStore.store(DRIVE_ID, PREVIOUS_DELTA_LINK_URL);
+        final DriveItem expected = mock(DriveItem.class);
+        setUpDeltaPages(expected);
+
+        final DeltaResult<DriveItem> actual = driveUnderTest.syncDelta(tokenStore);
+
+        final ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        assertAll(
+                () -> assertEquals(List.of(expected), actual.getChanges()),
+                () -> assertEquals(DELTA_LINK_URL, tokenStore.retrieve(DRIVE_ID)),
+                () -> verify(mockConnection, times(2)).execute(requestCaptor.capture(), isA(BasicParser.class)),
+                () -> assertEquals(PREVIOUS_DELTA_LINK_URL, requestCaptor.getAllValues().get(0).url().toString()));
+    }
+
+    @SneakyThrows
+    @Test
+    public void syncDelta_withTokenStoreException_shouldThrowException() {
+        final DeltaTokenStore mockTokenStore = mock(DeltaTokenStore.class);
+        when(mockTokenStore.retrieve(DRIVE_ID)).thenThrow(new DeltaTokenStoreException("Exception"));
+
+        assertAll(
+                () -> assertThrows(DeltaTokenStoreException.class, () -> driveUnderTest.syncDelta(mockTokenStore)),
+                () -> verify(mockConnection, never()).execute(any(Request.class), any(GsonParser.class)));
+    }
+
+    @SneakyThrows
+    @Test
+    public void initializeDelta_shouldStoreLatestDeltaLink() {
+        final DeltaTokenStore tokenStore = new InMemoryDeltaTokenStore();
+        final DriveItemPage page = DriveItemPage.builder()
+                .deltaLink(DELTA_LINK_URL)
+                .build();
+        when(mockConnection.execute(any(Request.class), any(GsonParser.class))).thenReturn(page);
+
+        final String actual = driveUnderTest.initializeDelta(tokenStore);
+
+        assertAll(
+                () -> assertEquals(DELTA_LINK_URL, actual),
+                () -> assertEquals(DELTA_LINK_URL, tokenStore.retrieve(DRIVE_ID)));
+    }
+
     @SneakyThrows
     @Test
     public void search_withValidQuery_shouldReturnDriveItemList() {
@@ -140,6 +304,39 @@ public class DriveTest {
                 () -> assertThrows(IllegalArgumentException.class, () -> driveUnderTest.search(StringUtils.EMPTY)));
     }
 
+    @Test
+    public void streamChanges_shouldLazilyReturnDriveItems() {
+        final DriveItem first = mock(DriveItem.class);
+        final DriveItemPage firstPage = DriveItemPage.builder()
+                .value(List.of(first, mock(DriveItem.class)))
+                .nextLink(NEXT_LINK_URL)
+                .build();
+        when(mockConnection.execute(any(Request.class), any(GsonParser.class))).thenReturn(firstPage);
+
+        final List<DriveItem> actual = driveUnderTest.streamChanges().limit(1L).collect(Collectors.toList());
+
+        final ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        assertAll(
+                () -> assertEquals(List.of(first), actual),
+                () -> verify(mockConnection).execute(requestCaptor.capture(), isA(BasicParser.class)),
+                () -> assertEquals("http://localhost/me/drive/root/delta", requestCaptor.getValue().url().toString()));
+    }
+
+    @Test
+    public void getSearchIterator_withValidQuery_shouldStartFromSearchUrl() {
+        final DriveItemIterator actual = driveUnderTest.getSearchIterator("SearchQuery");
+
+        assertEquals("http://localhost/me/drive/root/search(q='SearchQuery')", actual.getNextLink());
+    }
+
+    @Test
+    public void getSearchIterator_withInvalidQuery_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(NullPointerException.class, () -> driveUnderTest.getSearchIterator(null)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> driveUnderTest.getSearchIterator(StringUtils.EMPTY)));
+    }
+
     @SneakyThrows
     @Test
     public void getSpecialFolder_withValidType_shouldReturnSpecialDriveItem() {
@@ -183,6 +380,40 @@ public class DriveTest {
                 });
     }
 
+    @Test
+    public void deleteItems_withItemIds_shouldExecuteBulkDeleteOperations() {
+        final Drive spyDrive = spy(driveUnderTest);
+        final BulkOperationExecutor mockExecutor = mock(BulkOperationExecutor.class);
+        final BulkOperationReport expected = mock(BulkOperationReport.class);
+        when(mockExecutor.execute()).thenReturn(expected);
+        doReturn(mockExecutor).when(spyDrive).newBulkOperationExecutor(anyList(), any(BulkOperationOptions.class));
+
+        final BulkOperationReport actual = spyDrive.deleteItems(List.of("ItemId1", "ItemId2"));
+
+        final ArgumentCaptor<List<BulkOperation>> operationsCaptor = ArgumentCaptor.forClass(List.class);
+        assertAll(
+                () -> assertEquals(expected, actual),
+                () -> verify(spyDrive)
+                        .newBulkOperationExecutor(operationsCaptor.capture(), isA(BulkOperationOptions.class)),
+                () -> assertEquals(2, operationsCaptor.getValue().size()),
+                () -> assertEquals("ItemId2", operationsCaptor.getValue().get(1).getItemId()),
+                () -> assertEquals(BASE_URL + "/drive/items/ItemId1",
+                        operationsCaptor.getValue().get(0).getRequest().url().toString()),
+                () -> assertEquals("DELETE", operationsCaptor.getValue().get(0).getRequest().method()));
+    }
+
+    private void setUpDeltaPages(final DriveItem first, final DriveItem... remaining) {
+        final DriveItemPage firstPage = DriveItemPage.builder()
+                .value(List.of(first))
+                .nextLink(NEXT_LINK_URL)
+                .build();
+        final DriveItemPage lastPage = DriveItemPage.builder()
+                .value(List.of(remaining))
+                .deltaLink(DELTA_LINK_URL)
+                .build();
+        when(mockConnection.execute(any(Request.class), any(GsonParser.class))).thenReturn(firstPage, lastPage);
+    }
+
     private void setUpPaginatedDriveItemResponseBehavior() {
         final List<DriveItem> mockDriveItemList = List.of(mock(DriveItem.class));
         final DriveItemPage mockPage = mock(DriveItemPage.class);
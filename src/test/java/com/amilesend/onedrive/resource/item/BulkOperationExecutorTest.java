@@ -0,0 +1,240 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.resource.item;
+
+import com.amilesend.client.connection.RequestException;
+import com.amilesend.client.connection.ThrottledException;
+import com.amilesend.onedrive.connection.OneDriveConnection;
+import com.amilesend.onedrive.connection.batch.BatchExecutor;
+import com.amilesend.onedrive.connection.batch.BatchRequest;
+import com.amilesend.onedrive.connection.batch.BatchResponse;
+import com.amilesend.onedrive.parse.GsonFactory;
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import okhttp3.Request;
+import okhttp3.Response;
+import okio.Buffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.amilesend.onedrive.parse.resource.parser.Parsers.BATCH_RESPONSE_PARSER;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class BulkOperationExecutorTest {
+    private static final String BASE_URL = "https://graph.microsoft.com/v1.0/me";
+
+    @Mock
+    private OneDriveConnection mockConnection;
+    /** The sequence of response codes to return for each item identifier (defaults to 204). */
+    private final Map<String, Deque<Integer>> responseCodesByItemId = new HashMap<>();
+    private int numBatchRequests;
+    private int numSingleRequests;
+
+    @BeforeEach
+    public void setUp() {
+        lenient().when(mockConnection.getBaseUrl()).thenReturn(BASE_URL);
+        lenient().when(mockConnection.newRequestBuilder()).thenAnswer(i -> new Request.Builder());
+        lenient().when(mockConnection.newWithBodyRequestBuilder()).thenAnswer(i -> new Request.Builder());
+        final GsonFactory mockGsonFactory = mock(GsonFactory.class);
+        lenient().when(mockGsonFactory.getInstance(any(OneDriveConnection.class))).thenReturn(new Gson());
+        lenient().when(mockConnection.getGsonFactory()).thenReturn(mockGsonFactory);
+        lenient().when(mockConnection.executeBatch(any(BatchRequest.class))).thenAnswer(i -> BatchExecutor.builder()
+                .connection(mockConnection)
+                .batchRequest(i.getArgument(0))
+                .build()
+                .execute());
+        lenient().when(mockConnection.execute(any(Request.class), eq(BATCH_RESPONSE_PARSER)))
+                .thenAnswer(i -> respond(i.getArgument(0)));
+        lenient().when(mockConnection.execute(any(Request.class))).thenAnswer(i -> respondSingle(i.getArgument(0)));
+    }
+
+    @Test
+    public void execute_withBatchedOperations_shouldReportEachItemInOrder() {
+        responseCodesByItemId.put("Item7", new ArrayDeque<>(List.of(404)));
+        final BulkOperationExecutor executorUnderTest = newExecutor(newDeleteOperations(25), defaultOptions());
+
+        final BulkOperationReport actual = executorUnderTest.execute();
+
+        assertAll(
+                () -> assertEquals(2, numBatchRequests),
+                () -> assertEquals(25, actual.getResults().size()),
+                () -> assertEquals("Item0", actual.getResults().get(0).getItemId()),
+                () -> assertEquals("Item24", actual.getResults().get(24).getItemId()),
+                () -> assertEquals(24, actual.getSucceededItemIds().size()),
+                () -> assertEquals(1, actual.getFailures().size()),
+                () -> assertEquals("Item7", actual.getFailures().get(0).getItemId()),
+                () -> assertInstanceOf(RequestException.class, actual.getFailures().get(0).getFailure()),
+                () -> assertFalse(actual.isSuccessful()));
+    }
+
+    @Test
+    public void execute_withThrottledOperation_shouldRetryAfterDelay() {
+        responseCodesByItemId.put("Item1", new ArrayDeque<>(List.of(429, 204)));
+        final BulkOperationExecutor executorUnderTest =
+                spy(newExecutor(newDeleteOperations(3), defaultOptions()));
+        doNothing().when(executorUnderTest).pause(anyLong());
+
+        final BulkOperationReport actual = executorUnderTest.execute();
+
+        assertAll(
+                () -> assertTrue(actual.isSuccessful()),
+                () -> assertEquals(1, numBatchRequests),
+                () -> assertEquals(1, numSingleRequests),
+                () -> verify(executorUnderTest).pause(3000L));
+    }
+
+    @Test
+    public void execute_withExhaustedThrottleRetries_shouldReportThrottledFailure() {
+        responseCodesByItemId.put("Item0", new ArrayDeque<>(List.of(429, 429, 429)));
+        final BulkOperationExecutor executorUnderTest = spy(newExecutor(
+                newDeleteOperations(2),
+                BulkOperationOptions.builder().maxThrottleRetries(2).build()));
+        doNothing().when(executorUnderTest).pause(anyLong());
+
+        final BulkOperationReport actual = executorUnderTest.execute();
+
+        assertAll(
+                () -> assertEquals(List.of("Item1"), actual.getSucceededItemIds()),
+                () -> assertInstanceOf(ThrottledException.class, actual.getFailures().get(0).getFailure()),
+                () -> verify(executorUnderTest, times(2)).pause(3000L));
+    }
+
+    @Test
+    public void execute_withBatchingDisabled_shouldSendIndividualRequests() {
+        responseCodesByItemId.put("Item1", new ArrayDeque<>(List.of(404)));
+        final BulkOperationExecutor executorUnderTest = newExecutor(
+                newDeleteOperations(3),
+                BulkOperationOptions.builder().isBatched(false).parallelism(1).build());
+
+        final BulkOperationReport actual = executorUnderTest.execute();
+
+        assertAll(
+                () -> assertEquals(List.of("Item0", "Item2"), actual.getSucceededItemIds()),
+                () -> assertEquals("Item1", actual.getFailures().get(0).getItemId()),
+                () -> verify(mockConnection, never()).executeBatch(any(BatchRequest.class)),
+                () -> assertEquals(3, numSingleRequests));
+    }
+
+    @Test
+    public void splitIntoChunks_withOperations_shouldGroupIndices() {
+        assertAll(
+                () -> assertEquals(List.of(List.of(0, 1), List.of(2)), BulkOperationExecutor.splitIntoChunks(3, 2)),
+                () -> assertEquals(List.of(), BulkOperationExecutor.splitIntoChunks(0, 2)));
+    }
+
+    @Test
+    public void operations_withMoveAndRename_shouldBuildPatchRequests() {
+        final Request move = BulkOperation.move(mockConnection, "Item 1", "FolderId").getRequest();
+        final Request rename = BulkOperation.rename(mockConnection, "Item2", "New.txt").getRequest();
+
+        assertAll(
+                () -> assertEquals(BASE_URL + "/drive/items/Item%201", move.url().toString()),
+                () -> assertEquals("PATCH", move.method()),
+                () -> assertEquals("FolderId", readBody(move)
+                        .getAsJsonObject().getAsJsonObject("parentReference").get("id").getAsString()),
+                () -> assertEquals("New.txt", readBody(rename).getAsJsonObject().get("name").getAsString()),
+                () -> assertEquals("DELETE", BulkOperation.delete(mockConnection, "Item3").getRequest().method()));
+    }
+
+    private BulkOperationExecutor newExecutor(
+            final List<BulkOperation> operations,
+            final BulkOperationOptions options) {
+        return BulkOperationExecutor.builder()
+                .connection(mockConnection)
+                .operations(operations)
+                .options(options)
+                .executor(Runnable::run)
+                .build();
+    }
+
+    private static BulkOperationOptions defaultOptions() {
+        return BulkOperationOptions.defaults();
+    }
+
+    private List<BulkOperation> newDeleteOperations(final int numOperations) {
+        return IntStream.range(0, numOperations)
+                .mapToObj(i -> BulkOperation.delete(mockConnection, "Item" + i))
+                .collect(Collectors.toList());
+    }
+
+    private BatchResponse respond(final Request batchRequest) throws Exception {
+        ++numBatchRequests;
+        final List<BatchResponse.Item> responses = new ArrayList<>();
+        for (final JsonElement request : readBody(batchRequest).getAsJsonObject().getAsJsonArray("requests")) {
+            final String url = request.getAsJsonObject().get("url").getAsString();
+            final String itemId = url.substring(url.lastIndexOf('/') + 1);
+            final Deque<Integer> codes = responseCodesByItemId.get(itemId);
+            final int status = codes == null || codes.isEmpty() ? 204 : codes.pop();
+            responses.add(BatchResponse.Item.builder()
+                    .id(request.getAsJsonObject().get("id").getAsString())
+                    .status(status)
+                    .headers(status == 429 ? Map.of("Retry-After", "3") : Map.of())
+                    .build());
+        }
+
+        return BatchResponse.builder().responses(responses).build();
+    }
+
+    private Response respondSingle(final Request request) {
+        ++numSingleRequests;
+        final String url = request.url().toString();
+        final Deque<Integer> codes = responseCodesByItemId.get(url.substring(url.lastIndexOf('/') + 1));
+        final int status = codes == null || codes.isEmpty() ? 204 : codes.pop();
+        if (status == 429) {
+            throw new ThrottledException("Throttled", 3L);
+        } else if (status >= 400) {
+            throw new RequestException("Failed with " + status);
+        }
+
+        return mock(Response.class);
+    }
+
+    private static JsonElement readBody(final Request request) throws Exception {
+        final Buffer buffer = new Buffer();
+        request.body().writeTo(buffer);
+        return JsonParser.parseString(buffer.readUtf8());
+    }
+}
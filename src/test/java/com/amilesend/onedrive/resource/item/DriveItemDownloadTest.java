@@ -18,11 +18,15 @@
 package com.amilesend.onedrive.resource.item;
 
 import com.amilesend.client.connection.file.TransferProgressCallback;
+import com.amilesend.onedrive.connection.file.SegmentedDownloadOptions;
 import lombok.SneakyThrows;
 import okhttp3.Request;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Path;
 import java.util.concurrent.CompletableFuture;
 
@@ -33,6 +37,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -119,4 +124,235 @@ public class DriveItemDownloadTest extends DriveItemTestBase {
                 () -> assertThrows(NullPointerException.class,
                         () -> driveItemUnderTest.downloadAsync(mockPath, null)));
     }
+
+    @Test
+    public void download_withSegmentedOptions_shouldInvokeConnection() {
+        doReturn("ETag").when(driveItemUnderTest).getETag();
+        final Path mockFolderPath = mock(Path.class);
+        final SegmentedDownloadOptions options = SegmentedDownloadOptions.defaults();
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        driveItemUnderTest.download(mockFolderPath, options, mockCallback);
+
+        verify(mockConnection).downloadSegmented(
+                eq("http://localhost/me/drive/items/DriveItemId/content"),
+                eq("ETag"),
+                eq(mockFolderPath),
+                eq(DRIVE_ITEM_NAME),
+                eq(DRIVE_ITEM_SIZE),
+                eq(options),
+                eq(mockCallback));
+    }
+
+    @SneakyThrows
+    @Test
+    public void downloadAsync_withSegmentedOptions_shouldReturnFuture() {
+        doReturn("ETag").when(driveItemUnderTest).getETag();
+        when(mockConnection.downloadSegmentedAsync(
+                anyString(),
+                anyString(),
+                any(Path.class),
+                anyString(),
+                anyLong(),
+                any(SegmentedDownloadOptions.class),
+                any(TransferProgressCallback.class)))
+                .thenReturn(CompletableFuture.completedFuture(DRIVE_ITEM_SIZE));
+        final Path mockFolderPath = mock(Path.class);
+        final SegmentedDownloadOptions options = SegmentedDownloadOptions.defaults();
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        final CompletableFuture<Long> actual = driveItemUnderTest.downloadAsync(mockFolderPath, options, mockCallback);
+
+        assertAll(
+                () -> assertEquals(DRIVE_ITEM_SIZE, actual.get()),
+                () -> verify(mockConnection).downloadSegmentedAsync(
+                        eq("http://localhost/me/drive/items/DriveItemId/content"),
+                        eq("ETag"),
+                        eq(mockFolderPath),
+                        eq(DRIVE_ITEM_NAME),
+                        eq(DRIVE_ITEM_SIZE),
+                        eq(options),
+                        eq(mockCallback)));
+    }
+
+    @Test
+    public void download_withSegmentedOptionsAndInvalidParameters_shouldThrowException() {
+        final Path mockPath = mock(Path.class);
+        final SegmentedDownloadOptions options = SegmentedDownloadOptions.defaults();
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        assertAll(
+                () -> assertThrows(NullPointerException.class,
+                        () -> driveItemUnderTest.download(null, options, mockCallback)),
+                () -> assertThrows(NullPointerException.class,
+                        () -> driveItemUnderTest.download(mockPath, null, mockCallback)),
+                () -> assertThrows(NullPointerException.class,
+                        () -> driveItemUnderTest.download(mockPath, options, null)),
+                () -> assertThrows(NullPointerException.class,
+                        () -> driveItemUnderTest.downloadAsync(mockPath, null, mockCallback)));
+    }
+
+    @Test
+    public void downloadResumable_withValidParameters_shouldInvokeConnection() {
+        doReturn("ETag").when(driveItemUnderTest).getETag();
+        doReturn("CTag").when(driveItemUnderTest).getCTag();
+        final Path mockFolderPath = mock(Path.class);
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        driveItemUnderTest.downloadResumable(mockFolderPath, mockCallback);
+
+        verify(mockConnection).downloadResumable(
+                eq("http://localhost/me/drive/items/DriveItemId/content"),
+                eq(DRIVE_ITEM_ID),
+                eq("ETag"),
+                eq("CTag"),
+                eq(mockFolderPath),
+                eq(DRIVE_ITEM_NAME),
+                eq(DRIVE_ITEM_SIZE),
+                eq(mockCallback));
+    }
+
+    @SneakyThrows
+    @Test
+    public void downloadResumableAsync_withValidParameters_shouldReturnFuture() {
+        doReturn("ETag").when(driveItemUnderTest).getETag();
+        doReturn("CTag").when(driveItemUnderTest).getCTag();
+        when(mockConnection.downloadResumableAsync(
+                anyString(),
+                anyString(),
+                anyString(),
+                anyString(),
+                any(Path.class),
+                anyString(),
+                anyLong(),
+                any(TransferProgressCallback.class)))
+                .thenReturn(CompletableFuture.completedFuture(DRIVE_ITEM_SIZE));
+        final Path mockFolderPath = mock(Path.class);
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        final CompletableFuture<Long> actual = driveItemUnderTest.downloadResumableAsync(mockFolderPath, mockCallback);
+
+        assertEquals(DRIVE_ITEM_SIZE, actual.get());
+    }
+
+    @Test
+    public void downloadResumable_withInvalidParameters_shouldThrowException() {
+        final Path mockPath = mock(Path.class);
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        assertAll(
+                () -> assertThrows(NullPointerException.class,
+                        () -> driveItemUnderTest.downloadResumable(null, mockCallback)),
+                () -> assertThrows(NullPointerException.class,
+                        () -> driveItemUnderTest.downloadResumable(mockPath, null)),
+                () -> assertThrows(NullPointerException.class,
+                        () -> driveItemUnderTest.downloadResumableAsync(null, mockCallback)),
+                () -> assertThrows(NullPointerException.class,
+                        () -> driveItemUnderTest.downloadResumableAsync(mockPath, null)));
+    }
+
+    @Test
+    public void downloadTo_withChannel_shouldInvokeConnection() {
+        when(mockConnection.downloadTo(
+                any(Request.class),
+                any(WritableByteChannel.class),
+                anyLong(),
+                any(TransferProgressCallback.class)))
+                .thenReturn(DRIVE_ITEM_SIZE);
+        final WritableByteChannel mockChannel = mock(WritableByteChannel.class);
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        final long actual = driveItemUnderTest.downloadTo(mockChannel, mockCallback);
+
+        final ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        assertAll(
+                () -> assertEquals(DRIVE_ITEM_SIZE, actual),
+                () -> verify(mockConnection).downloadTo(
+                        requestCaptor.capture(),
+                        eq(mockChannel),
+                        eq(DRIVE_ITEM_SIZE),
+                        eq(mockCallback)),
+                () -> assertEquals("http://localhost/me/drive/items/DriveItemId/content",
+                        requestCaptor.getValue().url().toString()));
+    }
+
+    @Test
+    public void downloadTo_withOutputStream_shouldInvokeConnection() {
+        final OutputStream mockOutputStream = mock(OutputStream.class);
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        driveItemUnderTest.downloadTo(mockOutputStream, mockCallback);
+
+        verify(mockConnection).downloadTo(
+                any(Request.class),
+                eq(mockOutputStream),
+                eq(DRIVE_ITEM_SIZE),
+                eq(mockCallback));
+    }
+
+    @SneakyThrows
+    @Test
+    public void downloadToAsync_withChannelAndOutputStream_shouldReturnBytesDownloaded() {
+        when(mockConnection.downloadToAsync(
+                any(Request.class),
+                any(WritableByteChannel.class),
+                anyLong(),
+                any(TransferProgressCallback.class)))
+                .thenReturn(CompletableFuture.completedFuture(DRIVE_ITEM_SIZE));
+        when(mockConnection.downloadToAsync(
+                any(Request.class),
+                any(OutputStream.class),
+                anyLong(),
+                any(TransferProgressCallback.class)))
+                .thenReturn(CompletableFuture.completedFuture(DRIVE_ITEM_SIZE));
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        final CompletableFuture<Long> channelActual =
+                driveItemUnderTest.downloadToAsync(mock(WritableByteChannel.class), mockCallback);
+        final CompletableFuture<Long> streamActual =
+                driveItemUnderTest.downloadToAsync(mock(OutputStream.class), mockCallback);
+
+        assertAll(
+                () -> assertEquals(DRIVE_ITEM_SIZE, channelActual.get()),
+                () -> assertEquals(DRIVE_ITEM_SIZE, streamActual.get()));
+    }
+
+    @Test
+    public void openContentStream_withCallback_shouldReturnStream() {
+        final InputStream mockInputStream = mock(InputStream.class);
+        when(mockConnection.openDownloadStream(any(Request.class), anyLong(), any(TransferProgressCallback.class)))
+                .thenReturn(mockInputStream);
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        final InputStream actual = driveItemUnderTest.openContentStream(mockCallback);
+
+        final ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        assertAll(
+                () -> assertEquals(mockInputStream, actual),
+                () -> verify(mockConnection).openDownloadStream(
+                        requestCaptor.capture(),
+                        eq(DRIVE_ITEM_SIZE),
+                        eq(mockCallback)),
+                () -> assertEquals("http://localhost/me/drive/items/DriveItemId/content",
+                        requestCaptor.getValue().url().toString()));
+    }
+
+    @Test
+    public void downloadTo_withInvalidParameters_shouldThrowException() {
+        final WritableByteChannel mockChannel = mock(WritableByteChannel.class);
+        final OutputStream mockOutputStream = mock(OutputStream.class);
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        assertAll(
+                () -> assertThrows(NullPointerException.class,
+                        () -> driveItemUnderTest.downloadTo((WritableByteChannel) null, mockCallback)),
+                () -> assertThrows(NullPointerException.class,
+                        () -> driveItemUnderTest.downloadTo(mockChannel, null)),
+                () -> assertThrows(NullPointerException.class,
+                        () -> driveItemUnderTest.downloadTo((OutputStream) null, mockCallback)),
+                () -> assertThrows(NullPointerException.class,
+                        () -> driveItemUnderTest.downloadToAsync(mockOutputStream, null)),
+                () -> assertThrows(NullPointerException.class,
+                        () -> driveItemUnderTest.openContentStream(null)));
+    }
 }
@@ -0,0 +1,246 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.resource.item;
+
+import com.amilesend.client.connection.RequestException;
+import com.amilesend.client.parse.parser.BasicParser;
+import com.amilesend.client.parse.parser.GsonParser;
+import com.amilesend.onedrive.connection.OneDriveConnection;
+import okhttp3.Request;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class DriveItemIteratorTest {
+    private static final String FIRST_PAGE_URL = "http://localhost/me/drive/root/children";
+    private static final String NEXT_LINK_URL = "http://localhost/NextPageUrl";
+    private static final String DELTA_LINK_URL = "http://localhost/DeltaLinkUrl";
+
+    @Mock
+    private OneDriveConnection mockConnection;
+    private DriveItemIterator iteratorUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        lenient().when(mockConnection.newRequestBuilder()).thenAnswer(invocation -> new Request.Builder());
+        iteratorUnderTest = DriveItemIterator.builder()
+                .connection(mockConnection)
+                .url(FIRST_PAGE_URL)
+                .build();
+    }
+
+    @Test
+    public void stream_withMultiplePages_shouldReturnAllItems() {
+        final DriveItem first = mock(DriveItem.class);
+        final DriveItem second = mock(DriveItem.class);
+        final DriveItem third = mock(DriveItem.class);
+        final DriveItemPage firstPage = newPage(List.of(first, second), NEXT_LINK_URL, null);
+        final DriveItemPage lastPage = newPage(List.of(third), null, DELTA_LINK_URL);
+        when(mockConnection.execute(any(Request.class), any(GsonParser.class))).thenReturn(firstPage, lastPage);
+
+        final List<DriveItem> actual = iteratorUnderTest.stream().collect(Collectors.toList());
+
+        final ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        assertAll(
+                () -> assertEquals(List.of(first, second, third), actual),
+                () -> verify(mockConnection, times(2)).execute(requestCaptor.capture(), isA(BasicParser.class)),
+                () -> assertEquals(FIRST_PAGE_URL, requestCaptor.getAllValues().get(0).url().toString()),
+                () -> assertEquals("GET", requestCaptor.getAllValues().get(0).method()),
+                () -> assertEquals(NEXT_LINK_URL, requestCaptor.getAllValues().get(1).url().toString()),
+                () -> assertNull(iteratorUnderTest.getNextLink()),
+                () -> assertEquals(DELTA_LINK_URL, iteratorUnderTest.getDeltaLink()),
+                () -> assertFalse(iteratorUnderTest.hasNext()));
+    }
+
+    @Test
+    public void stream_withEarlyTermination_shouldNotFetchRemainingPages() {
+        final DriveItem first = mock(DriveItem.class);
+        final DriveItemPage firstPage = newPage(List.of(first, mock(DriveItem.class)), NEXT_LINK_URL, null);
+        when(mockConnection.execute(any(Request.class), any(GsonParser.class))).thenReturn(firstPage);
+
+        final Optional<DriveItem> actual = iteratorUnderTest.stream().findFirst();
+
+        assertAll(
+                () -> assertEquals(first, actual.get()),
+                () -> verify(mockConnection, times(1)).execute(any(Request.class), any(GsonParser.class)),
+                () -> assertEquals(NEXT_LINK_URL, iteratorUnderTest.getNextLink()),
+                () -> assertNull(iteratorUnderTest.getDeltaLink()));
+    }
+
+    @Test
+    public void hasNext_withEmptyIntermediatePage_shouldFetchFollowingPage() {
+        final DriveItem expected = mock(DriveItem.class);
+        final DriveItemPage emptyPage = newPage(Collections.emptyList(), NEXT_LINK_URL, null);
+        final DriveItemPage lastPage = newPage(List.of(expected), null, null);
+        when(mockConnection.execute(any(Request.class), any(GsonParser.class))).thenReturn(emptyPage, lastPage);
+
+        assertAll(
+                () -> assertTrue(iteratorUnderTest.hasNext()),
+                () -> assertEquals(expected, iteratorUnderTest.next()),
+                () -> assertFalse(iteratorUnderTest.hasNext()),
+                () -> assertThrows(NoSuchElementException.class, () -> iteratorUnderTest.next()));
+    }
+
+    @Test
+    public void builder_withoutConsumption_shouldNotFetchPages() {
+        assertAll(
+                () -> assertEquals(FIRST_PAGE_URL, iteratorUnderTest.getNextLink()),
+                () -> verify(mockConnection, never()).execute(any(Request.class), any(GsonParser.class)));
+    }
+
+    @Test
+    public void hasNext_withRequestException_shouldThrowException() {
+        when(mockConnection.execute(any(Request.class), any(GsonParser.class)))
+                .thenThrow(new RequestException("Exception"));
+
+        assertAll(
+                () -> assertThrows(RequestException.class, () -> iteratorUnderTest.hasNext()),
+                () -> assertEquals(FIRST_PAGE_URL, iteratorUnderTest.getNextLink()));
+    }
+
+    @Test
+    public void builder_withInvalidParameters_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(NullPointerException.class, () -> DriveItemIterator.builder()
+                        .url(FIRST_PAGE_URL)
+                        .build()),
+                () -> assertThrows(IllegalArgumentException.class, () -> DriveItemIterator.builder()
+                        .connection(mockConnection)
+                        .url(" ")
+                        .build()));
+    }
+
+    @Test
+    public void stream_withPrefetch_shouldReturnAllItemsInOrder() {
+        final DriveItem first = mock(DriveItem.class);
+        final DriveItem second = mock(DriveItem.class);
+        final DriveItem third = mock(DriveItem.class);
+        final DriveItemPage firstPage = newPage(List.of(first), NEXT_LINK_URL, null);
+        final DriveItemPage secondPage = newPage(List.of(second), NEXT_LINK_URL + "2", null);
+        final DriveItemPage lastPage = newPage(List.of(third), null, DELTA_LINK_URL);
+        when(mockConnection.execute(any(Request.class), any(GsonParser.class)))
+                .thenReturn(firstPage, secondPage, lastPage);
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        when(mockConnection.getThreadPool()).thenReturn(executor);
+
+        try {
+            final DriveItemIterator prefetchingIterator = newPrefetchingIterator(2);
+            final List<DriveItem> actual = prefetchingIterator.stream().collect(Collectors.toList());
+
+            final ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+            assertAll(
+                    () -> assertEquals(List.of(first, second, third), actual),
+                    () -> verify(mockConnection, times(3)).execute(requestCaptor.capture(), isA(BasicParser.class)),
+                    () -> assertEquals(FIRST_PAGE_URL, requestCaptor.getAllValues().get(0).url().toString()),
+                    () -> assertEquals(NEXT_LINK_URL, requestCaptor.getAllValues().get(1).url().toString()),
+                    () -> assertEquals(NEXT_LINK_URL + "2", requestCaptor.getAllValues().get(2).url().toString()),
+                    () -> assertNull(prefetchingIterator.getNextLink()),
+                    () -> assertEquals(DELTA_LINK_URL, prefetchingIterator.getDeltaLink()));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void hasNext_withPrefetch_shouldFetchBoundedNumberOfPagesAhead() {
+        final DriveItem first = mock(DriveItem.class);
+        final DriveItemPage firstPage = newPage(List.of(first), NEXT_LINK_URL, null);
+        final DriveItemPage secondPage = newPage(List.of(mock(DriveItem.class)), NEXT_LINK_URL + "2", null);
+        when(mockConnection.execute(any(Request.class), any(GsonParser.class))).thenReturn(firstPage, secondPage);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        when(mockConnection.getThreadPool()).thenReturn(executor);
+
+        try {
+            final DriveItemIterator prefetchingIterator = newPrefetchingIterator(1);
+
+            assertAll(
+                    () -> assertTrue(prefetchingIterator.hasNext()),
+                    () -> assertEquals(first, prefetchingIterator.next()),
+                    () -> verify(mockConnection, after(200L).times(2))
+                            .execute(any(Request.class), any(GsonParser.class)),
+                    () -> assertEquals(NEXT_LINK_URL, prefetchingIterator.getNextLink()));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void hasNext_withPrefetchAndRequestException_shouldThrowException() {
+        when(mockConnection.execute(any(Request.class), any(GsonParser.class)))
+                .thenThrow(new RequestException("Exception"));
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        when(mockConnection.getThreadPool()).thenReturn(executor);
+
+        try {
+            final DriveItemIterator prefetchingIterator = newPrefetchingIterator(1);
+
+            assertAll(
+                    () -> assertThrows(RequestException.class, () -> prefetchingIterator.hasNext()),
+                    () -> assertEquals(FIRST_PAGE_URL, prefetchingIterator.getNextLink()));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private DriveItemIterator newPrefetchingIterator(final int prefetchPages) {
+        return DriveItemIterator.builder()
+                .connection(mockConnection)
+                .url(FIRST_PAGE_URL)
+                .options(PagingOptions.builder().prefetchPages(prefetchPages).build())
+                .build();
+    }
+
+    private static DriveItemPage newPage(
+            final List<DriveItem> value,
+            final String nextLink,
+            final String deltaLink) {
+        return DriveItemPage.builder()
+                .value(value)
+                .nextLink(nextLink)
+                .deltaLink(deltaLink)
+                .build();
+    }
+}
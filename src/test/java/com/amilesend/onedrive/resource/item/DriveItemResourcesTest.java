@@ -28,6 +28,9 @@ import com.amilesend.onedrive.parse.resource.parser.PermissionListParser;
 import com.amilesend.onedrive.parse.resource.parser.PermissionParser;
 import com.amilesend.onedrive.parse.resource.parser.PreviewParser;
 import com.amilesend.onedrive.resource.activities.ItemActivity;
+import com.amilesend.onedrive.resource.delta.DeltaResult;
+import com.amilesend.onedrive.resource.delta.DeltaTokenStore;
+import com.amilesend.onedrive.resource.delta.InMemoryDeltaTokenStore;
 import com.amilesend.onedrive.resource.item.type.Permission;
 import com.amilesend.onedrive.resource.item.type.Preview;
 import com.amilesend.onedrive.resource.item.type.ThumbnailSet;
@@ -35,6 +38,7 @@ import com.amilesend.onedrive.resource.request.AddPermissionRequest;
 import com.amilesend.onedrive.resource.request.CreateSharingLinkRequest;
 import com.amilesend.onedrive.resource.request.PreviewRequest;
 import com.google.gson.Gson;
+import lombok.SneakyThrows;
 import okhttp3.Request;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -42,6 +46,9 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
 
 import static com.amilesend.onedrive.connection.OneDriveConnection.JSON_MEDIA_TYPE;
 import static com.amilesend.onedrive.data.DriveTestDataHelper.newRandomString;
@@ -51,6 +58,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -58,6 +66,9 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 public class DriveItemResourcesTest extends DriveItemTestBase {
     private static final String NEXT_LINK_URL = "http://localhost/NextPageUrl";
+    private static final String DELTA_LINK_URL = "http://localhost/me/drive/items/DriveItemId/delta?token=NewToken";
+    private static final String PREVIOUS_DELTA_LINK_URL =
+            "http://localhost/me/drive/items/DriveItemId/delta?token=PreviousToken";
     private static final int INVALID_QUERY_LENGTH = 1001;
 
     ///////////////////
@@ -93,6 +104,65 @@ public class DriveItemResourcesTest extends DriveItemTestBase {
         validatePaginatedDriveItemResponseBehavior(actual, "http://localhost/me/drive/items/DriveItemId/children");
     }
 
+    @Test
+    public void streamChildren_shouldLazilyReturnDriveItems() {
+        setUpPaginatedDriveItemPages();
+
+        final List<DriveItem> actual = driveItemUnderTest.streamChildren().collect(Collectors.toList());
+
+        validatePaginatedDriveItemResponseBehavior(actual, "http://localhost/me/drive/items/DriveItemId/children");
+    }
+
+    @Test
+    public void search_withPageSizeOptions_shouldRequestPageSize() {
+        setUpPaginatedDriveItemPages();
+
+        final List<DriveItem> actual = driveItemUnderTest.search("SearchQuery", PagingOptions.builder()
+                .pageSize(200)
+                .build());
+
+        validatePaginatedDriveItemResponseBehavior(actual,
+                "http://localhost/me/drive/items/DriveItemId/search(q='SearchQuery')?$top=200");
+    }
+
+    @Test
+    public void getChildren_withSelectOptions_shouldRequestSelectedProperties() {
+        setUpPaginatedDriveItemPages();
+
+        final List<DriveItem> actual = driveItemUnderTest.getChildren(PagingOptions.builder()
+                .select(List.of("id", "name", "size", "file"))
+                .build());
+
+        validatePaginatedDriveItemResponseBehavior(actual,
+                "http://localhost/me/drive/items/DriveItemId/children?$select=id,name,size,file,folder,package");
+    }
+
+    @Test
+    public void streamChildren_withPrefetchOptions_shouldLazilyReturnDriveItems() {
+        setUpPaginatedDriveItemPages();
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        when(mockConnection.getThreadPool()).thenReturn(executor);
+
+        try {
+            final List<DriveItem> actual = driveItemUnderTest
+                    .streamChildren(PagingOptions.builder().prefetchPages(1).build())
+                    .collect(Collectors.toList());
+
+            validatePaginatedDriveItemResponseBehavior(actual, "http://localhost/me/drive/items/DriveItemId/children");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void getChildrenIterator_shouldNotFetchUntilConsumed() {
+        final DriveItemIterator actual = driveItemUnderTest.getChildrenIterator();
+
+        assertAll(
+                () -> assertEquals("http://localhost/me/drive/items/DriveItemId/children", actual.getNextLink()),
+                () -> verify(mockConnection, never()).execute(any(Request.class), any(GsonParser.class)));
+    }
+
     ///////////////////
     // getVersions
     ///////////////////
@@ -269,6 +339,124 @@ public class DriveItemResourcesTest extends DriveItemTestBase {
                         () -> driveItemUnderTest.search(newRandomString(INVALID_QUERY_LENGTH))));
     }
 
+    @Test
+    public void streamSearch_shouldLazilyReturnDriveItems() {
+        setUpPaginatedDriveItemPages();
+
+        final List<DriveItem> actual = driveItemUnderTest.streamSearch("SearchQuery").collect(Collectors.toList());
+
+        validatePaginatedDriveItemResponseBehavior(actual,
+                "http://localhost/me/drive/items/DriveItemId/search(q='SearchQuery')");
+    }
+
+    @Test
+    public void getSearchIterator_withInvalidParameters_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(NullPointerException.class, () -> driveItemUnderTest.getSearchIterator(null)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> driveItemUnderTest.getSearchIterator(StringUtils.EMPTY)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> driveItemUnderTest.getSearchIterator(newRandomString(INVALID_QUERY_LENGTH))));
+    }
+
+    ///////////////////
+    // delta
+    ///////////////////
+
+    @Test
+    public void getDelta_withNullDeltaLink_shouldEnumerateFolderItems() {
+        setUpDeltaPages();
+
+        final DeltaResult<DriveItem> actual = driveItemUnderTest.getDelta(null, PagingOptions.builder()
+                .select(List.of("id", "deleted"))
+                .build());
+
+        assertAll(
+                () -> assertEquals(DELTA_LINK_URL, actual.getDeltaLink()),
+                () -> validatePaginatedDriveItemResponseBehavior(actual.getChanges(),
+                        "http://localhost/me/drive/items/DriveItemId/delta?$select=id,deleted,file,folder,package"));
+    }
+
+    @Test
+    public void getDelta_withDeltaLink_shouldResumeFromDeltaLinkWithoutQueryParameters() {
+        setUpDeltaPages();
+
+        final DeltaResult<DriveItem> actual = driveItemUnderTest.getDelta(PREVIOUS_DELTA_LINK_URL,
+                PagingOptions.builder().pageSize(10).build());
+
+        assertAll(
+                () -> assertEquals(DELTA_LINK_URL, actual.getDeltaLink()),
+                () -> validatePaginatedDriveItemResponseBehavior(actual.getChanges(), PREVIOUS_DELTA_LINK_URL));
+    }
+
+    @Test
+    public void getLatestDeltaLink_shouldRequestLatestToken() {
+        final DriveItemPage page = DriveItemPage.builder()
+                .deltaLink(DELTA_LINK_URL)
+                .build();
+        when(mockConnection.execute(any(Request.class), any(GsonParser.class))).thenReturn(page);
+
+        final String actual = driveItemUnderTest.getLatestDeltaLink();
+
+        final ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        assertAll(
+                () -> assertEquals(DELTA_LINK_URL, actual),
+                () -> verify(mockConnection).execute(requestCaptor.capture(), isA(BasicParser.class)),
+                () -> assertEquals("http://localhost/me/drive/items/DriveItemId/delta?token=latest",
+                        requestCaptor.getValue().url().toString()));
+    }
+
+    @SneakyThrows
+    @Test
+    public void syncDelta_withStoredDeltaLink_shouldStoreNewDeltaLink() {
+        final DeltaTokenStore tokenStore = new InMemoryDeltaTokenStore();
+        tokenStore.store("DriveItemId", PREVIOUS_DELTA_LINK_URL);
+        setUpDeltaPages();
+
+        final DeltaResult<DriveItem> actual = driveItemUnderTest.syncDelta(tokenStore);
+
+        assertAll(
+                () -> assertEquals(DELTA_LINK_URL, tokenStore.retrieve("DriveItemId")),
+                () -> validatePaginatedDriveItemResponseBehavior(actual.getChanges(), PREVIOUS_DELTA_LINK_URL));
+    }
+
+    @SneakyThrows
+    @Test
+    public void initializeDelta_shouldStoreLatestDeltaLink() {
+        final DeltaTokenStore tokenStore = new InMemoryDeltaTokenStore();
+        final DriveItemPage page = DriveItemPage.builder()
+                .deltaLink(DELTA_LINK_URL)
+                .build();
+        when(mockConnection.execute(any(Request.class), any(GsonParser.class))).thenReturn(page);
+
+        assertAll(
+                () -> assertEquals(DELTA_LINK_URL, driveItemUnderTest.initializeDelta(tokenStore)),
+                () -> assertEquals(DELTA_LINK_URL, tokenStore.retrieve("DriveItemId")));
+    }
+
+    private void setUpDeltaPages() {
+        final DriveItemPage firstPage = DriveItemPage.builder()
+                .value(List.of(mock(DriveItem.class)))
+                .nextLink(NEXT_LINK_URL)
+                .build();
+        final DriveItemPage lastPage = DriveItemPage.builder()
+                .value(List.of(mock(DriveItem.class)))
+                .deltaLink(DELTA_LINK_URL)
+                .build();
+        when(mockConnection.execute(any(Request.class), any(GsonParser.class))).thenReturn(firstPage, lastPage);
+    }
+
+    private void setUpPaginatedDriveItemPages() {
+        final DriveItemPage firstPage = DriveItemPage.builder()
+                .value(List.of(mock(DriveItem.class)))
+                .nextLink(NEXT_LINK_URL)
+                .build();
+        final DriveItemPage lastPage = DriveItemPage.builder()
+                .value(List.of(mock(DriveItem.class)))
+                .build();
+        when(mockConnection.execute(any(Request.class), any(GsonParser.class))).thenReturn(firstPage, lastPage);
+    }
+
     private void setUpPaginatedDriveItemResponseBehavior() {
         final List<DriveItem> mockDriveItemList = List.of(mock(DriveItem.class));
         final DriveItemPage mockPage = mock(DriveItemPage.class);
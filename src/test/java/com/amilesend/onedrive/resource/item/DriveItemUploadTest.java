@@ -21,27 +21,44 @@ import com.amilesend.client.connection.file.ProgressReportingRequestBody;
 import com.amilesend.client.connection.file.TransferProgressCallback;
 import com.amilesend.client.parse.parser.BasicParser;
 import com.amilesend.client.parse.parser.GsonParser;
+import com.amilesend.onedrive.connection.file.ChannelRequestBody;
+import com.amilesend.onedrive.connection.file.journal.UploadSessionJournal;
+import com.amilesend.onedrive.resource.item.type.UploadSession;
+import com.amilesend.onedrive.resource.request.CreateUploadSessionRequest;
 import lombok.SneakyThrows;
 import okhttp3.MediaType;
 import okhttp3.Request;
+import okio.Buffer;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.MockedStatic;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.file.Path;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
 
 import static com.amilesend.client.connection.Connection.Headers.CONTENT_TYPE;
+import static com.amilesend.onedrive.connection.file.StreamingUploader.UNKNOWN_SIZE_BYTES;
 import static com.amilesend.onedrive.resource.DriveFileTest.newMockFilePath;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -270,6 +287,382 @@ public class DriveItemUploadTest extends DriveItemTestBase {
                         () -> driveItemUnderTest.uploadNewAsync(mock(Path.class), null)));
     }
 
+    // uploadResumable
+
+    @Test
+    public void uploadResumable_withValidFileAndCallback_shouldReturnDriveItem() {
+        final UploadSession session = UploadSession.builder().uploadUrl("https://localhost/upload").build();
+        final DriveItem expected = mock(DriveItem.class);
+        when(mockGson.toJson(any(CreateUploadSessionRequest.class))).thenReturn("{}");
+        when(mockConnection.execute(any(Request.class), any(GsonParser.class))).thenReturn(session);
+        when(mockConnection.upload(
+                any(UploadSession.class),
+                any(Path.class),
+                any(TransferProgressCallback.class),
+                any(GsonParser.class)))
+                .thenReturn(expected);
+        final Path mockFilePath = newMockFilePath();
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        final DriveItem actual = driveItemUnderTest.uploadResumable(mockFilePath, mockCallback);
+
+        final ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        final ArgumentCaptor<CreateUploadSessionRequest> sessionRequestCaptor =
+                ArgumentCaptor.forClass(CreateUploadSessionRequest.class);
+        assertAll(
+                () -> assertEquals(expected, actual),
+                () -> verify(mockConnection).execute(requestCaptor.capture(), isA(BasicParser.class)),
+                () -> assertEquals("http://localhost/me/drive/items/DriveItemId/createUploadSession",
+                        requestCaptor.getValue().url().toString()),
+                () -> assertEquals("POST", requestCaptor.getValue().method()),
+                () -> verify(mockGson).toJson(sessionRequestCaptor.capture()),
+                () -> assertEquals("replace", sessionRequestCaptor.getValue().getItem().getConflictBehavior()),
+                () -> assertNull(sessionRequestCaptor.getValue().getItem().getName()),
+                () -> verify(mockConnection).upload(
+                        eq(session), eq(mockFilePath), eq(mockCallback), isA(BasicParser.class)));
+    }
+
+    @Test
+    public void uploadResumable_withInvalidParameters_shouldThrowException() {
+        final Path mockFilePath = newMockFilePath();
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        assertAll(
+                () -> assertThrows(NullPointerException.class,
+                        () -> driveItemUnderTest.uploadResumable(null, mockCallback)),
+                () -> assertThrows(NullPointerException.class,
+                        () -> driveItemUnderTest.uploadResumable(mockFilePath, null)));
+    }
+
+    @SneakyThrows
+    @Test
+    public void uploadResumableAsync_withValidFileAndCallback_shouldReturnFuture() {
+        final UploadSession session = UploadSession.builder().uploadUrl("https://localhost/upload").build();
+        final DriveItem expected = mock(DriveItem.class);
+        when(mockGson.toJson(any(CreateUploadSessionRequest.class))).thenReturn("{}");
+        when(mockConnection.executeAsync(any(Request.class), any(GsonParser.class)))
+                .thenReturn(CompletableFuture.completedFuture(session));
+        when(mockConnection.uploadAsync(
+                any(UploadSession.class),
+                any(Path.class),
+                any(TransferProgressCallback.class),
+                any(GsonParser.class)))
+                .thenReturn(CompletableFuture.completedFuture(expected));
+        final Path mockFilePath = newMockFilePath();
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        final CompletableFuture<DriveItem> actual = driveItemUnderTest.uploadResumableAsync(mockFilePath, mockCallback);
+
+        final ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        assertAll(
+                () -> assertEquals(expected, actual.get()),
+                () -> verify(mockConnection).executeAsync(requestCaptor.capture(), isA(BasicParser.class)),
+                () -> assertEquals("http://localhost/me/drive/items/DriveItemId/createUploadSession",
+                        requestCaptor.getValue().url().toString()),
+                () -> assertEquals("POST", requestCaptor.getValue().method()),
+                () -> verify(mockConnection).uploadAsync(
+                        eq(session), eq(mockFilePath), eq(mockCallback), isA(BasicParser.class)));
+    }
+
+    @Test
+    public void uploadNewResumable_withValidFileAndCallback_shouldReturnDriveItem() {
+        final UploadSession session = UploadSession.builder().uploadUrl("https://localhost/upload").build();
+        final DriveItem expected = mock(DriveItem.class);
+        when(mockGson.toJson(any(CreateUploadSessionRequest.class))).thenReturn("{}");
+        when(mockConnection.execute(any(Request.class), any(GsonParser.class))).thenReturn(session);
+        when(mockConnection.upload(
+                any(UploadSession.class),
+                any(Path.class),
+                any(TransferProgressCallback.class),
+                any(GsonParser.class)))
+                .thenReturn(expected);
+        final Path mockFilePath = newMockFilePath();
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        final DriveItem actual = driveItemUnderTest.uploadNewResumable(mockFilePath, mockCallback);
+
+        final ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        final ArgumentCaptor<CreateUploadSessionRequest> sessionRequestCaptor =
+                ArgumentCaptor.forClass(CreateUploadSessionRequest.class);
+        assertAll(
+                () -> assertEquals(expected, actual),
+                () -> verify(mockConnection).execute(requestCaptor.capture(), isA(BasicParser.class)),
+                () -> assertEquals("http://localhost/me/drive/items/DriveItemId:/"
+                                + FILENAME + ":/createUploadSession",
+                        requestCaptor.getValue().url().toString()),
+                () -> assertEquals("POST", requestCaptor.getValue().method()),
+                () -> verify(mockGson).toJson(sessionRequestCaptor.capture()),
+                () -> assertEquals(FILENAME, sessionRequestCaptor.getValue().getItem().getName()),
+                () -> verify(mockConnection).upload(
+                        eq(session), eq(mockFilePath), eq(mockCallback), isA(BasicParser.class)));
+    }
+
+    @SneakyThrows
+    @Test
+    public void uploadNewResumableAsync_withValidFileAndCallback_shouldReturnFuture() {
+        final UploadSession session = UploadSession.builder().uploadUrl("https://localhost/upload").build();
+        final DriveItem expected = mock(DriveItem.class);
+        when(mockGson.toJson(any(CreateUploadSessionRequest.class))).thenReturn("{}");
+        when(mockConnection.executeAsync(any(Request.class), any(GsonParser.class)))
+                .thenReturn(CompletableFuture.completedFuture(session));
+        when(mockConnection.uploadAsync(
+                any(UploadSession.class),
+                any(Path.class),
+                any(TransferProgressCallback.class),
+                any(GsonParser.class)))
+                .thenReturn(CompletableFuture.completedFuture(expected));
+        final Path mockFilePath = newMockFilePath();
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        final CompletableFuture<DriveItem> actual =
+                driveItemUnderTest.uploadNewResumableAsync(mockFilePath, mockCallback);
+
+        final ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        assertAll(
+                () -> assertEquals(expected, actual.get()),
+                () -> verify(mockConnection).executeAsync(requestCaptor.capture(), isA(BasicParser.class)),
+                () -> assertEquals("http://localhost/me/drive/items/DriveItemId:/"
+                                + FILENAME + ":/createUploadSession",
+                        requestCaptor.getValue().url().toString()));
+    }
+
+    @Test
+    public void uploadNewResumable_withInvalidParameters_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(NullPointerException.class,
+                        () -> driveItemUnderTest.uploadNewResumable(null, mock(TransferProgressCallback.class))),
+                () -> assertThrows(NullPointerException.class,
+                        () -> driveItemUnderTest.uploadNewResumable(mock(Path.class), null)),
+                () -> assertThrows(NullPointerException.class,
+                        () -> driveItemUnderTest.uploadNewResumableAsync(null, mock(TransferProgressCallback.class))),
+                () -> assertThrows(NullPointerException.class,
+                        () -> driveItemUnderTest.uploadNewResumableAsync(mock(Path.class), null)));
+    }
+
+    @Test
+    public void uploadResumable_withJournaledSession_shouldResumeSession() {
+        final UploadSession session = UploadSession.builder().uploadUrl("https://localhost/upload").build();
+        final UploadSessionJournal mockJournal = mock(UploadSessionJournal.class);
+        final DriveItem expected = mock(DriveItem.class);
+        when(mockConnection.resumeUploadSession(any(UploadSessionJournal.class), anyString(), any(Path.class)))
+                .thenReturn(Optional.of(session));
+        when(mockConnection.upload(
+                any(UploadSession.class),
+                any(Path.class),
+                any(TransferProgressCallback.class),
+                any(GsonParser.class),
+                any(UploadSessionJournal.class),
+                anyString()))
+                .thenReturn(expected);
+        final Path mockFilePath = newMockFilePath();
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        final DriveItem actual = driveItemUnderTest.uploadResumable(mockFilePath, mockCallback, mockJournal);
+
+        final String journalId = "http://localhost/me/drive/items/DriveItemId/createUploadSession";
+        assertAll(
+                () -> assertEquals(expected, actual),
+                () -> verify(mockConnection).resumeUploadSession(mockJournal, journalId, mockFilePath),
+                () -> verify(mockConnection, never()).execute(any(Request.class), any(GsonParser.class)),
+                () -> verify(mockConnection).upload(eq(session), eq(mockFilePath), eq(mockCallback),
+                        isA(BasicParser.class), eq(mockJournal), eq(journalId)));
+    }
+
+    @Test
+    public void uploadNewResumable_withNoJournaledSession_shouldCreateSession() {
+        final UploadSession session = UploadSession.builder().uploadUrl("https://localhost/upload").build();
+        final UploadSessionJournal mockJournal = mock(UploadSessionJournal.class);
+        final DriveItem expected = mock(DriveItem.class);
+        when(mockGson.toJson(any(CreateUploadSessionRequest.class))).thenReturn("{}");
+        when(mockConnection.resumeUploadSession(any(UploadSessionJournal.class), anyString(), any(Path.class)))
+                .thenReturn(Optional.empty());
+        when(mockConnection.execute(any(Request.class), any(GsonParser.class))).thenReturn(session);
+        when(mockConnection.upload(
+                any(UploadSession.class),
+                any(Path.class),
+                any(TransferProgressCallback.class),
+                any(GsonParser.class),
+                any(UploadSessionJournal.class),
+                anyString()))
+                .thenReturn(expected);
+        final Path mockFilePath = newMockFilePath();
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        final DriveItem actual = driveItemUnderTest.uploadNewResumable(mockFilePath, mockCallback, mockJournal);
+
+        final String journalId = "http://localhost/me/drive/items/DriveItemId:/" + FILENAME + ":/createUploadSession";
+        assertAll(
+                () -> assertEquals(expected, actual),
+                () -> verify(mockConnection).resumeUploadSession(mockJournal, journalId, mockFilePath),
+                () -> verify(mockConnection).execute(any(Request.class), isA(BasicParser.class)),
+                () -> verify(mockConnection).upload(eq(session), eq(mockFilePath), eq(mockCallback),
+                        isA(BasicParser.class), eq(mockJournal), eq(journalId)));
+    }
+
+    @SneakyThrows
+    @Test
+    public void uploadNewResumableAsync_withJournaledSession_shouldResumeSession() {
+        final UploadSession session = UploadSession.builder().uploadUrl("https://localhost/upload").build();
+        final UploadSessionJournal mockJournal = mock(UploadSessionJournal.class);
+        final DriveItem expected = mock(DriveItem.class);
+        when(mockConnection.getThreadPool()).thenReturn(Executors.newSingleThreadExecutor());
+        when(mockConnection.resumeUploadSession(any(UploadSessionJournal.class), anyString(), any(Path.class)))
+                .thenReturn(Optional.of(session));
+        when(mockConnection.uploadAsync(
+                any(UploadSession.class),
+                any(Path.class),
+                any(TransferProgressCallback.class),
+                any(GsonParser.class),
+                any(UploadSessionJournal.class),
+                anyString()))
+                .thenReturn(CompletableFuture.completedFuture(expected));
+
+        final CompletableFuture<DriveItem> actual = driveItemUnderTest.uploadNewResumableAsync(
+                newMockFilePath(), mock(TransferProgressCallback.class), mockJournal);
+
+        assertEquals(expected, actual.get());
+    }
+
+    // streaming upload
+
+    @SneakyThrows
+    @Test
+    public void upload_withSmallKnownSizeChannel_shouldPutContent() {
+        final DriveItem expected = mock(DriveItem.class);
+        when(mockConnection.execute(any(Request.class), any(GsonParser.class))).thenReturn(expected);
+        final byte[] contents = new byte[] {1, 2, 3, 4};
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        final DriveItem actual = driveItemUnderTest.upload(
+                Channels.newChannel(new ByteArrayInputStream(contents)), contents.length, mockCallback);
+
+        final ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        verify(mockConnection).execute(requestCaptor.capture(), isA(BasicParser.class));
+        final Request request = requestCaptor.getValue();
+        final Buffer sentBody = new Buffer();
+        request.body().writeTo(sentBody);
+        assertAll(
+                () -> assertEquals(expected, actual),
+                () -> assertEquals("http://localhost/me/drive/items/DriveItemId/content", request.url().toString()),
+                () -> assertEquals("PUT", request.method()),
+                () -> assertInstanceOf(ChannelRequestBody.class, request.body()),
+                () -> assertEquals("application/octet-stream", request.header(CONTENT_TYPE)),
+                () -> assertArrayEquals(contents, sentBody.readByteArray()),
+                () -> verify(mockCallback).onComplete(contents.length),
+                () -> verify(mockConnection, never()).upload(
+                        any(UploadSession.class),
+                        any(ReadableByteChannel.class),
+                        anyLong(),
+                        any(TransferProgressCallback.class),
+                        any(GsonParser.class)));
+    }
+
+    @Test
+    public void upload_withUnknownSizeStream_shouldUploadViaSession() {
+        final UploadSession session = UploadSession.builder().uploadUrl("https://localhost/upload").build();
+        final DriveItem expected = mock(DriveItem.class);
+        when(mockGson.toJson(any(CreateUploadSessionRequest.class))).thenReturn("{}");
+        when(mockConnection.execute(any(Request.class), any(GsonParser.class))).thenReturn(session);
+        when(mockConnection.upload(
+                any(UploadSession.class),
+                any(ReadableByteChannel.class),
+                anyLong(),
+                any(TransferProgressCallback.class),
+                any(GsonParser.class)))
+                .thenReturn(expected);
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        final DriveItem actual = driveItemUnderTest.upload(
+                new ByteArrayInputStream(new byte[] {1, 2, 3}), UNKNOWN_SIZE_BYTES, mockCallback);
+
+        final ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        assertAll(
+                () -> assertEquals(expected, actual),
+                () -> verify(mockConnection).execute(requestCaptor.capture(), isA(BasicParser.class)),
+                () -> assertEquals("http://localhost/me/drive/items/DriveItemId/createUploadSession",
+                        requestCaptor.getValue().url().toString()),
+                () -> verify(mockConnection).upload(
+                        eq(session),
+                        any(ReadableByteChannel.class),
+                        eq(UNKNOWN_SIZE_BYTES),
+                        eq(mockCallback),
+                        isA(BasicParser.class)));
+    }
+
+    @SneakyThrows
+    @Test
+    public void uploadNewAsync_withLargeKnownSizeChannel_shouldUploadViaSession() {
+        final UploadSession session = UploadSession.builder().uploadUrl("https://localhost/upload").build();
+        final DriveItem expected = mock(DriveItem.class);
+        final long sizeBytes = 5L * 1024L * 1024L;
+        when(mockGson.toJson(any(CreateUploadSessionRequest.class))).thenReturn("{}");
+        when(mockConnection.executeAsync(any(Request.class), any(GsonParser.class)))
+                .thenReturn(CompletableFuture.completedFuture(session));
+        when(mockConnection.uploadAsync(
+                any(UploadSession.class),
+                any(ReadableByteChannel.class),
+                anyLong(),
+                any(TransferProgressCallback.class),
+                any(GsonParser.class)))
+                .thenReturn(CompletableFuture.completedFuture(expected));
+        final ReadableByteChannel mockSource = mock(ReadableByteChannel.class);
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        final CompletableFuture<DriveItem> actual =
+                driveItemUnderTest.uploadNewAsync(FILENAME, mockSource, sizeBytes, mockCallback);
+
+        final ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        final ArgumentCaptor<CreateUploadSessionRequest> sessionRequestCaptor =
+                ArgumentCaptor.forClass(CreateUploadSessionRequest.class);
+        assertAll(
+                () -> assertEquals(expected, actual.get()),
+                () -> verify(mockConnection).executeAsync(requestCaptor.capture(), isA(BasicParser.class)),
+                () -> assertEquals("http://localhost/me/drive/items/DriveItemId:/"
+                                + FILENAME + ":/createUploadSession",
+                        requestCaptor.getValue().url().toString()),
+                () -> verify(mockGson).toJson(sessionRequestCaptor.capture()),
+                () -> assertEquals(FILENAME, sessionRequestCaptor.getValue().getItem().getName()),
+                () -> verify(mockConnection).uploadAsync(
+                        eq(session), eq(mockSource), eq(sizeBytes), eq(mockCallback), isA(BasicParser.class)));
+    }
+
+    @SneakyThrows
+    @Test
+    public void uploadNew_withSmallKnownSizeStream_shouldPutContent() {
+        final DriveItem expected = mock(DriveItem.class);
+        when(mockConnection.execute(any(Request.class), any(GsonParser.class))).thenReturn(expected);
+
+        final DriveItem actual = driveItemUnderTest.uploadNew(
+                FILENAME,
+                new ByteArrayInputStream(new byte[] {1, 2, 3}),
+                3L,
+                mock(TransferProgressCallback.class));
+
+        final ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        assertAll(
+                () -> assertEquals(expected, actual),
+                () -> verify(mockConnection).execute(requestCaptor.capture(), isA(BasicParser.class)),
+                () -> assertEquals("http://localhost/me/drive/items/DriveItemId:/" + FILENAME + ":/content",
+                        requestCaptor.getValue().url().toString()),
+                () -> assertEquals("PUT", requestCaptor.getValue().method()));
+    }
+
+    @Test
+    public void uploadNew_withInvalidStreamParameters_shouldThrowException() {
+        final ReadableByteChannel mockSource = mock(ReadableByteChannel.class);
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        assertAll(
+                () -> assertThrows(NullPointerException.class,
+                        () -> driveItemUnderTest.uploadNew(null, mockSource, 1L, mockCallback)),
+                () -> assertThrows(NullPointerException.class,
+                        () -> driveItemUnderTest.uploadNew(FILENAME, (ReadableByteChannel) null, 1L, mockCallback)),
+                () -> assertThrows(NullPointerException.class,
+                        () -> driveItemUnderTest.uploadNew(FILENAME, mockSource, 1L, null)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> driveItemUnderTest.uploadNew("file:name", mockSource, 1L, mockCallback)));
+    }
+
     // getContentUrl
 
     @Test
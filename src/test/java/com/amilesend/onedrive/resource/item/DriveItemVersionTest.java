@@ -20,6 +20,8 @@ package com.amilesend.onedrive.resource.item;
 import com.amilesend.client.connection.file.LogProgressCallback;
 import com.amilesend.client.connection.file.TransferProgressCallback;
 import com.amilesend.onedrive.connection.OneDriveConnection;
+import com.amilesend.onedrive.resource.DriveFileDownloadExecution;
+import lombok.SneakyThrows;
 import okhttp3.Request;
 import okhttp3.Response;
 import org.junit.jupiter.api.BeforeEach;
@@ -29,6 +31,9 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Path;
 import java.util.concurrent.CompletableFuture;
 
@@ -44,6 +49,7 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -212,6 +218,174 @@ public class DriveItemVersionTest {
                         () -> versionUnderTest.downloadAsync(mockPath, null)));
     }
 
+    //////////////////////
+    // downloadResumable
+    //////////////////////
+
+    @Test
+    public void downloadResumable_withValidFolderPathAndCallback_shouldInvokeApi() {
+        final Path mockPath = mock(Path.class);
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        versionUnderTest.downloadResumable(mockPath, mockCallback);
+
+        verify(mockConnection).downloadResumable(
+                eq("http://localhost/me/drive/items/DriveItemId/versions/VersionId/content"),
+                eq("DriveItemId/versions/VersionId"),
+                isNull(),
+                isNull(),
+                eq(mockPath),
+                eq(NAME),
+                eq(SIZE),
+                eq(mockCallback));
+    }
+
+    @SneakyThrows
+    @Test
+    public void downloadResumableAsync_withValidFolderPathAndCallback_shouldReturnExecution() {
+        final Path mockPath = mock(Path.class);
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+        when(mockConnection.downloadResumableAsync(
+                anyString(),
+                anyString(),
+                isNull(),
+                isNull(),
+                any(Path.class),
+                anyString(),
+                anyLong(),
+                any(TransferProgressCallback.class)))
+                .thenReturn(CompletableFuture.completedFuture(SIZE));
+
+        final DriveFileDownloadExecution actual = versionUnderTest.downloadResumableAsync(mockPath, mockCallback);
+
+        assertEquals(SIZE, actual.get());
+    }
+
+    @Test
+    public void downloadResumable_withInvalidParameters_shouldThrowException() {
+        final Path mockPath = mock(Path.class);
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        assertAll(
+                () -> assertThrows(NullPointerException.class,
+                        () -> versionUnderTest.downloadResumable(null, mockCallback)),
+                () -> assertThrows(NullPointerException.class,
+                        () -> versionUnderTest.downloadResumable(mockPath, null)),
+                () -> assertThrows(NullPointerException.class,
+                        () -> versionUnderTest.downloadResumableAsync(null, mockCallback)),
+                () -> assertThrows(NullPointerException.class,
+                        () -> versionUnderTest.downloadResumableAsync(mockPath, null)));
+    }
+
+    /////////////
+    // downloadTo
+    /////////////
+
+    @Test
+    public void downloadTo_withChannel_shouldInvokeConnection() {
+        when(mockConnection.downloadTo(
+                any(Request.class),
+                any(WritableByteChannel.class),
+                anyLong(),
+                any(TransferProgressCallback.class)))
+                .thenReturn(SIZE);
+        final WritableByteChannel mockChannel = mock(WritableByteChannel.class);
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        final long actual = versionUnderTest.downloadTo(mockChannel, mockCallback);
+
+        final ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        assertAll(
+                () -> assertEquals(SIZE, actual),
+                () -> verify(mockConnection).downloadTo(
+                        requestCaptor.capture(),
+                        eq(mockChannel),
+                        eq(SIZE),
+                        eq(mockCallback)),
+                () -> assertEquals("http://localhost/me/drive/items/DriveItemId/versions/VersionId/content",
+                        requestCaptor.getValue().url().toString()));
+    }
+
+    @Test
+    public void downloadTo_withOutputStream_shouldInvokeConnection() {
+        final OutputStream mockOutputStream = mock(OutputStream.class);
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        versionUnderTest.downloadTo(mockOutputStream, mockCallback);
+
+        verify(mockConnection).downloadTo(
+                any(Request.class),
+                eq(mockOutputStream),
+                eq(SIZE),
+                eq(mockCallback));
+    }
+
+    @SneakyThrows
+    @Test
+    public void downloadToAsync_withChannelAndOutputStream_shouldReturnBytesDownloaded() {
+        when(mockConnection.downloadToAsync(
+                any(Request.class),
+                any(WritableByteChannel.class),
+                anyLong(),
+                any(TransferProgressCallback.class)))
+                .thenReturn(CompletableFuture.completedFuture(SIZE));
+        when(mockConnection.downloadToAsync(
+                any(Request.class),
+                any(OutputStream.class),
+                anyLong(),
+                any(TransferProgressCallback.class)))
+                .thenReturn(CompletableFuture.completedFuture(SIZE));
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        final DriveFileDownloadExecution channelActual =
+                versionUnderTest.downloadToAsync(mock(WritableByteChannel.class), mockCallback);
+        final DriveFileDownloadExecution streamActual =
+                versionUnderTest.downloadToAsync(mock(OutputStream.class), mockCallback);
+
+        assertAll(
+                () -> assertEquals(SIZE, channelActual.get()),
+                () -> assertEquals(SIZE, streamActual.get()));
+    }
+
+    @Test
+    public void openContentStream_withCallback_shouldReturnStream() {
+        final InputStream mockInputStream = mock(InputStream.class);
+        when(mockConnection.openDownloadStream(any(Request.class), anyLong(), any(TransferProgressCallback.class)))
+                .thenReturn(mockInputStream);
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        final InputStream actual = versionUnderTest.openContentStream(mockCallback);
+
+        final ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        assertAll(
+                () -> assertEquals(mockInputStream, actual),
+                () -> verify(mockConnection).openDownloadStream(
+                        requestCaptor.capture(),
+                        eq(SIZE),
+                        eq(mockCallback)),
+                () -> assertEquals("http://localhost/me/drive/items/DriveItemId/versions/VersionId/content",
+                        requestCaptor.getValue().url().toString()));
+    }
+
+    @Test
+    public void downloadTo_withInvalidParameters_shouldThrowException() {
+        final WritableByteChannel mockChannel = mock(WritableByteChannel.class);
+        final OutputStream mockOutputStream = mock(OutputStream.class);
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+
+        assertAll(
+                () -> assertThrows(NullPointerException.class,
+                        () -> versionUnderTest.downloadTo((WritableByteChannel) null, mockCallback)),
+                () -> assertThrows(NullPointerException.class,
+                        () -> versionUnderTest.downloadTo(mockChannel, null)),
+                () -> assertThrows(NullPointerException.class,
+                        () -> versionUnderTest.downloadTo((OutputStream) null, mockCallback)),
+                () -> assertThrows(NullPointerException.class,
+                        () -> versionUnderTest.downloadToAsync(mockOutputStream, null)),
+                () -> assertThrows(NullPointerException.class,
+                        () -> versionUnderTest.openContentStream(null)));
+    }
+
     ////////////
     // restore
     ////////////
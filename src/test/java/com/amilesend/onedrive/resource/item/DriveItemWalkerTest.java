@@ -0,0 +1,162 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.resource.item;
+
+import com.amilesend.client.connection.RequestException;
+import com.amilesend.onedrive.resource.item.type.Folder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class DriveItemWalkerTest {
+    private final Map<DriveItem, Integer> visited = new ConcurrentHashMap<>();
+    private ExecutorService executor;
+    private DriveItem root;
+    private DriveItem folderA;
+    private DriveItem folderB;
+    private DriveItem file1;
+    private DriveItem file2;
+    private DriveItem file3;
+
+    @BeforeEach
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(3);
+        // root -> [folderA, file1], folderA -> [folderB, file2], folderB -> [file3]
+        file1 = mock(DriveItem.class);
+        file2 = mock(DriveItem.class);
+        file3 = mock(DriveItem.class);
+        folderB = newMockFolder(file3);
+        folderA = newMockFolder(folderB, file2);
+        root = newMockFolder(folderA, file1);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void walk_withNestedFolders_shouldVisitAllItems() {
+        final long actual = newWalker(WalkOptions.defaults()).walk();
+
+        assertAll(
+                () -> assertEquals(5L, actual),
+                () -> assertEquals(Map.of(folderA, 1, file1, 1, folderB, 2, file2, 2, file3, 3), visited));
+    }
+
+    @Test
+    public void walk_withMaxDepth_shouldNotDescendBeyondDepth() {
+        final long actual = newWalker(WalkOptions.builder().maxDepth(1).build()).walk();
+
+        assertAll(
+                () -> assertEquals(2L, actual),
+                () -> assertEquals(Map.of(folderA, 1, file1, 1), visited),
+                () -> verify(folderA, never()).getChildrenIterator(any(PagingOptions.class)));
+    }
+
+    @Test
+    public void walk_withFilters_shouldOnlyVisitAndDescendMatchingItems() {
+        final long actual = newWalker(WalkOptions.builder()
+                .filter(item -> item.getFolder() == null)
+                .folderFilter(item -> item != folderB)
+                .parallelism(1)
+                .build())
+                .walk();
+
+        assertAll(
+                () -> assertEquals(2L, actual),
+                () -> assertEquals(Map.of(file1, 1, file2, 2), visited),
+                () -> verify(folderB, never()).getChildrenIterator(any(PagingOptions.class)));
+    }
+
+    @Test
+    public void walk_withListingFailure_shouldThrowException() {
+        final RequestException expected = new RequestException("Exception");
+        when(folderB.getChildrenIterator(any(PagingOptions.class))).thenThrow(expected);
+
+        final Throwable thrown = assertThrows(RequestException.class, () -> newWalker(WalkOptions.defaults()).walk());
+
+        assertEquals(expected, thrown);
+    }
+
+    @Test
+    public void walk_withRejectedWorkers_shouldWalkOnCallingThread() {
+        executor.shutdownNow();
+
+        assertEquals(5L, newWalker(WalkOptions.defaults()).walk());
+    }
+
+    @Test
+    public void builder_withInvalidParameters_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(NullPointerException.class, () -> DriveItemWalker.builder()
+                        .visitor((item, depth) -> {})
+                        .executor(executor)
+                        .build()),
+                () -> assertThrows(NullPointerException.class, () -> DriveItemWalker.builder()
+                        .root(root)
+                        .executor(executor)
+                        .build()),
+                () -> assertThrows(NullPointerException.class, () -> DriveItemWalker.builder()
+                        .root(root)
+                        .visitor((item, depth) -> {})
+                        .build()));
+    }
+
+    private DriveItemWalker newWalker(final WalkOptions options) {
+        return DriveItemWalker.builder()
+                .root(root)
+                .visitor((item, depth) -> visited.put(item, depth))
+                .options(options)
+                .executor(executor)
+                .build();
+    }
+
+    private static DriveItem newMockFolder(final DriveItem... children) {
+        final Iterator<DriveItem> childIterator = List.of(children).iterator();
+        final DriveItemIterator mockIterator = mock(DriveItemIterator.class);
+        lenient().when(mockIterator.hasNext()).thenAnswer(invocation -> childIterator.hasNext());
+        lenient().when(mockIterator.next()).thenAnswer(invocation -> childIterator.next());
+
+        final Folder folder = Folder.builder().build();
+        final DriveItem mockFolder = mock(DriveItem.class);
+        lenient().when(mockFolder.getFolder()).thenReturn(folder);
+        lenient().when(mockFolder.getChildrenIterator(any(PagingOptions.class))).thenReturn(mockIterator);
+        return mockFolder;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.resource.item;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.amilesend.onedrive.resource.item.PagingOptions.DEFAULT_PREFETCH_PAGES;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PagingOptionsTest {
+    @Test
+    public void defaults_shouldReturnDefaultValues() {
+        final PagingOptions actual = PagingOptions.defaults();
+
+        assertAll(
+                () -> assertEquals(DEFAULT_PREFETCH_PAGES, actual.getPrefetchPages()),
+                () -> assertTrue(actual.getSelect().isEmpty()),
+                () -> assertNull(actual.getPageSize()));
+    }
+
+    @Test
+    public void builder_withValues_shouldSetValues() {
+        final PagingOptions actual = PagingOptions.builder()
+                .prefetchPages(3)
+                .select(List.of("id", "name", "id"))
+                .pageSize(200)
+                .build();
+
+        assertAll(
+                () -> assertEquals(3, actual.getPrefetchPages()),
+                () -> assertEquals(List.of("id", "name", "file", "folder", "package"), List.copyOf(actual.getSelect())),
+                () -> assertEquals(200, actual.getPageSize()));
+    }
+
+    @Test
+    public void builder_withSelectIncludingTypeFacet_shouldIncludeEachTypeFacetOnce() {
+        final PagingOptions actual = PagingOptions.builder()
+                .select(List.of("folder", "id"))
+                .build();
+
+        assertEquals(List.of("folder", "id", "file", "package"), List.copyOf(actual.getSelect()));
+    }
+
+    @Test
+    public void builder_withInvalidValues_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> PagingOptions.builder().prefetchPages(-1).build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> PagingOptions.builder().select(List.of("id", " ")).build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> PagingOptions.builder().pageSize(0).build()));
+    }
+
+    @Test
+    public void applyQueryParameters_withSelectAndPageSize_shouldAppendQueryParameters() {
+        final PagingOptions options = PagingOptions.builder()
+                .select(List.of("id", "size"))
+                .pageSize(1000)
+                .build();
+
+        assertAll(
+                () -> assertEquals("http://localhost/children?$select=id,size,file,folder,package&$top=1000",
+                        options.applyQueryParameters("http://localhost/children")),
+                () -> assertEquals("http://localhost/children?$top=25", PagingOptions.builder()
+                        .pageSize(25)
+                        .build()
+                        .applyQueryParameters("http://localhost/children")));
+    }
+
+    @Test
+    public void withoutQueryParameters_shouldOnlyRetainPrefetchPages() {
+        final PagingOptions actual = PagingOptions.builder()
+                .prefetchPages(2)
+                .select(List.of("id"))
+                .pageSize(100)
+                .build()
+                .withoutQueryParameters();
+
+        assertAll(
+                () -> assertEquals(2, actual.getPrefetchPages()),
+                () -> assertTrue(actual.getSelect().isEmpty()),
+                () -> assertNull(actual.getPageSize()),
+                () -> assertEquals("http://localhost/delta", actual.applyQueryParameters("http://localhost/delta")));
+    }
+
+    @Test
+    public void applyQueryParameters_withSelect_shouldAppendSelectQueryParameter() {
+        final PagingOptions options = PagingOptions.builder()
+                .select(List.of("id", "parentReference"))
+                .build();
+
+        assertAll(
+                () -> assertEquals("http://localhost/children?$select=id,parentReference,file,folder,package",
+                        options.applyQueryParameters("http://localhost/children")),
+                () -> assertEquals("http://localhost/children", PagingOptions.defaults()
+                        .applyQueryParameters("http://localhost/children")));
+    }
+}
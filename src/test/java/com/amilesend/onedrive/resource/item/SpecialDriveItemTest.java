@@ -85,6 +85,19 @@ public class SpecialDriveItemTest {
         assertThrows(NullPointerException.class, () -> itemUnderTest.getChildren());
     }
 
+    @Test
+    public void getChildrenIterator_withValidType_shouldStartFromSpecialFolderChildren() {
+        final DriveItemIterator actual = itemUnderTest.getChildrenIterator();
+
+        assertEquals("http://localhost/me/drive/special/approot/children", actual.getNextLink());
+    }
+
+    @Test
+    public void getChildrenIterator_withNullType_shouldThrowException() {
+        itemUnderTest.setSpecialFolderType(null);
+        assertThrows(NullPointerException.class, () -> itemUnderTest.getChildrenIterator());
+    }
+
     @Test
     public void equals_withNonEqualMembers_shouldReturnFalse() {
         final SpecialDriveItem thisItem = newSpecialDriveItem(mockConnection);
@@ -0,0 +1,51 @@
+/*
+ * onedrive-java-sdk - A Java SDK to access OneDrive drives and files.
+ * Copyright © 2023-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.onedrive.resource.item;
+
+import org.junit.jupiter.api.Test;
+
+import static com.amilesend.onedrive.resource.item.WalkOptions.DEFAULT_MAX_DEPTH;
+import static com.amilesend.onedrive.resource.item.WalkOptions.DEFAULT_PARALLELISM;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public class WalkOptionsTest {
+    @Test
+    public void defaults_shouldReturnDefaultValues() {
+        final WalkOptions actual = WalkOptions.defaults();
+
+        assertAll(
+                () -> assertEquals(DEFAULT_MAX_DEPTH, actual.getMaxDepth()),
+                () -> assertEquals(DEFAULT_PARALLELISM, actual.getParallelism()),
+                () -> assertEquals(PagingOptions.defaults(), actual.getPagingOptions()),
+                () -> assertTrue(actual.getFilter().test(mock(DriveItem.class))),
+                () -> assertTrue(actual.getFolderFilter().test(mock(DriveItem.class))));
+    }
+
+    @Test
+    public void builder_withInvalidValues_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> WalkOptions.builder().maxDepth(0).build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> WalkOptions.builder().parallelism(0).build()));
+    }
+}